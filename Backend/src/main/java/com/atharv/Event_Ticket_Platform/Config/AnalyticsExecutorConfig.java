@@ -0,0 +1,27 @@
+package com.atharv.Event_Ticket_Platform.Config;
+
+import com.atharv.Event_Ticket_Platform.util.FanOutExecutor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.security.concurrent.DelegatingSecurityContextExecutorService;
+
+import java.util.concurrent.Executors;
+
+@Configuration
+public class AnalyticsExecutorConfig {
+
+    // Not exposed as an Executor bean so Spring Boot's default applicationTaskExecutor stays in place
+    @Bean(destroyMethod = "shutdown")
+    public FanOutExecutor analyticsFanOutExecutor(
+            @Value("${analytics.fan-out.max-global-concurrency:16}") int maxGlobalConcurrency
+    ) {
+        // Tasks inherit the submitting request's SecurityContext
+        return new FanOutExecutor(
+                new DelegatingSecurityContextExecutorService(
+                        Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("analytics-", 0).factory())
+                ),
+                maxGlobalConcurrency
+        );
+    }
+}
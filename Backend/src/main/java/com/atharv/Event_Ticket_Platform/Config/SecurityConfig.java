@@ -4,6 +4,7 @@ import com.atharv.Event_Ticket_Platform.Filters.StaffValidationFilter;
 import com.atharv.Event_Ticket_Platform.Security.JwtAccessDeniedHandler;
 import com.atharv.Event_Ticket_Platform.Security.JwtAuthenticationEntryPoint;
 import com.atharv.Event_Ticket_Platform.Security.JwtAuthenticationFilter;
+import jakarta.servlet.DispatcherType;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.context.annotation.Bean;
@@ -22,8 +23,11 @@ import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
+import org.springframework.security.web.util.matcher.RequestMatcher;
 import org.springframework.web.cors.CorsConfigurationSource;
 
+import java.util.regex.Pattern;
+
 @Configuration
 @EnableWebSecurity
 @EnableMethodSecurity(prePostEnabled = true, securedEnabled = true)
@@ -31,6 +35,12 @@ import org.springframework.web.cors.CorsConfigurationSource;
 @Slf4j
 public class SecurityConfig {
 
+    private static final Pattern STREAMING_PATHS =
+            Pattern.compile("/api/v1/organiser/events/[^/]+/dashboard/(live|export|event-attendees)");
+    private static final RequestMatcher STREAMING_ASYNC_DISPATCH = request ->
+            request.getDispatcherType() == DispatcherType.ASYNC
+                    && STREAMING_PATHS.matcher(request.getServletPath()).matches();
+
     private final JwtAuthenticationFilter jwtAuthFilter;
     private final UserDetailsService userDetailsService;
     private final CorsConfigurationSource corsConfigurationSource;
@@ -45,6 +55,11 @@ public class SecurityConfig {
                 .cors(cors -> cors.configurationSource(corsConfigurationSource))
                 .authorizeHttpRequests(auth -> auth
 
+                        // The live SSE stream, streamed exports and the streamed attendee list finish on an async
+                        // dispatch that carries no JWT of its own; the original request was already authorised, so
+                        // only those paths are let through
+                        .requestMatchers(STREAMING_ASYNC_DISPATCH).permitAll()
+
                         .requestMatchers(
                                 "/api/v1/auth/**",
                                 "/api/events",
@@ -1,14 +1,28 @@
 package com.atharv.Event_Ticket_Platform.Controllers;
 
+import com.atharv.Event_Ticket_Platform.Domain.Enum.RevenueGranularity;
+import com.atharv.Event_Ticket_Platform.Domain.Enum.TimeSeriesMetric;
+import com.atharv.Event_Ticket_Platform.Exceptions.AnalyticsTimeoutException;
 import com.atharv.Event_Ticket_Platform.Security.UserPrincipal;
+import com.atharv.Event_Ticket_Platform.Service.ServiceImpl.AnalyticsReportCache;
 import com.atharv.Event_Ticket_Platform.Service.ServiceImpl.AnalyticsService;
+import com.atharv.Event_Ticket_Platform.Service.ServiceImpl.DashboardSnapshotService;
+import com.atharv.Event_Ticket_Platform.Service.ServiceImpl.EventTimeSeriesService;
+import com.atharv.Event_Ticket_Platform.Service.ServiceImpl.RevenueLedgerService;
+import com.atharv.Event_Ticket_Platform.Service.ServiceImpl.SalesRollupService;
+import com.atharv.Event_Ticket_Platform.util.SerializedResponseCache;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
@@ -21,6 +35,11 @@ import java.util.UUID;
 @PreAuthorize("hasRole('ORGANISER')")
 public class AnalyticsController {
     private final AnalyticsService analyticsService;
+    private final AnalyticsReportCache analyticsReportCache;
+    private final SalesRollupService salesRollupService;
+    private final EventTimeSeriesService eventTimeSeriesService;
+    private final RevenueLedgerService revenueLedgerService;
+    private final DashboardSnapshotService dashboardSnapshotService;
 
     @GetMapping("/complete")
     public ResponseEntity<?> getCompleteAnalytics(@AuthenticationPrincipal UserPrincipal userPrincipal) {
@@ -28,7 +47,7 @@ public class AnalyticsController {
         log.info("Organiser {} requesting complete analytics", organiserId);
 
         try {
-            var analytics = analyticsService.getCompleteOrganiserAnalytics(organiserId);
+            var analytics = analyticsReportCache.getCompleteOrganiserAnalytics(organiserId);
             return ResponseEntity.ok(analytics);
         } catch (IllegalStateException e) {
             return ResponseEntity.badRequest().body(Map.of(
@@ -50,7 +69,7 @@ public class AnalyticsController {
         log.info("Organiser {} requesting published events analytics", organiserId);
 
         try {
-            var analytics = analyticsService.getPublishedEventsAnalytics(organiserId);
+            var analytics = analyticsReportCache.getPublishedEventsAnalytics(organiserId);
             return ResponseEntity.ok(analytics);
         } catch (Exception e) {
             log.error("Error getting published events analytics: {}", e.getMessage(), e);
@@ -67,7 +86,7 @@ public class AnalyticsController {
         log.info("Organiser {} requesting analytics for event {}", organiserId, eventId);
 
         try {
-            var analytics = analyticsService.getEventAnalytics(eventId, organiserId);
+            var analytics = analyticsReportCache.getEventAnalytics(eventId, organiserId);
             return ResponseEntity.ok(analytics);
         } catch (IllegalStateException e) {
             return ResponseEntity.badRequest().body(Map.of(
@@ -86,7 +105,7 @@ public class AnalyticsController {
         log.info("Organiser {} requesting ticket type performance", organiserId);
 
         try {
-            var performance = analyticsService.getTicketTypePerformanceAcrossEvents(organiserId);
+            var performance = analyticsReportCache.getTicketTypePerformanceAcrossEvents(organiserId);
             return ResponseEntity.ok(performance);
         } catch (Exception e) {
             log.error("Error getting ticket type performance: {}", e.getMessage(), e);
@@ -123,6 +142,17 @@ public class AnalyticsController {
                     "error", "Invalid event ID format",
                     "message", e.getMessage()
             ));
+        } catch (IllegalStateException e) {
+            return ResponseEntity.badRequest().body(Map.of(
+                    "error", "Failed to compare events",
+                    "message", e.getMessage()
+            ));
+        } catch (AnalyticsTimeoutException e) {
+            log.warn("Event comparison for organiser {} timed out: {}", organiserId, e.getMessage());
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).body(Map.of(
+                    "error", "Comparison timed out",
+                    "message", e.getMessage()
+            ));
         } catch (Exception e) {
             log.error("Error comparing events: {}", e.getMessage(), e);
             return ResponseEntity.internalServerError().build();
@@ -135,7 +165,7 @@ public class AnalyticsController {
         log.info("Organiser {} requesting analytics summary", organiserId);
 
         try {
-            var fullAnalytics = analyticsService.getCompleteOrganiserAnalytics(organiserId);
+            var fullAnalytics = analyticsReportCache.getCompleteOrganiserAnalytics(organiserId);
 
             Map<String, Object> summary = Map.of(
                     "organiserId", fullAnalytics.getOrganiserId(),
@@ -155,4 +185,127 @@ public class AnalyticsController {
             return ResponseEntity.internalServerError().build();
         }
     }
+
+    @PostMapping("/events/{eventId}/rollup/rebuild")
+    public ResponseEntity<?> rebuildSalesRollup(
+            @AuthenticationPrincipal UserPrincipal userPrincipal,
+            @PathVariable UUID eventId
+    ) {
+        UUID organiserId = userPrincipal.getUserId();
+        log.info("Organiser {} rebuilding sales rollup for event {}", organiserId, eventId);
+
+        try {
+            var verification = salesRollupService.rebuildEvent(eventId, organiserId);
+            return ResponseEntity.ok(verification);
+        } catch (IllegalStateException e) {
+            return ResponseEntity.badRequest().body(Map.of(
+                    "error", "Failed to rebuild sales rollup",
+                    "message", e.getMessage()
+            ));
+        } catch (Exception e) {
+            log.error("Error rebuilding sales rollup: {}", e.getMessage(), e);
+            return ResponseEntity.internalServerError().build();
+        }
+    }
+
+    @GetMapping("/events/{eventId}/timeseries")
+    public ResponseEntity<?> getEventTimeSeries(
+            @AuthenticationPrincipal UserPrincipal userPrincipal,
+            @PathVariable UUID eventId,
+            @RequestParam(defaultValue = "TICKETS_SOLD") TimeSeriesMetric metric,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+            @RequestParam(defaultValue = "1") int bucketMinutes
+    ) {
+        UUID organiserId = userPrincipal.getUserId();
+        log.info("Organiser {} requesting {} time series for event {}", organiserId, metric, eventId);
+
+        try {
+            var series = eventTimeSeriesService.getSeries(eventId, organiserId, metric, from, to, bucketMinutes);
+            return ResponseEntity.ok(series);
+        } catch (IllegalStateException e) {
+            return ResponseEntity.badRequest().body(Map.of(
+                    "error", "Failed to get time series",
+                    "message", e.getMessage()
+            ));
+        } catch (Exception e) {
+            log.error("Error getting event time series: {}", e.getMessage(), e);
+            return ResponseEntity.internalServerError().build();
+        }
+    }
+
+    @GetMapping("/events/{eventId}/timeseries/sales")
+    public ResponseEntity<?> getSalesVelocity(
+            @AuthenticationPrincipal UserPrincipal userPrincipal,
+            @PathVariable UUID eventId,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+            @RequestParam(defaultValue = "1") int bucketMinutes
+    ) {
+        return getEventTimeSeries(userPrincipal, eventId, TimeSeriesMetric.TICKETS_SOLD, from, to, bucketMinutes);
+    }
+
+    @GetMapping("/events/{eventId}/timeseries/entries")
+    public ResponseEntity<?> getEntryVelocity(
+            @AuthenticationPrincipal UserPrincipal userPrincipal,
+            @PathVariable UUID eventId,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+            @RequestParam(defaultValue = "1") int bucketMinutes
+    ) {
+        return getEventTimeSeries(userPrincipal, eventId, TimeSeriesMetric.ENTRIES, from, to, bucketMinutes);
+    }
+
+    @GetMapping("/revenue-trend")
+    public ResponseEntity<?> getRevenueTrend(
+            @AuthenticationPrincipal UserPrincipal userPrincipal,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+            @RequestParam(defaultValue = "DAY") RevenueGranularity granularity
+    ) {
+        UUID organiserId = userPrincipal.getUserId();
+        log.info("Organiser {} requesting {} revenue trend", organiserId, granularity);
+
+        try {
+            var trend = revenueLedgerService.getRevenueTrend(organiserId, from, to, granularity);
+            return ResponseEntity.ok(trend);
+        } catch (IllegalStateException e) {
+            return ResponseEntity.badRequest().body(Map.of(
+                    "error", "Failed to get revenue trend",
+                    "message", e.getMessage()
+            ));
+        } catch (Exception e) {
+            log.error("Error getting revenue trend: {}", e.getMessage(), e);
+            return ResponseEntity.internalServerError().build();
+        }
+    }
+
+    @GetMapping("/dashboard")
+    public ResponseEntity<?> getDashboardSnapshot(
+            @AuthenticationPrincipal UserPrincipal userPrincipal,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch
+    ) {
+        UUID organiserId = userPrincipal.getUserId();
+        log.info("Organiser {} requesting dashboard snapshot", organiserId);
+
+        try {
+            var snapshot = dashboardSnapshotService.getSnapshot(organiserId);
+            // stalenessMillis differs on every read, so the tag is weak and tracks only the build it came from
+            String etag = String.format("W/\"%s-%d-%s\"", organiserId,
+                    snapshot.getBuiltAt().toInstant(ZoneOffset.UTC).toEpochMilli(),
+                    snapshot.isRefreshPending() ? "pending" : "current");
+            if (SerializedResponseCache.etagMatches(etag, ifNoneMatch)) {
+                return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).build();
+            }
+            return ResponseEntity.ok().eTag(etag).body(snapshot);
+        } catch (IllegalStateException e) {
+            return ResponseEntity.badRequest().body(Map.of(
+                    "error", "Failed to get dashboard",
+                    "message", e.getMessage()
+            ));
+        } catch (Exception e) {
+            log.error("Error getting dashboard snapshot: {}", e.getMessage(), e);
+            return ResponseEntity.internalServerError().build();
+        }
+    }
 }
@@ -6,10 +6,12 @@ import com.atharv.Event_Ticket_Platform.Domain.Mapper.EventMapper;
 import com.atharv.Event_Ticket_Platform.Domain.Requests.CreateEventRequest;
 import com.atharv.Event_Ticket_Platform.Security.UserPrincipal;
 import com.atharv.Event_Ticket_Platform.Service.ServiceInterface.EventService;
+import com.atharv.Event_Ticket_Platform.util.CursorCodec;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
@@ -36,8 +38,15 @@ public class EventController {
     }
 
     @GetMapping("listEvent")
-    public ResponseEntity<Page<ListEventResponseDto>> listEvent(@AuthenticationPrincipal UserPrincipal userPrincipal,Pageable pageable){
+    public ResponseEntity<?> listEvent(@AuthenticationPrincipal UserPrincipal userPrincipal, Pageable pageable,
+                                       @RequestParam(required = false) String cursor){
         UUID organiserId = userPrincipal.getUserId();
+        if (cursor != null) {
+            Slice<Event> events = eventService.listEventForOrganiserByCursor(
+                    organiserId, CursorCodec.decode(cursor), pageable.getPageSize());
+            return ResponseEntity.ok(CursorCodec.page(events, eventMapper::toListEventResponseDto,
+                    Event::getCreatedAt, Event::getId));
+        }
         Page<Event> evnt=eventService.listEventForOrganiser(organiserId,pageable);
          Page<ListEventResponseDto> listEventResponseDtos=evnt.map(eventMapper::toListEventResponseDto);
         return new ResponseEntity<>(listEventResponseDtos,HttpStatus.OK);
@@ -81,4 +81,11 @@ public class GlobalExceptionHandler {
         return  new ResponseEntity<>(errorDto,HttpStatus.BAD_REQUEST);
     }
 
+    @ExceptionHandler(InvalidCursorException.class)
+    public ResponseEntity<ErrorDto> handleExceptions(InvalidCursorException ex){
+        ErrorDto errorDto = new ErrorDto();
+        errorDto.setError(ex.getMessage());
+        return new ResponseEntity<>(errorDto,HttpStatus.BAD_REQUEST);
+    }
+
 }
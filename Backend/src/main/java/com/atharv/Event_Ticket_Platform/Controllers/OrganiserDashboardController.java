@@ -1,17 +1,34 @@
 package com.atharv.Event_Ticket_Platform.Controllers;
 
+import com.atharv.Event_Ticket_Platform.Domain.Enum.ExportDataset;
+import com.atharv.Event_Ticket_Platform.Domain.Enum.ExportFormat;
 import com.atharv.Event_Ticket_Platform.Security.UserPrincipal;
 import com.atharv.Event_Ticket_Platform.Service.ServiceImpl.AnalyticsService;
+import com.atharv.Event_Ticket_Platform.Service.ServiceImpl.DashboardResponseCache;
+import com.atharv.Event_Ticket_Platform.Service.ServiceImpl.EventExportService;
+import com.atharv.Event_Ticket_Platform.Service.ServiceImpl.LiveEntryStatsService;
+import com.atharv.Event_Ticket_Platform.Service.ServiceImpl.OrganiserDashboardService;
+import com.atharv.Event_Ticket_Platform.Service.ServiceImpl.ScanAnomalyDetector;
+import com.atharv.Event_Ticket_Platform.Service.ServiceImpl.ScanMetricsRecorder;
 import com.atharv.Event_Ticket_Platform.Service.ServiceImpl.ValidationStatsService;
+import com.atharv.Event_Ticket_Platform.util.CursorCodec;
+import com.atharv.Event_Ticket_Platform.util.SerializedResponseCache.SerializedResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.nio.charset.StandardCharsets;
 import java.util.Map;
 import java.util.UUID;
 
@@ -23,18 +40,29 @@ import java.util.UUID;
 public class OrganiserDashboardController {
 
     private final ValidationStatsService statsService;
+    private final DashboardResponseCache dashboardResponseCache;
+    private final LiveEntryStatsService liveEntryStatsService;
+    private final ScanAnomalyDetector scanAnomalyDetector;
+    private final ScanMetricsRecorder scanMetricsRecorder;
 
     @GetMapping("/stats")
     public ResponseEntity<?> getEventDashboardStats(
             @AuthenticationPrincipal UserPrincipal userPrincipal,
-            @PathVariable UUID eventId
+            @PathVariable UUID eventId,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch
     ) {
         UUID organiserId = userPrincipal.getUserId();
         log.info("Organiser {} requesting dashboard stats for event {}", organiserId, eventId);
 
         try {
-            var stats = statsService.getEventDashboardStats(eventId);
-            return ResponseEntity.ok(stats);
+            SerializedResponse stats = dashboardResponseCache.getEventDashboardStats(eventId);
+            if (stats.matches(ifNoneMatch)) {
+                return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(stats.etag()).build();
+            }
+            return ResponseEntity.ok()
+                    .eTag(stats.etag())
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .body(stats.body());
         } catch (IllegalStateException e) {
             return ResponseEntity.badRequest().body(Map.of(
                     "error", "Failed to get stats",
@@ -46,6 +74,83 @@ public class OrganiserDashboardController {
         }
     }
 
+    @GetMapping(value = "/live", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamLiveEntryStats(
+            @AuthenticationPrincipal UserPrincipal userPrincipal,
+            @PathVariable UUID eventId
+    ) {
+        UUID organiserId = userPrincipal.getUserId();
+        log.info("Organiser {} opening live entry stream for event {}", organiserId, eventId);
+
+        return liveEntryStatsService.subscribe(eventId, organiserId);
+    }
+
+    @GetMapping("/anomalies")
+    public ResponseEntity<?> getScanAnomalies(
+            @AuthenticationPrincipal UserPrincipal userPrincipal,
+            @PathVariable UUID eventId
+    ) {
+        UUID organiserId = userPrincipal.getUserId();
+        log.info("Organiser {} requesting scan anomalies for event {}", organiserId, eventId);
+
+        try {
+            var anomalies = scanAnomalyDetector.getAnomalies(eventId, organiserId);
+            return ResponseEntity.ok(anomalies);
+        } catch (IllegalStateException e) {
+            return ResponseEntity.badRequest().body(Map.of(
+                    "error", "Failed to get scan anomalies",
+                    "message", e.getMessage()
+            ));
+        } catch (Exception e) {
+            log.error("Error getting scan anomalies: {}", e.getMessage(), e);
+            return ResponseEntity.internalServerError().build();
+        }
+    }
+
+    @GetMapping("/scan-metrics")
+    public ResponseEntity<?> getScanMetrics(
+            @AuthenticationPrincipal UserPrincipal userPrincipal,
+            @PathVariable UUID eventId
+    ) {
+        UUID organiserId = userPrincipal.getUserId();
+        log.info("Organiser {} requesting scan metrics for event {}", organiserId, eventId);
+
+        try {
+            var metrics = scanMetricsRecorder.getLaneMetrics(eventId, organiserId);
+            return ResponseEntity.ok(metrics);
+        } catch (IllegalStateException e) {
+            return ResponseEntity.badRequest().body(Map.of(
+                    "error", "Failed to get scan metrics",
+                    "message", e.getMessage()
+            ));
+        } catch (Exception e) {
+            log.error("Error getting scan metrics: {}", e.getMessage(), e);
+            return ResponseEntity.internalServerError().build();
+        }
+    }
+
+    @GetMapping("/lanes")
+    public ResponseEntity<?> getLaneThroughput(
+            @AuthenticationPrincipal UserPrincipal userPrincipal,
+            @PathVariable UUID eventId
+    ) {
+        UUID organiserId = userPrincipal.getUserId();
+        log.info("Organiser {} requesting lane throughput for event {}", organiserId, eventId);
+
+        try {
+            var lanes = scanMetricsRecorder.getLaneThroughput(eventId, organiserId);
+            return ResponseEntity.ok(lanes);
+        } catch (IllegalStateException e) {
+            return ResponseEntity.badRequest().body(Map.of(
+                    "error", "Failed to get lane throughput",
+                    "message", e.getMessage()
+            ));
+        } catch (Exception e) {
+            log.error("Error getting lane throughput: {}", e.getMessage(), e);
+            return ResponseEntity.internalServerError().build();
+        }
+    }
+
     @GetMapping("/ticket-types")
     public ResponseEntity<?> getValidationsByTicketType(
             @AuthenticationPrincipal UserPrincipal userPrincipal,
@@ -95,13 +200,21 @@ public class OrganiserDashboardController {
             @AuthenticationPrincipal UserPrincipal userPrincipal,
             @PathVariable UUID eventId,
             @PathVariable UUID staffUserId,
-            Pageable pageable
+            Pageable pageable,
+            @RequestParam(required = false) String cursor
     ) {
         UUID organiserId = userPrincipal.getUserId();
         log.info("Organiser {} requesting validation details for staff {} in event {}",
                 organiserId, staffUserId, eventId);
+        CursorCodec.Cursor position = cursor != null ? CursorCodec.decode(cursor) : null;
 
         try {
+            if (position != null) {
+                return ResponseEntity.ok(statsService.getAttendeesValidatedByStaffByCursor(
+                        eventId, staffUserId, organiserId, position, pageable.getPageSize()
+                ));
+            }
+
             var validations = statsService.getAttendeesValidatedByStaff(
                     eventId, staffUserId, organiserId, pageable
             );
@@ -129,10 +242,10 @@ public class OrganiserDashboardController {
             var stats = statsService.getEventDashboardStats(eventId);
 
             Map<String, Object> revenueStats = Map.of(
-                    "eventId", stats.get("eventId"),
-                    "eventName", stats.get("eventName"),
-                    "totalRevenue", stats.get("totalRevenue"),
-                    "revenueByTicketType", stats.get("revenueByTicketType")
+                    "eventId", stats.getEventId(),
+                    "eventName", stats.getEventName(),
+                    "totalRevenue", stats.getTotalRevenue(),
+                    "revenueByTicketType", stats.getRevenueByTicketType()
             );
 
             return ResponseEntity.ok(revenueStats);
@@ -148,13 +261,21 @@ public class OrganiserDashboardController {
     public ResponseEntity<?> getValidatedAttendees(
             @AuthenticationPrincipal UserPrincipal userPrincipal,
             @PathVariable UUID eventId,
-            Pageable pageable
+            Pageable pageable,
+            @RequestParam(required = false) String cursor
     ) {
         UUID organiserId = userPrincipal.getUserId();
         log.info("Organiser {} requesting validated attendees for event {}",
                 organiserId, eventId);
+        CursorCodec.Cursor position = cursor != null ? CursorCodec.decode(cursor) : null;
 
         try {
+            if (position != null) {
+                return ResponseEntity.ok(analyticsService.getValidatedAttendeesByCursor(
+                        eventId, organiserId, position, pageable.getPageSize()
+                ));
+            }
+
             Page<Map<String, Object>> attendees = analyticsService.getValidatedAttendees(
                     eventId,
                     organiserId,
@@ -171,4 +292,73 @@ public class OrganiserDashboardController {
             return ResponseEntity.internalServerError().build();
         }
     }
+
+    private final EventExportService eventExportService;
+
+    @GetMapping("/export")
+    public ResponseEntity<?> exportEventData(
+            @AuthenticationPrincipal UserPrincipal userPrincipal,
+            @PathVariable UUID eventId,
+            @RequestParam(defaultValue = "VALIDATED_ATTENDEES") ExportDataset dataset,
+            @RequestParam(defaultValue = "CSV") ExportFormat format
+    ) {
+        UUID organiserId = userPrincipal.getUserId();
+        log.info("Organiser {} exporting {} as {} for event {}", organiserId, dataset, format, eventId);
+
+        try {
+            StreamingResponseBody body = eventExportService.export(eventId, organiserId, dataset, format);
+            MediaType contentType = format == ExportFormat.CSV
+                    ? new MediaType("text", "csv", StandardCharsets.UTF_8)
+                    : MediaType.parseMediaType("application/x-ndjson");
+
+            return ResponseEntity.ok()
+                    .contentType(contentType)
+                    .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                            .filename(eventExportService.fileName(eventId, dataset, format))
+                            .build()
+                            .toString())
+                    .body(body);
+        } catch (IllegalStateException e) {
+            return ResponseEntity.badRequest().body(Map.of(
+                    "error", "Failed to export event data",
+                    "message", e.getMessage()
+            ));
+        } catch (Exception e) {
+            log.error("Error exporting event data: {}", e.getMessage(), e);
+            return ResponseEntity.internalServerError().build();
+        }
+    }
+
+    private final OrganiserDashboardService organiserDashboardService;
+
+    @GetMapping("/event-attendees")
+    public ResponseEntity<?> getEventAttendees(
+            @AuthenticationPrincipal UserPrincipal userPrincipal,
+            @PathVariable UUID eventId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(defaultValue = "false") boolean stream
+    ) {
+        if (stream) {
+            return exportEventData(userPrincipal, eventId, ExportDataset.EVENT_ATTENDEES, ExportFormat.NDJSON);
+        }
+
+        UUID organiserId = userPrincipal.getUserId();
+        log.info("Organiser {} requesting attendee list for event {}", organiserId, eventId);
+        CursorCodec.Cursor position = CursorCodec.decode(cursor);
+
+        try {
+            return ResponseEntity.ok(organiserDashboardService.getEventAttendees(
+                    eventId, organiserId, position, size
+            ));
+        } catch (IllegalStateException e) {
+            return ResponseEntity.badRequest().body(Map.of(
+                    "error", "Failed to get attendees",
+                    "message", e.getMessage()
+            ));
+        } catch (Exception e) {
+            log.error("Error getting event attendees: {}", e.getMessage(), e);
+            return ResponseEntity.internalServerError().build();
+        }
+    }
 }
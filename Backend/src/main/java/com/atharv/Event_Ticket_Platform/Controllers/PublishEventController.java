@@ -1,17 +1,31 @@
 package com.atharv.Event_Ticket_Platform.Controllers;
 
+import com.atharv.Event_Ticket_Platform.Domain.DTO.EventDtos.EventSuggestionDto;
 import com.atharv.Event_Ticket_Platform.Domain.DTO.EventDtos.PublishEventDto;
 import com.atharv.Event_Ticket_Platform.Domain.Entity.Event;
+import com.atharv.Event_Ticket_Platform.Domain.Enum.EventType;
 import com.atharv.Event_Ticket_Platform.Domain.Mapper.EventMapper;
+import com.atharv.Event_Ticket_Platform.Domain.Requests.EventDiscoveryRequest;
 import com.atharv.Event_Ticket_Platform.Repository.EventRepo;
+import com.atharv.Event_Ticket_Platform.Service.ServiceImpl.EventDiscoveryService;
+import com.atharv.Event_Ticket_Platform.Service.ServiceImpl.EventSuggestService;
+import com.atharv.Event_Ticket_Platform.Service.ServiceImpl.PublishedCatalogueCache;
 import com.atharv.Event_Ticket_Platform.Service.ServiceInterface.EventService;
+import com.atharv.Event_Ticket_Platform.util.CursorCodec;
+import com.atharv.Event_Ticket_Platform.util.SerializedResponseCache.SerializedResponse;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -23,11 +37,71 @@ public class PublishEventController {
     private final EventRepo eventRepo;
     private final EventService eventService;
     private final EventMapper eventMapper;
+    private final PublishedCatalogueCache catalogueCache;
+    private final EventSuggestService eventSuggestService;
+    private final EventDiscoveryService eventDiscoveryService;
 
     @GetMapping
-    public ResponseEntity<Page<PublishEventDto>> publishEvent(Pageable pageable){
-        Page<PublishEventDto> p=eventService.listPublishedEvents(pageable).map(eventMapper::toPublishEventDto);
-        return new ResponseEntity<>(p, HttpStatus.OK);
+    public ResponseEntity<?> publishEvent(
+            Pageable pageable,
+            @RequestParam(required = false) String cursor,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch
+    ){
+        SerializedResponse page = cursor != null
+                ? catalogueCache.getPublishedEventsByCursor(cursor, pageable.getPageSize())
+                : catalogueCache.getPublishedEvents(pageable);
+        if (page.matches(ifNoneMatch)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(page.etag()).build();
+        }
+        return ResponseEntity.ok()
+                .eTag(page.etag())
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(page.body());
+    }
+
+    @GetMapping("/search")
+    public ResponseEntity<Page<PublishEventDto>> searchPublishedEvents(@RequestParam String q, Pageable pageable){
+        Page<PublishEventDto> results = eventService.searchPublishedEvents(q, pageable).map(eventMapper::toPublishEventDto);
+        return new ResponseEntity<>(results, HttpStatus.OK);
+    }
+
+    @GetMapping("/suggest")
+    public ResponseEntity<List<EventSuggestionDto>> suggestPublishedEvents(
+            @RequestParam String q,
+            @RequestParam(defaultValue = "8") int limit
+    ){
+        return ResponseEntity.ok(eventSuggestService.suggest(q, limit));
+    }
+
+    @GetMapping("/discover")
+    public ResponseEntity<?> discoverPublishedEvents(
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+            @RequestParam(required = false) List<EventType> types,
+            @RequestParam(required = false) String venue,
+            @RequestParam(required = false) Double minPrice,
+            @RequestParam(required = false) Double maxPrice,
+            @RequestParam(defaultValue = "false") boolean availableOnly,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size
+    ){
+        EventDiscoveryRequest request = EventDiscoveryRequest.builder()
+                .from(from)
+                .to(to)
+                .eventTypes(types)
+                .venue(venue)
+                .minPrice(minPrice)
+                .maxPrice(maxPrice)
+                .availableOnly(availableOnly)
+                .build();
+        try {
+            return ResponseEntity.ok(eventDiscoveryService.discover(request, CursorCodec.decode(cursor), size));
+        } catch (IllegalStateException e) {
+            return ResponseEntity.badRequest().body(Map.of(
+                    "error", "Invalid discovery filter",
+                    "message", e.getMessage()
+            ));
+        }
     }
 
     @GetMapping("{eventID}")
@@ -4,12 +4,15 @@ import com.atharv.Event_Ticket_Platform.Domain.DTO.StaffDtos.*;
 import com.atharv.Event_Ticket_Platform.Domain.Entity.Staff;
 import com.atharv.Event_Ticket_Platform.Repository.StaffRepo;
 import com.atharv.Event_Ticket_Platform.Security.UserPrincipal;
+import com.atharv.Event_Ticket_Platform.Service.ServiceImpl.StaffHeartbeatService;
 import com.atharv.Event_Ticket_Platform.Service.ServiceImpl.StaffIamService;
+import com.atharv.Event_Ticket_Platform.util.CursorCodec;
 import lombok.Builder;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
@@ -28,6 +31,7 @@ public class StaffController {
 
     private final StaffIamService keycloakUserService;
     private final StaffRepo staffRepo;
+    private final StaffHeartbeatService staffHeartbeatService;
 
     @PostMapping("/events/{eventId}/generate")
     @PreAuthorize("hasRole('ORGANISER')")
@@ -70,33 +74,32 @@ public class StaffController {
 
     @GetMapping("/events/{eventId}")
     @PreAuthorize("hasRole('ORGANISER')")
-    public ResponseEntity<Page<StaffCredentialsDto>> getStaffByEvent(
+    public ResponseEntity<?> getStaffByEvent(
             @AuthenticationPrincipal UserPrincipal organiser,
             @PathVariable UUID eventId,
-            Pageable pageable
+            Pageable pageable,
+            @RequestParam(required = false) String cursor
     ) {
         UUID organiserId = organiser.getUserId();
         log.info("Organiser {} fetching staff for event {}", organiserId, eventId);
+        CursorCodec.Cursor position = cursor != null ? CursorCodec.decode(cursor) : null;
 
         try {
+            if (position != null) {
+                Slice<Staff> staffSlice = staffRepo.findByOrganiserAndEventBefore(
+                        organiserId, eventId, position.sortKey(), position.longId(),
+                        CursorCodec.pageRequest(pageable.getPageSize())
+                );
+                return ResponseEntity.ok(CursorCodec.page(staffSlice,
+                        staff -> toCredentialsDto(staff, staff.isExpired()),
+                        Staff::getCreatedAt, Staff::getId));
+            }
+
             Page<Staff> staffPage = staffRepo.findByCreatedByOrganiserIdAndEventId(
                     organiserId, eventId, pageable
             );
 
-            Page<StaffCredentialsDto> dtos = staffPage.map(staff ->
-                    StaffCredentialsDto.builder()
-                            .id(staff.getId())
-                            .staffUserId(staff.getStaffUserId())
-                            .username(staff.getUsername())
-                            .email(staff.getEmail())
-                            .isActive(staff.getIsActive())
-                            .validFrom(staff.getValidFrom())
-                            .validUntil(staff.getValidUntil())
-                            .isExpired(staff.isExpired())
-                            .createdAt(staff.getCreatedAt())
-                            .lastLogin(staff.getLastLogin())
-                            .build()
-            );
+            Page<StaffCredentialsDto> dtos = staffPage.map(staff -> toCredentialsDto(staff, staff.isExpired()));
 
             return ResponseEntity.ok(dtos);
 
@@ -108,33 +111,32 @@ public class StaffController {
 
     @GetMapping("/events/{eventId}/active")
     @PreAuthorize("hasRole('ORGANISER')")
-    public ResponseEntity<Page<StaffCredentialsDto>> getActiveStaffByEvent(
+    public ResponseEntity<?> getActiveStaffByEvent(
             @AuthenticationPrincipal UserPrincipal organiser,
             @PathVariable UUID eventId,
-            Pageable pageable
+            Pageable pageable,
+            @RequestParam(required = false) String cursor
     ) {
         UUID organiserId = organiser.getUserId();
         log.info("Organiser {} fetching active staff for event {}", organiserId, eventId);
+        CursorCodec.Cursor position = cursor != null ? CursorCodec.decode(cursor) : null;
 
         try {
+            if (position != null) {
+                Slice<Staff> staffSlice = staffRepo.findValidStaffByEventBefore(
+                        organiserId, eventId, LocalDateTime.now(), position.sortKey(), position.longId(),
+                        CursorCodec.pageRequest(pageable.getPageSize())
+                );
+                return ResponseEntity.ok(CursorCodec.page(staffSlice,
+                        staff -> toCredentialsDto(staff, false),
+                        Staff::getCreatedAt, Staff::getId));
+            }
+
             Page<Staff> staffPage = staffRepo.findValidStaffByEvent(
                     organiserId, eventId, LocalDateTime.now(), pageable
             );
 
-            Page<StaffCredentialsDto> dtos = staffPage.map(staff ->
-                    StaffCredentialsDto.builder()
-                            .id(staff.getId())
-                            .staffUserId(staff.getStaffUserId())
-                            .username(staff.getUsername())
-                            .email(staff.getEmail())
-                            .isActive(staff.getIsActive())
-                            .validFrom(staff.getValidFrom())
-                            .validUntil(staff.getValidUntil())
-                            .isExpired(false)
-                            .createdAt(staff.getCreatedAt())
-                            .lastLogin(staff.getLastLogin())
-                            .build()
-            );
+            Page<StaffCredentialsDto> dtos = staffPage.map(staff -> toCredentialsDto(staff, false));
 
             return ResponseEntity.ok(dtos);
 
@@ -271,4 +273,19 @@ public class StaffController {
             return ResponseEntity.internalServerError().build();
         }
     }
+
+    private StaffCredentialsDto toCredentialsDto(Staff staff, boolean expired) {
+        return StaffCredentialsDto.builder()
+                .id(staff.getId())
+                .staffUserId(staff.getStaffUserId())
+                .username(staff.getUsername())
+                .email(staff.getEmail())
+                .isActive(staff.getIsActive())
+                .validFrom(staff.getValidFrom())
+                .validUntil(staff.getValidUntil())
+                .isExpired(expired)
+                .createdAt(staff.getCreatedAt())
+                .lastLogin(staffHeartbeatService.resolveLastLogin(staff))
+                .build();
+    }
 }
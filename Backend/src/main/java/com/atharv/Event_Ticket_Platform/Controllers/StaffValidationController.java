@@ -4,12 +4,18 @@ import com.atharv.Event_Ticket_Platform.Domain.DTO.TicketValidationDtos.*;
 import com.atharv.Event_Ticket_Platform.Domain.Entity.Ticket;
 import com.atharv.Event_Ticket_Platform.Domain.Entity.TicketValidation;
 import com.atharv.Event_Ticket_Platform.Security.UserPrincipal;
+import com.atharv.Event_Ticket_Platform.Service.ServiceImpl.DashboardResponseCache;
 import com.atharv.Event_Ticket_Platform.Service.ServiceImpl.StaffTicketValidationService;
 import com.atharv.Event_Ticket_Platform.Service.ServiceImpl.ValidationStatsService;
+import com.atharv.Event_Ticket_Platform.util.CursorCodec;
+import com.atharv.Event_Ticket_Platform.util.SerializedResponseCache.SerializedResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
@@ -27,6 +33,7 @@ public class StaffValidationController {
 
     private final StaffTicketValidationService validationService;
     private final ValidationStatsService statsService;
+    private final DashboardResponseCache dashboardResponseCache;
 
     @PostMapping("/scan")
     public ResponseEntity<?> validateTicketByQR(
@@ -136,6 +143,87 @@ public class StaffValidationController {
         }
     }
 
+    @PostMapping("/manual/ticket")
+    public ResponseEntity<?> validateTicketManuallyById(
+            @AuthenticationPrincipal UserPrincipal userPrincipal,
+            @RequestBody Map<String, String> request
+    ) {
+        UUID staffUserId = userPrincipal.getUserId();
+        String ticketId = request.get("ticketId");
+
+        log.info("Staff {} attempting manual validation for ticket: {}", staffUserId, ticketId);
+
+        if (ticketId == null || ticketId.trim().isEmpty()) {
+            return ResponseEntity.badRequest().body(Map.of(
+                    "error", "Invalid request",
+                    "message", "Ticket ID is required"
+            ));
+        }
+
+        try {
+            TicketValidation validation = validationService.validateTicketManuallyById(
+                    UUID.fromString(ticketId.trim()),
+                    staffUserId
+            );
+
+            Ticket ticket = validation.getTicket();
+
+            TicketValidationResponseDto response = TicketValidationResponseDto.builder()
+                    .validationId(validation.getId())
+                    .ticketId(ticket.getId())
+                    .ticketTypeName(ticket.getTicketType().getName())
+                    .attendeeName(ticket.getPurchaser().getName())
+                    .attendeeEmail(ticket.getPurchaser().getEmail())
+                    .eventName(ticket.getTicketType().getEvent().getName())
+                    .validatedAt(validation.getValidatedAt())
+                    .validatedBy(userPrincipal.getUsername())
+                    .message("✅ Ticket validated manually. Entry granted.")
+                    .build();
+
+            return ResponseEntity.ok(response);
+
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(Map.of(
+                    "error", "Invalid request",
+                    "message", "Ticket ID is not valid"
+            ));
+        } catch (IllegalStateException e) {
+            log.warn("Manual validation failed: {}", e.getMessage());
+            return ResponseEntity.badRequest().body(Map.of(
+                    "error", "Validation failed",
+                    "message", e.getMessage()
+            ));
+        } catch (Exception e) {
+            log.error("Unexpected error during manual validation: {}", e.getMessage(), e);
+            return ResponseEntity.internalServerError().body(Map.of(
+                    "error", "Validation error",
+                    "message", "An unexpected error occurred. Please try again."
+            ));
+        }
+    }
+
+    @GetMapping("/attendees")
+    public ResponseEntity<?> searchAttendees(
+            @AuthenticationPrincipal UserPrincipal userPrincipal,
+            @RequestParam String q,
+            @RequestParam(defaultValue = "20") int limit
+    ) {
+        UUID staffUserId = userPrincipal.getUserId();
+
+        try {
+            var results = validationService.searchAttendees(q, staffUserId, limit);
+            return ResponseEntity.ok(results);
+        } catch (IllegalStateException e) {
+            return ResponseEntity.badRequest().body(Map.of(
+                    "error", "Search failed",
+                    "message", e.getMessage()
+            ));
+        } catch (Exception e) {
+            log.error("Failed to search attendees: {}", e.getMessage(), e);
+            return ResponseEntity.internalServerError().build();
+        }
+    }
+
     @GetMapping("/search")
     public ResponseEntity<?> searchTicket(
             @AuthenticationPrincipal UserPrincipal userPrincipal,
@@ -175,12 +263,21 @@ public class StaffValidationController {
     }
 
     @GetMapping("/stats")
-    public ResponseEntity<?> getMyValidationStats(@AuthenticationPrincipal UserPrincipal userPrincipal) {
+    public ResponseEntity<?> getMyValidationStats(
+            @AuthenticationPrincipal UserPrincipal userPrincipal,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch
+    ) {
         UUID staffUserId = userPrincipal.getUserId();
 
         try {
-            var stats = statsService.getStaffPersonalStats(staffUserId);
-            return ResponseEntity.ok(stats);
+            SerializedResponse stats = dashboardResponseCache.getStaffPersonalStats(staffUserId);
+            if (stats.matches(ifNoneMatch)) {
+                return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(stats.etag()).build();
+            }
+            return ResponseEntity.ok()
+                    .eTag(stats.etag())
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .body(stats.body());
         } catch (Exception e) {
             log.error("Failed to get stats: {}", e.getMessage());
             return ResponseEntity.internalServerError().build();
@@ -190,11 +287,19 @@ public class StaffValidationController {
     @GetMapping("/my-history")
     public ResponseEntity<?> getMyValidationHistory(
             @AuthenticationPrincipal UserPrincipal userPrincipal,
-            Pageable pageable
+            Pageable pageable,
+            @RequestParam(required = false) String cursor
     ) {
         UUID staffUserId = userPrincipal.getUserId();
+        CursorCodec.Cursor position = cursor != null ? CursorCodec.decode(cursor) : null;
 
         try {
+            if (position != null) {
+                return ResponseEntity.ok(statsService.getStaffValidationHistoryByCursor(
+                        staffUserId, position, pageable.getPageSize()
+                ));
+            }
+
             Page<ValidationHistoryDto> history = statsService.getStaffValidationHistory(
                     staffUserId,
                     pageable
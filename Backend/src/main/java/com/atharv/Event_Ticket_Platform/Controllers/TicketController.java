@@ -9,11 +9,13 @@ import com.atharv.Event_Ticket_Platform.Domain.Mapper.TicketMapper;
 import com.atharv.Event_Ticket_Platform.Security.UserPrincipal;
 import com.atharv.Event_Ticket_Platform.Service.ServiceInterface.QrService;
 import com.atharv.Event_Ticket_Platform.Service.ServiceInterface.TicketService;
+import com.atharv.Event_Ticket_Platform.util.CursorCodec;
 import com.google.zxing.WriterException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
@@ -42,9 +44,16 @@ public class TicketController {
     }
 
     @GetMapping
-    public ResponseEntity<Page<TicketPurchasedDto>> listPurchasedTicket(@AuthenticationPrincipal UserPrincipal userPrincipal , Pageable pageable){
+    public ResponseEntity<?> listPurchasedTicket(@AuthenticationPrincipal UserPrincipal userPrincipal , Pageable pageable,
+                                                 @RequestParam(required = false) String cursor){
         UUID userID = userPrincipal.getUserId();
         log.info(" listing all tickets for userid {} ",userID);
+        if (cursor != null) {
+            Slice<Ticket> tickets = ticketService.listTicketsForUserByCursor(
+                    userID, CursorCodec.decode(cursor), pageable.getPageSize());
+            return ResponseEntity.ok(CursorCodec.page(tickets, ticketMapper::toTicketPuchasedDto,
+                    Ticket::getCreatedAt, Ticket::getId));
+        }
         Page<Ticket> ticketForUser=ticketService.listAllTicketsForThisUser(userID,pageable);
         Page<TicketPurchasedDto> ticketPurchasedDtos=ticketForUser.map(ticketMapper::toTicketPuchasedDto);
         return new ResponseEntity<>(ticketPurchasedDtos,HttpStatus.OK);
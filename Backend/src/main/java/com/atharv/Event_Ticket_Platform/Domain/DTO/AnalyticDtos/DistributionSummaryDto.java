@@ -0,0 +1,16 @@
+package com.atharv.Event_Ticket_Platform.Domain.DTO.AnalyticDtos;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data @NoArgsConstructor @AllArgsConstructor @Builder
+public class DistributionSummaryDto {
+    private Long sampleCount;
+    private Double min;
+    private Double p50;
+    private Double p90;
+    private Double p99;
+    private Double max;
+}
@@ -0,0 +1,18 @@
+package com.atharv.Event_Ticket_Platform.Domain.DTO.AnalyticDtos;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+@Data @NoArgsConstructor @AllArgsConstructor @Builder
+public class EventRevenueDto {
+    private UUID eventId;
+    private String eventName;
+    private LocalDateTime eventDate;
+    private double revenue;
+    private long ticketsSold;
+}
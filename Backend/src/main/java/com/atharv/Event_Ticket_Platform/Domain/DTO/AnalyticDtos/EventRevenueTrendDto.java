@@ -0,0 +1,15 @@
+package com.atharv.Event_Ticket_Platform.Domain.DTO.AnalyticDtos;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data @NoArgsConstructor @AllArgsConstructor @Builder
+public class EventRevenueTrendDto {
+    private double totalRevenue;
+    private int eventCount;
+    private List<EventRevenueDto> revenueByEvent;
+}
@@ -0,0 +1,25 @@
+package com.atharv.Event_Ticket_Platform.Domain.DTO.AnalyticDtos;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+@Data @NoArgsConstructor @AllArgsConstructor @Builder
+public class EventStatisticsDto {
+    private UUID eventId;
+    private String eventName;
+    private String eventStatus;
+    private long ticketsSold;
+    private double revenue;
+    private long attendeesCount;
+    private double attendanceRate;
+    private List<TicketTypeBreakdownDto> ticketTypeBreakdown;
+    private LocalDateTime startTime;
+    private LocalDateTime endTime;
+    private String venue;
+}
@@ -27,4 +27,9 @@ public class OrganiserCompleteAnalyticsDto {
     private EventAnalyticsDto mostRevenueEvent;
     private EventAnalyticsDto mostTicketsSoldEvent;
     private EventAnalyticsDto bestAttendanceRateEvent;
+
+    // Approximate figures from the per-event sketches; null while analytics.sketches.enabled is off
+    private Long estimatedUniqueAttendees;
+    private DistributionSummaryDto ticketPriceDistribution;
+    private DistributionSummaryDto entryDelayMinutesDistribution;
 }
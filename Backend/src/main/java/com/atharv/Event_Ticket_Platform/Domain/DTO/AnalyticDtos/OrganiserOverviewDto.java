@@ -0,0 +1,23 @@
+package com.atharv.Event_Ticket_Platform.Domain.DTO.AnalyticDtos;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.UUID;
+
+@Data @NoArgsConstructor @AllArgsConstructor @Builder
+public class OrganiserOverviewDto {
+    private UUID organiserId;
+    private String organiserName;
+    private String organiserEmail;
+    private int totalEvents;
+    private int publishedEvents;
+    private int draftEvents;
+    private long totalTicketsSold;
+    private double totalRevenue;
+    private long totalAttendees;
+    private double averageRevenuePerEvent;
+    private double averageTicketsPerEvent;
+}
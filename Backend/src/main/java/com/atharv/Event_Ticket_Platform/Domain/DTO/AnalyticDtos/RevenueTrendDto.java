@@ -0,0 +1,28 @@
+package com.atharv.Event_Ticket_Platform.Domain.DTO.AnalyticDtos;
+
+import com.atharv.Event_Ticket_Platform.Domain.Enum.RevenueGranularity;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class RevenueTrendDto {
+    private UUID organiserId;
+    private RevenueGranularity granularity;
+    private LocalDateTime from;
+    private LocalDateTime to;
+    private long totalTicketsSold;
+    private long totalTicketsCancelled;
+    private double totalGrossRevenue;
+    private double totalRefundedRevenue;
+    private double totalNetRevenue;
+    private List<RevenueTrendPointDto> points;
+}
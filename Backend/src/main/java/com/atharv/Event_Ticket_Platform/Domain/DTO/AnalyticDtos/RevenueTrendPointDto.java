@@ -0,0 +1,21 @@
+package com.atharv.Event_Ticket_Platform.Domain.DTO.AnalyticDtos;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class RevenueTrendPointDto {
+    private LocalDateTime bucketStart;
+    private long ticketsSold;
+    private long ticketsCancelled;
+    private double grossRevenue;
+    private double refundedRevenue;
+    private double netRevenue;
+}
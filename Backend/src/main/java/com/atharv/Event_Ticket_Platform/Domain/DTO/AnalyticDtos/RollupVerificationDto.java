@@ -0,0 +1,22 @@
+package com.atharv.Event_Ticket_Platform.Domain.DTO.AnalyticDtos;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class RollupVerificationDto {
+    private UUID eventId;
+    private boolean consistent;
+    private int ticketTypesChecked;
+    private int ticketTypesCorrected;
+    private int staleRowsRemoved;
+    private LocalDateTime verifiedAt;
+}
@@ -0,0 +1,17 @@
+package com.atharv.Event_Ticket_Platform.Domain.DTO.AnalyticDtos;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data @NoArgsConstructor @AllArgsConstructor @Builder
+public class TicketTypeBreakdownDto {
+    private Integer ticketTypeId;
+    private String ticketTypeName;
+    private Double price;
+    private Integer totalAvailable;
+    private long sold;
+    private double revenue;
+    private int remaining;
+}
@@ -0,0 +1,27 @@
+package com.atharv.Event_Ticket_Platform.Domain.DTO.AnalyticDtos;
+
+import com.atharv.Event_Ticket_Platform.Domain.Enum.TimeSeriesMetric;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class TimeSeriesDto {
+    private UUID eventId;
+    private TimeSeriesMetric metric;
+    private int bucketMinutes;
+    private LocalDateTime from;
+    private LocalDateTime to;
+    private long total;
+    private long peakBucketCount;
+    private LocalDateTime peakBucketStart;
+    private List<TimeSeriesPointDto> points;
+}
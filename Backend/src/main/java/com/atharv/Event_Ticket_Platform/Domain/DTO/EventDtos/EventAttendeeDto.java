@@ -0,0 +1,18 @@
+package com.atharv.Event_Ticket_Platform.Domain.DTO.EventDtos;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.UUID;
+
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class EventAttendeeDto {
+    private UUID userId;
+    private String name;
+    private String email;
+}
@@ -0,0 +1,22 @@
+package com.atharv.Event_Ticket_Platform.Domain.DTO.EventDtos;
+
+import com.atharv.Event_Ticket_Platform.Domain.DTO.PageDtos.CursorPageDto;
+import com.atharv.Event_Ticket_Platform.Domain.Enum.EventType;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.Map;
+
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class EventDiscoveryDto {
+    private CursorPageDto<PublishEventDto> events;
+    // Facets are only computed for the first page; continuation pages leave them null
+    private Long totalMatches;
+    private Map<EventType, Long> eventTypeCounts;
+    private Map<String, Long> venueCounts;
+}
@@ -0,0 +1,21 @@
+package com.atharv.Event_Ticket_Platform.Domain.DTO.EventDtos;
+
+import com.atharv.Event_Ticket_Platform.Domain.Enum.SuggestionKind;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.UUID;
+
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class EventSuggestionDto {
+    private String text;
+    private SuggestionKind kind;
+    // Set only when the suggestion names exactly one published event
+    private UUID eventId;
+    private long popularity;
+}
@@ -0,0 +1,19 @@
+package com.atharv.Event_Ticket_Platform.Domain.DTO.TicketValidationDtos;
+
+import com.atharv.Event_Ticket_Platform.Domain.Enum.TicketStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.UUID;
+
+@Data
+@Builder @AllArgsConstructor @NoArgsConstructor
+public class AttendeeSearchResultDto {
+    private UUID ticketId;
+    private String attendeeName;
+    private String attendeeEmail;
+    private String ticketTypeName;
+    private TicketStatus status;
+}
@@ -0,0 +1,22 @@
+package com.atharv.Event_Ticket_Platform.Domain.DTO.TicketValidationDtos;
+
+import com.atharv.Event_Ticket_Platform.Domain.DTO.TicketTypeDto.TicketTypeRevenueDto;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.UUID;
+
+@Data
+@Builder @AllArgsConstructor @NoArgsConstructor
+public class EventDashboardStatsDto {
+    private UUID eventId;
+    private String eventName;
+    private long totalTicketsSold;
+    private long totalValidated;
+    private long remainingAttendees;
+    private double totalRevenue;
+    private List<TicketTypeRevenueDto> revenueByTicketType;
+}
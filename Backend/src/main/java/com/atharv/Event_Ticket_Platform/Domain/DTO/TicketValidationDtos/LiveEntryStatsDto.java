@@ -0,0 +1,21 @@
+package com.atharv.Event_Ticket_Platform.Domain.DTO.TicketValidationDtos;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+@Data
+@Builder @AllArgsConstructor @NoArgsConstructor
+public class LiveEntryStatsDto {
+    private UUID eventId;
+    private long admittedCount;
+    private long admissionsLastMinute;
+    private List<TicketTypeAttendanceDto> byTicketType;
+    private List<StaffValidationStatsDto> byStaff;
+    private LocalDateTime generatedAt;
+}
@@ -0,0 +1,25 @@
+package com.atharv.Event_Ticket_Platform.Domain.DTO.TicketValidationDtos;
+
+import com.atharv.Event_Ticket_Platform.Domain.Enum.ScanAnomalyType;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+@Data
+@Builder @AllArgsConstructor @NoArgsConstructor
+public class ScanAnomalyDto {
+    private ScanAnomalyType type;
+    private UUID eventId;
+    private String publicCode;
+    private UUID ticketId;
+    private List<UUID> staffUserIds;
+    private int attemptCount;
+    private long windowSeconds;
+    private LocalDateTime detectedAt;
+    private String description;
+}
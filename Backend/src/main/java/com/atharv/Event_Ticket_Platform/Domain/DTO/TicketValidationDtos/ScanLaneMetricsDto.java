@@ -0,0 +1,22 @@
+package com.atharv.Event_Ticket_Platform.Domain.DTO.TicketValidationDtos;
+
+import com.atharv.Event_Ticket_Platform.Domain.Enum.ScanOutcome;
+import com.atharv.Event_Ticket_Platform.Domain.Enum.TicketValidationMethod;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+@Data
+@Builder @AllArgsConstructor @NoArgsConstructor
+public class ScanLaneMetricsDto {
+    private UUID eventId;
+    private UUID staffUserId;
+    private TicketValidationMethod method;
+    private List<ScanPhaseMetricsDto> phases;
+    private Map<ScanOutcome, Long> outcomes;
+}
@@ -0,0 +1,23 @@
+package com.atharv.Event_Ticket_Platform.Domain.DTO.TicketValidationDtos;
+
+import com.atharv.Event_Ticket_Platform.Domain.Enum.TicketValidationMethod;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.UUID;
+
+@Data
+@Builder @AllArgsConstructor @NoArgsConstructor
+public class ScanLaneThroughputDto {
+    private UUID staffUserId;
+    private String staffUsername;
+    private TicketValidationMethod method;
+    private long totalScans;
+    private long admitted;
+    private long rejected;
+    private long scansLastMinute;
+    private double avgLatencyMillis;
+    private double p95LatencyMillis;
+}
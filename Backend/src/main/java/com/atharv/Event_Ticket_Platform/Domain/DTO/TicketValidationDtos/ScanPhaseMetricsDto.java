@@ -0,0 +1,19 @@
+package com.atharv.Event_Ticket_Platform.Domain.DTO.TicketValidationDtos;
+
+import com.atharv.Event_Ticket_Platform.Domain.Enum.ScanPhase;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder @AllArgsConstructor @NoArgsConstructor
+public class ScanPhaseMetricsDto {
+    private ScanPhase phase;
+    private long count;
+    private double avgMillis;
+    private double p50Millis;
+    private double p95Millis;
+    private double p99Millis;
+    private double maxBucketMillis;
+}
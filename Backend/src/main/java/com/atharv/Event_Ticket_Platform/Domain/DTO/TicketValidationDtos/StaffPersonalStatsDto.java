@@ -0,0 +1,26 @@
+package com.atharv.Event_Ticket_Platform.Domain.DTO.TicketValidationDtos;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+@Data
+@Builder @AllArgsConstructor @NoArgsConstructor
+public class StaffPersonalStatsDto {
+    private String staffUsername;
+    private UUID eventId;
+    private String eventName;
+    private long totalValidated;
+    private LocalDateTime credentialValidFrom;
+    private LocalDateTime credentialValidUntil;
+    private Boolean isExpired;
+    private long hoursRemaining;
+    private long minutesRemaining;
+    private long hoursSinceExpiry;
+    private long minutesSinceExpiry;
+    private Boolean isActive;
+}
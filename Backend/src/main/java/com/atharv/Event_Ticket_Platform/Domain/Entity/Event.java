@@ -4,6 +4,7 @@ import com.atharv.Event_Ticket_Platform.Domain.Enum.EventStatus;
 import com.atharv.Event_Ticket_Platform.Domain.Enum.EventType;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.BatchSize;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.annotation.LastModifiedDate;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
@@ -15,7 +16,13 @@ import java.util.Objects;
 import java.util.UUID;
 
 @Entity
-@Table(name="event")
+@Table(name="event", indexes = {
+        @Index(name = "idx_event_organiser_created", columnList = "organiser_id, created_at, id"),
+        @Index(name = "idx_event_status_created", columnList = "event_status, created_at, id"),
+        @Index(name = "idx_event_status_start", columnList = "event_status, start_time, id"),
+        @Index(name = "idx_event_status_type_start", columnList = "event_status, event_type, start_time, id"),
+        @Index(name = "idx_event_status_venue_start", columnList = "event_status, venue, start_time, id")
+})
 @EntityListeners(AuditingEntityListener.class)
 @Getter @Setter @NoArgsConstructor @AllArgsConstructor
 @Builder
@@ -45,7 +52,7 @@ public class Event {
     @Column(nullable = true)
     private LocalDateTime salesEndDate;
 
-    @Column(nullable = true)
+    @Column(name = "event_status", nullable = true)
     @Enumerated(EnumType.STRING)
     private EventStatus eventStatus;
 
@@ -59,7 +66,9 @@ public class Event {
     @ManyToMany(mappedBy = "staffingEvents")
     private List<User> staff = new ArrayList<>();
 
+    // List pages map every event's ticket types; batching turns that into one extra query per page
     @OneToMany(mappedBy = "event",cascade = CascadeType.ALL)
+    @BatchSize(size = 100)
     private List<TicketType> ticketTypes;
 
     @Column(nullable = true)
@@ -0,0 +1,32 @@
+package com.atharv.Event_Ticket_Platform.Domain.Entity;
+
+import com.atharv.Event_Ticket_Platform.Domain.Enum.TimeSeriesMetric;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+@Entity
+@Table(name = "event_metric_bucket", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_event_metric_bucket", columnNames = {"event_id", "metric", "bucket_start"})
+})
+@Getter @Setter @NoArgsConstructor @AllArgsConstructor @Builder
+public class EventMetricBucket {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "event_id", nullable = false)
+    private UUID eventId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "metric", nullable = false, length = 32)
+    private TimeSeriesMetric metric;
+
+    @Column(name = "bucket_start", nullable = false)
+    private LocalDateTime bucketStart;
+
+    @Column(name = "count", nullable = false)
+    private long count;
+}
@@ -0,0 +1,34 @@
+package com.atharv.Event_Ticket_Platform.Domain.Entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+@Entity
+@Table(name = "event_sales_rollup")
+@Getter @Setter @NoArgsConstructor @AllArgsConstructor @Builder
+public class EventSalesRollup {
+    @Id
+    @Column(name = "event_id", nullable = false, updatable = false)
+    private UUID eventId;
+
+    @Column(name = "tickets_sold", nullable = false)
+    private long ticketsSold;
+
+    @Column(name = "revenue", nullable = false)
+    private double revenue;
+
+    @Column(name = "tickets_cancelled", nullable = false)
+    private long ticketsCancelled;
+
+    @Column(name = "cancelled_revenue", nullable = false)
+    private double cancelledRevenue;
+
+    @Column(name = "validated_count", nullable = false)
+    private long validatedCount;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+}
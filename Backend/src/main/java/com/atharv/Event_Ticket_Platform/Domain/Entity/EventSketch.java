@@ -0,0 +1,28 @@
+package com.atharv.Event_Ticket_Platform.Domain.Entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+@Entity
+@Table(name = "event_sketch")
+@Getter @Setter @NoArgsConstructor @AllArgsConstructor @Builder
+public class EventSketch {
+    @Id
+    @Column(name = "event_id", nullable = false, updatable = false)
+    private UUID eventId;
+
+    @Column(name = "attendee_hll")
+    private byte[] attendeeHll;
+
+    @Column(name = "price_sketch")
+    private byte[] priceSketch;
+
+    @Column(name = "entry_delay_sketch")
+    private byte[] entryDelaySketch;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+}
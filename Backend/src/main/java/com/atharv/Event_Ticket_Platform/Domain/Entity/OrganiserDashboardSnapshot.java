@@ -0,0 +1,23 @@
+package com.atharv.Event_Ticket_Platform.Domain.Entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+@Entity
+@Table(name = "organiser_dashboard_snapshot")
+@Getter @Setter @NoArgsConstructor @AllArgsConstructor @Builder
+public class OrganiserDashboardSnapshot {
+    @Id
+    @Column(name = "organiser_id", nullable = false, updatable = false)
+    private UUID organiserId;
+
+    // JSON of the overview and complete analytics exactly as they were served when built
+    @Column(name = "payload", nullable = false)
+    private byte[] payload;
+
+    @Column(name = "built_at", nullable = false)
+    private LocalDateTime builtAt;
+}
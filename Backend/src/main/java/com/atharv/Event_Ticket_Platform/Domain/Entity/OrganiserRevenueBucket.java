@@ -0,0 +1,43 @@
+package com.atharv.Event_Ticket_Platform.Domain.Entity;
+
+import com.atharv.Event_Ticket_Platform.Domain.Enum.RevenueGranularity;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+@Entity
+@Table(name = "organiser_revenue_bucket", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_organiser_revenue_bucket",
+                columnNames = {"organiser_id", "granularity", "bucket_start"})
+})
+@Getter @Setter @NoArgsConstructor @AllArgsConstructor @Builder
+public class OrganiserRevenueBucket {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "organiser_id", nullable = false)
+    private UUID organiserId;
+
+    // Only HOUR and DAY rows are stored; coarser granularities are rolled up from DAY rows
+    @Enumerated(EnumType.STRING)
+    @Column(name = "granularity", nullable = false, length = 16)
+    private RevenueGranularity granularity;
+
+    @Column(name = "bucket_start", nullable = false)
+    private LocalDateTime bucketStart;
+
+    @Column(name = "tickets_sold", nullable = false)
+    private long ticketsSold;
+
+    @Column(name = "gross_revenue", nullable = false)
+    private double grossRevenue;
+
+    @Column(name = "tickets_cancelled", nullable = false)
+    private long ticketsCancelled;
+
+    @Column(name = "refunded_revenue", nullable = false)
+    private double refundedRevenue;
+}
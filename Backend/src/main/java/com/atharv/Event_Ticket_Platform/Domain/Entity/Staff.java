@@ -11,7 +11,9 @@ import java.util.UUID;
 
 @Entity
 @EntityListeners(AuditingEntityListener.class)
-@Table(name="staff")
+@Table(name="staff", indexes = {
+        @Index(name = "idx_staff_event_created", columnList = "event_id, created_at, id")
+})
 @Getter @Setter @NoArgsConstructor @AllArgsConstructor @Builder
 public class Staff {
     @Id
@@ -21,7 +23,7 @@ public class Staff {
     @Column(name = "staff_user_id", nullable = false, unique = true)
     private UUID staffUserId;
 
-    @Column(nullable = false)
+    @Column(name = "event_id", nullable = false)
     private UUID eventId;
 
     @Column(nullable = false)
@@ -15,7 +15,9 @@ import java.util.UUID;
 
 @Entity
 @EntityListeners(AuditingEntityListener.class)
-@Table(name="ticket")
+@Table(name="ticket", indexes = {
+        @Index(name = "idx_ticket_purchaser_created", columnList = "purchaser_id, created_at, id")
+})
 @Getter @Setter @AllArgsConstructor @NoArgsConstructor @Builder
 public class Ticket {
     @Id
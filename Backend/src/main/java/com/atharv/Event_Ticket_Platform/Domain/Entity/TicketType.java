@@ -14,7 +14,9 @@ import java.util.UUID;
 
 @Entity
 @EntityListeners(AuditingEntityListener.class)
-@Table(name="ticket_type")
+@Table(name="ticket_type", indexes = {
+        @Index(name = "idx_ticket_type_event_price", columnList = "event_id, price, total_available")
+})
 @Getter @Setter @AllArgsConstructor @NoArgsConstructor @Builder
 public class TicketType {
     @Id
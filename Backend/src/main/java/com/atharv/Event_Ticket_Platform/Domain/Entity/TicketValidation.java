@@ -15,7 +15,10 @@ import java.util.UUID;
 
 @Entity
 @EntityListeners(AuditingEntityListener.class)
-@Table(name="ticket_validation")
+@Table(name="ticket_validation", indexes = {
+        @Index(name = "idx_ticket_validation_event_time", columnList = "event_id, created_at, id"),
+        @Index(name = "idx_ticket_validation_staff_time", columnList = "staff_id, created_at, id")
+})
 @Getter @Setter @AllArgsConstructor @NoArgsConstructor @Builder
 public class TicketValidation {
     @Id
@@ -0,0 +1,8 @@
+package com.atharv.Event_Ticket_Platform.Domain.Enum;
+
+public enum AnalyticsReportType {
+    COMPLETE,
+    PUBLISHED,
+    TICKET_TYPE_PERFORMANCE,
+    EVENT
+}
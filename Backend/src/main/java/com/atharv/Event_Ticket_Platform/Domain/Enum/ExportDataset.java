@@ -0,0 +1,8 @@
+package com.atharv.Event_Ticket_Platform.Domain.Enum;
+
+public enum ExportDataset {
+    VALIDATED_ATTENDEES,
+    SOLD_TICKETS,
+    VALIDATION_HISTORY,
+    EVENT_ATTENDEES
+}
@@ -0,0 +1,6 @@
+package com.atharv.Event_Ticket_Platform.Domain.Enum;
+
+public enum ExportFormat {
+    CSV,
+    NDJSON
+}
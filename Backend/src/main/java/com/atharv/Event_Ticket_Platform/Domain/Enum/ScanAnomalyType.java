@@ -0,0 +1,7 @@
+package com.atharv.Event_Ticket_Platform.Domain.Enum;
+
+public enum ScanAnomalyType {
+    MULTI_GATE_ATTEMPT,
+    REPEATED_REJECTION,
+    INVALID_CODE_BURST
+}
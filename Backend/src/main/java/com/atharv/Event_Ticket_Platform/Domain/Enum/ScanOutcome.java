@@ -0,0 +1,22 @@
+package com.atharv.Event_Ticket_Platform.Domain.Enum;
+
+public enum ScanOutcome {
+    ADMITTED,
+    UNKNOWN_CODE,
+    UNLINKED_CODE,
+    WRONG_EVENT,
+    QR_EXPIRED,
+    QR_INACTIVE,
+    TICKET_USED,
+    TICKET_CANCELLED,
+    TICKET_INVALID_STATUS,
+    ERROR;
+
+    public boolean isRejection() {
+        return this != ADMITTED;
+    }
+
+    public boolean isInvalidCode() {
+        return this == UNKNOWN_CODE || this == UNLINKED_CODE || this == WRONG_EVENT;
+    }
+}
@@ -0,0 +1,5 @@
+package com.atharv.Event_Ticket_Platform.Domain.Enum;
+
+public enum ScanPhase {
+    LOOKUP,CHECKS,PERSIST,TOTAL
+}
@@ -0,0 +1,11 @@
+package com.atharv.Event_Ticket_Platform.Domain.Events;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+public record EventUpdatedEvent(
+        UUID eventId,
+        UUID organiserId,
+        LocalDateTime updatedAt
+) {
+}
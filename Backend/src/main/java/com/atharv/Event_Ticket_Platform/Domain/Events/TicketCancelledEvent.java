@@ -0,0 +1,14 @@
+package com.atharv.Event_Ticket_Platform.Domain.Events;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+public record TicketCancelledEvent(
+        UUID ticketId,
+        UUID eventId,
+        Integer ticketTypeId,
+        UUID purchaserId,
+        double price,
+        LocalDateTime cancelledAt
+) {
+}
@@ -0,0 +1,19 @@
+package com.atharv.Event_Ticket_Platform.Domain.Events;
+
+import com.atharv.Event_Ticket_Platform.Domain.Enum.TicketValidationMethod;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+public record TicketValidatedEvent(
+        UUID ticketId,
+        UUID eventId,
+        Integer ticketTypeId,
+        String ticketTypeName,
+        UUID staffUserId,
+        String staffUsername,
+        TicketValidationMethod method,
+        LocalDateTime validatedAt,
+        LocalDateTime ticketPurchasedAt
+) {
+}
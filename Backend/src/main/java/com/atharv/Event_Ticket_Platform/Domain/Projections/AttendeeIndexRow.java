@@ -0,0 +1,13 @@
+package com.atharv.Event_Ticket_Platform.Domain.Projections;
+
+import com.atharv.Event_Ticket_Platform.Domain.Enum.TicketStatus;
+
+import java.util.UUID;
+
+public interface AttendeeIndexRow {
+    UUID getTicketId();
+    TicketStatus getStatus();
+    String getTicketTypeName();
+    String getPurchaserName();
+    String getPurchaserEmail();
+}
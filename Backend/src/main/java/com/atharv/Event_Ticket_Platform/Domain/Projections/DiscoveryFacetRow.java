@@ -0,0 +1,14 @@
+package com.atharv.Event_Ticket_Platform.Domain.Projections;
+
+import com.atharv.Event_Ticket_Platform.Domain.Enum.EventType;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+// Built by a criteria query constructor expression, so it is a class rather than an interface projection
+@Getter
+@AllArgsConstructor
+public class DiscoveryFacetRow {
+    private final EventType eventType;
+    private final String venue;
+    private final Long events;
+}
@@ -0,0 +1,8 @@
+package com.atharv.Event_Ticket_Platform.Domain.Projections;
+
+import java.time.LocalDateTime;
+
+public interface EntryDelayRow {
+    LocalDateTime getPurchasedAt();
+    LocalDateTime getValidatedAt();
+}
@@ -0,0 +1,11 @@
+package com.atharv.Event_Ticket_Platform.Domain.Projections;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+public interface EventAttendeeRow {
+    UUID getUserId();
+    String getName();
+    String getEmail();
+    LocalDateTime getUserCreatedAt();
+}
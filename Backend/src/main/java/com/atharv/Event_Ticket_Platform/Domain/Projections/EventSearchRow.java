@@ -0,0 +1,13 @@
+package com.atharv.Event_Ticket_Platform.Domain.Projections;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+public interface EventSearchRow {
+    UUID getId();
+    String getName();
+    String getDescription();
+    String getVenue();
+    LocalDateTime getCreatedAt();
+    Long getPopularity();
+}
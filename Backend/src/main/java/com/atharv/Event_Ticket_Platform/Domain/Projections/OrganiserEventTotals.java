@@ -0,0 +1,9 @@
+package com.atharv.Event_Ticket_Platform.Domain.Projections;
+
+public interface OrganiserEventTotals {
+    Long getTotalEvents();
+    Long getPublishedEvents();
+    Long getDraftEvents();
+    Long getTicketsSold();
+    Double getRevenue();
+}
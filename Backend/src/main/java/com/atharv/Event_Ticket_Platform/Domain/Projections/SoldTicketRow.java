@@ -0,0 +1,17 @@
+package com.atharv.Event_Ticket_Platform.Domain.Projections;
+
+import com.atharv.Event_Ticket_Platform.Domain.Enum.TicketStatus;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+public interface SoldTicketRow {
+    UUID getTicketId();
+    TicketStatus getStatus();
+    String getTicketTypeName();
+    Double getPrice();
+    UUID getPurchaserId();
+    String getPurchaserName();
+    String getPurchaserEmail();
+    LocalDateTime getPurchasedAt();
+}
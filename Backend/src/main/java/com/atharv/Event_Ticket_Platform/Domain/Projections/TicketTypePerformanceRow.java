@@ -0,0 +1,9 @@
+package com.atharv.Event_Ticket_Platform.Domain.Projections;
+
+public interface TicketTypePerformanceRow {
+    String getTicketTypeName();
+    long getTypeCount();
+    long getTicketsSold();
+    double getRevenue();
+    long getValidatedCount();
+}
@@ -0,0 +1,28 @@
+package com.atharv.Event_Ticket_Platform.Domain.Projections;
+
+import java.util.UUID;
+
+public interface TicketTypeSales {
+    UUID getEventId();
+    Integer getTicketTypeId();
+    String getTicketTypeName();
+    Double getPrice();
+    Integer getTotalAvailable();
+    Long getTicketsSold();
+    Double getRevenue();
+    Long getTicketsCancelled();
+    Double getCancelledRevenue();
+    Long getValidatedCount();
+
+    default double revenueOrZero() {
+        return getRevenue() != null ? getRevenue() : 0.0;
+    }
+
+    default long ticketsCancelledOrZero() {
+        return getTicketsCancelled() != null ? getTicketsCancelled() : 0L;
+    }
+
+    default double cancelledRevenueOrZero() {
+        return getCancelledRevenue() != null ? getCancelledRevenue() : 0.0;
+    }
+}
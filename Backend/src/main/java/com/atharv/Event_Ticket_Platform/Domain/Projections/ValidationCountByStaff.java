@@ -0,0 +1,9 @@
+package com.atharv.Event_Ticket_Platform.Domain.Projections;
+
+import java.util.UUID;
+
+public interface ValidationCountByStaff {
+    UUID getStaffUserId();
+    String getStaffUsername();
+    Long getValidatedCount();
+}
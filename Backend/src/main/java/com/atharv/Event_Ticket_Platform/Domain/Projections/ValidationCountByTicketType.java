@@ -0,0 +1,7 @@
+package com.atharv.Event_Ticket_Platform.Domain.Projections;
+
+public interface ValidationCountByTicketType {
+    Integer getTicketTypeId();
+    String getTicketTypeName();
+    Long getValidatedCount();
+}
@@ -0,0 +1,21 @@
+package com.atharv.Event_Ticket_Platform.Domain.Projections;
+
+import com.atharv.Event_Ticket_Platform.Domain.Enum.TicketValidationMethod;
+import com.atharv.Event_Ticket_Platform.Domain.Enum.TicketValidationStatus;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+public interface ValidationDetailRow {
+    UUID getValidationId();
+    LocalDateTime getValidatedAt();
+    TicketValidationStatus getValidationStatus();
+    TicketValidationMethod getValidationMethod();
+    UUID getTicketId();
+    String getTicketTypeName();
+    Double getTicketPrice();
+    UUID getAttendeeId();
+    String getAttendeeName();
+    String getAttendeeEmail();
+    String getStaffUsername();
+}
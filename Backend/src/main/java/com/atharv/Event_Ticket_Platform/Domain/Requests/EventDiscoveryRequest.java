@@ -0,0 +1,24 @@
+package com.atharv.Event_Ticket_Platform.Domain.Requests;
+
+import com.atharv.Event_Ticket_Platform.Domain.Enum.EventType;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class EventDiscoveryRequest {
+    private LocalDateTime from;
+    private LocalDateTime to;
+    private List<EventType> eventTypes;
+    private String venue;
+    private Double minPrice;
+    private Double maxPrice;
+    private boolean availableOnly;
+}
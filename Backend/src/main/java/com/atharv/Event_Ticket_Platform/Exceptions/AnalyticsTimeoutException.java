@@ -0,0 +1,23 @@
+package com.atharv.Event_Ticket_Platform.Exceptions;
+
+public class AnalyticsTimeoutException extends EventTicketExceptions{
+    public AnalyticsTimeoutException() {
+        super();
+    }
+
+    public AnalyticsTimeoutException(String message) {
+        super(message);
+    }
+
+    public AnalyticsTimeoutException(String message, Throwable cause) {
+        super(message, cause);
+    }
+
+    public AnalyticsTimeoutException(Throwable cause) {
+        super(cause);
+    }
+
+    public AnalyticsTimeoutException(String message, Throwable cause, boolean enableSuppression, boolean writableStackTrace) {
+        super(message, cause, enableSuppression, writableStackTrace);
+    }
+}
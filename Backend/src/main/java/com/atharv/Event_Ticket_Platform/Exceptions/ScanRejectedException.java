@@ -0,0 +1,14 @@
+package com.atharv.Event_Ticket_Platform.Exceptions;
+
+import com.atharv.Event_Ticket_Platform.Domain.Enum.ScanOutcome;
+import lombok.Getter;
+
+@Getter
+public class ScanRejectedException extends IllegalStateException {
+    private final ScanOutcome outcome;
+
+    public ScanRejectedException(ScanOutcome outcome, String message) {
+        super(message);
+        this.outcome = outcome;
+    }
+}
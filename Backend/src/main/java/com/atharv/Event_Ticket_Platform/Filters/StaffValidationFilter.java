@@ -3,6 +3,7 @@ package com.atharv.Event_Ticket_Platform.Filters;
 import com.atharv.Event_Ticket_Platform.Domain.Entity.Staff;
 import com.atharv.Event_Ticket_Platform.Repository.StaffRepo;
 import com.atharv.Event_Ticket_Platform.Security.UserPrincipal;
+import com.atharv.Event_Ticket_Platform.Service.ServiceImpl.StaffHeartbeatService;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -16,7 +17,6 @@ import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
-import java.time.LocalDateTime;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -26,6 +26,7 @@ import java.util.UUID;
 public class StaffValidationFilter extends OncePerRequestFilter {
 
     private final StaffRepo staffRepo;
+    private final StaffHeartbeatService staffHeartbeatService;
 
     @Override
     protected boolean shouldNotFilter(HttpServletRequest request) {
@@ -66,11 +67,7 @@ public class StaffValidationFilter extends OncePerRequestFilter {
 
                 Staff staff = staffOpt.get();
 
-                if (staff.getLastLogin() == null ||
-                        staff.getLastLogin().isBefore(LocalDateTime.now().minusMinutes(5))) {
-                    staff.setLastLogin(LocalDateTime.now());
-                    staffRepo.save(staff);
-                }
+                staffHeartbeatService.recordHeartbeat(staffUserId);
 
                 if (!staff.getIsActive()) {
                     response.setStatus(HttpServletResponse.SC_FORBIDDEN);
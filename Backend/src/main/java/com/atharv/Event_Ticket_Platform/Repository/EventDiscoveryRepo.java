@@ -0,0 +1,27 @@
+package com.atharv.Event_Ticket_Platform.Repository;
+
+import com.atharv.Event_Ticket_Platform.Domain.Entity.Event;
+import com.atharv.Event_Ticket_Platform.Domain.Enum.EventStatus;
+import com.atharv.Event_Ticket_Platform.Domain.Projections.DiscoveryFacetRow;
+import com.atharv.Event_Ticket_Platform.Domain.Requests.EventDiscoveryRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+// Discovery filters are all optional, so their queries are assembled per request with only the
+// active predicates; a fixed query with "flag OR predicate" terms would share one generic plan
+public interface EventDiscoveryRepo {
+
+    Slice<Event> discover(
+            EventStatus eventStatus,
+            EventDiscoveryRequest filter,
+            LocalDateTime afterTime,
+            UUID afterId,
+            Pageable pageable
+    );
+
+    List<DiscoveryFacetRow> countDiscoveryFacets(EventStatus eventStatus, EventDiscoveryRequest filter);
+}
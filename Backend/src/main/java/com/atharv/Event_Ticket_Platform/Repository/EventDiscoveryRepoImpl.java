@@ -0,0 +1,126 @@
+package com.atharv.Event_Ticket_Platform.Repository;
+
+import com.atharv.Event_Ticket_Platform.Domain.Entity.Event;
+import com.atharv.Event_Ticket_Platform.Domain.Entity.TicketType;
+import com.atharv.Event_Ticket_Platform.Domain.Enum.EventStatus;
+import com.atharv.Event_Ticket_Platform.Domain.Projections.DiscoveryFacetRow;
+import com.atharv.Event_Ticket_Platform.Domain.Requests.EventDiscoveryRequest;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.criteria.AbstractQuery;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Subquery;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+@RequiredArgsConstructor
+public class EventDiscoveryRepoImpl implements EventDiscoveryRepo {
+
+    private final EntityManager entityManager;
+
+    @Override
+    public Slice<Event> discover(
+            EventStatus eventStatus,
+            EventDiscoveryRequest filter,
+            LocalDateTime afterTime,
+            UUID afterId,
+            Pageable pageable
+    ) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Event> query = cb.createQuery(Event.class);
+        Root<Event> event = query.from(Event.class);
+
+        List<Predicate> predicates = filterPredicates(cb, query, event, eventStatus, filter);
+        if (afterTime != null) {
+            Path<LocalDateTime> startTime = event.get("startTime");
+            Path<UUID> id = event.get("id");
+            predicates.add(cb.or(
+                    cb.greaterThan(startTime, afterTime),
+                    cb.and(cb.equal(startTime, afterTime), cb.greaterThan(id, afterId))));
+        }
+
+        query.select(event)
+                .where(predicates.toArray(Predicate[]::new))
+                .orderBy(cb.asc(event.get("startTime")), cb.asc(event.get("id")));
+
+        // One row past the page tells whether another page exists without a count query
+        int size = pageable.getPageSize();
+        List<Event> rows = entityManager.createQuery(query)
+                .setMaxResults(size + 1)
+                .getResultList();
+        boolean hasNext = rows.size() > size;
+        return new SliceImpl<>(hasNext ? rows.subList(0, size) : rows, pageable, hasNext);
+    }
+
+    @Override
+    public List<DiscoveryFacetRow> countDiscoveryFacets(EventStatus eventStatus, EventDiscoveryRequest filter) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<DiscoveryFacetRow> query = cb.createQuery(DiscoveryFacetRow.class);
+        Root<Event> event = query.from(Event.class);
+
+        query.select(cb.construct(DiscoveryFacetRow.class,
+                        event.get("eventType"), event.get("venue"), cb.count(event)))
+                .where(filterPredicates(cb, query, event, eventStatus, filter).toArray(Predicate[]::new))
+                .groupBy(event.get("eventType"), event.get("venue"));
+
+        return entityManager.createQuery(query).getResultList();
+    }
+
+    // Shared by the page and facet queries so both always see the same matches. Null or empty filter
+    // fields add nothing; a ticket type has to satisfy the price range and availability on its own
+    private static List<Predicate> filterPredicates(
+            CriteriaBuilder cb,
+            AbstractQuery<?> query,
+            Root<Event> event,
+            EventStatus eventStatus,
+            EventDiscoveryRequest filter
+    ) {
+        List<Predicate> predicates = new ArrayList<>();
+        predicates.add(cb.equal(event.get("eventStatus"), eventStatus));
+
+        Path<LocalDateTime> startTime = event.get("startTime");
+        if (filter.getFrom() != null) {
+            predicates.add(cb.greaterThanOrEqualTo(startTime, filter.getFrom()));
+        }
+        if (filter.getTo() != null) {
+            predicates.add(cb.lessThan(startTime, filter.getTo()));
+        }
+        if (filter.getEventTypes() != null && !filter.getEventTypes().isEmpty()) {
+            predicates.add(event.get("eventType").in(filter.getEventTypes()));
+        }
+        if (filter.getVenue() != null && !filter.getVenue().isEmpty()) {
+            predicates.add(cb.equal(event.get("venue"), filter.getVenue()));
+        }
+
+        if (filter.getMinPrice() == null && filter.getMaxPrice() == null && !filter.isAvailableOnly()) {
+            return predicates;
+        }
+        Subquery<Integer> tickets = query.subquery(Integer.class);
+        Root<TicketType> ticketType = tickets.from(TicketType.class);
+        Path<Double> price = ticketType.get("price");
+        List<Predicate> ticketPredicates = new ArrayList<>();
+        ticketPredicates.add(cb.equal(ticketType.get("event"), event));
+        if (filter.getMinPrice() != null) {
+            ticketPredicates.add(cb.greaterThanOrEqualTo(price, filter.getMinPrice()));
+        }
+        if (filter.getMaxPrice() != null) {
+            ticketPredicates.add(cb.lessThanOrEqualTo(price, filter.getMaxPrice()));
+        }
+        if (filter.isAvailableOnly()) {
+            ticketPredicates.add(cb.greaterThan(ticketType.<Integer>get("totalAvailable"), 0));
+        }
+        tickets.select(cb.literal(1)).where(ticketPredicates.toArray(Predicate[]::new));
+        predicates.add(cb.exists(tickets));
+        return predicates;
+    }
+}
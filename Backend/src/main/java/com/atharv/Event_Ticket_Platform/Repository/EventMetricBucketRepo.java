@@ -0,0 +1,41 @@
+package com.atharv.Event_Ticket_Platform.Repository;
+
+import com.atharv.Event_Ticket_Platform.Domain.Entity.EventMetricBucket;
+import com.atharv.Event_Ticket_Platform.Domain.Enum.TimeSeriesMetric;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+@Repository
+public interface EventMetricBucketRepo extends JpaRepository<EventMetricBucket, Long> {
+
+    @Query("SELECT b FROM EventMetricBucket b " +
+            "WHERE b.eventId = :eventId AND b.metric = :metric " +
+            "AND b.bucketStart >= :from AND b.bucketStart < :to " +
+            "ORDER BY b.bucketStart")
+    List<EventMetricBucket> findRange(
+            @Param("eventId") UUID eventId,
+            @Param("metric") TimeSeriesMetric metric,
+            @Param("from") LocalDateTime from,
+            @Param("to") LocalDateTime to
+    );
+
+    @Modifying
+    @Query(value = "INSERT INTO event_metric_bucket (event_id, metric, bucket_start, count) " +
+            "VALUES (:eventId, :metric, :bucketStart, :delta) " +
+            "ON CONFLICT (event_id, metric, bucket_start) DO UPDATE SET " +
+            "count = event_metric_bucket.count + EXCLUDED.count",
+            nativeQuery = true)
+    void addToBucket(
+            @Param("eventId") UUID eventId,
+            @Param("metric") String metric,
+            @Param("bucketStart") LocalDateTime bucketStart,
+            @Param("delta") long delta
+    );
+}
@@ -0,0 +1,17 @@
+package com.atharv.Event_Ticket_Platform.Repository;
+
+import com.atharv.Event_Ticket_Platform.Domain.Entity.Event;
+import com.atharv.Event_Ticket_Platform.Domain.Enum.EventStatus;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+
+import java.util.UUID;
+
+// Offset pages read the total with a window count on the page query itself, so a page costs one
+// statement plus the batched ticket types instead of a separate count query as well
+public interface EventPageRepo {
+
+    Page<Event> findPageByEventStatus(EventStatus eventStatus, Pageable pageable);
+
+    Page<Event> findPageByOrganiserId(UUID organiserId, Pageable pageable);
+}
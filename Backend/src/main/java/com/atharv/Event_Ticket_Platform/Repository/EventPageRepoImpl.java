@@ -0,0 +1,52 @@
+package com.atharv.Event_Ticket_Platform.Repository;
+
+import com.atharv.Event_Ticket_Platform.Domain.Entity.Event;
+import com.atharv.Event_Ticket_Platform.Domain.Enum.EventStatus;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+import org.springframework.data.support.PageableExecutionUtils;
+
+import java.util.List;
+import java.util.UUID;
+
+@RequiredArgsConstructor
+public class EventPageRepoImpl implements EventPageRepo {
+
+    private static final String ALIAS = "e";
+
+    private final EntityManager entityManager;
+
+    @Override
+    public Page<Event> findPageByEventStatus(EventStatus eventStatus, Pageable pageable) {
+        return findPage("e.eventStatus = :value", eventStatus, pageable);
+    }
+
+    @Override
+    public Page<Event> findPageByOrganiserId(UUID organiserId, Pageable pageable) {
+        return findPage("e.organiser.id = :value", organiserId, pageable);
+    }
+
+    private Page<Event> findPage(String predicate, Object value, Pageable pageable) {
+        String select = QueryUtils.applySorting(
+                "SELECT e, COUNT(*) OVER () FROM Event e WHERE " + predicate, pageable.getSort(), ALIAS);
+        var query = entityManager.createQuery(select, Object[].class)
+                .setParameter("value", value);
+        if (pageable.isPaged()) {
+            query.setFirstResult((int) pageable.getOffset())
+                    .setMaxResults(pageable.getPageSize());
+        }
+
+        List<Object[]> rows = query.getResultList();
+        List<Event> content = rows.stream().map(row -> (Event) row[0]).toList();
+
+        // An offset past the last row returns nothing to carry the window count, so only then is it counted separately
+        return PageableExecutionUtils.getPage(content, pageable, () -> rows.isEmpty()
+                ? entityManager.createQuery("SELECT COUNT(e) FROM Event e WHERE " + predicate, Long.class)
+                        .setParameter("value", value)
+                        .getSingleResult()
+                : (Long) rows.get(0)[1]);
+    }
+}
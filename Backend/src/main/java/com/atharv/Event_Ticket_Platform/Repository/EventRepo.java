@@ -2,25 +2,147 @@ package com.atharv.Event_Ticket_Platform.Repository;
 
 import com.atharv.Event_Ticket_Platform.Domain.Entity.Event;
 import com.atharv.Event_Ticket_Platform.Domain.Enum.EventStatus;
+import com.atharv.Event_Ticket_Platform.Domain.Projections.EventAttendeeRow;
+import com.atharv.Event_Ticket_Platform.Domain.Projections.EventSearchRow;
+import com.atharv.Event_Ticket_Platform.Domain.Projections.OrganiserEventTotals;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
 @Repository
-public interface EventRepo extends JpaRepository<Event, UUID> {
-    Page<Event> findByOrganiserId(UUID organiserId ,Pageable pageable);
+public interface EventRepo extends JpaRepository<Event, UUID>, EventDiscoveryRepo, EventPageRepo {
     Optional<Event> findByIdAndOrganiser_id(UUID eventId, UUID organiserId);
 
-    Page<Event> findByEventStatus(EventStatus eventStatus, Pageable pageable);
+    // Detail views always render the ticket types, so they come back in the same query
+    @EntityGraph(attributePaths = "ticketTypes")
+    Optional<Event> findWithTicketTypesById(UUID eventId);
 
+    List<Event> findAllByOrganiserId(UUID organiserId);
+
+    List<Event> findAllByOrganiserIdAndEventStatus(UUID organiserId, EventStatus eventStatus);
+
+    // Plain name match, used by search only until the in-memory index has been built
     Page<Event> findByEventStatusAndNameContainingIgnoreCase(
             EventStatus eventStatus,
             String name,
             Pageable pageable
     );
 
+    @Query("SELECT e.id FROM Event e")
+    List<UUID> findAllIds();
+
+    @Query("SELECT e.id FROM Event e WHERE e.id IN :ids AND e.eventStatus = :eventStatus")
+    List<UUID> findIdsByIdInAndEventStatus(
+            @Param("ids") Collection<UUID> ids,
+            @Param("eventStatus") EventStatus eventStatus
+    );
+
+    @Query("SELECT e.id FROM Event e WHERE NOT EXISTS " +
+            "(SELECT r FROM EventSalesRollup r WHERE r.eventId = e.id)")
+    List<UUID> findIdsWithoutSalesRollup();
+
+    @Query("SELECT e.id FROM Event e WHERE NOT EXISTS " +
+            "(SELECT s FROM EventSketch s WHERE s.eventId = e.id)")
+    List<UUID> findIdsWithoutSketch();
+
+    // Each event joins at most one rollup row, so the sums are not inflated by the join
+    @Query("SELECT COUNT(e) AS totalEvents, " +
+            "COALESCE(SUM(CASE WHEN e.eventStatus = :published THEN 1L ELSE 0L END), 0L) AS publishedEvents, " +
+            "COALESCE(SUM(CASE WHEN e.eventStatus = :draft THEN 1L ELSE 0L END), 0L) AS draftEvents, " +
+            "COALESCE(SUM(r.ticketsSold), 0L) AS ticketsSold, COALESCE(SUM(r.revenue), 0.0) AS revenue " +
+            "FROM Event e LEFT JOIN EventSalesRollup r ON r.eventId = e.id " +
+            "WHERE e.organiser.id = :organiserId")
+    OrganiserEventTotals findTotalsByOrganiserId(
+            @Param("organiserId") UUID organiserId,
+            @Param("published") EventStatus published,
+            @Param("draft") EventStatus draft
+    );
+
+    @Query("SELECT COUNT(a) FROM Event e JOIN e.attendees a WHERE e.organiser.id = :organiserId")
+    long countAttendeesByOrganiserId(@Param("organiserId") UUID organiserId);
+
+    @Query("SELECT COUNT(a) FROM Event e JOIN e.attendees a WHERE e.id = :eventId")
+    long countAttendeesByEventId(@Param("eventId") UUID eventId);
+
+    @Query("SELECT e.organiser.id FROM Event e WHERE e.id = :eventId")
+    Optional<UUID> findOrganiserIdById(@Param("eventId") UUID eventId);
+
+    @Query("SELECT DISTINCT e.organiser.id FROM Event e WHERE e.id IN :eventIds")
+    List<UUID> findOrganiserIdsByEventIds(@Param("eventIds") Collection<UUID> eventIds);
+
+    @Query("SELECT e FROM Event e WHERE e.organiser.id = :organiserId " +
+            "AND (e.createdAt < :beforeTime OR (e.createdAt = :beforeTime AND e.id < :beforeId)) " +
+            "ORDER BY e.createdAt DESC, e.id DESC")
+    Slice<Event> findByOrganiserIdBefore(
+            @Param("organiserId") UUID organiserId,
+            @Param("beforeTime") LocalDateTime beforeTime,
+            @Param("beforeId") UUID beforeId,
+            Pageable pageable
+    );
+
+    @Query("SELECT e FROM Event e WHERE e.eventStatus = :eventStatus " +
+            "AND (e.createdAt < :beforeTime OR (e.createdAt = :beforeTime AND e.id < :beforeId)) " +
+            "ORDER BY e.createdAt DESC, e.id DESC")
+    Slice<Event> findByEventStatusBefore(
+            @Param("eventStatus") EventStatus eventStatus,
+            @Param("beforeTime") LocalDateTime beforeTime,
+            @Param("beforeId") UUID beforeId,
+            Pageable pageable
+    );
+
+    // Popularity is net tickets sold, read from the sales rollup so it costs no aggregation
+    @Query("SELECT e.id AS id, e.name AS name, e.description AS description, e.venue AS venue, " +
+            "e.createdAt AS createdAt, COALESCE(r.ticketsSold - r.ticketsCancelled, 0L) AS popularity " +
+            "FROM Event e LEFT JOIN EventSalesRollup r ON r.eventId = e.id WHERE e.eventStatus = :eventStatus " +
+            "AND (e.createdAt < :beforeTime OR (e.createdAt = :beforeTime AND e.id < :beforeId)) " +
+            "ORDER BY e.createdAt DESC, e.id DESC")
+    List<EventSearchRow> findSearchRowsBefore(
+            @Param("eventStatus") EventStatus eventStatus,
+            @Param("beforeTime") LocalDateTime beforeTime,
+            @Param("beforeId") UUID beforeId,
+            Pageable pageable
+    );
+
+    @Query("SELECT e.id AS id, e.name AS name, e.description AS description, e.venue AS venue, " +
+            "e.createdAt AS createdAt, COALESCE(r.ticketsSold - r.ticketsCancelled, 0L) AS popularity " +
+            "FROM Event e LEFT JOIN EventSalesRollup r ON r.eventId = e.id " +
+            "WHERE e.id = :eventId AND e.eventStatus = :eventStatus")
+    Optional<EventSearchRow> findSearchRow(
+            @Param("eventId") UUID eventId,
+            @Param("eventStatus") EventStatus eventStatus
+    );
+
+    // The join table has no timestamp of its own, so attendees are paged by the user's creation time
+    @Query("SELECT a.id AS userId, a.name AS name, a.email AS email, a.createdAt AS userCreatedAt " +
+            "FROM Event e JOIN e.attendees a WHERE e.id = :eventId " +
+            "AND (a.createdAt < :beforeTime OR (a.createdAt = :beforeTime AND a.id < :beforeId)) " +
+            "ORDER BY a.createdAt DESC, a.id DESC")
+    Slice<EventAttendeeRow> findAttendeesBefore(
+            @Param("eventId") UUID eventId,
+            @Param("beforeTime") LocalDateTime beforeTime,
+            @Param("beforeId") UUID beforeId,
+            Pageable pageable
+    );
+
+    @Query("SELECT a.id AS userId, a.name AS name, a.email AS email, a.createdAt AS userCreatedAt " +
+            "FROM Event e JOIN e.attendees a WHERE e.id = :eventId " +
+            "AND (a.createdAt > :afterTime OR (a.createdAt = :afterTime AND a.id > :afterId)) " +
+            "ORDER BY a.createdAt, a.id")
+    List<EventAttendeeRow> findAttendeeRowsAfter(
+            @Param("eventId") UUID eventId,
+            @Param("afterTime") LocalDateTime afterTime,
+            @Param("afterId") UUID afterId,
+            Pageable pageable
+    );
 }
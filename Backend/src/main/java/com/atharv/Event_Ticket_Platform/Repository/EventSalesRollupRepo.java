@@ -0,0 +1,60 @@
+package com.atharv.Event_Ticket_Platform.Repository;
+
+import com.atharv.Event_Ticket_Platform.Domain.Entity.EventSalesRollup;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.UUID;
+
+@Repository
+public interface EventSalesRollupRepo extends JpaRepository<EventSalesRollup, UUID> {
+
+    @Modifying
+    @Query(value = "INSERT INTO event_sales_rollup " +
+            "(event_id, tickets_sold, revenue, tickets_cancelled, cancelled_revenue, validated_count, updated_at) " +
+            "VALUES (:eventId, :sold, :revenue, :cancelled, :cancelledRevenue, :validated, now()) " +
+            "ON CONFLICT (event_id) DO UPDATE SET " +
+            "tickets_sold = event_sales_rollup.tickets_sold + EXCLUDED.tickets_sold, " +
+            "revenue = event_sales_rollup.revenue + EXCLUDED.revenue, " +
+            "tickets_cancelled = event_sales_rollup.tickets_cancelled + EXCLUDED.tickets_cancelled, " +
+            "cancelled_revenue = event_sales_rollup.cancelled_revenue + EXCLUDED.cancelled_revenue, " +
+            "validated_count = event_sales_rollup.validated_count + EXCLUDED.validated_count, " +
+            "updated_at = EXCLUDED.updated_at",
+            nativeQuery = true)
+    void applyDelta(
+            @Param("eventId") UUID eventId,
+            @Param("sold") long sold,
+            @Param("revenue") double revenue,
+            @Param("cancelled") long cancelled,
+            @Param("cancelledRevenue") double cancelledRevenue,
+            @Param("validated") long validated
+    );
+
+    @Modifying
+    @Query(value = "INSERT INTO event_sales_rollup " +
+            "(event_id, tickets_sold, revenue, tickets_cancelled, cancelled_revenue, validated_count, updated_at) " +
+            "VALUES (:eventId, :sold, :revenue, :cancelled, :cancelledRevenue, :validated, now()) " +
+            "ON CONFLICT (event_id) DO UPDATE SET " +
+            "tickets_sold = EXCLUDED.tickets_sold, " +
+            "revenue = EXCLUDED.revenue, " +
+            "tickets_cancelled = EXCLUDED.tickets_cancelled, " +
+            "cancelled_revenue = EXCLUDED.cancelled_revenue, " +
+            "validated_count = EXCLUDED.validated_count, " +
+            "updated_at = EXCLUDED.updated_at",
+            nativeQuery = true)
+    void overwrite(
+            @Param("eventId") UUID eventId,
+            @Param("sold") long sold,
+            @Param("revenue") double revenue,
+            @Param("cancelled") long cancelled,
+            @Param("cancelledRevenue") double cancelledRevenue,
+            @Param("validated") long validated
+    );
+
+    @Modifying
+    @Query("DELETE FROM EventSalesRollup r WHERE NOT EXISTS (SELECT e FROM Event e WHERE e.id = r.eventId)")
+    int deleteOrphans();
+}
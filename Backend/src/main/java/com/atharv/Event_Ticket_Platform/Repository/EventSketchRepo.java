@@ -0,0 +1,31 @@
+package com.atharv.Event_Ticket_Platform.Repository;
+
+import com.atharv.Event_Ticket_Platform.Domain.Entity.EventSketch;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+@Repository
+public interface EventSketchRepo extends JpaRepository<EventSketch, UUID> {
+
+    @Modifying
+    @Query(value = "INSERT INTO event_sketch (event_id, updated_at) VALUES (:eventId, now()) " +
+            "ON CONFLICT (event_id) DO NOTHING",
+            nativeQuery = true)
+    void insertIfAbsent(@Param("eventId") UUID eventId);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT s FROM EventSketch s WHERE s.eventId = :eventId")
+    Optional<EventSketch> findForUpdate(@Param("eventId") UUID eventId);
+
+    List<EventSketch> findByEventIdIn(Collection<UUID> eventIds);
+}
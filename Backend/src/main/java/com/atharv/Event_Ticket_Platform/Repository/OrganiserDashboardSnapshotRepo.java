@@ -0,0 +1,29 @@
+package com.atharv.Event_Ticket_Platform.Repository;
+
+import com.atharv.Event_Ticket_Platform.Domain.Entity.OrganiserDashboardSnapshot;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+@Repository
+public interface OrganiserDashboardSnapshotRepo extends JpaRepository<OrganiserDashboardSnapshot, UUID> {
+
+    // A slower rebuild that started earlier must not overwrite a newer snapshot
+    @Modifying
+    @Query(value = "INSERT INTO organiser_dashboard_snapshot (organiser_id, payload, built_at) " +
+            "VALUES (:organiserId, :payload, :builtAt) " +
+            "ON CONFLICT (organiser_id) DO UPDATE SET " +
+            "payload = EXCLUDED.payload, built_at = EXCLUDED.built_at " +
+            "WHERE organiser_dashboard_snapshot.built_at <= EXCLUDED.built_at",
+            nativeQuery = true)
+    void upsert(
+            @Param("organiserId") UUID organiserId,
+            @Param("payload") byte[] payload,
+            @Param("builtAt") LocalDateTime builtAt
+    );
+}
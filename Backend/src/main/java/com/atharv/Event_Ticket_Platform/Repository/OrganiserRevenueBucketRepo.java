@@ -0,0 +1,82 @@
+package com.atharv.Event_Ticket_Platform.Repository;
+
+import com.atharv.Event_Ticket_Platform.Domain.Entity.OrganiserRevenueBucket;
+import com.atharv.Event_Ticket_Platform.Domain.Enum.RevenueGranularity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+@Repository
+public interface OrganiserRevenueBucketRepo extends JpaRepository<OrganiserRevenueBucket, Long> {
+
+    @Query("SELECT b FROM OrganiserRevenueBucket b " +
+            "WHERE b.organiserId = :organiserId AND b.granularity = :granularity " +
+            "AND b.bucketStart >= :from AND b.bucketStart < :to " +
+            "ORDER BY b.bucketStart")
+    List<OrganiserRevenueBucket> findRange(
+            @Param("organiserId") UUID organiserId,
+            @Param("granularity") RevenueGranularity granularity,
+            @Param("from") LocalDateTime from,
+            @Param("to") LocalDateTime to
+    );
+
+    // Resolves the organiser from the event and writes the hour and day rows in one statement,
+    // always in that order, so concurrent writers lock the two rows consistently
+    @Modifying
+    @Query(value = "INSERT INTO organiser_revenue_bucket " +
+            "(organiser_id, granularity, bucket_start, tickets_sold, gross_revenue, tickets_cancelled, refunded_revenue) " +
+            "SELECT e.organiser_id, g.granularity, date_trunc(g.unit, CAST(:occurredAt AS timestamp)), " +
+            ":sold, :grossRevenue, :cancelled, :refundedRevenue " +
+            "FROM event e CROSS JOIN (VALUES ('HOUR', 'hour'), ('DAY', 'day')) AS g(granularity, unit) " +
+            "WHERE e.id = :eventId " +
+            "ON CONFLICT (organiser_id, granularity, bucket_start) DO UPDATE SET " +
+            "tickets_sold = organiser_revenue_bucket.tickets_sold + EXCLUDED.tickets_sold, " +
+            "gross_revenue = organiser_revenue_bucket.gross_revenue + EXCLUDED.gross_revenue, " +
+            "tickets_cancelled = organiser_revenue_bucket.tickets_cancelled + EXCLUDED.tickets_cancelled, " +
+            "refunded_revenue = organiser_revenue_bucket.refunded_revenue + EXCLUDED.refunded_revenue",
+            nativeQuery = true)
+    void applyDelta(
+            @Param("eventId") UUID eventId,
+            @Param("occurredAt") LocalDateTime occurredAt,
+            @Param("sold") long sold,
+            @Param("grossRevenue") double grossRevenue,
+            @Param("cancelled") long cancelled,
+            @Param("refundedRevenue") double refundedRevenue
+    );
+
+    @Modifying
+    @Query(value = "DELETE FROM organiser_revenue_bucket WHERE organiser_id = :organiserId", nativeQuery = true)
+    int deleteByOrganiserId(@Param("organiserId") UUID organiserId);
+
+    // Cancellations are dated by the ticket's last update, the closest record of when they happened
+    @Modifying
+    @Query(value = "INSERT INTO organiser_revenue_bucket " +
+            "(organiser_id, granularity, bucket_start, tickets_sold, gross_revenue, tickets_cancelled, refunded_revenue) " +
+            "SELECT :organiserId, g.granularity, date_trunc(g.unit, x.occurred_at), " +
+            "SUM(x.sold), SUM(x.gross_revenue), SUM(x.cancelled), SUM(x.refunded_revenue) " +
+            "FROM (" +
+            "SELECT t.created_at AS occurred_at, 1 AS sold, t.price AS gross_revenue, " +
+            "0 AS cancelled, 0.0 AS refunded_revenue " +
+            "FROM ticket t JOIN ticket_type tt ON tt.id = t.ticket_type_id JOIN event e ON e.id = tt.event_id " +
+            "WHERE e.organiser_id = :organiserId " +
+            "UNION ALL " +
+            "SELECT COALESCE(t.updated_at, t.created_at), 0, 0.0, 1, t.price " +
+            "FROM ticket t JOIN ticket_type tt ON tt.id = t.ticket_type_id JOIN event e ON e.id = tt.event_id " +
+            "WHERE e.organiser_id = :organiserId AND t.status = 'CANCELLED'" +
+            ") x CROSS JOIN (VALUES ('HOUR', 'hour'), ('DAY', 'day')) AS g(granularity, unit) " +
+            "GROUP BY g.granularity, date_trunc(g.unit, x.occurred_at)",
+            nativeQuery = true)
+    int rebuildFromTickets(@Param("organiserId") UUID organiserId);
+
+    @Query(value = "SELECT DISTINCT e.organiser_id FROM event e " +
+            "JOIN ticket_type tt ON tt.event_id = e.id JOIN ticket t ON t.ticket_type_id = tt.id " +
+            "WHERE NOT EXISTS (SELECT 1 FROM organiser_revenue_bucket b WHERE b.organiser_id = e.organiser_id)",
+            nativeQuery = true)
+    List<UUID> findOrganiserIdsWithoutLedger();
+}
@@ -0,0 +1,11 @@
+package com.atharv.Event_Ticket_Platform.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.UUID;
+
+// Heartbeats are flushed in bulk; one JDBC batch per flush instead of a JPQL update per staff member
+public interface StaffLastLoginRepo {
+
+    void advanceLastLogins(Map<UUID, LocalDateTime> lastLogins);
+}
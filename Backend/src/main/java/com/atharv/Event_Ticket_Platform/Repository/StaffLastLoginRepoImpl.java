@@ -0,0 +1,30 @@
+package com.atharv.Event_Ticket_Platform.Repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+@RequiredArgsConstructor
+public class StaffLastLoginRepoImpl implements StaffLastLoginRepo {
+
+    // Only ever moves last_login forward, and touches no other column of the row
+    private static final String ADVANCE_LAST_LOGIN = "UPDATE staff SET last_login = ? WHERE staff_user_id = ? " +
+            "AND (last_login IS NULL OR last_login < ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public void advanceLastLogins(Map<UUID, LocalDateTime> lastLogins) {
+        if (lastLogins.isEmpty()) {
+            return;
+        }
+        List<Object[]> rows = new ArrayList<>(lastLogins.size());
+        lastLogins.forEach((staffUserId, lastLogin) -> rows.add(new Object[]{lastLogin, staffUserId, lastLogin}));
+        jdbcTemplate.batchUpdate(ADVANCE_LAST_LOGIN, rows);
+    }
+}
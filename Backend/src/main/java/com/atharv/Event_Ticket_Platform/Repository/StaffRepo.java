@@ -3,6 +3,7 @@ package com.atharv.Event_Ticket_Platform.Repository;
 import com.atharv.Event_Ticket_Platform.Domain.Entity.Staff;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -12,7 +13,7 @@ import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
-public interface  StaffRepo extends JpaRepository<Staff, Long> {
+public interface  StaffRepo extends JpaRepository<Staff, Long>, StaffLastLoginRepo {
 
     Page<Staff> findByCreatedByOrganiserIdAndEventId(
             UUID organiserId,
@@ -57,4 +58,31 @@ public interface  StaffRepo extends JpaRepository<Staff, Long> {
     );
 
     Optional<Staff> findByUsername(String identifier);
+
+    @Query("SELECT s FROM Staff s WHERE s.createdByOrganiserId = :organiserId " +
+            "AND s.eventId = :eventId " +
+            "AND (s.createdAt < :beforeTime OR (s.createdAt = :beforeTime AND s.id < :beforeId)) " +
+            "ORDER BY s.createdAt DESC, s.id DESC")
+    Slice<Staff> findByOrganiserAndEventBefore(
+            @Param("organiserId") UUID organiserId,
+            @Param("eventId") UUID eventId,
+            @Param("beforeTime") LocalDateTime beforeTime,
+            @Param("beforeId") long beforeId,
+            Pageable pageable
+    );
+
+    @Query("SELECT s FROM Staff s WHERE s.createdByOrganiserId = :organiserId " +
+            "AND s.eventId = :eventId " +
+            "AND s.isActive = true " +
+            "AND s.validUntil > :now " +
+            "AND (s.createdAt < :beforeTime OR (s.createdAt = :beforeTime AND s.id < :beforeId)) " +
+            "ORDER BY s.createdAt DESC, s.id DESC")
+    Slice<Staff> findValidStaffByEventBefore(
+            @Param("organiserId") UUID organiserId,
+            @Param("eventId") UUID eventId,
+            @Param("now") LocalDateTime now,
+            @Param("beforeTime") LocalDateTime beforeTime,
+            @Param("beforeId") long beforeId,
+            Pageable pageable
+    );
 }
@@ -1,6 +1,9 @@
 package com.atharv.Event_Ticket_Platform.Repository;
 
 import com.atharv.Event_Ticket_Platform.Domain.Entity.TicketType;
+import com.atharv.Event_Ticket_Platform.Domain.Enum.TicketValidationStatus;
+import com.atharv.Event_Ticket_Platform.Domain.Projections.TicketTypePerformanceRow;
+import com.atharv.Event_Ticket_Platform.Domain.Projections.TicketTypeSales;
 import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Lock;
@@ -18,4 +21,72 @@ public interface TicketTypeRepo extends JpaRepository<TicketType,Integer> {
     @Query("Select tt from TicketType tt where tt.id = :id")
     Optional<TicketType> findByIdForUpdate(@Param("id") Integer id);
 
+
+    @Query("SELECT tt.event.id AS eventId, tt.id AS ticketTypeId, tt.name AS ticketTypeName, " +
+            "tt.price AS price, tt.totalAvailable AS totalAvailable, " +
+            "COUNT(t.id) AS ticketsSold, SUM(t.price) AS revenue, " +
+            "SUM(CASE WHEN t.status = com.atharv.Event_Ticket_Platform.Domain.Enum.TicketStatus.CANCELLED " +
+            "THEN 1L ELSE 0L END) AS ticketsCancelled, " +
+            "SUM(CASE WHEN t.status = com.atharv.Event_Ticket_Platform.Domain.Enum.TicketStatus.CANCELLED " +
+            "THEN t.price ELSE 0.0 END) AS cancelledRevenue, " +
+            "(SELECT COUNT(v) FROM TicketValidation v WHERE v.event.id = tt.event.id " +
+            "AND v.ticket.ticketType.id = tt.id AND v.validationStatus = :status) AS validatedCount " +
+            "FROM TicketType tt LEFT JOIN tt.ticket t " +
+            "WHERE tt.event.id = :eventId " +
+            "GROUP BY tt.event.id, tt.id, tt.name, tt.price, tt.totalAvailable " +
+            "ORDER BY tt.id")
+    List<TicketTypeSales> findSalesByEventId(
+            @Param("eventId") UUID eventId,
+            @Param("status") TicketValidationStatus status
+    );
+
+    @Query("SELECT tt.event.id AS eventId, tt.id AS ticketTypeId, tt.name AS ticketTypeName, " +
+            "tt.price AS price, tt.totalAvailable AS totalAvailable, " +
+            "COUNT(t.id) AS ticketsSold, SUM(t.price) AS revenue, " +
+            "SUM(CASE WHEN t.status = com.atharv.Event_Ticket_Platform.Domain.Enum.TicketStatus.CANCELLED " +
+            "THEN 1L ELSE 0L END) AS ticketsCancelled, " +
+            "SUM(CASE WHEN t.status = com.atharv.Event_Ticket_Platform.Domain.Enum.TicketStatus.CANCELLED " +
+            "THEN t.price ELSE 0.0 END) AS cancelledRevenue, " +
+            "(SELECT COUNT(v) FROM TicketValidation v WHERE v.event.id = tt.event.id " +
+            "AND v.ticket.ticketType.id = tt.id AND v.validationStatus = :status) AS validatedCount " +
+            "FROM TicketType tt LEFT JOIN tt.ticket t " +
+            "WHERE tt.event.organiser.id = :organiserId " +
+            "GROUP BY tt.event.id, tt.id, tt.name, tt.price, tt.totalAvailable " +
+            "ORDER BY tt.id")
+    List<TicketTypeSales> findSalesByOrganiserId(
+            @Param("organiserId") UUID organiserId,
+            @Param("status") TicketValidationStatus status
+    );
+
+    @Query("SELECT tt.event.id AS eventId, tt.id AS ticketTypeId, tt.name AS ticketTypeName, " +
+            "tt.price AS price, tt.totalAvailable AS totalAvailable, " +
+            "COALESCE(r.ticketsSold, 0L) AS ticketsSold, COALESCE(r.revenue, 0.0) AS revenue, " +
+            "COALESCE(r.ticketsCancelled, 0L) AS ticketsCancelled, " +
+            "COALESCE(r.cancelledRevenue, 0.0) AS cancelledRevenue, " +
+            "COALESCE(r.validatedCount, 0L) AS validatedCount " +
+            "FROM TicketType tt LEFT JOIN TicketTypeRollup r ON r.ticketTypeId = tt.id " +
+            "WHERE tt.event.id = :eventId " +
+            "ORDER BY tt.id")
+    List<TicketTypeSales> findRolledUpSalesByEventId(@Param("eventId") UUID eventId);
+
+    @Query("SELECT tt.event.id AS eventId, tt.id AS ticketTypeId, tt.name AS ticketTypeName, " +
+            "tt.price AS price, tt.totalAvailable AS totalAvailable, " +
+            "COALESCE(r.ticketsSold, 0L) AS ticketsSold, COALESCE(r.revenue, 0.0) AS revenue, " +
+            "COALESCE(r.ticketsCancelled, 0L) AS ticketsCancelled, " +
+            "COALESCE(r.cancelledRevenue, 0.0) AS cancelledRevenue, " +
+            "COALESCE(r.validatedCount, 0L) AS validatedCount " +
+            "FROM TicketType tt LEFT JOIN TicketTypeRollup r ON r.ticketTypeId = tt.id " +
+            "WHERE tt.event.organiser.id = :organiserId " +
+            "ORDER BY tt.id")
+    List<TicketTypeSales> findRolledUpSalesByOrganiserId(@Param("organiserId") UUID organiserId);
+
+    @Query("SELECT tt.name AS ticketTypeName, COUNT(tt) AS typeCount, " +
+            "COALESCE(SUM(r.ticketsSold), 0L) AS ticketsSold, " +
+            "COALESCE(SUM(r.revenue), 0.0) AS revenue, " +
+            "COALESCE(SUM(r.validatedCount), 0L) AS validatedCount " +
+            "FROM TicketType tt LEFT JOIN TicketTypeRollup r ON r.ticketTypeId = tt.id " +
+            "WHERE tt.event.organiser.id = :organiserId " +
+            "GROUP BY tt.name " +
+            "ORDER BY COALESCE(SUM(r.revenue), 0.0) DESC")
+    List<TicketTypePerformanceRow> findPerformanceByOrganiserId(@Param("organiserId") UUID organiserId);
 }
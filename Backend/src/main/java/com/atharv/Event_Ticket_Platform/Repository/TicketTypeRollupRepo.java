@@ -0,0 +1,78 @@
+package com.atharv.Event_Ticket_Platform.Repository;
+
+import com.atharv.Event_Ticket_Platform.Domain.Entity.TicketTypeRollup;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+@Repository
+public interface TicketTypeRollupRepo extends JpaRepository<TicketTypeRollup, Integer> {
+
+    List<TicketTypeRollup> findByEventId(UUID eventId);
+
+    @Modifying
+    @Query(value = "INSERT INTO ticket_type_rollup " +
+            "(ticket_type_id, event_id, tickets_sold, revenue, tickets_cancelled, cancelled_revenue, validated_count, updated_at) " +
+            "VALUES (:ticketTypeId, :eventId, :sold, :revenue, :cancelled, :cancelledRevenue, :validated, now()) " +
+            "ON CONFLICT (ticket_type_id) DO UPDATE SET " +
+            "tickets_sold = ticket_type_rollup.tickets_sold + EXCLUDED.tickets_sold, " +
+            "revenue = ticket_type_rollup.revenue + EXCLUDED.revenue, " +
+            "tickets_cancelled = ticket_type_rollup.tickets_cancelled + EXCLUDED.tickets_cancelled, " +
+            "cancelled_revenue = ticket_type_rollup.cancelled_revenue + EXCLUDED.cancelled_revenue, " +
+            "validated_count = ticket_type_rollup.validated_count + EXCLUDED.validated_count, " +
+            "updated_at = EXCLUDED.updated_at",
+            nativeQuery = true)
+    void applyDelta(
+            @Param("ticketTypeId") Integer ticketTypeId,
+            @Param("eventId") UUID eventId,
+            @Param("sold") long sold,
+            @Param("revenue") double revenue,
+            @Param("cancelled") long cancelled,
+            @Param("cancelledRevenue") double cancelledRevenue,
+            @Param("validated") long validated
+    );
+
+    @Modifying
+    @Query(value = "INSERT INTO ticket_type_rollup " +
+            "(ticket_type_id, event_id, tickets_sold, revenue, tickets_cancelled, cancelled_revenue, validated_count, updated_at) " +
+            "VALUES (:ticketTypeId, :eventId, :sold, :revenue, :cancelled, :cancelledRevenue, :validated, now()) " +
+            "ON CONFLICT (ticket_type_id) DO UPDATE SET " +
+            "event_id = EXCLUDED.event_id, " +
+            "tickets_sold = EXCLUDED.tickets_sold, " +
+            "revenue = EXCLUDED.revenue, " +
+            "tickets_cancelled = EXCLUDED.tickets_cancelled, " +
+            "cancelled_revenue = EXCLUDED.cancelled_revenue, " +
+            "validated_count = EXCLUDED.validated_count, " +
+            "updated_at = EXCLUDED.updated_at",
+            nativeQuery = true)
+    void overwrite(
+            @Param("ticketTypeId") Integer ticketTypeId,
+            @Param("eventId") UUID eventId,
+            @Param("sold") long sold,
+            @Param("revenue") double revenue,
+            @Param("cancelled") long cancelled,
+            @Param("cancelledRevenue") double cancelledRevenue,
+            @Param("validated") long validated
+    );
+
+    @Modifying
+    @Query("DELETE FROM TicketTypeRollup r WHERE r.eventId = :eventId AND r.ticketTypeId NOT IN :ticketTypeIds")
+    int deleteStaleForEvent(
+            @Param("eventId") UUID eventId,
+            @Param("ticketTypeIds") Collection<Integer> ticketTypeIds
+    );
+
+    @Modifying
+    @Query("DELETE FROM TicketTypeRollup r WHERE r.eventId = :eventId")
+    int deleteByEventId(@Param("eventId") UUID eventId);
+
+    @Modifying
+    @Query("DELETE FROM TicketTypeRollup r WHERE NOT EXISTS (SELECT e FROM Event e WHERE e.id = r.eventId)")
+    int deleteOrphans();
+}
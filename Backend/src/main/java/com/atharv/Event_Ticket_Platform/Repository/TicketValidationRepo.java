@@ -2,13 +2,21 @@ package com.atharv.Event_Ticket_Platform.Repository;
 
 import com.atharv.Event_Ticket_Platform.Domain.Entity.TicketValidation;
 import com.atharv.Event_Ticket_Platform.Domain.Enum.TicketValidationStatus;
+import com.atharv.Event_Ticket_Platform.Domain.Projections.EntryDelayRow;
+import com.atharv.Event_Ticket_Platform.Domain.Projections.ValidationCountByStaff;
+import com.atharv.Event_Ticket_Platform.Domain.Projections.ValidationCountByTicketType;
+import com.atharv.Event_Ticket_Platform.Domain.Projections.ValidationDetailRow;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.UUID;
 
 @Repository
@@ -56,16 +64,116 @@ public interface TicketValidationRepo extends JpaRepository<TicketValidation, UU
             @Param("status") TicketValidationStatus status
     );
 
-    @Query("SELECT DISTINCT tv FROM TicketValidation tv " +
-            "JOIN FETCH tv.ticket t " +
-            "JOIN FETCH t.purchaser " +
+    @Query(value = "SELECT tv.id AS validationId, tv.validatedAt AS validatedAt, " +
+            "tv.validationStatus AS validationStatus, tv.ValidationMethod AS validationMethod, " +
+            "t.id AS ticketId, tt.name AS ticketTypeName, t.price AS ticketPrice, " +
+            "p.id AS attendeeId, p.name AS attendeeName, p.email AS attendeeEmail, " +
+            "s.username AS staffUsername " +
+            "FROM TicketValidation tv " +
+            "JOIN tv.ticket t JOIN t.ticketType tt JOIN t.purchaser p JOIN tv.staff s " +
             "WHERE tv.event.id = :eventId " +
             "AND tv.validationStatus = :status " +
-            "ORDER BY tv.validatedAt DESC")
-    Page<TicketValidation> findValidatedAttendeesByEvent(
+            "ORDER BY tv.validatedAt DESC",
+            countQuery = "SELECT COUNT(tv) FROM TicketValidation tv " +
+                    "WHERE tv.event.id = :eventId " +
+                    "AND tv.validationStatus = :status")
+    Page<ValidationDetailRow> findValidatedAttendeesByEvent(
+            @Param("eventId") UUID eventId,
+            @Param("status") TicketValidationStatus status,
+            Pageable pageable
+    );
+
+    // Keyset page over (validatedAt, id); pass the last row of the previous page to continue after it
+    @Query("SELECT tv.id AS validationId, tv.validatedAt AS validatedAt, " +
+            "tv.validationStatus AS validationStatus, tv.ValidationMethod AS validationMethod, " +
+            "t.id AS ticketId, tt.name AS ticketTypeName, t.price AS ticketPrice, " +
+            "p.id AS attendeeId, p.name AS attendeeName, p.email AS attendeeEmail, " +
+            "s.username AS staffUsername " +
+            "FROM TicketValidation tv " +
+            "LEFT JOIN tv.ticket t LEFT JOIN t.ticketType tt LEFT JOIN t.purchaser p JOIN tv.staff s " +
+            "WHERE tv.event.id = :eventId " +
+            "AND tv.validationStatus IN :statuses " +
+            "AND (tv.validatedAt > :afterTime OR (tv.validatedAt = :afterTime AND tv.id > :afterId)) " +
+            "ORDER BY tv.validatedAt, tv.id")
+    List<ValidationDetailRow> findValidationRowsAfter(
+            @Param("eventId") UUID eventId,
+            @Param("statuses") Collection<TicketValidationStatus> statuses,
+            @Param("afterTime") LocalDateTime afterTime,
+            @Param("afterId") UUID afterId,
+            Pageable pageable
+    );
+
+    @Query("SELECT t.createdAt AS purchasedAt, tv.validatedAt AS validatedAt " +
+            "FROM TicketValidation tv JOIN tv.ticket t " +
+            "WHERE tv.event.id = :eventId AND tv.validationStatus = :status")
+    List<EntryDelayRow> findEntryDelaysByEvent(
+            @Param("eventId") UUID eventId,
+            @Param("status") TicketValidationStatus status
+    );
+
+    @Query("SELECT tv.ticket.ticketType.id AS ticketTypeId, " +
+            "tv.ticket.ticketType.name AS ticketTypeName, " +
+            "COUNT(tv) AS validatedCount " +
+            "FROM TicketValidation tv " +
+            "WHERE tv.event.id = :eventId " +
+            "AND tv.validationStatus = :status " +
+            "GROUP BY tv.ticket.ticketType.id, tv.ticket.ticketType.name")
+    List<ValidationCountByTicketType> countValidationsByTicketType(
+            @Param("eventId") UUID eventId,
+            @Param("status") TicketValidationStatus status
+    );
+
+    @Query("SELECT tv.staff.staffUserId AS staffUserId, " +
+            "tv.staff.username AS staffUsername, " +
+            "COUNT(tv) AS validatedCount " +
+            "FROM TicketValidation tv " +
+            "WHERE tv.event.id = :eventId " +
+            "AND tv.validationStatus = :status " +
+            "GROUP BY tv.staff.staffUserId, tv.staff.username")
+    List<ValidationCountByStaff> countValidationsByStaff(
+            @Param("eventId") UUID eventId,
+            @Param("status") TicketValidationStatus status
+    );
+
+    @Query("SELECT tv.ticket.id FROM TicketValidation tv " +
+            "WHERE tv.event.id = :eventId " +
+            "AND tv.validationStatus = :status " +
+            "AND tv.validatedAt >= :since")
+    List<UUID> findValidatedTicketIdsSince(
             @Param("eventId") UUID eventId,
             @Param("status") TicketValidationStatus status,
+            @Param("since") LocalDateTime since
+    );
+
+    @Query("SELECT tv FROM TicketValidation tv " +
+            "WHERE tv.event.id = :eventId " +
+            "AND tv.staff.staffUserId = :staffUserId " +
+            "AND (tv.validatedAt < :beforeTime OR (tv.validatedAt = :beforeTime AND tv.id < :beforeId)) " +
+            "ORDER BY tv.validatedAt DESC, tv.id DESC")
+    Slice<TicketValidation> findByEventIdAndStaffUserIdBefore(
+            @Param("eventId") UUID eventId,
+            @Param("staffUserId") UUID staffUserId,
+            @Param("beforeTime") LocalDateTime beforeTime,
+            @Param("beforeId") UUID beforeId,
             Pageable pageable
     );
 
+    @Query("SELECT tv.id AS validationId, tv.validatedAt AS validatedAt, " +
+            "tv.validationStatus AS validationStatus, tv.ValidationMethod AS validationMethod, " +
+            "t.id AS ticketId, tt.name AS ticketTypeName, t.price AS ticketPrice, " +
+            "p.id AS attendeeId, p.name AS attendeeName, p.email AS attendeeEmail, " +
+            "s.username AS staffUsername " +
+            "FROM TicketValidation tv " +
+            "JOIN tv.ticket t JOIN t.ticketType tt JOIN t.purchaser p JOIN tv.staff s " +
+            "WHERE tv.event.id = :eventId " +
+            "AND tv.validationStatus = :status " +
+            "AND (tv.validatedAt < :beforeTime OR (tv.validatedAt = :beforeTime AND tv.id < :beforeId)) " +
+            "ORDER BY tv.validatedAt DESC, tv.id DESC")
+    Slice<ValidationDetailRow> findValidatedAttendeesBefore(
+            @Param("eventId") UUID eventId,
+            @Param("status") TicketValidationStatus status,
+            @Param("beforeTime") LocalDateTime beforeTime,
+            @Param("beforeId") UUID beforeId,
+            Pageable pageable
+    );
 }
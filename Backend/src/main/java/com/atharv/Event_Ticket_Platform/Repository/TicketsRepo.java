@@ -2,13 +2,17 @@ package com.atharv.Event_Ticket_Platform.Repository;
 
 import com.atharv.Event_Ticket_Platform.Domain.Entity.Ticket;
 import com.atharv.Event_Ticket_Platform.Domain.Enum.TicketStatus;
+import com.atharv.Event_Ticket_Platform.Domain.Projections.AttendeeIndexRow;
+import com.atharv.Event_Ticket_Platform.Domain.Projections.SoldTicketRow;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.UUID;
 
@@ -32,4 +36,37 @@ public interface TicketsRepo extends JpaRepository<Ticket, UUID> {
 
     @Query("SELECT t FROM Ticket t WHERE t.ticketType.event.id = :eventId")
     List<Ticket> findAllByEventId(@Param("eventId") UUID eventId);
+
+    @Query("SELECT t.id AS ticketId, t.status AS status, tt.name AS ticketTypeName, " +
+            "p.name AS purchaserName, p.email AS purchaserEmail " +
+            "FROM Ticket t JOIN t.ticketType tt JOIN t.purchaser p " +
+            "WHERE tt.event.id = :eventId AND t.status <> :excludedStatus")
+    List<AttendeeIndexRow> findAttendeeIndexRowsByEventId(
+            @Param("eventId") UUID eventId,
+            @Param("excludedStatus") TicketStatus excludedStatus
+    );
+
+    @Query("SELECT t.id AS ticketId, t.status AS status, tt.name AS ticketTypeName, t.price AS price, " +
+            "p.id AS purchaserId, p.name AS purchaserName, p.email AS purchaserEmail, " +
+            "t.createdAt AS purchasedAt " +
+            "FROM Ticket t JOIN t.ticketType tt JOIN t.purchaser p " +
+            "WHERE tt.event.id = :eventId " +
+            "AND (t.createdAt > :afterTime OR (t.createdAt = :afterTime AND t.id > :afterId)) " +
+            "ORDER BY t.createdAt, t.id")
+    List<SoldTicketRow> findSoldTicketRowsAfter(
+            @Param("eventId") UUID eventId,
+            @Param("afterTime") LocalDateTime afterTime,
+            @Param("afterId") UUID afterId,
+            Pageable pageable
+    );
+
+    @Query("SELECT t FROM Ticket t WHERE t.purchaser.id = :purchaserId " +
+            "AND (t.createdAt < :beforeTime OR (t.createdAt = :beforeTime AND t.id < :beforeId)) " +
+            "ORDER BY t.createdAt DESC, t.id DESC")
+    Slice<Ticket> findByPurchaserIdBefore(
+            @Param("purchaserId") UUID purchaserId,
+            @Param("beforeTime") LocalDateTime beforeTime,
+            @Param("beforeId") UUID beforeId,
+            Pageable pageable
+    );
 }
@@ -1,6 +1,7 @@
 package com.atharv.Event_Ticket_Platform.Repository;
 
 import com.atharv.Event_Ticket_Platform.Domain.Entity.User;
+import com.atharv.Event_Ticket_Platform.Domain.Projections.UserSummary;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -20,4 +21,7 @@ public interface UserRepo extends JpaRepository<User, UUID> {
     @Query("SELECT COUNT(u) > 0 FROM User u WHERE LOWER(u.email) = LOWER(:email)")
     boolean existsByEmail(@Param("email") String email);
 
+    @Query("SELECT u.id AS id, u.name AS name, u.email AS email FROM User u WHERE u.id = :userId")
+    Optional<UserSummary> findSummaryById(@Param("userId") UUID userId);
+
 }
@@ -0,0 +1,128 @@
+package com.atharv.Event_Ticket_Platform.Service.ServiceImpl;
+
+import com.atharv.Event_Ticket_Platform.Domain.DTO.AnalyticDtos.EventAnalyticsDto;
+import com.atharv.Event_Ticket_Platform.Domain.DTO.AnalyticDtos.OrganiserCompleteAnalyticsDto;
+import com.atharv.Event_Ticket_Platform.Domain.DTO.AnalyticDtos.TicketTypePerformanceDto;
+import com.atharv.Event_Ticket_Platform.Domain.Enum.AnalyticsReportType;
+import com.atharv.Event_Ticket_Platform.Domain.Events.EventUpdatedEvent;
+import com.atharv.Event_Ticket_Platform.Domain.Events.TicketCancelledEvent;
+import com.atharv.Event_Ticket_Platform.Domain.Events.TicketPurchasedEvent;
+import com.atharv.Event_Ticket_Platform.Domain.Events.TicketValidatedEvent;
+import com.atharv.Event_Ticket_Platform.Repository.EventRepo;
+import com.atharv.Event_Ticket_Platform.util.ExpiringCache;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+@Service
+@Slf4j
+public class AnalyticsReportCache {
+
+    private static final int MAX_TRACKED_OWNERS = 100_000;
+
+    private final AnalyticsService analyticsService;
+    private final EventRepo eventRepo;
+    private final ExpiringCache<ReportKey, Object> reports;
+
+    // An event never changes organiser, so owners are remembered to keep invalidation off the database
+    private final ConcurrentHashMap<UUID, UUID> eventOwners = new ConcurrentHashMap<>();
+
+    public AnalyticsReportCache(
+            AnalyticsService analyticsService,
+            EventRepo eventRepo,
+            @Value("${analytics.cache.ttl-ms:60000}") long ttlMillis,
+            @Value("${analytics.cache.max-entries:10000}") int maxEntries
+    ) {
+        this.analyticsService = analyticsService;
+        this.eventRepo = eventRepo;
+        this.reports = new ExpiringCache<>(ttlMillis, maxEntries);
+    }
+
+    public OrganiserCompleteAnalyticsDto getCompleteOrganiserAnalytics(UUID organiserId) {
+        return (OrganiserCompleteAnalyticsDto) reports.get(
+                new ReportKey(organiserId, AnalyticsReportType.COMPLETE, null),
+                () -> analyticsService.getCompleteOrganiserAnalytics(organiserId));
+    }
+
+    public OrganiserCompleteAnalyticsDto getPublishedEventsAnalytics(UUID organiserId) {
+        return (OrganiserCompleteAnalyticsDto) reports.get(
+                new ReportKey(organiserId, AnalyticsReportType.PUBLISHED, null),
+                () -> analyticsService.getPublishedEventsAnalytics(organiserId));
+    }
+
+    @SuppressWarnings("unchecked")
+    public List<TicketTypePerformanceDto> getTicketTypePerformanceAcrossEvents(UUID organiserId) {
+        return (List<TicketTypePerformanceDto>) reports.get(
+                new ReportKey(organiserId, AnalyticsReportType.TICKET_TYPE_PERFORMANCE, null),
+                () -> analyticsService.getTicketTypePerformanceAcrossEvents(organiserId));
+    }
+
+    public EventAnalyticsDto getEventAnalytics(UUID eventId, UUID organiserId) {
+        return (EventAnalyticsDto) reports.get(
+                new ReportKey(organiserId, AnalyticsReportType.EVENT, eventId),
+                () -> analyticsService.getEventAnalytics(eventId, organiserId));
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onTicketPurchased(TicketPurchasedEvent purchased) {
+        invalidateEvent(purchased.eventId(), null);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onTicketCancelled(TicketCancelledEvent cancelled) {
+        invalidateEvent(cancelled.eventId(), null);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onTicketValidated(TicketValidatedEvent validated) {
+        invalidateEvent(validated.eventId(), null);
+    }
+
+    // Event deletion is not transactional, so this one must also fire outside a transaction
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onEventUpdated(EventUpdatedEvent updated) {
+        invalidateEvent(updated.eventId(), updated.organiserId());
+    }
+
+    @Scheduled(fixedDelayString = "${analytics.cache.sweep-interval-ms:60000}")
+    public void evictExpired() {
+        reports.evictExpired();
+        if (eventOwners.size() > MAX_TRACKED_OWNERS) {
+            eventOwners.clear();
+        }
+    }
+
+    private void invalidateEvent(UUID eventId, UUID knownOrganiserId) {
+        UUID organiserId = knownOrganiserId != null ? knownOrganiserId : ownerOf(eventId);
+        if (organiserId == null) {
+            // Without an owner we cannot tell which organiser reports include this event
+            reports.invalidateIf(key -> key.eventId() == null || eventId.equals(key.eventId()));
+            return;
+        }
+
+        // Organiser-wide reports aggregate every event, while per-event entries for other events stay valid
+        reports.invalidateIf(key -> organiserId.equals(key.organiserId())
+                && (key.eventId() == null || eventId.equals(key.eventId())));
+    }
+
+    private UUID ownerOf(UUID eventId) {
+        UUID organiserId = eventOwners.get(eventId);
+        if (organiserId == null) {
+            organiserId = eventRepo.findOrganiserIdById(eventId).orElse(null);
+            if (organiserId != null) {
+                eventOwners.put(eventId, organiserId);
+            }
+        }
+        return organiserId;
+    }
+
+    private record ReportKey(UUID organiserId, AnalyticsReportType type, UUID eventId) {
+    }
+}
@@ -1,19 +1,29 @@
 package com.atharv.Event_Ticket_Platform.Service.ServiceImpl;
 
 import com.atharv.Event_Ticket_Platform.Domain.DTO.AnalyticDtos.*;
+import com.atharv.Event_Ticket_Platform.Domain.DTO.PageDtos.CursorPageDto;
 import com.atharv.Event_Ticket_Platform.Domain.Entity.*;
 import com.atharv.Event_Ticket_Platform.Domain.Enum.EventStatus;
 import com.atharv.Event_Ticket_Platform.Domain.Enum.TicketValidationStatus;
+import com.atharv.Event_Ticket_Platform.Domain.Projections.TicketTypePerformanceRow;
+import com.atharv.Event_Ticket_Platform.Domain.Projections.TicketTypeSales;
+import com.atharv.Event_Ticket_Platform.Domain.Projections.ValidationDetailRow;
 import com.atharv.Event_Ticket_Platform.Repository.EventRepo;
+import com.atharv.Event_Ticket_Platform.Repository.TicketTypeRepo;
 import com.atharv.Event_Ticket_Platform.Repository.TicketValidationRepo;
-import com.atharv.Event_Ticket_Platform.Repository.TicketsRepo;
 import com.atharv.Event_Ticket_Platform.Repository.UserRepo;
+import com.atharv.Event_Ticket_Platform.util.CursorCodec;
+import com.atharv.Event_Ticket_Platform.util.FanOutExecutor;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.time.Duration;
 import java.util.*;
 import java.util.stream.Collectors;
 
@@ -22,9 +32,21 @@ import java.util.stream.Collectors;
 @Slf4j
 public class AnalyticsService {
     private final EventRepo eventRepo;
-    private final TicketsRepo ticketsRepo;
+    private final TicketTypeRepo ticketTypeRepo;
     private final TicketValidationRepo ticketValidationRepo;
     private final UserRepo userRepo;
+    private final FanOutExecutor fanOutExecutor;
+    private final TransactionTemplate transactionTemplate;
+    private final EventSketchService eventSketchService;
+
+    @Value("${analytics.fan-out.max-concurrency-per-request:4}")
+    private int fanOutConcurrencyPerRequest;
+
+    @Value("${analytics.fan-out.timeout-ms:5000}")
+    private long fanOutTimeoutMillis;
+
+    @Value("${analytics.compare.max-events:50}")
+    private int maxCompareEvents;
 
     public EventAnalyticsDto getEventAnalytics(UUID eventId, UUID organiserId) {
         log.info("Fetching analytics for event: {}", eventId);
@@ -36,22 +58,26 @@ public class AnalyticsService {
             throw new IllegalStateException("You don't have permission to view this event");
         }
 
-        long totalTicketsSold = ticketsRepo.countByTicketType_Event_Id(eventId);
-        List<Ticket> allTickets = ticketsRepo.findAllByEventId(eventId);
-        double totalRevenue = allTickets.stream()
-                .mapToDouble(Ticket::getPrice)
-                .sum();
-        long totalValidated = ticketValidationRepo.countByEvent_IdAndValidationStatus(
-                eventId,
-                TicketValidationStatus.VALID
-        );
+        List<TicketTypeSales> sales = ticketTypeRepo.findRolledUpSalesByEventId(eventId);
+        return buildEventAnalytics(event, sales);
+    }
+
+    private EventAnalyticsDto buildEventAnalytics(Event event, List<TicketTypeSales> sales) {
+        long totalTicketsSold = 0;
+        double totalRevenue = 0.0;
+        long totalValidated = 0;
+        List<TicketTypeAnalyticsDto> ticketTypeAnalytics = new ArrayList<>(sales.size());
+
+        for (TicketTypeSales ticketTypeSales : sales) {
+            totalTicketsSold += ticketTypeSales.getTicketsSold();
+            totalRevenue += ticketTypeSales.revenueOrZero();
+            totalValidated += ticketTypeSales.getValidatedCount();
+            ticketTypeAnalytics.add(calculateTicketTypeAnalytics(ticketTypeSales));
+        }
+
         double overallAttendanceRate = totalTicketsSold > 0 ?
                 (double) totalValidated / totalTicketsSold * 100 : 0;
 
-        List<TicketTypeAnalyticsDto> ticketTypeAnalytics = event.getTicketTypes().stream()
-                .map(ticketType -> calculateTicketTypeAnalytics(ticketType, eventId))
-                .collect(Collectors.toList());
-
         return EventAnalyticsDto.builder()
                 .eventId(event.getId())
                 .eventName(event.getName())
@@ -68,30 +94,21 @@ public class AnalyticsService {
                 .build();
     }
 
-    private TicketTypeAnalyticsDto calculateTicketTypeAnalytics(TicketType ticketType, UUID eventId) {
-        List<Ticket> soldTickets = ticketType.getTicket();
-        long ticketsSold = soldTickets.size();
-
-        double revenue = soldTickets.stream()
-                .mapToDouble(Ticket::getPrice)
-                .sum();
-
-        long validated = ticketValidationRepo.countByEvent_IdAndTicket_TicketType_IdAndValidationStatus(
-                eventId,
-                ticketType.getId(),
-                TicketValidationStatus.VALID
-        );
+    private TicketTypeAnalyticsDto calculateTicketTypeAnalytics(TicketTypeSales sales) {
+        long ticketsSold = sales.getTicketsSold();
+        double revenue = sales.revenueOrZero();
+        long validated = sales.getValidatedCount();
 
         double attendanceRate = ticketsSold > 0 ? (double) validated / ticketsSold * 100 : 0;
 
-        int remaining = ticketType.getTotalAvailable() != null ?
-                ticketType.getTotalAvailable() : 0;
+        int remaining = sales.getTotalAvailable() != null ?
+                sales.getTotalAvailable() : 0;
 
         return TicketTypeAnalyticsDto.builder()
-                .ticketTypeId(ticketType.getId())
-                .ticketTypeName(ticketType.getName())
-                .price(ticketType.getPrice())
-                .totalAvailable(ticketType.getTotalAvailable())
+                .ticketTypeId(sales.getTicketTypeId())
+                .ticketTypeName(sales.getTicketTypeName())
+                .price(sales.getPrice())
+                .totalAvailable(sales.getTotalAvailable())
                 .ticketsSold(ticketsSold)
                 .revenue(revenue)
                 .attendeesValidated(validated)
@@ -106,71 +123,9 @@ public class AnalyticsService {
         User organiser = userRepo.findById(organiserId)
                 .orElseThrow(() -> new IllegalStateException("Organiser not found"));
 
-        List<Event> allEvents = organiser.getOrganisedEvents();
-
-        long publishedCount = allEvents.stream()
-                .filter(e -> e.getEventStatus() == EventStatus.PUBLISHED)
-                .count();
-
-        long draftCount = allEvents.stream()
-                .filter(e -> e.getEventStatus() == EventStatus.DRAFT)
-                .count();
-
-        long totalTicketsSold = 0;
-        double totalRevenue = 0.0;
-        long totalValidated = 0;
-        List<Double> attendanceRates = new ArrayList<>();
-
-        List<EventAnalyticsDto> eventAnalyticsList = new ArrayList<>();
-
-        for (Event event : allEvents) {
-            EventAnalyticsDto eventAnalytics = getEventAnalytics(event.getId(), organiserId);
-            eventAnalyticsList.add(eventAnalytics);
-
-            totalTicketsSold += eventAnalytics.getTotalTicketsSold();
-            totalRevenue += eventAnalytics.getTotalRevenue();
-            totalValidated += eventAnalytics.getTotalAttendeesValidated();
-
-            if (eventAnalytics.getTotalTicketsSold() > 0) {
-                attendanceRates.add(eventAnalytics.getOverallAttendanceRate());
-            }
-        }
-
-        double averageAttendanceRate = attendanceRates.isEmpty() ? 0 :
-                attendanceRates.stream()
-                        .mapToDouble(Double::doubleValue)
-                        .average()
-                        .orElse(0.0);
-
-        EventAnalyticsDto mostRevenueEvent = eventAnalyticsList.stream()
-                .max(Comparator.comparing(EventAnalyticsDto::getTotalRevenue))
-                .orElse(null);
-
-        EventAnalyticsDto mostTicketsSoldEvent = eventAnalyticsList.stream()
-                .max(Comparator.comparing(EventAnalyticsDto::getTotalTicketsSold))
-                .orElse(null);
+        List<Event> allEvents = eventRepo.findAllByOrganiserId(organiserId);
 
-        EventAnalyticsDto bestAttendanceRateEvent = eventAnalyticsList.stream()
-                .filter(e -> e.getTotalTicketsSold() > 0)
-                .max(Comparator.comparing(EventAnalyticsDto::getOverallAttendanceRate))
-                .orElse(null);
-
-        return OrganiserCompleteAnalyticsDto.builder()
-                .organiserId(organiserId)
-                .organiserName(organiser.getName())
-                .organiserEmail(organiser.getEmail())
-                .totalEvents(allEvents.size())
-                .publishedEvents((int) publishedCount)
-                .draftEvents((int) draftCount)
-                .totalTicketsSold(totalTicketsSold)
-                .totalRevenue(totalRevenue)
-                .totalAttendeesValidated(totalValidated)
-                .averageAttendanceRate(averageAttendanceRate)
-                .eventAnalytics(eventAnalyticsList)
-                .mostRevenueEvent(mostRevenueEvent)
-                .mostTicketsSoldEvent(mostTicketsSoldEvent)
-                .bestAttendanceRateEvent(bestAttendanceRateEvent)
-                .build();
+        return calculateAnalyticsForEventList(organiser, allEvents);
     }
 
     public OrganiserCompleteAnalyticsDto getPublishedEventsAnalytics(UUID organiserId) {
@@ -179,9 +134,10 @@ public class AnalyticsService {
         User organiser = userRepo.findById(organiserId)
                 .orElseThrow(() -> new IllegalStateException("Organiser not found"));
 
-        List<Event> publishedEvents = organiser.getOrganisedEvents().stream()
-                .filter(e -> e.getEventStatus() == EventStatus.PUBLISHED)
-                .collect(Collectors.toList());
+        List<Event> publishedEvents = eventRepo.findAllByOrganiserIdAndEventStatus(
+                organiserId,
+                EventStatus.PUBLISHED
+        );
 
         return calculateAnalyticsForEventList(organiser, publishedEvents);
     }
@@ -190,48 +146,65 @@ public class AnalyticsService {
             User organiser,
             List<Event> events
     ) {
+        // One grouped query covers every event, so the report costs the same number of queries
+        // whether the organiser has one event or hundreds
+        Map<UUID, List<TicketTypeSales>> salesByEvent = ticketTypeRepo
+                .findRolledUpSalesByOrganiserId(organiser.getId()).stream()
+                .collect(Collectors.groupingBy(TicketTypeSales::getEventId));
+
         long totalTicketsSold = 0;
         double totalRevenue = 0.0;
         long totalValidated = 0;
-        List<Double> attendanceRates = new ArrayList<>();
+        long publishedCount = 0;
+        long draftCount = 0;
+        double attendanceRateSum = 0;
+        int eventsWithSales = 0;
 
-        List<EventAnalyticsDto> eventAnalyticsList = new ArrayList<>();
+        List<EventAnalyticsDto> eventAnalyticsList = new ArrayList<>(events.size());
+        EventAnalyticsDto mostRevenueEvent = null;
+        EventAnalyticsDto mostTicketsSoldEvent = null;
+        EventAnalyticsDto bestAttendanceRateEvent = null;
 
         for (Event event : events) {
-            EventAnalyticsDto eventAnalytics = getEventAnalytics(event.getId(), organiser.getId());
+            EventAnalyticsDto eventAnalytics = buildEventAnalytics(
+                    event,
+                    salesByEvent.getOrDefault(event.getId(), List.of())
+            );
             eventAnalyticsList.add(eventAnalytics);
 
+            if (event.getEventStatus() == EventStatus.PUBLISHED) {
+                publishedCount++;
+            } else if (event.getEventStatus() == EventStatus.DRAFT) {
+                draftCount++;
+            }
+
             totalTicketsSold += eventAnalytics.getTotalTicketsSold();
             totalRevenue += eventAnalytics.getTotalRevenue();
             totalValidated += eventAnalytics.getTotalAttendeesValidated();
 
-            if (eventAnalytics.getTotalTicketsSold() > 0) {
-                attendanceRates.add(eventAnalytics.getOverallAttendanceRate());
+            if (mostRevenueEvent == null || eventAnalytics.getTotalRevenue() > mostRevenueEvent.getTotalRevenue()) {
+                mostRevenueEvent = eventAnalytics;
+            }
+            if (mostTicketsSoldEvent == null
+                    || eventAnalytics.getTotalTicketsSold() > mostTicketsSoldEvent.getTotalTicketsSold()) {
+                mostTicketsSoldEvent = eventAnalytics;
             }
-        }
-
-        double averageAttendanceRate = attendanceRates.isEmpty() ? 0 :
-                attendanceRates.stream()
-                        .mapToDouble(Double::doubleValue)
-                        .average()
-                        .orElse(0.0);
 
-        EventAnalyticsDto mostRevenueEvent = eventAnalyticsList.stream()
-                .max(Comparator.comparing(EventAnalyticsDto::getTotalRevenue))
-                .orElse(null);
+            if (eventAnalytics.getTotalTicketsSold() > 0) {
+                attendanceRateSum += eventAnalytics.getOverallAttendanceRate();
+                eventsWithSales++;
 
-        EventAnalyticsDto mostTicketsSoldEvent = eventAnalyticsList.stream()
-                .max(Comparator.comparing(EventAnalyticsDto::getTotalTicketsSold))
-                .orElse(null);
+                if (bestAttendanceRateEvent == null
+                        || eventAnalytics.getOverallAttendanceRate() > bestAttendanceRateEvent.getOverallAttendanceRate()) {
+                    bestAttendanceRateEvent = eventAnalytics;
+                }
+            }
+        }
 
-        EventAnalyticsDto bestAttendanceRateEvent = eventAnalyticsList.stream()
-                .filter(e -> e.getTotalTicketsSold() > 0)
-                .max(Comparator.comparing(EventAnalyticsDto::getOverallAttendanceRate))
-                .orElse(null);
+        double averageAttendanceRate = eventsWithSales == 0 ? 0 : attendanceRateSum / eventsWithSales;
 
-        long publishedCount = events.stream()
-                .filter(e -> e.getEventStatus() == EventStatus.PUBLISHED)
-                .count();
+        EventSketchService.SketchSummary sketches = eventSketchService.summarize(
+                events.stream().map(Event::getId).toList());
 
         return OrganiserCompleteAnalyticsDto.builder()
                 .organiserId(organiser.getId())
@@ -239,7 +212,7 @@ public class AnalyticsService {
                 .organiserEmail(organiser.getEmail())
                 .totalEvents(events.size())
                 .publishedEvents((int) publishedCount)
-                .draftEvents(events.size() - (int) publishedCount)
+                .draftEvents((int) draftCount)
                 .totalTicketsSold(totalTicketsSold)
                 .totalRevenue(totalRevenue)
                 .totalAttendeesValidated(totalValidated)
@@ -248,6 +221,9 @@ public class AnalyticsService {
                 .mostRevenueEvent(mostRevenueEvent)
                 .mostTicketsSoldEvent(mostTicketsSoldEvent)
                 .bestAttendanceRateEvent(bestAttendanceRateEvent)
+                .estimatedUniqueAttendees(sketches != null ? sketches.estimatedUniqueAttendees() : null)
+                .ticketPriceDistribution(sketches != null ? sketches.ticketPriceDistribution() : null)
+                .entryDelayMinutesDistribution(sketches != null ? sketches.entryDelayMinutesDistribution() : null)
                 .build();
     }
 
@@ -257,60 +233,40 @@ public class AnalyticsService {
         User organiser = userRepo.findById(organiserId)
                 .orElseThrow(() -> new IllegalStateException("Organiser not found"));
 
-        Map<String, List<TicketType>> ticketTypesByName = new HashMap<>();
-
-        for (Event event : organiser.getOrganisedEvents()) {
-            for (TicketType ticketType : event.getTicketTypes()) {
-                String name = ticketType.getName();
-                ticketTypesByName.computeIfAbsent(name, k -> new ArrayList<>()).add(ticketType);
-            }
+        List<TicketTypePerformanceRow> rows = ticketTypeRepo.findPerformanceByOrganiserId(organiser.getId());
+
+        // Rows arrive grouped by name and ordered by revenue, so each one maps straight to a DTO
+        List<TicketTypePerformanceDto> performance = new ArrayList<>(rows.size());
+        for (TicketTypePerformanceRow row : rows) {
+            long totalSold = row.getTicketsSold();
+            double totalRevenue = row.getRevenue();
+
+            performance.add(TicketTypePerformanceDto.builder()
+                    .ticketTypeName(row.getTicketTypeName())
+                    .totalSold(totalSold)
+                    .totalRevenue(totalRevenue)
+                    .totalValidated(row.getValidatedCount())
+                    .averagePrice(totalSold > 0 ? totalRevenue / totalSold : 0)
+                    .numberOfEvents((int) row.getTypeCount())
+                    .build());
         }
-
-        return ticketTypesByName.entrySet().stream()
-                .map(entry -> {
-                    String typeName = entry.getKey();
-                    List<TicketType> types = entry.getValue();
-
-                    long totalSold = types.stream()
-                            .flatMap(tt -> tt.getTicket().stream())
-                            .count();
-
-                    double totalRevenue = types.stream()
-                            .flatMap(tt -> tt.getTicket().stream())
-                            .mapToDouble(Ticket::getPrice)
-                            .sum();
-
-                    long totalValidated = 0;
-                    for (TicketType tt : types) {
-                        totalValidated += ticketValidationRepo
-                                .countByEvent_IdAndTicket_TicketType_IdAndValidationStatus(
-                                        tt.getEvent().getId(),
-                                        tt.getId(),
-                                        TicketValidationStatus.VALID
-                                );
-                    }
-
-                    double averagePrice = totalSold > 0 ? totalRevenue / totalSold : 0;
-
-                    return TicketTypePerformanceDto.builder()
-                            .ticketTypeName(typeName)
-                            .totalSold(totalSold)
-                            .totalRevenue(totalRevenue)
-                            .totalValidated(totalValidated)
-                            .averagePrice(averagePrice)
-                            .numberOfEvents(types.size())
-                            .build();
-                })
-                .sorted(Comparator.comparing(TicketTypePerformanceDto::getTotalRevenue).reversed())
-                .collect(Collectors.toList());
+        return performance;
     }
 
     public Map<String, Object> compareEvents(UUID organiserId, List<UUID> eventIds) {
         log.info("Comparing {} events for organiser {}", eventIds.size(), organiserId);
 
-        List<EventAnalyticsDto> eventComparisons = eventIds.stream()
-                .map(eventId -> getEventAnalytics(eventId, organiserId))
-                .collect(Collectors.toList());
+        if (eventIds.size() > maxCompareEvents) {
+            throw new IllegalStateException("At most " + maxCompareEvents + " events can be compared at once");
+        }
+
+        // Each event runs on its own virtual thread, so latency tracks the slowest event rather than the sum
+        List<EventAnalyticsDto> eventComparisons = fanOutExecutor.mapAll(
+                eventIds,
+                eventId -> transactionTemplate.execute(status -> getEventAnalytics(eventId, organiserId)),
+                fanOutConcurrencyPerRequest,
+                Duration.ofMillis(fanOutTimeoutMillis)
+        );
 
         return Map.of(
                 "events", eventComparisons,
@@ -333,28 +289,48 @@ public class AnalyticsService {
             throw new IllegalStateException("You don't have permission to view this event");
         }
 
-        Page<TicketValidation> validations = ticketValidationRepo
+        Page<ValidationDetailRow> validations = ticketValidationRepo
                 .findValidatedAttendeesByEvent(
                         eventId,
                         TicketValidationStatus.VALID,
                         pageable
                 );
 
-        return validations.map(validation -> {
-            Ticket ticket = validation.getTicket();
-            User attendee = ticket.getPurchaser();
-
-            return Map.of(
-                    "attendeeId", attendee.getId(),
-                    "attendeeName", attendee.getName(),
-                    "attendeeEmail", attendee.getEmail(),
-                    "ticketId", ticket.getId(),
-                    "ticketType", ticket.getTicketType().getName(),
-                    "ticketPrice", ticket.getPrice(),
-                    "validatedAt", validation.getValidatedAt(),
-                    "validatedBy", validation.getStaff().getUsername()
-            );
-        });
+        return validations.map(this::toAttendeeRow);
+    }
+
+    public CursorPageDto<Map<String, Object>> getValidatedAttendeesByCursor(
+            UUID eventId,
+            UUID organiserId,
+            CursorCodec.Cursor cursor,
+            int size
+    ) {
+        Event event = eventRepo.findById(eventId)
+                .orElseThrow(() -> new IllegalStateException("Event not found"));
+
+        if (!event.getOrganiser().getId().equals(organiserId)) {
+            throw new IllegalStateException("You don't have permission to view this event");
+        }
+
+        Slice<ValidationDetailRow> validations = ticketValidationRepo.findValidatedAttendeesBefore(
+                eventId, TicketValidationStatus.VALID, cursor.sortKey(), cursor.uuidId(),
+                CursorCodec.pageRequest(size));
+
+        return CursorCodec.page(validations, this::toAttendeeRow,
+                ValidationDetailRow::getValidatedAt, ValidationDetailRow::getValidationId);
+    }
+
+    private Map<String, Object> toAttendeeRow(ValidationDetailRow row) {
+        return Map.of(
+                "attendeeId", row.getAttendeeId(),
+                "attendeeName", row.getAttendeeName(),
+                "attendeeEmail", row.getAttendeeEmail(),
+                "ticketId", row.getTicketId(),
+                "ticketType", row.getTicketTypeName(),
+                "ticketPrice", row.getTicketPrice(),
+                "validatedAt", row.getValidatedAt(),
+                "validatedBy", row.getStaffUsername()
+        );
     }
 
     private ValidatedAttendeeResponse mapToDto(TicketValidation tv) {
@@ -0,0 +1,272 @@
+package com.atharv.Event_Ticket_Platform.Service.ServiceImpl;
+
+import com.atharv.Event_Ticket_Platform.Domain.DTO.TicketValidationDtos.AttendeeSearchResultDto;
+import com.atharv.Event_Ticket_Platform.Domain.Enum.TicketStatus;
+import com.atharv.Event_Ticket_Platform.Domain.Events.TicketCancelledEvent;
+import com.atharv.Event_Ticket_Platform.Domain.Events.TicketValidatedEvent;
+import com.atharv.Event_Ticket_Platform.Domain.Projections.AttendeeIndexRow;
+import com.atharv.Event_Ticket_Platform.Repository.TicketsRepo;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class AttendeeSearchIndexService {
+
+    private static final int MIN_QUERY_LENGTH = 2;
+    private static final int MAX_RESULTS = 50;
+    private static final int MAX_KEYS_SCANNED = 5_000;
+    private static final long IDLE_EVICTION_MILLIS = 30 * 60 * 1000L;
+
+    private final TicketsRepo ticketsRepo;
+
+    @Value("${attendee-search.max-index-age-ms:30000}")
+    private long maxIndexAgeMillis;
+
+    private final ConcurrentHashMap<UUID, EventIndexHolder> indexes = new ConcurrentHashMap<>();
+
+    public List<AttendeeSearchResultDto> search(UUID eventId, String query, int limit) {
+        String normalized = normalize(query);
+        if (normalized.length() < MIN_QUERY_LENGTH) {
+            throw new IllegalStateException("Search query must be at least " + MIN_QUERY_LENGTH + " characters");
+        }
+        int maxResults = Math.max(1, Math.min(limit, MAX_RESULTS));
+
+        EventIndexHolder holder = indexes.computeIfAbsent(eventId, id -> new EventIndexHolder());
+        holder.lastUsedAt = System.currentTimeMillis();
+        AttendeeIndex index = currentIndex(eventId, holder);
+
+        String[] terms = normalized.split(" ");
+        String probe = terms[0];
+        for (String term : terms) {
+            if (term.length() > probe.length()) {
+                probe = term;
+            }
+        }
+
+        List<AttendeeSearchResultDto> results = new ArrayList<>(maxResults);
+        BitSet seen = new BitSet(index.ticketIds.length);
+        int start = lowerBound(index.keys, probe);
+        int end = Math.min(index.keys.length, start + MAX_KEYS_SCANNED);
+
+        for (int i = start; i < end && index.keys[i].startsWith(probe); i++) {
+            int row = index.rows[i];
+            if (seen.get(row)) {
+                continue;
+            }
+            seen.set(row);
+
+            if (terms.length > 1 && !matchesAllTerms(index.searchText[row], terms)) {
+                continue;
+            }
+
+            UUID ticketId = index.ticketIds[row];
+            TicketStatus override = holder.statusOverrides.get(ticketId);
+            if (override == TicketStatus.CANCELLED) {
+                continue;
+            }
+            TicketStatus status = override != null ? override : index.statuses[row];
+            results.add(AttendeeSearchResultDto.builder()
+                    .ticketId(ticketId)
+                    .attendeeName(index.names[row])
+                    .attendeeEmail(index.emails[row])
+                    .ticketTypeName(index.ticketTypeNames[row])
+                    .status(status)
+                    .build());
+
+            if (results.size() >= maxResults) {
+                break;
+            }
+        }
+        return results;
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onTicketValidated(TicketValidatedEvent validated) {
+        EventIndexHolder holder = indexes.get(validated.eventId());
+        if (holder != null) {
+            holder.statusOverrides.put(validated.ticketId(), TicketStatus.USED);
+        }
+    }
+
+    // Cancellations and refunds drop the ticket from results until the next rebuild leaves it out
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onTicketCancelled(TicketCancelledEvent cancelled) {
+        EventIndexHolder holder = indexes.get(cancelled.eventId());
+        if (holder != null) {
+            holder.statusOverrides.put(cancelled.ticketId(), TicketStatus.CANCELLED);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${attendee-search.sweep-interval-ms:300000}")
+    public void evictIdleIndexes() {
+        long now = System.currentTimeMillis();
+        indexes.values().removeIf(holder -> now - holder.lastUsedAt > IDLE_EVICTION_MILLIS);
+    }
+
+    private AttendeeIndex currentIndex(UUID eventId, EventIndexHolder holder) {
+        AttendeeIndex index = holder.index;
+        if (index == null) {
+            synchronized (holder) {
+                if (holder.index == null) {
+                    holder.index = build(eventId);
+                }
+                return holder.index;
+            }
+        }
+
+        // Serve the current index while a fresh one is built so searches never wait on a rebuild
+        boolean expired = System.currentTimeMillis() - index.builtAt > maxIndexAgeMillis;
+        if (expired && holder.rebuilding.compareAndSet(false, true)) {
+            Thread.ofVirtual().name("attendee-index-" + eventId).start(() -> {
+                try {
+                    holder.index = build(eventId);
+                } catch (Exception e) {
+                    log.error("Failed to rebuild attendee index for event {}: {}", eventId, e.getMessage());
+                } finally {
+                    holder.rebuilding.set(false);
+                }
+            });
+        }
+        return index;
+    }
+
+    private AttendeeIndex build(UUID eventId) {
+        long started = System.currentTimeMillis();
+        List<AttendeeIndexRow> rows = ticketsRepo.findAttendeeIndexRowsByEventId(eventId, TicketStatus.CANCELLED);
+
+        int size = rows.size();
+        UUID[] ticketIds = new UUID[size];
+        String[] names = new String[size];
+        String[] emails = new String[size];
+        String[] ticketTypeNames = new String[size];
+        TicketStatus[] statuses = new TicketStatus[size];
+        String[] searchText = new String[size];
+        List<IndexKey> keys = new ArrayList<>(size * 4);
+
+        for (int row = 0; row < size; row++) {
+            AttendeeIndexRow attendee = rows.get(row);
+            ticketIds[row] = attendee.getTicketId();
+            names[row] = attendee.getPurchaserName();
+            emails[row] = attendee.getPurchaserEmail();
+            ticketTypeNames[row] = attendee.getTicketTypeName();
+            statuses[row] = attendee.getStatus();
+
+            Set<String> rowKeys = keysFor(attendee.getPurchaserName(), attendee.getPurchaserEmail());
+            for (String key : rowKeys) {
+                keys.add(new IndexKey(key, row));
+            }
+            searchText[row] = " " + String.join(" ", rowKeys) + " ";
+        }
+
+        keys.sort(Comparator.comparing(IndexKey::key));
+        String[] sortedKeys = new String[keys.size()];
+        int[] keyRows = new int[keys.size()];
+        for (int i = 0; i < keys.size(); i++) {
+            sortedKeys[i] = keys.get(i).key();
+            keyRows[i] = keys.get(i).row();
+        }
+
+        log.info("Built attendee index for event {}: {} tickets, {} keys in {} ms",
+                eventId, size, sortedKeys.length, System.currentTimeMillis() - started);
+
+        return new AttendeeIndex(ticketIds, names, emails, ticketTypeNames, statuses,
+                searchText, sortedKeys, keyRows, started);
+    }
+
+    private static Set<String> keysFor(String name, String email) {
+        Set<String> keys = new LinkedHashSet<>();
+
+        String normalizedName = normalize(name);
+        if (!normalizedName.isEmpty()) {
+            keys.add(normalizedName);
+            keys.addAll(Arrays.asList(normalizedName.split(" ")));
+        }
+
+        if (email != null) {
+            String normalizedEmail = email.trim().toLowerCase(Locale.ROOT);
+            if (!normalizedEmail.isEmpty()) {
+                keys.add(normalizedEmail);
+                int at = normalizedEmail.indexOf('@');
+                String localPart = at > 0 ? normalizedEmail.substring(0, at) : normalizedEmail;
+                for (String token : localPart.split("[._+\\-]+")) {
+                    if (!token.isEmpty()) {
+                        keys.add(token);
+                    }
+                }
+            }
+        }
+        return keys;
+    }
+
+    private static boolean matchesAllTerms(String searchText, String[] terms) {
+        for (String term : terms) {
+            if (!searchText.contains(" " + term)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static String normalize(String value) {
+        if (value == null) {
+            return "";
+        }
+        return value.trim().toLowerCase(Locale.ROOT).replaceAll("\\s+", " ");
+    }
+
+    private static int lowerBound(String[] keys, String probe) {
+        int low = 0;
+        int high = keys.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (keys[mid].compareTo(probe) < 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    private record IndexKey(String key, int row) {
+    }
+
+    private record AttendeeIndex(
+            UUID[] ticketIds,
+            String[] names,
+            String[] emails,
+            String[] ticketTypeNames,
+            TicketStatus[] statuses,
+            String[] searchText,
+            String[] keys,
+            int[] rows,
+            long builtAt
+    ) {
+    }
+
+    private static final class EventIndexHolder {
+        private final ConcurrentHashMap<UUID, TicketStatus> statusOverrides = new ConcurrentHashMap<>();
+        private final AtomicBoolean rebuilding = new AtomicBoolean(false);
+        private volatile AttendeeIndex index;
+        private volatile long lastUsedAt = System.currentTimeMillis();
+    }
+}
@@ -0,0 +1,110 @@
+package com.atharv.Event_Ticket_Platform.Service.ServiceImpl;
+
+import com.atharv.Event_Ticket_Platform.Domain.Events.EventUpdatedEvent;
+import com.atharv.Event_Ticket_Platform.Domain.Events.TicketCancelledEvent;
+import com.atharv.Event_Ticket_Platform.Domain.Events.TicketPurchasedEvent;
+import com.atharv.Event_Ticket_Platform.Domain.Events.TicketValidatedEvent;
+import com.atharv.Event_Ticket_Platform.util.SerializedResponseCache;
+import com.atharv.Event_Ticket_Platform.util.SerializedResponseCache.SerializedResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+@Service
+@Slf4j
+public class DashboardResponseCache {
+
+    private final ValidationStatsService validationStatsService;
+    private final SerializedResponseCache<ResponseKey> responses;
+    private final int maxTrackedVersions;
+
+    // Versions come from one increasing sequence. An id with no recorded change reads the sequence value
+    // of the last reset, so clearing these maps can never make an older cached body look current again
+    private final AtomicLong sequence = new AtomicLong();
+    private volatile long resetVersion;
+    private final ConcurrentHashMap<UUID, Long> eventVersions = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<UUID, Long> staffVersions = new ConcurrentHashMap<>();
+
+    public DashboardResponseCache(
+            ValidationStatsService validationStatsService,
+            ObjectMapper objectMapper,
+            @Value("${dashboard-response-cache.max-entries:10000}") int maxEntries
+    ) {
+        this.validationStatsService = validationStatsService;
+        this.responses = new SerializedResponseCache<>(objectMapper, maxEntries);
+        this.maxTrackedVersions = Math.max(1, maxEntries) * 10;
+    }
+
+    public SerializedResponse getEventDashboardStats(UUID eventId) {
+        long version = versionOf(eventVersions, eventId);
+        return responses.get(new ResponseKey(ResponseKind.EVENT_DASHBOARD_STATS, eventId), version,
+                () -> validationStatsService.getEventDashboardStats(eventId));
+    }
+
+    public SerializedResponse getStaffPersonalStats(UUID staffUserId) {
+        // The remaining-time fields count whole minutes, and credential edits publish no event,
+        // so the body also turns over once a minute
+        StaffStatsVersion version = new StaffStatsVersion(
+                versionOf(staffVersions, staffUserId), System.currentTimeMillis() / 60_000);
+        return responses.get(new ResponseKey(ResponseKind.STAFF_PERSONAL_STATS, staffUserId), version,
+                () -> validationStatsService.getStaffPersonalStats(staffUserId));
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onTicketPurchased(TicketPurchasedEvent purchased) {
+        bump(eventVersions, purchased.eventId());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onTicketCancelled(TicketCancelledEvent cancelled) {
+        bump(eventVersions, cancelled.eventId());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onTicketValidated(TicketValidatedEvent validated) {
+        bump(eventVersions, validated.eventId());
+        if (validated.staffUserId() != null) {
+            bump(staffVersions, validated.staffUserId());
+        }
+    }
+
+    // Event deletion is not transactional, so this one must also fire outside a transaction
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onEventUpdated(EventUpdatedEvent updated) {
+        bump(eventVersions, updated.eventId());
+    }
+
+    private long versionOf(ConcurrentHashMap<UUID, Long> versions, UUID id) {
+        Long version = versions.get(id);
+        return version != null ? version : resetVersion;
+    }
+
+    private void bump(ConcurrentHashMap<UUID, Long> versions, UUID id) {
+        versions.put(id, sequence.incrementAndGet());
+        if (versions.size() > maxTrackedVersions) {
+            resetVersion = sequence.incrementAndGet();
+            eventVersions.clear();
+            staffVersions.clear();
+            responses.clear();
+            log.debug("Dashboard response versions reset after exceeding {} tracked ids", maxTrackedVersions);
+        }
+    }
+
+    private enum ResponseKind {
+        EVENT_DASHBOARD_STATS,
+        STAFF_PERSONAL_STATS
+    }
+
+    private record ResponseKey(ResponseKind kind, UUID id) {
+    }
+
+    private record StaffStatsVersion(long version, long minute) {
+    }
+}
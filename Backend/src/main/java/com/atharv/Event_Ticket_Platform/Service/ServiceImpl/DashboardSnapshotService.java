@@ -0,0 +1,188 @@
+package com.atharv.Event_Ticket_Platform.Service.ServiceImpl;
+
+import com.atharv.Event_Ticket_Platform.Domain.DTO.AnalyticDtos.OrganiserCompleteAnalyticsDto;
+import com.atharv.Event_Ticket_Platform.Domain.DTO.AnalyticDtos.OrganiserDashboardSnapshotDto;
+import com.atharv.Event_Ticket_Platform.Domain.DTO.AnalyticDtos.OrganiserOverviewDto;
+import com.atharv.Event_Ticket_Platform.Domain.Entity.OrganiserDashboardSnapshot;
+import com.atharv.Event_Ticket_Platform.Domain.Events.EventUpdatedEvent;
+import com.atharv.Event_Ticket_Platform.Domain.Events.TicketCancelledEvent;
+import com.atharv.Event_Ticket_Platform.Domain.Events.TicketPurchasedEvent;
+import com.atharv.Event_Ticket_Platform.Domain.Events.TicketValidatedEvent;
+import com.atharv.Event_Ticket_Platform.Repository.EventRepo;
+import com.atharv.Event_Ticket_Platform.Repository.OrganiserDashboardSnapshotRepo;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class DashboardSnapshotService {
+
+    private static final int MAX_ACTIVE_ORGANISERS = 10_000;
+
+    private final OrganiserDashboardService organiserDashboardService;
+    private final AnalyticsService analyticsService;
+    private final OrganiserDashboardSnapshotRepo snapshotRepo;
+    private final EventRepo eventRepo;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${dashboard-snapshot.refresh-interval-ms:300000}")
+    private long refreshIntervalMillis;
+
+    @Value("${dashboard-snapshot.active-window-ms:3600000}")
+    private long activeWindowMillis;
+
+    // Only organisers who opened their dashboard recently are kept warm; everyone else is built on demand
+    private final ConcurrentHashMap<UUID, Long> activeOrganisers = new ConcurrentHashMap<>();
+    private final Set<UUID> dirtyEvents = ConcurrentHashMap.newKeySet();
+    private final Set<UUID> dirtyOrganisers = ConcurrentHashMap.newKeySet();
+
+    public OrganiserDashboardSnapshotDto getSnapshot(UUID organiserId) {
+        long now = System.currentTimeMillis();
+        Long lastSeen = activeOrganisers.get(organiserId);
+        // Dirty marks are only kept for active organisers, so anyone else may have missed changes entirely
+        boolean tracked = lastSeen != null && now - lastSeen <= activeWindowMillis;
+        if (activeOrganisers.size() < MAX_ACTIVE_ORGANISERS || lastSeen != null) {
+            activeOrganisers.put(organiserId, now);
+        }
+
+        OrganiserDashboardSnapshot stored = snapshotRepo.findById(organiserId).orElse(null);
+        LocalDateTime refreshBefore = LocalDateTime.now().minus(Duration.ofMillis(refreshIntervalMillis));
+        if (stored != null && tracked && !stored.getBuiltAt().isBefore(refreshBefore)) {
+            try {
+                SnapshotPayload payload = objectMapper.readValue(stored.getPayload(), SnapshotPayload.class);
+                return toDto(organiserId, payload, stored.getBuiltAt());
+            } catch (IOException e) {
+                log.warn("Discarding unreadable dashboard snapshot for organiser {}: {}", organiserId, e.getMessage());
+            }
+        }
+        return rebuild(organiserId);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onTicketPurchased(TicketPurchasedEvent purchased) {
+        markEventDirty(purchased.eventId());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onTicketCancelled(TicketCancelledEvent cancelled) {
+        markEventDirty(cancelled.eventId());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onTicketValidated(TicketValidatedEvent validated) {
+        markEventDirty(validated.eventId());
+    }
+
+    // Event deletion is not transactional, so this one must also fire outside a transaction
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onEventUpdated(EventUpdatedEvent updated) {
+        if (activeOrganisers.containsKey(updated.organiserId())) {
+            dirtyOrganisers.add(updated.organiserId());
+        }
+    }
+
+    // Dirty events are only resolved to organisers here, so purchases and scans never pay for a lookup
+    @Scheduled(fixedDelayString = "${dashboard-snapshot.dirty-interval-ms:10000}")
+    public void rebuildDirty() {
+        if (!dirtyEvents.isEmpty()) {
+            List<UUID> eventIds = new ArrayList<>(dirtyEvents);
+            eventIds.forEach(dirtyEvents::remove);
+            try {
+                for (UUID organiserId : eventRepo.findOrganiserIdsByEventIds(eventIds)) {
+                    if (activeOrganisers.containsKey(organiserId)) {
+                        dirtyOrganisers.add(organiserId);
+                    }
+                }
+            } catch (Exception e) {
+                dirtyEvents.addAll(eventIds);
+                log.error("Failed to resolve organisers for {} dirty events: {}", eventIds.size(), e.getMessage());
+                return;
+            }
+        }
+
+        for (UUID organiserId : new ArrayList<>(dirtyOrganisers)) {
+            // Cleared before the rebuild starts, so anything that changes during it marks the organiser again
+            dirtyOrganisers.remove(organiserId);
+            rebuildQuietly(organiserId);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${dashboard-snapshot.refresh-interval-ms:300000}")
+    public void refreshActive() {
+        long now = System.currentTimeMillis();
+        activeOrganisers.entrySet().removeIf(entry -> now - entry.getValue() > activeWindowMillis);
+
+        LocalDateTime refreshBefore = LocalDateTime.now().minus(Duration.ofMillis(refreshIntervalMillis));
+        for (UUID organiserId : new ArrayList<>(activeOrganisers.keySet())) {
+            OrganiserDashboardSnapshot stored = snapshotRepo.findById(organiserId).orElse(null);
+            if (stored == null || stored.getBuiltAt().isBefore(refreshBefore)) {
+                rebuildQuietly(organiserId);
+            }
+        }
+    }
+
+    private void markEventDirty(UUID eventId) {
+        if (!activeOrganisers.isEmpty()) {
+            dirtyEvents.add(eventId);
+        }
+    }
+
+    private void rebuildQuietly(UUID organiserId) {
+        try {
+            rebuild(organiserId);
+        } catch (Exception e) {
+            log.error("Failed to rebuild dashboard snapshot for organiser {}: {}", organiserId, e.getMessage());
+        }
+    }
+
+    private OrganiserDashboardSnapshotDto rebuild(UUID organiserId) {
+        LocalDateTime builtAt = LocalDateTime.now();
+        SnapshotPayload payload = new SnapshotPayload(
+                organiserDashboardService.getOrganiserOverview(organiserId),
+                analyticsService.getCompleteOrganiserAnalytics(organiserId)
+        );
+
+        byte[] bytes;
+        try {
+            bytes = objectMapper.writeValueAsBytes(payload);
+        } catch (IOException e) {
+            throw new IllegalStateException("Failed to serialise dashboard snapshot", e);
+        }
+        transactionTemplate.executeWithoutResult(status -> snapshotRepo.upsert(organiserId, bytes, builtAt));
+
+        log.debug("Rebuilt dashboard snapshot for organiser {} ({} bytes)", organiserId, bytes.length);
+        return toDto(organiserId, payload, builtAt);
+    }
+
+    private OrganiserDashboardSnapshotDto toDto(UUID organiserId, SnapshotPayload payload, LocalDateTime builtAt) {
+        return OrganiserDashboardSnapshotDto.builder()
+                .organiserId(organiserId)
+                .builtAt(builtAt)
+                .stalenessMillis(Math.max(0, Duration.between(builtAt, LocalDateTime.now()).toMillis()))
+                .refreshPending(dirtyOrganisers.contains(organiserId))
+                .overview(payload.overview())
+                .analytics(payload.analytics())
+                .build();
+    }
+
+    private record SnapshotPayload(OrganiserOverviewDto overview, OrganiserCompleteAnalyticsDto analytics) {
+    }
+}
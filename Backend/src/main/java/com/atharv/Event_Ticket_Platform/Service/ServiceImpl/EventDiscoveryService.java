@@ -0,0 +1,104 @@
+package com.atharv.Event_Ticket_Platform.Service.ServiceImpl;
+
+import com.atharv.Event_Ticket_Platform.Domain.DTO.EventDtos.EventDiscoveryDto;
+import com.atharv.Event_Ticket_Platform.Domain.Entity.Event;
+import com.atharv.Event_Ticket_Platform.Domain.Enum.EventStatus;
+import com.atharv.Event_Ticket_Platform.Domain.Enum.EventType;
+import com.atharv.Event_Ticket_Platform.Domain.Mapper.EventMapper;
+import com.atharv.Event_Ticket_Platform.Domain.Projections.DiscoveryFacetRow;
+import com.atharv.Event_Ticket_Platform.Domain.Requests.EventDiscoveryRequest;
+import com.atharv.Event_Ticket_Platform.Repository.EventRepo;
+import com.atharv.Event_Ticket_Platform.util.CursorCodec;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Slice;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class EventDiscoveryService {
+
+    private static final int MAX_VENUE_FACETS = 20;
+
+    private final EventRepo eventRepo;
+    private final EventMapper eventMapper;
+
+    public EventDiscoveryDto discover(EventDiscoveryRequest request, CursorCodec.Cursor cursor, int size) {
+        EventDiscoveryRequest filter = normalise(request);
+
+        // Discovery lists soonest first; a fresh request simply starts at the beginning of the time window
+        boolean firstPage = cursor.id() == null;
+        Slice<Event> events = eventRepo.discover(EventStatus.PUBLISHED, filter,
+                firstPage ? null : cursor.sortKey(), firstPage ? null : cursor.uuidId(),
+                CursorCodec.pageRequest(size));
+
+        EventDiscoveryDto.EventDiscoveryDtoBuilder result = EventDiscoveryDto.builder()
+                .events(CursorCodec.page(events, eventMapper::toPublishEventDto, Event::getStartTime, Event::getId));
+
+        if (firstPage) {
+            applyFacets(result, eventRepo.countDiscoveryFacets(EventStatus.PUBLISHED, filter));
+        }
+        return result.build();
+    }
+
+    // The grouped rows are (type, venue) pairs; both facets and the total are folded from that one result
+    private static void applyFacets(EventDiscoveryDto.EventDiscoveryDtoBuilder result, List<DiscoveryFacetRow> rows) {
+        long total = 0;
+        Map<EventType, Long> typeCounts = new EnumMap<>(EventType.class);
+        Map<String, Long> venueCounts = new HashMap<>();
+        for (DiscoveryFacetRow row : rows) {
+            long events = row.getEvents() != null ? row.getEvents() : 0L;
+            total += events;
+            if (row.getEventType() != null) {
+                typeCounts.merge(row.getEventType(), events, Long::sum);
+            }
+            if (row.getVenue() != null) {
+                venueCounts.merge(row.getVenue(), events, Long::sum);
+            }
+        }
+
+        Map<String, Long> topVenues = new LinkedHashMap<>();
+        venueCounts.entrySet().stream()
+                .sorted(Map.Entry.<String, Long>comparingByValue(Comparator.reverseOrder())
+                        .thenComparing(Map.Entry.comparingByKey()))
+                .limit(MAX_VENUE_FACETS)
+                .forEach(entry -> topVenues.put(entry.getKey(), entry.getValue()));
+
+        result.totalMatches(total)
+                .eventTypeCounts(typeCounts)
+                .venueCounts(topVenues);
+    }
+
+    // Absent filters stay null so the repository leaves their predicates out of the query entirely
+    private static EventDiscoveryRequest normalise(EventDiscoveryRequest request) {
+        LocalDateTime from = request.getFrom() != null ? request.getFrom() : LocalDateTime.now();
+        if (request.getTo() != null && !from.isBefore(request.getTo())) {
+            throw new IllegalStateException("'from' must be before 'to'");
+        }
+        if (request.getMinPrice() != null && request.getMaxPrice() != null
+                && request.getMinPrice() > request.getMaxPrice()) {
+            throw new IllegalStateException("'minPrice' must not exceed 'maxPrice'");
+        }
+
+        List<EventType> types = request.getEventTypes();
+        String venue = request.getVenue() != null ? request.getVenue().trim() : "";
+        return EventDiscoveryRequest.builder()
+                .from(from)
+                .to(request.getTo())
+                .eventTypes(types == null || types.isEmpty() ? null : List.copyOf(types))
+                .venue(venue.isEmpty() ? null : venue)
+                .minPrice(request.getMinPrice())
+                .maxPrice(request.getMaxPrice())
+                .availableOnly(request.isAvailableOnly())
+                .build();
+    }
+}
@@ -0,0 +1,233 @@
+package com.atharv.Event_Ticket_Platform.Service.ServiceImpl;
+
+import com.atharv.Event_Ticket_Platform.Domain.Entity.Event;
+import com.atharv.Event_Ticket_Platform.Domain.Enum.ExportDataset;
+import com.atharv.Event_Ticket_Platform.Domain.Enum.ExportFormat;
+import com.atharv.Event_Ticket_Platform.Domain.Enum.TicketValidationStatus;
+import com.atharv.Event_Ticket_Platform.Domain.Projections.EventAttendeeRow;
+import com.atharv.Event_Ticket_Platform.Domain.Projections.SoldTicketRow;
+import com.atharv.Event_Ticket_Platform.Domain.Projections.ValidationDetailRow;
+import com.atharv.Event_Ticket_Platform.Repository.EventRepo;
+import com.atharv.Event_Ticket_Platform.Repository.TicketValidationRepo;
+import com.atharv.Event_Ticket_Platform.Repository.TicketsRepo;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Function;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class EventExportService {
+
+    private static final int BATCH_SIZE = 1_000;
+    private static final LocalDateTime KEYSET_START = LocalDateTime.of(1970, 1, 1, 0, 0);
+    private static final UUID KEYSET_START_ID = new UUID(0, 0);
+    private static final Set<TicketValidationStatus> ALL_STATUSES = EnumSet.allOf(TicketValidationStatus.class);
+
+    private static final List<ExportColumn<ValidationDetailRow>> VALIDATED_ATTENDEE_COLUMNS = List.of(
+            new ExportColumn<>("attendeeId", ValidationDetailRow::getAttendeeId),
+            new ExportColumn<>("attendeeName", ValidationDetailRow::getAttendeeName),
+            new ExportColumn<>("attendeeEmail", ValidationDetailRow::getAttendeeEmail),
+            new ExportColumn<>("ticketId", ValidationDetailRow::getTicketId),
+            new ExportColumn<>("ticketType", ValidationDetailRow::getTicketTypeName),
+            new ExportColumn<>("ticketPrice", ValidationDetailRow::getTicketPrice),
+            new ExportColumn<>("validatedAt", ValidationDetailRow::getValidatedAt),
+            new ExportColumn<>("validatedBy", ValidationDetailRow::getStaffUsername)
+    );
+
+    private static final List<ExportColumn<ValidationDetailRow>> VALIDATION_HISTORY_COLUMNS = List.of(
+            new ExportColumn<>("validationId", ValidationDetailRow::getValidationId),
+            new ExportColumn<>("validatedAt", ValidationDetailRow::getValidatedAt),
+            new ExportColumn<>("status", ValidationDetailRow::getValidationStatus),
+            new ExportColumn<>("method", ValidationDetailRow::getValidationMethod),
+            new ExportColumn<>("ticketId", ValidationDetailRow::getTicketId),
+            new ExportColumn<>("ticketType", ValidationDetailRow::getTicketTypeName),
+            new ExportColumn<>("attendeeName", ValidationDetailRow::getAttendeeName),
+            new ExportColumn<>("attendeeEmail", ValidationDetailRow::getAttendeeEmail),
+            new ExportColumn<>("validatedBy", ValidationDetailRow::getStaffUsername)
+    );
+
+    private static final List<ExportColumn<SoldTicketRow>> SOLD_TICKET_COLUMNS = List.of(
+            new ExportColumn<>("ticketId", SoldTicketRow::getTicketId),
+            new ExportColumn<>("status", SoldTicketRow::getStatus),
+            new ExportColumn<>("ticketType", SoldTicketRow::getTicketTypeName),
+            new ExportColumn<>("price", SoldTicketRow::getPrice),
+            new ExportColumn<>("purchaserId", SoldTicketRow::getPurchaserId),
+            new ExportColumn<>("purchaserName", SoldTicketRow::getPurchaserName),
+            new ExportColumn<>("purchaserEmail", SoldTicketRow::getPurchaserEmail),
+            new ExportColumn<>("purchasedAt", SoldTicketRow::getPurchasedAt)
+    );
+
+    private static final List<ExportColumn<EventAttendeeRow>> EVENT_ATTENDEE_COLUMNS = List.of(
+            new ExportColumn<>("userId", EventAttendeeRow::getUserId),
+            new ExportColumn<>("name", EventAttendeeRow::getName),
+            new ExportColumn<>("email", EventAttendeeRow::getEmail)
+    );
+
+    private final EventRepo eventRepo;
+    private final TicketsRepo ticketsRepo;
+    private final TicketValidationRepo ticketValidationRepo;
+    private final ObjectMapper objectMapper;
+
+    public StreamingResponseBody export(UUID eventId, UUID organiserId, ExportDataset dataset, ExportFormat format) {
+        // Ownership is checked before streaming starts so a refusal can still become a normal error response
+        Event event = eventRepo.findById(eventId)
+                .orElseThrow(() -> new IllegalStateException("Event not found"));
+
+        if (!event.getOrganiser().getId().equals(organiserId)) {
+            throw new IllegalStateException("You don't have permission to view this event");
+        }
+
+        return switch (dataset) {
+            case VALIDATED_ATTENDEES -> out -> stream(out, format, VALIDATED_ATTENDEE_COLUMNS,
+                    (afterTime, afterId, page) -> ticketValidationRepo.findValidationRowsAfter(
+                            eventId, Set.of(TicketValidationStatus.VALID), afterTime, afterId, page),
+                    ValidationDetailRow::getValidatedAt, ValidationDetailRow::getValidationId);
+            case VALIDATION_HISTORY -> out -> stream(out, format, VALIDATION_HISTORY_COLUMNS,
+                    (afterTime, afterId, page) -> ticketValidationRepo.findValidationRowsAfter(
+                            eventId, ALL_STATUSES, afterTime, afterId, page),
+                    ValidationDetailRow::getValidatedAt, ValidationDetailRow::getValidationId);
+            case SOLD_TICKETS -> out -> stream(out, format, SOLD_TICKET_COLUMNS,
+                    (afterTime, afterId, page) -> ticketsRepo.findSoldTicketRowsAfter(
+                            eventId, afterTime, afterId, page),
+                    SoldTicketRow::getPurchasedAt, SoldTicketRow::getTicketId);
+            case EVENT_ATTENDEES -> out -> stream(out, format, EVENT_ATTENDEE_COLUMNS,
+                    (afterTime, afterId, page) -> eventRepo.findAttendeeRowsAfter(
+                            eventId, afterTime, afterId, page),
+                    EventAttendeeRow::getUserCreatedAt, EventAttendeeRow::getUserId);
+        };
+    }
+
+    public String fileName(UUID eventId, ExportDataset dataset, ExportFormat format) {
+        return String.format("event-%s-%s.%s", eventId,
+                dataset.name().toLowerCase().replace('_', '-'),
+                format == ExportFormat.CSV ? "csv" : "ndjson");
+    }
+
+    private <R> void stream(
+            OutputStream out,
+            ExportFormat format,
+            List<ExportColumn<R>> columns,
+            KeysetQuery<R> query,
+            Function<R, LocalDateTime> timeKey,
+            Function<R, UUID> idKey
+    ) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+        JsonGenerator json = null;
+        if (format == ExportFormat.NDJSON) {
+            json = objectMapper.getFactory().createGenerator(writer);
+            json.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            json.setRootValueSeparator(null);
+        } else {
+            writeCsvHeader(writer, columns);
+        }
+
+        LocalDateTime afterTime = KEYSET_START;
+        UUID afterId = KEYSET_START_ID;
+        Pageable page = PageRequest.of(0, BATCH_SIZE);
+        long written = 0;
+
+        // Each batch is a fresh keyset query, so no cursor or persistence context outlives a single page
+        while (true) {
+            List<R> batch = query.fetch(afterTime, afterId, page);
+            for (R row : batch) {
+                if (json != null) {
+                    writeJsonLine(json, columns, row);
+                } else {
+                    writeCsvRow(writer, columns, row);
+                }
+            }
+            written += batch.size();
+
+            if (json != null) {
+                json.flush();
+            }
+            writer.flush();
+
+            if (batch.size() < BATCH_SIZE) {
+                break;
+            }
+            R last = batch.get(batch.size() - 1);
+            afterTime = timeKey.apply(last);
+            afterId = idKey.apply(last);
+        }
+
+        log.info("Export finished: {} rows written", written);
+    }
+
+    private static <R> void writeCsvHeader(Writer writer, List<ExportColumn<R>> columns) throws IOException {
+        for (int i = 0; i < columns.size(); i++) {
+            if (i > 0) {
+                writer.write(',');
+            }
+            writer.write(columns.get(i).header());
+        }
+        writer.write("\r\n");
+    }
+
+    private static <R> void writeCsvRow(Writer writer, List<ExportColumn<R>> columns, R row) throws IOException {
+        for (int i = 0; i < columns.size(); i++) {
+            if (i > 0) {
+                writer.write(',');
+            }
+            Object value = columns.get(i).value().apply(row);
+            if (value != null) {
+                writeCsvValue(writer, value.toString());
+            }
+        }
+        writer.write("\r\n");
+    }
+
+    private static void writeCsvValue(Writer writer, String value) throws IOException {
+        // Leading formula characters are neutralised so spreadsheets do not evaluate attendee-supplied text
+        boolean formula = !value.isEmpty() && "=+-@".indexOf(value.charAt(0)) >= 0;
+        boolean quote = formula || value.indexOf(',') >= 0 || value.indexOf('"') >= 0
+                || value.indexOf('\n') >= 0 || value.indexOf('\r') >= 0;
+
+        if (!quote) {
+            writer.write(value);
+            return;
+        }
+        writer.write('"');
+        if (formula) {
+            writer.write('\'');
+        }
+        writer.write(value.replace("\"", "\"\""));
+        writer.write('"');
+    }
+
+    private static <R> void writeJsonLine(JsonGenerator json, List<ExportColumn<R>> columns, R row) throws IOException {
+        json.writeStartObject();
+        for (ExportColumn<R> column : columns) {
+            json.writeObjectField(column.header(), column.value().apply(row));
+        }
+        json.writeEndObject();
+        json.writeRaw('\n');
+    }
+
+    @FunctionalInterface
+    private interface KeysetQuery<R> {
+        List<R> fetch(LocalDateTime afterTime, UUID afterId, Pageable page);
+    }
+
+    private record ExportColumn<R>(String header, Function<R, Object> value) {
+    }
+}
@@ -0,0 +1,173 @@
+package com.atharv.Event_Ticket_Platform.Service.ServiceImpl;
+
+import com.atharv.Event_Ticket_Platform.Domain.Entity.Event;
+import com.atharv.Event_Ticket_Platform.Domain.Enum.EventStatus;
+import com.atharv.Event_Ticket_Platform.Domain.Events.EventUpdatedEvent;
+import com.atharv.Event_Ticket_Platform.Domain.Projections.EventSearchRow;
+import com.atharv.Event_Ticket_Platform.Repository.EventRepo;
+import com.atharv.Event_Ticket_Platform.util.InvertedIndex;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class EventSearchService {
+
+    private static final int REBUILD_BATCH_SIZE = 1_000;
+    private static final int MAX_RESULTS = 1_000;
+    private static final LocalDateTime KEYSET_START = LocalDateTime.of(9999, 12, 31, 23, 59, 59);
+    private static final UUID KEYSET_START_ID = new UUID(-1L, -1L);
+
+    private static final double NAME_WEIGHT = 3.0;
+    private static final double VENUE_WEIGHT = 2.0;
+    private static final double DESCRIPTION_WEIGHT = 1.0;
+
+    private final EventRepo eventRepo;
+
+    private volatile InvertedIndex<UUID> index = new InvertedIndex<>();
+
+    // Events changed while a full rebuild is reading the table; re-applied once the new index is swapped in
+    private final Set<UUID> changedDuringRebuild = ConcurrentHashMap.newKeySet();
+    private volatile boolean rebuilding;
+    private volatile boolean ready;
+
+    public Page<Event> search(String query, Pageable pageable) {
+        if (!ready) {
+            // The first build runs in the background after startup; until then search answers from the table
+            log.debug("Event search index still warming up, matching '{}' against event names", query);
+            return eventRepo.findByEventStatusAndNameContainingIgnoreCase(EventStatus.PUBLISHED, query.trim(), pageable);
+        }
+
+        // Results are ordered by relevance, so any sort on the request is ignored
+        InvertedIndex<UUID> current = index;
+        List<UUID> ranked = current.search(query).stream()
+                .limit(MAX_RESULTS)
+                .map(InvertedIndex.Hit::key)
+                .toList();
+        if (ranked.isEmpty()) {
+            return new PageImpl<>(List.of(), pageable, 0);
+        }
+
+        // Edits made on other instances only reach this index at the next rebuild, so hits are checked
+        // against the table before paging; anything no longer published is dropped from the index
+        Set<UUID> published = new HashSet<>(eventRepo.findIdsByIdInAndEventStatus(ranked, EventStatus.PUBLISHED));
+        List<UUID> visible = new ArrayList<>(published.size());
+        for (UUID eventId : ranked) {
+            if (published.contains(eventId)) {
+                visible.add(eventId);
+            } else {
+                current.remove(eventId);
+            }
+        }
+
+        int from = (int) Math.min(pageable.getOffset(), visible.size());
+        int to = Math.min(from + pageable.getPageSize(), visible.size());
+        if (from == to) {
+            return new PageImpl<>(List.of(), pageable, visible.size());
+        }
+
+        List<UUID> ids = visible.subList(from, to);
+        Map<UUID, Event> loaded = eventRepo.findAllById(ids).stream()
+                .collect(Collectors.toMap(Event::getId, Function.identity()));
+
+        List<Event> content = ids.stream().map(loaded::get).filter(Objects::nonNull).toList();
+        return new PageImpl<>(content, pageable, visible.size());
+    }
+
+    // Create, update, publish and delete all publish EventUpdatedEvent; deletion runs outside a transaction
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onEventUpdated(EventUpdatedEvent updated) {
+        if (rebuilding) {
+            changedDuringRebuild.add(updated.eventId());
+        }
+        try {
+            reindex(index, updated.eventId());
+        } catch (Exception e) {
+            log.error("Failed to reindex event {} for search: {}", updated.eventId(), e.getMessage());
+        }
+    }
+
+    // Reading every published event can take a while, so startup and readiness do not wait for it
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        Thread.ofVirtual().name("event-search-warmup").start(this::rebuild);
+    }
+
+    // Other instances' edits only arrive through this periodic rebuild
+    @Scheduled(initialDelayString = "${event-search.rebuild-interval-ms:900000}",
+            fixedDelayString = "${event-search.rebuild-interval-ms:900000}")
+    public void rebuild() {
+        long started = System.currentTimeMillis();
+        rebuilding = true;
+        changedDuringRebuild.clear();
+        try {
+            InvertedIndex<UUID> fresh = new InvertedIndex<>();
+            PageRequest page = PageRequest.of(0, REBUILD_BATCH_SIZE);
+            LocalDateTime beforeTime = KEYSET_START;
+            UUID beforeId = KEYSET_START_ID;
+            while (true) {
+                List<EventSearchRow> batch = eventRepo.findSearchRowsBefore(
+                        EventStatus.PUBLISHED, beforeTime, beforeId, page);
+                for (EventSearchRow row : batch) {
+                    fresh.put(row.getId(), fields(row));
+                }
+                if (batch.size() < REBUILD_BATCH_SIZE) {
+                    break;
+                }
+                EventSearchRow last = batch.get(batch.size() - 1);
+                beforeTime = last.getCreatedAt();
+                beforeId = last.getId();
+            }
+
+            index = fresh;
+            ready = true;
+            rebuilding = false;
+            for (UUID eventId : new ArrayList<>(changedDuringRebuild)) {
+                reindex(fresh, eventId);
+            }
+            log.info("Built event search index: {} events in {} ms", fresh.size(), System.currentTimeMillis() - started);
+        } catch (Exception e) {
+            log.error("Failed to rebuild event search index: {}", e.getMessage());
+        } finally {
+            rebuilding = false;
+            changedDuringRebuild.clear();
+        }
+    }
+
+    private void reindex(InvertedIndex<UUID> target, UUID eventId) {
+        eventRepo.findSearchRow(eventId, EventStatus.PUBLISHED).ifPresentOrElse(
+                row -> target.put(eventId, fields(row)),
+                () -> target.remove(eventId));
+    }
+
+    private static List<InvertedIndex.Field> fields(EventSearchRow row) {
+        return List.of(
+                new InvertedIndex.Field(row.getName(), NAME_WEIGHT),
+                new InvertedIndex.Field(row.getVenue(), VENUE_WEIGHT),
+                new InvertedIndex.Field(row.getDescription(), DESCRIPTION_WEIGHT)
+        );
+    }
+}
@@ -6,20 +6,25 @@ import com.atharv.Event_Ticket_Platform.Domain.Requests.CreateEventRequest;
 import com.atharv.Event_Ticket_Platform.Domain.Entity.Event;
 import com.atharv.Event_Ticket_Platform.Domain.Entity.User;
 import com.atharv.Event_Ticket_Platform.Domain.Enum.EventStatus;
+import com.atharv.Event_Ticket_Platform.Domain.Events.EventUpdatedEvent;
 import com.atharv.Event_Ticket_Platform.Domain.Mapper.EventMapper;
 import com.atharv.Event_Ticket_Platform.Exceptions.ResourceNotFoundException;
 import com.atharv.Event_Ticket_Platform.Repository.EventRepo;
 import com.atharv.Event_Ticket_Platform.Repository.TicketTypeRepo;
 import com.atharv.Event_Ticket_Platform.Repository.UserRepo;
 import com.atharv.Event_Ticket_Platform.Service.ServiceInterface.EventService;
+import com.atharv.Event_Ticket_Platform.util.CursorCodec;
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.stereotype.Service;
 
+import java.time.LocalDateTime;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -32,6 +37,8 @@ public class EventServiceImpl implements EventService {
     private final TicketTypeRepo ticketTypeRepo;
     private final EventMapper eventMapper;
     private final UserServiceImpl userService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final EventSearchService eventSearchService;
 
     @Override
     @Transactional
@@ -49,13 +56,20 @@ public class EventServiceImpl implements EventService {
                 forEach(ticketType -> ticketType.setEvent(event));
         Event savedEvent = eventRepo.save(event);
         log.info("Event SAVED successfully - ID: {}", savedEvent.getId());
+        eventPublisher.publishEvent(new EventUpdatedEvent(savedEvent.getId(), organiserId, LocalDateTime.now()));
         return savedEvent;
 
     }
 
     @Override
     public Page<Event> listEventForOrganiser(UUID organiserId, Pageable pageable) {
-        return eventRepo.findByOrganiserId(organiserId,pageable);
+        return eventRepo.findPageByOrganiserId(organiserId, pageable);
+    }
+
+    @Override
+    public Slice<Event> listEventForOrganiserByCursor(UUID organiserId, CursorCodec.Cursor cursor, int size) {
+        return eventRepo.findByOrganiserIdBefore(organiserId, cursor.sortKey(), cursor.uuidId(),
+                CursorCodec.pageRequest(size));
     }
 
     @Override
@@ -136,6 +150,7 @@ public class EventServiceImpl implements EventService {
 
         Event updatedEvent = eventRepo.save(existingEvent);
         log.info("Event UPDATED successfully - ID: {}", updatedEvent.getId());
+        eventPublisher.publishEvent(new EventUpdatedEvent(eventId, organiserId, LocalDateTime.now()));
 
         return updatedEvent;
     }
@@ -156,7 +171,7 @@ public class EventServiceImpl implements EventService {
 
     @Override
     public Event getEvent(UUID eventId, UUID organiserId) {
-        Event event = eventRepo.findById(eventId)
+        Event event = eventRepo.findWithTicketTypesById(eventId)
                 .orElseThrow(() ->
                         new ResourceNotFoundException("Event not found")
                 );
@@ -175,6 +190,7 @@ public class EventServiceImpl implements EventService {
                 );
 
         eventRepo.delete(event);
+        eventPublisher.publishEvent(new EventUpdatedEvent(eventId, organiserId, LocalDateTime.now()));
     }
 
     @Override
@@ -198,22 +214,32 @@ public class EventServiceImpl implements EventService {
 
         ticketTypeRepo.delete(ticketType);
         log.info("TicketType deleted successfully - ID: {}", ticketTypeId);
+        eventPublisher.publishEvent(new EventUpdatedEvent(eventId, organiserId, LocalDateTime.now()));
     }
 
     @Override
     public Page<Event> listPublishedEvents(Pageable pageable) {
-        return eventRepo.findByEventStatus(EventStatus.PUBLISHED, pageable);
+        return eventRepo.findPageByEventStatus(EventStatus.PUBLISHED, pageable);
+    }
+
+    @Override
+    public Slice<Event> listPublishedEventsByCursor(CursorCodec.Cursor cursor, int size) {
+        return eventRepo.findByEventStatusBefore(EventStatus.PUBLISHED, cursor.sortKey(), cursor.uuidId(),
+                CursorCodec.pageRequest(size));
     }
 
     @Override
     public Page<Event> searchPublishedEvents(String searchTerm, Pageable pageable) {
-        return eventRepo.findByEventStatusAndNameContainingIgnoreCase(EventStatus.PUBLISHED,searchTerm, pageable);
+        if (searchTerm == null || searchTerm.isBlank()) {
+            return listPublishedEvents(pageable);
+        }
+        return eventSearchService.search(searchTerm, pageable);
     }
 
     @Override
     public Optional<Event> getPublishedEventById(UUID eventId) {
         try {
-            return eventRepo.findById(eventId)
+            return eventRepo.findWithTicketTypesById(eventId)
                     .filter(event -> event.getEventStatus() == EventStatus.PUBLISHED);
         } catch (IllegalArgumentException e) {
             return Optional.empty();
@@ -0,0 +1,300 @@
+package com.atharv.Event_Ticket_Platform.Service.ServiceImpl;
+
+import com.atharv.Event_Ticket_Platform.Domain.DTO.AnalyticDtos.DistributionSummaryDto;
+import com.atharv.Event_Ticket_Platform.Domain.Entity.EventSketch;
+import com.atharv.Event_Ticket_Platform.Domain.Enum.TicketValidationStatus;
+import com.atharv.Event_Ticket_Platform.Domain.Events.TicketPurchasedEvent;
+import com.atharv.Event_Ticket_Platform.Domain.Events.TicketValidatedEvent;
+import com.atharv.Event_Ticket_Platform.Domain.Projections.EntryDelayRow;
+import com.atharv.Event_Ticket_Platform.Domain.Projections.SoldTicketRow;
+import com.atharv.Event_Ticket_Platform.Repository.EventRepo;
+import com.atharv.Event_Ticket_Platform.Repository.EventSketchRepo;
+import com.atharv.Event_Ticket_Platform.Repository.TicketValidationRepo;
+import com.atharv.Event_Ticket_Platform.Repository.TicketsRepo;
+import com.atharv.Event_Ticket_Platform.util.HyperLogLog;
+import com.atharv.Event_Ticket_Platform.util.QuantileSketch;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class EventSketchService {
+
+    private static final int REBUILD_BATCH_SIZE = 1_000;
+    private static final LocalDateTime KEYSET_START = LocalDateTime.of(1970, 1, 1, 0, 0);
+    private static final UUID KEYSET_START_ID = new UUID(0, 0);
+
+    private final EventRepo eventRepo;
+    private final EventSketchRepo eventSketchRepo;
+    private final TicketsRepo ticketsRepo;
+    private final TicketValidationRepo ticketValidationRepo;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${analytics.sketches.enabled:false}")
+    private boolean enabled;
+
+    // Committed changes not yet merged into event_sketch. Every mutation runs inside compute/merge,
+    // so the map's per-key lock is the only synchronisation a pending sketch needs
+    private final ConcurrentHashMap<UUID, SketchSet> pending = new ConcurrentHashMap<>();
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onTicketPurchased(TicketPurchasedEvent purchased) {
+        if (!enabled) {
+            return;
+        }
+        pending.compute(purchased.eventId(), (id, sketches) -> {
+            SketchSet target = sketches != null ? sketches : new SketchSet();
+            if (purchased.purchaserId() != null) {
+                target.attendees.add(purchased.purchaserId());
+            }
+            target.prices.add(purchased.price());
+            return target;
+        });
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onTicketValidated(TicketValidatedEvent validated) {
+        if (!enabled || validated.ticketPurchasedAt() == null || validated.validatedAt() == null) {
+            return;
+        }
+        double delayMinutes = minutesBetween(validated.ticketPurchasedAt(), validated.validatedAt());
+        pending.compute(validated.eventId(), (id, sketches) -> {
+            SketchSet target = sketches != null ? sketches : new SketchSet();
+            target.entryDelays.add(delayMinutes);
+            return target;
+        });
+    }
+
+    @Scheduled(fixedDelayString = "${analytics.sketches.flush-interval-ms:30000}")
+    public void flushPending() {
+        if (!enabled || pending.isEmpty()) {
+            return;
+        }
+
+        int flushed = 0;
+        for (UUID eventId : new ArrayList<>(pending.keySet())) {
+            SketchSet[] taken = new SketchSet[1];
+            try {
+                transactionTemplate.executeWithoutResult(status -> {
+                    EventSketch stored = lockRow(eventId);
+                    // Detached only once the row lock is held: a rebuild holding it has already read these
+                    // samples back from the tables and dropped them, so they are never merged on top of it
+                    taken[0] = takePending(eventId);
+                    if (taken[0] != null) {
+                        SketchSet merged = SketchSet.from(stored);
+                        merged.merge(taken[0]);
+                        merged.writeTo(stored);
+                        eventSketchRepo.save(stored);
+                    }
+                });
+                if (taken[0] != null) {
+                    flushed++;
+                }
+            } catch (Exception e) {
+                // Put the delta back so the next flush retries it rather than losing the samples
+                if (taken[0] != null) {
+                    pending.merge(eventId, taken[0], (current, failed) -> {
+                        current.merge(failed);
+                        return current;
+                    });
+                }
+                log.error("Failed to flush analytics sketches for event {}: {}", eventId, e.getMessage());
+            }
+        }
+        log.debug("Flushed analytics sketches for {} events", flushed);
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flushPending();
+    }
+
+    public SketchSummary summarize(Collection<UUID> eventIds) {
+        if (!enabled) {
+            return null;
+        }
+
+        SketchSet combined = new SketchSet();
+        if (!eventIds.isEmpty()) {
+            for (EventSketch stored : eventSketchRepo.findByEventIdIn(eventIds)) {
+                combined.merge(SketchSet.from(stored));
+            }
+        }
+        for (UUID eventId : eventIds) {
+            pending.computeIfPresent(eventId, (id, sketches) -> {
+                combined.merge(sketches);
+                return sketches;
+            });
+        }
+
+        return new SketchSummary(
+                combined.attendees.estimate(),
+                toDto(combined.prices),
+                toDto(combined.entryDelays)
+        );
+    }
+
+    public void rebuildEvent(UUID eventId) {
+        // The row lock flushPending merges under is held from before the tables are read until the rebuilt
+        // sketches are written, so no flush can land in between and be overwritten
+        transactionTemplate.executeWithoutResult(status -> {
+            EventSketch stored = lockRow(eventId);
+            // Samples already committed will be read back from the tables below, so drop the pending
+            // copy first to avoid counting them twice
+            takePending(eventId);
+            SketchSet rebuilt = readFromTables(eventId);
+            rebuilt.writeTo(stored);
+            eventSketchRepo.save(stored);
+        });
+    }
+
+    private SketchSet readFromTables(UUID eventId) {
+        SketchSet rebuilt = new SketchSet();
+        Pageable page = PageRequest.of(0, REBUILD_BATCH_SIZE);
+        LocalDateTime afterTime = KEYSET_START;
+        UUID afterId = KEYSET_START_ID;
+        while (true) {
+            List<SoldTicketRow> batch = ticketsRepo.findSoldTicketRowsAfter(eventId, afterTime, afterId, page);
+            // Sketches cannot forget a sample, so they describe gross purchases: cancelled tickets
+            // are kept here to match what the incremental path recorded when they were bought
+            for (SoldTicketRow row : batch) {
+                rebuilt.attendees.add(row.getPurchaserId());
+                if (row.getPrice() != null) {
+                    rebuilt.prices.add(row.getPrice());
+                }
+            }
+            if (batch.size() < REBUILD_BATCH_SIZE) {
+                break;
+            }
+            SoldTicketRow last = batch.get(batch.size() - 1);
+            afterTime = last.getPurchasedAt();
+            afterId = last.getTicketId();
+        }
+
+        for (EntryDelayRow row : ticketValidationRepo.findEntryDelaysByEvent(eventId, TicketValidationStatus.VALID)) {
+            if (row.getPurchasedAt() != null && row.getValidatedAt() != null) {
+                rebuilt.entryDelays.add(minutesBetween(row.getPurchasedAt(), row.getValidatedAt()));
+            }
+        }
+        return rebuilt;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfillMissingSketches() {
+        if (!enabled) {
+            return;
+        }
+        List<UUID> missing = eventRepo.findIdsWithoutSketch();
+        if (missing.isEmpty()) {
+            return;
+        }
+
+        log.info("Backfilling analytics sketches for {} events", missing.size());
+        for (UUID eventId : missing) {
+            try {
+                rebuildEvent(eventId);
+            } catch (Exception e) {
+                log.error("Failed to backfill analytics sketches for event {}: {}", eventId, e.getMessage());
+            }
+        }
+    }
+
+    // Detaches the accumulated delta under the key's lock, the same lock every listener mutates it
+    // under, so a concurrent sample lands either in the delta taken here or in a fresh set after it
+    private SketchSet takePending(UUID eventId) {
+        SketchSet[] taken = new SketchSet[1];
+        pending.computeIfPresent(eventId, (id, sketches) -> {
+            taken[0] = sketches;
+            return null;
+        });
+        return taken[0];
+    }
+
+    private EventSketch lockRow(UUID eventId) {
+        eventSketchRepo.insertIfAbsent(eventId);
+        return eventSketchRepo.findForUpdate(eventId)
+                .orElseThrow(() -> new IllegalStateException("Sketch row missing for event " + eventId));
+    }
+
+    private static double minutesBetween(LocalDateTime from, LocalDateTime to) {
+        return Math.max(0, Duration.between(from, to).toSeconds() / 60.0);
+    }
+
+    private static DistributionSummaryDto toDto(QuantileSketch sketch) {
+        if (sketch.count() == 0) {
+            return null;
+        }
+        return DistributionSummaryDto.builder()
+                .sampleCount(sketch.count())
+                .min(sketch.min())
+                .p50(sketch.quantile(0.50))
+                .p90(sketch.quantile(0.90))
+                .p99(sketch.quantile(0.99))
+                .max(sketch.max())
+                .build();
+    }
+
+    public record SketchSummary(
+            Long estimatedUniqueAttendees,
+            DistributionSummaryDto ticketPriceDistribution,
+            DistributionSummaryDto entryDelayMinutesDistribution
+    ) {
+    }
+
+    private static final class SketchSet {
+        private final HyperLogLog attendees;
+        private final QuantileSketch prices;
+        private final QuantileSketch entryDelays;
+
+        SketchSet() {
+            this(new HyperLogLog(), new QuantileSketch(), new QuantileSketch());
+        }
+
+        private SketchSet(HyperLogLog attendees, QuantileSketch prices, QuantileSketch entryDelays) {
+            this.attendees = attendees;
+            this.prices = prices;
+            this.entryDelays = entryDelays;
+        }
+
+        static SketchSet from(EventSketch stored) {
+            return new SketchSet(
+                    HyperLogLog.fromBytes(stored.getAttendeeHll()),
+                    QuantileSketch.fromBytes(stored.getPriceSketch()),
+                    QuantileSketch.fromBytes(stored.getEntryDelaySketch())
+            );
+        }
+
+        void merge(SketchSet other) {
+            attendees.merge(other.attendees);
+            prices.merge(other.prices);
+            entryDelays.merge(other.entryDelays);
+        }
+
+        void writeTo(EventSketch stored) {
+            stored.setAttendeeHll(attendees.toBytes());
+            stored.setPriceSketch(prices.toBytes());
+            stored.setEntryDelaySketch(entryDelays.toBytes());
+            stored.setUpdatedAt(LocalDateTime.now());
+        }
+    }
+}
@@ -0,0 +1,316 @@
+package com.atharv.Event_Ticket_Platform.Service.ServiceImpl;
+
+import com.atharv.Event_Ticket_Platform.Domain.DTO.EventDtos.EventSuggestionDto;
+import com.atharv.Event_Ticket_Platform.Domain.Enum.EventStatus;
+import com.atharv.Event_Ticket_Platform.Domain.Enum.SuggestionKind;
+import com.atharv.Event_Ticket_Platform.Domain.Events.EventUpdatedEvent;
+import com.atharv.Event_Ticket_Platform.Domain.Events.TicketCancelledEvent;
+import com.atharv.Event_Ticket_Platform.Domain.Events.TicketPurchasedEvent;
+import com.atharv.Event_Ticket_Platform.Domain.Projections.EventSearchRow;
+import com.atharv.Event_Ticket_Platform.Repository.EventRepo;
+import com.atharv.Event_Ticket_Platform.util.InvertedIndex;
+import com.atharv.Event_Ticket_Platform.util.WeightedPrefixTrie;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class EventSuggestService {
+
+    private static final int MAX_LIMIT = 20;
+    private static final int MAX_WORDS_INDEXED = 8;
+    private static final int REBUILD_BATCH_SIZE = 1_000;
+    private static final LocalDateTime KEYSET_START = LocalDateTime.of(9999, 12, 31, 23, 59, 59);
+    private static final UUID KEYSET_START_ID = new UUID(-1L, -1L);
+
+    private final EventRepo eventRepo;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private SuggestionState state = new SuggestionState();
+
+    // Events changed while a full rebuild is reading the table; re-read once the new state is swapped in
+    private final Set<UUID> changedDuringRebuild = new HashSet<>();
+    private boolean rebuilding;
+    private boolean ready;
+
+    public List<EventSuggestionDto> suggest(String query, int limit) {
+        String prefix = String.join(" ", InvertedIndex.tokenize(query));
+        if (prefix.isEmpty()) {
+            return List.of();
+        }
+        int maxResults = Math.max(1, Math.min(limit, MAX_LIMIT));
+
+        lock.readLock().lock();
+        try {
+            if (!ready) {
+                // The first build runs in the background after startup; typeahead simply stays quiet until then
+                return List.of();
+            }
+            List<EventSuggestionDto> results = new ArrayList<>(maxResults);
+            for (Suggestion suggestion : state.trie.topK(prefix, maxResults)) {
+                Aggregate aggregate = state.aggregates.get(suggestion);
+                if (aggregate == null) {
+                    continue;
+                }
+                results.add(EventSuggestionDto.builder()
+                        .text(aggregate.displayText)
+                        .kind(suggestion.kind())
+                        .eventId(aggregate.eventIds.size() == 1 ? aggregate.eventIds.iterator().next() : null)
+                        .popularity(aggregate.weight)
+                        .build());
+            }
+            return results;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // Publishing, unpublishing (an update back to draft) and deletion all arrive here
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onEventUpdated(EventUpdatedEvent updated) {
+        refresh(updated.eventId());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onTicketPurchased(TicketPurchasedEvent purchased) {
+        adjustPopularity(purchased.eventId(), 1);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onTicketCancelled(TicketCancelledEvent cancelled) {
+        adjustPopularity(cancelled.eventId(), -1);
+    }
+
+    // Reading every published event can take a while, so startup and readiness do not wait for it
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        Thread.ofVirtual().name("event-suggest-warmup").start(this::rebuild);
+    }
+
+    @Scheduled(initialDelayString = "${event-search.rebuild-interval-ms:900000}",
+            fixedDelayString = "${event-search.rebuild-interval-ms:900000}")
+    public void rebuild() {
+        long started = System.currentTimeMillis();
+        lock.writeLock().lock();
+        try {
+            rebuilding = true;
+            changedDuringRebuild.clear();
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        try {
+            SuggestionState fresh = new SuggestionState();
+            PageRequest page = PageRequest.of(0, REBUILD_BATCH_SIZE);
+            LocalDateTime beforeTime = KEYSET_START;
+            UUID beforeId = KEYSET_START_ID;
+            while (true) {
+                List<EventSearchRow> batch = eventRepo.findSearchRowsBefore(
+                        EventStatus.PUBLISHED, beforeTime, beforeId, page);
+                batch.forEach(fresh::upsert);
+                if (batch.size() < REBUILD_BATCH_SIZE) {
+                    break;
+                }
+                EventSearchRow last = batch.get(batch.size() - 1);
+                beforeTime = last.getCreatedAt();
+                beforeId = last.getId();
+            }
+
+            List<UUID> changed;
+            int events;
+            int keys;
+            lock.writeLock().lock();
+            try {
+                state = fresh;
+                ready = true;
+                rebuilding = false;
+                changed = new ArrayList<>(changedDuringRebuild);
+                changedDuringRebuild.clear();
+                events = fresh.events.size();
+                keys = fresh.trie.keyCount();
+            } finally {
+                lock.writeLock().unlock();
+            }
+            changed.forEach(this::refresh);
+            log.info("Built event suggestion trie: {} events, {} keys in {} ms",
+                    events, keys, System.currentTimeMillis() - started);
+        } catch (Exception e) {
+            log.error("Failed to rebuild event suggestion trie: {}", e.getMessage());
+        } finally {
+            lock.writeLock().lock();
+            try {
+                rebuilding = false;
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+    }
+
+    private void refresh(UUID eventId) {
+        try {
+            EventSearchRow row = eventRepo.findSearchRow(eventId, EventStatus.PUBLISHED).orElse(null);
+            lock.writeLock().lock();
+            try {
+                markChanged(eventId);
+                if (row != null) {
+                    state.upsert(row);
+                } else {
+                    state.remove(eventId);
+                }
+            } finally {
+                lock.writeLock().unlock();
+            }
+        } catch (Exception e) {
+            log.error("Failed to update suggestions for event {}: {}", eventId, e.getMessage());
+        }
+    }
+
+    private void adjustPopularity(UUID eventId, long delta) {
+        lock.writeLock().lock();
+        try {
+            markChanged(eventId);
+            state.adjustPopularity(eventId, delta);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void markChanged(UUID eventId) {
+        if (rebuilding) {
+            changedDuringRebuild.add(eventId);
+        }
+    }
+
+    private record Suggestion(String key, SuggestionKind kind) {
+    }
+
+    private record IndexedEvent(Suggestion name, Suggestion venue, long weight) {
+    }
+
+    private static final class Aggregate {
+        private final String displayText;
+        private final Set<UUID> eventIds = new HashSet<>();
+        private long weight;
+
+        private Aggregate(String displayText) {
+            this.displayText = displayText;
+        }
+    }
+
+    // Neither this nor its trie is thread-safe; the service's lock guards every access once it is published
+    private static final class SuggestionState {
+        private final WeightedPrefixTrie<Suggestion> trie = new WeightedPrefixTrie<>();
+        private final Map<UUID, IndexedEvent> events = new HashMap<>();
+        private final Map<Suggestion, Aggregate> aggregates = new HashMap<>();
+
+        void upsert(EventSearchRow row) {
+            remove(row.getId());
+            // Every event counts once even before it sells, so new events can still be suggested
+            long weight = 1 + Math.max(0, row.getPopularity() != null ? row.getPopularity() : 0);
+            Suggestion name = add(row.getId(), row.getName(), SuggestionKind.EVENT_NAME, weight);
+            Suggestion venue = add(row.getId(), row.getVenue(), SuggestionKind.VENUE, weight);
+            events.put(row.getId(), new IndexedEvent(name, venue, weight));
+        }
+
+        void remove(UUID eventId) {
+            IndexedEvent indexed = events.remove(eventId);
+            if (indexed != null) {
+                subtract(eventId, indexed.name(), indexed.weight());
+                subtract(eventId, indexed.venue(), indexed.weight());
+            }
+        }
+
+        void adjustPopularity(UUID eventId, long delta) {
+            IndexedEvent indexed = events.get(eventId);
+            if (indexed == null) {
+                return;
+            }
+            long weight = Math.max(1, indexed.weight() + delta);
+            long applied = weight - indexed.weight();
+            if (applied == 0) {
+                return;
+            }
+            events.put(eventId, new IndexedEvent(indexed.name(), indexed.venue(), weight));
+            reweigh(indexed.name(), applied);
+            reweigh(indexed.venue(), applied);
+        }
+
+        private Suggestion add(UUID eventId, String text, SuggestionKind kind, long weight) {
+            List<String> words = InvertedIndex.tokenize(text);
+            if (words.isEmpty()) {
+                return null;
+            }
+            Suggestion suggestion = new Suggestion(String.join(" ", words), kind);
+            Aggregate aggregate = aggregates.computeIfAbsent(suggestion, key -> new Aggregate(text.trim()));
+            aggregate.eventIds.add(eventId);
+            aggregate.weight += weight;
+            putKeys(suggestion, aggregate.weight);
+            return suggestion;
+        }
+
+        private void subtract(UUID eventId, Suggestion suggestion, long weight) {
+            if (suggestion == null) {
+                return;
+            }
+            Aggregate aggregate = aggregates.get(suggestion);
+            if (aggregate == null) {
+                return;
+            }
+            aggregate.eventIds.remove(eventId);
+            aggregate.weight -= weight;
+            if (aggregate.eventIds.isEmpty()) {
+                aggregates.remove(suggestion);
+                for (String key : keys(suggestion)) {
+                    trie.remove(key, suggestion);
+                }
+            } else {
+                putKeys(suggestion, aggregate.weight);
+            }
+        }
+
+        private void reweigh(Suggestion suggestion, long delta) {
+            if (suggestion == null) {
+                return;
+            }
+            Aggregate aggregate = aggregates.get(suggestion);
+            if (aggregate != null) {
+                aggregate.weight += delta;
+                putKeys(suggestion, aggregate.weight);
+            }
+        }
+
+        private void putKeys(Suggestion suggestion, long weight) {
+            for (String key : keys(suggestion)) {
+                trie.put(key, suggestion, weight);
+            }
+        }
+
+        // The full phrase plus every word-boundary suffix, so "jazz" also finds "Summer Jazz Night"
+        private static List<String> keys(Suggestion suggestion) {
+            String[] words = suggestion.key().split(" ");
+            List<String> keys = new ArrayList<>();
+            for (int i = 0; i < words.length && i < MAX_WORDS_INDEXED; i++) {
+                keys.add(String.join(" ", List.of(words).subList(i, words.length)));
+            }
+            return keys;
+        }
+    }
+}
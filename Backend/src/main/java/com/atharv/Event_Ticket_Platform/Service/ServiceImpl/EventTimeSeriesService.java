@@ -0,0 +1,317 @@
+package com.atharv.Event_Ticket_Platform.Service.ServiceImpl;
+
+import com.atharv.Event_Ticket_Platform.Domain.DTO.AnalyticDtos.TimeSeriesDto;
+import com.atharv.Event_Ticket_Platform.Domain.DTO.AnalyticDtos.TimeSeriesPointDto;
+import com.atharv.Event_Ticket_Platform.Domain.Entity.Event;
+import com.atharv.Event_Ticket_Platform.Domain.Entity.EventMetricBucket;
+import com.atharv.Event_Ticket_Platform.Domain.Enum.TimeSeriesMetric;
+import com.atharv.Event_Ticket_Platform.Domain.Events.TicketCancelledEvent;
+import com.atharv.Event_Ticket_Platform.Domain.Events.TicketPurchasedEvent;
+import com.atharv.Event_Ticket_Platform.Domain.Events.TicketValidatedEvent;
+import com.atharv.Event_Ticket_Platform.Repository.EventMetricBucketRepo;
+import com.atharv.Event_Ticket_Platform.Repository.EventRepo;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class EventTimeSeriesService {
+
+    private static final int LIVE_WINDOW_MINUTES = 180;
+    private static final int MAX_POINTS = 2_000;
+    private static final Set<Integer> SUPPORTED_BUCKET_MINUTES = Set.of(1, 5, 15, 60);
+    private static final long IDLE_EVICTION_MINUTES = 3 * 60;
+
+    private final EventRepo eventRepo;
+    private final EventMetricBucketRepo eventMetricBucketRepo;
+    private final TransactionTemplate transactionTemplate;
+
+    private final ConcurrentHashMap<SeriesKey, MinuteRing> liveSeries = new ConcurrentHashMap<>();
+
+    // Flushing moves counts from the rings into the table; holding the write lock for that keeps
+    // range queries from seeing a bucket in both places or in neither
+    private final ReentrantReadWriteLock flushLock = new ReentrantReadWriteLock();
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onTicketPurchased(TicketPurchasedEvent purchased) {
+        record(purchased.eventId(), TimeSeriesMetric.TICKETS_SOLD, purchased.purchasedAt());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onTicketCancelled(TicketCancelledEvent cancelled) {
+        record(cancelled.eventId(), TimeSeriesMetric.TICKETS_CANCELLED, cancelled.cancelledAt());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onTicketValidated(TicketValidatedEvent validated) {
+        record(validated.eventId(), TimeSeriesMetric.ENTRIES, validated.validatedAt());
+    }
+
+    public TimeSeriesDto getSeries(
+            UUID eventId,
+            UUID organiserId,
+            TimeSeriesMetric metric,
+            LocalDateTime from,
+            LocalDateTime to,
+            int bucketMinutes
+    ) {
+        Event event = eventRepo.findById(eventId)
+                .orElseThrow(() -> new IllegalStateException("Event not found"));
+
+        if (!event.getOrganiser().getId().equals(organiserId)) {
+            throw new IllegalStateException("You don't have permission to view this event");
+        }
+
+        if (!SUPPORTED_BUCKET_MINUTES.contains(bucketMinutes)) {
+            throw new IllegalStateException("bucketMinutes must be one of " + SUPPORTED_BUCKET_MINUTES);
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime rangeStart = from != null ? from : defaultStart(event, metric, now);
+        LocalDateTime rangeEnd = to != null ? to : now;
+
+        long fromMinute = alignDown(toEpochMinute(rangeStart), bucketMinutes);
+        long toMinute = alignDown(toEpochMinute(rangeEnd), bucketMinutes) + bucketMinutes;
+        if (toMinute <= fromMinute) {
+            toMinute = fromMinute;
+        }
+
+        int pointCount = (int) Math.min(Integer.MAX_VALUE, (toMinute - fromMinute) / bucketMinutes);
+        if (pointCount > MAX_POINTS) {
+            throw new IllegalStateException(String.format(
+                    "Range covers %d buckets; use a wider bucket or a shorter range (max %d)", pointCount, MAX_POINTS));
+        }
+
+        long[] counts = new long[pointCount];
+        flushLock.readLock().lock();
+        try {
+            List<EventMetricBucket> stored = eventMetricBucketRepo.findRange(
+                    eventId, metric, fromEpochMinute(fromMinute), fromEpochMinute(toMinute));
+            for (EventMetricBucket bucket : stored) {
+                addToPoint(counts, toEpochMinute(bucket.getBucketStart()), bucket.getCount(), fromMinute, bucketMinutes);
+            }
+
+            MinuteRing ring = liveSeries.get(new SeriesKey(eventId, metric));
+            if (ring != null) {
+                long startMinute = fromMinute;
+                ring.forEachUnflushed(fromMinute, toMinute, (minute, delta) ->
+                        addToPoint(counts, minute, delta, startMinute, bucketMinutes));
+            }
+        } finally {
+            flushLock.readLock().unlock();
+        }
+
+        List<TimeSeriesPointDto> points = new ArrayList<>(pointCount);
+        long total = 0;
+        int peakIndex = -1;
+        for (int i = 0; i < pointCount; i++) {
+            total += counts[i];
+            if (counts[i] > 0 && (peakIndex < 0 || counts[i] > counts[peakIndex])) {
+                peakIndex = i;
+            }
+            points.add(TimeSeriesPointDto.builder()
+                    .bucketStart(fromEpochMinute(fromMinute + (long) i * bucketMinutes))
+                    .count(counts[i])
+                    .build());
+        }
+
+        return TimeSeriesDto.builder()
+                .eventId(eventId)
+                .metric(metric)
+                .bucketMinutes(bucketMinutes)
+                .from(fromEpochMinute(fromMinute))
+                .to(fromEpochMinute(toMinute))
+                .total(total)
+                .peakBucketCount(peakIndex >= 0 ? counts[peakIndex] : 0)
+                .peakBucketStart(peakIndex >= 0 ? points.get(peakIndex).getBucketStart() : null)
+                .points(points)
+                .build();
+    }
+
+    @Scheduled(fixedDelayString = "${timeseries.flush-interval-ms:15000}")
+    public void flushClosedBuckets() {
+        long currentMinute = toEpochMinute(LocalDateTime.now());
+        flush(currentMinute);
+
+        liveSeries.entrySet().removeIf(entry ->
+                entry.getValue().isIdle(currentMinute, IDLE_EVICTION_MINUTES));
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        // Include the still-open minute so nothing recorded before shutdown is lost
+        flush(Long.MAX_VALUE);
+    }
+
+    private void flush(long beforeMinute) {
+        flushLock.writeLock().lock();
+        try {
+            for (Map.Entry<SeriesKey, MinuteRing> entry : liveSeries.entrySet()) {
+                SeriesKey key = entry.getKey();
+                MinuteRing ring = entry.getValue();
+
+                List<long[]> closed = ring.drainBefore(beforeMinute);
+                if (closed.isEmpty()) {
+                    continue;
+                }
+
+                try {
+                    transactionTemplate.executeWithoutResult(status -> {
+                        for (long[] bucket : closed) {
+                            eventMetricBucketRepo.addToBucket(key.eventId(), key.metric().name(),
+                                    fromEpochMinute(bucket[0]), bucket[1]);
+                        }
+                    });
+                } catch (Exception e) {
+                    log.error("Failed to persist {} buckets for event {}: {}", key.metric(), key.eventId(), e.getMessage());
+                    ring.restore(closed);
+                }
+            }
+        } finally {
+            flushLock.writeLock().unlock();
+        }
+    }
+
+    private void record(UUID eventId, TimeSeriesMetric metric, LocalDateTime occurredAt) {
+        LocalDateTime at = occurredAt != null ? occurredAt : LocalDateTime.now();
+        SeriesKey key = new SeriesKey(eventId, metric);
+        MinuteRing ring = liveSeries.get(key);
+        if (ring == null) {
+            ring = liveSeries.computeIfAbsent(key, k -> new MinuteRing());
+        }
+        ring.increment(toEpochMinute(at));
+    }
+
+    private static LocalDateTime defaultStart(Event event, TimeSeriesMetric metric, LocalDateTime now) {
+        LocalDateTime start = metric == TimeSeriesMetric.ENTRIES ? event.getStartTime() : event.getSalesStartDate();
+        if (start == null) {
+            start = event.getCreatedAt() != null ? event.getCreatedAt() : now.minusHours(24);
+        }
+        return start.isAfter(now) ? now : start;
+    }
+
+    private static void addToPoint(long[] counts, long minute, long count, long fromMinute, int bucketMinutes) {
+        long index = (minute - fromMinute) / bucketMinutes;
+        if (minute >= fromMinute && index < counts.length) {
+            counts[(int) index] += count;
+        }
+    }
+
+    private static long alignDown(long minute, int bucketMinutes) {
+        return Math.floorDiv(minute, bucketMinutes) * bucketMinutes;
+    }
+
+    private static long toEpochMinute(LocalDateTime time) {
+        return Math.floorDiv(time.toEpochSecond(ZoneOffset.UTC), 60);
+    }
+
+    private static LocalDateTime fromEpochMinute(long minute) {
+        return LocalDateTime.ofEpochSecond(minute * 60, 0, ZoneOffset.UTC);
+    }
+
+    private record SeriesKey(UUID eventId, TimeSeriesMetric metric) {
+    }
+
+    @FunctionalInterface
+    private interface BucketConsumer {
+        void accept(long minute, long count);
+    }
+
+    private static final class MinuteRing {
+        private final long[] minutes = new long[LIVE_WINDOW_MINUTES];
+        private final long[] counts = new long[LIVE_WINDOW_MINUTES];
+        private final long[] flushed = new long[LIVE_WINDOW_MINUTES];
+        // Buckets pushed out of the ring (or too old to enter it) before they were flushed
+        private final Map<Long, Long> overflow = new HashMap<>();
+        private long lastMinute;
+
+        MinuteRing() {
+            Arrays.fill(minutes, -1);
+        }
+
+        synchronized void increment(long minute) {
+            lastMinute = Math.max(lastMinute, minute);
+            int slot = (int) Math.floorMod(minute, (long) LIVE_WINDOW_MINUTES);
+
+            if (minutes[slot] != minute) {
+                if (minutes[slot] > minute) {
+                    overflow.merge(minute, 1L, Long::sum);
+                    return;
+                }
+                long unflushed = counts[slot] - flushed[slot];
+                if (minutes[slot] >= 0 && unflushed != 0) {
+                    overflow.merge(minutes[slot], unflushed, Long::sum);
+                }
+                minutes[slot] = minute;
+                counts[slot] = 0;
+                flushed[slot] = 0;
+            }
+            counts[slot]++;
+        }
+
+        synchronized List<long[]> drainBefore(long beforeMinute) {
+            List<long[]> closed = new ArrayList<>();
+            for (int slot = 0; slot < LIVE_WINDOW_MINUTES; slot++) {
+                long delta = counts[slot] - flushed[slot];
+                if (minutes[slot] >= 0 && minutes[slot] < beforeMinute && delta != 0) {
+                    closed.add(new long[]{minutes[slot], delta});
+                    flushed[slot] = counts[slot];
+                }
+            }
+            overflow.forEach((minute, delta) -> closed.add(new long[]{minute, delta}));
+            overflow.clear();
+            return closed;
+        }
+
+        synchronized void restore(List<long[]> buckets) {
+            for (long[] bucket : buckets) {
+                overflow.merge(bucket[0], bucket[1], Long::sum);
+            }
+        }
+
+        synchronized void forEachUnflushed(long fromMinute, long toMinute, BucketConsumer consumer) {
+            for (int slot = 0; slot < LIVE_WINDOW_MINUTES; slot++) {
+                long delta = counts[slot] - flushed[slot];
+                if (minutes[slot] >= fromMinute && minutes[slot] < toMinute && delta != 0) {
+                    consumer.accept(minutes[slot], delta);
+                }
+            }
+            overflow.forEach((minute, delta) -> {
+                if (minute >= fromMinute && minute < toMinute) {
+                    consumer.accept(minute, delta);
+                }
+            });
+        }
+
+        synchronized boolean isIdle(long currentMinute, long idleMinutes) {
+            if (!overflow.isEmpty() || currentMinute - lastMinute < idleMinutes) {
+                return false;
+            }
+            for (int slot = 0; slot < LIVE_WINDOW_MINUTES; slot++) {
+                if (counts[slot] != flushed[slot]) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+}
@@ -0,0 +1,311 @@
+package com.atharv.Event_Ticket_Platform.Service.ServiceImpl;
+
+import com.atharv.Event_Ticket_Platform.Domain.DTO.TicketValidationDtos.LiveEntryStatsDto;
+import com.atharv.Event_Ticket_Platform.Domain.DTO.TicketValidationDtos.StaffValidationStatsDto;
+import com.atharv.Event_Ticket_Platform.Domain.DTO.TicketValidationDtos.TicketTypeAttendanceDto;
+import com.atharv.Event_Ticket_Platform.Domain.Entity.Event;
+import com.atharv.Event_Ticket_Platform.Domain.Entity.TicketType;
+import com.atharv.Event_Ticket_Platform.Domain.Enum.TicketValidationStatus;
+import com.atharv.Event_Ticket_Platform.Domain.Events.TicketValidatedEvent;
+import com.atharv.Event_Ticket_Platform.Domain.Projections.ValidationCountByStaff;
+import com.atharv.Event_Ticket_Platform.Domain.Projections.ValidationCountByTicketType;
+import com.atharv.Event_Ticket_Platform.Repository.EventRepo;
+import com.atharv.Event_Ticket_Platform.Repository.TicketValidationRepo;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class LiveEntryStatsService {
+
+    private static final int WINDOW_SECONDS = 60;
+    private static final long IDLE_EVICTION_MILLIS = 10 * 60 * 1000L;
+    private static final long KEEP_ALIVE_MILLIS = 5_000L;
+    private static final Duration SEED_OVERLAP = Duration.ofMinutes(10);
+
+    private final EventRepo eventRepo;
+    private final TicketValidationRepo ticketValidationRepo;
+    private final ObjectMapper objectMapper;
+    private final PlatformTransactionManager transactionManager;
+
+    @Value("${live-stats.emitter-timeout-ms:1800000}")
+    private long emitterTimeoutMillis;
+
+    private final ConcurrentHashMap<UUID, EventEntryCounters> countersByEvent = new ConcurrentHashMap<>();
+
+    public SseEmitter subscribe(UUID eventId, UUID organiserId) {
+        Event event = eventRepo.findById(eventId)
+                .orElseThrow(() -> new IllegalStateException("Event not found"));
+
+        if (!event.getOrganiser().getId().equals(organiserId)) {
+            throw new IllegalStateException("You don't have permission to view this event");
+        }
+
+        EventEntryCounters counters = countersByEvent.computeIfAbsent(eventId, id -> new EventEntryCounters());
+        seedIfNeeded(event, counters);
+
+        SseEmitter emitter = new SseEmitter(emitterTimeoutMillis);
+        counters.emitters.add(emitter);
+        counters.lastSubscriberAt = System.currentTimeMillis();
+
+        emitter.onCompletion(() -> counters.emitters.remove(emitter));
+        emitter.onTimeout(() -> counters.emitters.remove(emitter));
+        emitter.onError(e -> counters.emitters.remove(emitter));
+
+        try {
+            emitter.send(SseEmitter.event()
+                    .name("stats")
+                    .data(serialize(eventId, counters), MediaType.APPLICATION_JSON));
+        } catch (IOException e) {
+            counters.emitters.remove(emitter);
+            emitter.completeWithError(e);
+        }
+
+        log.info("Organiser {} subscribed to live entry stats for event {} ({} viewers)",
+                organiserId, eventId, counters.emitters.size());
+        return emitter;
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onTicketValidated(TicketValidatedEvent validated) {
+        EventEntryCounters counters = countersByEvent.get(validated.eventId());
+        if (counters == null) {
+            return;
+        }
+        counters.accept(validated);
+    }
+
+    @Scheduled(fixedDelayString = "${live-stats.push-interval-ms:250}")
+    public void pushUpdates() {
+        long now = System.currentTimeMillis();
+
+        for (Map.Entry<UUID, EventEntryCounters> entry : countersByEvent.entrySet()) {
+            EventEntryCounters counters = entry.getValue();
+
+            if (counters.emitters.isEmpty()) {
+                if (now - counters.lastSubscriberAt > IDLE_EVICTION_MILLIS) {
+                    countersByEvent.remove(entry.getKey(), counters);
+                }
+                continue;
+            }
+            counters.lastSubscriberAt = now;
+
+            // Re-send periodically even when idle so the per-minute rate decays on screen
+            boolean keepAliveDue = now - counters.lastPushAt >= KEEP_ALIVE_MILLIS;
+            if (!counters.dirty.getAndSet(false) && !keepAliveDue) {
+                continue;
+            }
+            counters.lastPushAt = now;
+
+            String payload;
+            try {
+                payload = serialize(entry.getKey(), counters);
+            } catch (IOException e) {
+                log.error("Failed to serialise live stats for event {}: {}", entry.getKey(), e.getMessage());
+                continue;
+            }
+
+            for (SseEmitter emitter : counters.emitters) {
+                try {
+                    emitter.send(SseEmitter.event()
+                            .name("stats")
+                            .data(payload, MediaType.APPLICATION_JSON));
+                } catch (Exception e) {
+                    counters.emitters.remove(emitter);
+                }
+            }
+        }
+    }
+
+    private void seedIfNeeded(Event event, EventEntryCounters counters) {
+        if (counters.seeded) {
+            return;
+        }
+        synchronized (counters) {
+            if (counters.seeded) {
+                return;
+            }
+
+            // One snapshot for every query, so the counts and the ticket ids describe the same set of scans
+            TransactionTemplate snapshot = new TransactionTemplate(transactionManager);
+            snapshot.setIsolationLevel(TransactionDefinition.ISOLATION_REPEATABLE_READ);
+            snapshot.setReadOnly(true);
+            UUID eventId = event.getId();
+            Seed seed = snapshot.execute(status -> new Seed(
+                    ticketValidationRepo.countValidationsByTicketType(eventId, TicketValidationStatus.VALID),
+                    ticketValidationRepo.countValidationsByStaff(eventId, TicketValidationStatus.VALID),
+                    // Any scan the listener can still deliver committed after the counters were created,
+                    // so it was stamped no earlier than one transaction's length before that
+                    Set.copyOf(ticketValidationRepo.findValidatedTicketIdsSince(eventId,
+                            TicketValidationStatus.VALID, counters.createdAt.minus(SEED_OVERLAP)))
+            ));
+
+            for (TicketType ticketType : event.getTicketTypes()) {
+                counters.ticketTypeNames.put(ticketType.getId(), ticketType.getName());
+                counters.byTicketType.computeIfAbsent(ticketType.getId(), id -> new LongAdder());
+            }
+            counters.applySeed(seed);
+        }
+    }
+
+    private String serialize(UUID eventId, EventEntryCounters counters) throws JsonProcessingException {
+        return objectMapper.writeValueAsString(counters.snapshot(eventId));
+    }
+
+    private record Seed(
+            List<ValidationCountByTicketType> byTicketType,
+            List<ValidationCountByStaff> byStaff,
+            Set<UUID> seededTicketIds
+    ) {
+    }
+
+    private static final class EventEntryCounters {
+        private final LocalDateTime createdAt = LocalDateTime.now();
+        // Scans delivered before the seed lands wait here; afterwards, scans the seed already counted are
+        // recognised by ticket id, since a ticket is only ever admitted once
+        private final Object seedLock = new Object();
+        private final List<TicketValidatedEvent> beforeSeed = new ArrayList<>();
+        private volatile Set<UUID> seededTicketIds = Set.of();
+        private final LongAdder admitted = new LongAdder();
+        private final ConcurrentHashMap<Integer, LongAdder> byTicketType = new ConcurrentHashMap<>();
+        private final ConcurrentHashMap<Integer, String> ticketTypeNames = new ConcurrentHashMap<>();
+        private final ConcurrentHashMap<UUID, LongAdder> byStaff = new ConcurrentHashMap<>();
+        private final ConcurrentHashMap<UUID, String> staffNames = new ConcurrentHashMap<>();
+        private final AtomicLongArray secondCounts = new AtomicLongArray(WINDOW_SECONDS);
+        private final AtomicLongArray secondStamps = new AtomicLongArray(WINDOW_SECONDS);
+        private final AtomicBoolean dirty = new AtomicBoolean(false);
+        private final CopyOnWriteArrayList<SseEmitter> emitters = new CopyOnWriteArrayList<>();
+        private volatile boolean seeded;
+        private volatile long lastSubscriberAt = System.currentTimeMillis();
+        private volatile long lastPushAt;
+
+        void accept(TicketValidatedEvent validated) {
+            if (!seeded) {
+                synchronized (seedLock) {
+                    if (!seeded) {
+                        beforeSeed.add(validated);
+                        return;
+                    }
+                }
+            }
+            if (!seededTicketIds.contains(validated.ticketId())) {
+                record(validated);
+            }
+        }
+
+        void applySeed(Seed seed) {
+            for (ValidationCountByTicketType row : seed.byTicketType()) {
+                ticketTypeNames.put(row.getTicketTypeId(), row.getTicketTypeName());
+                byTicketType.computeIfAbsent(row.getTicketTypeId(), id -> new LongAdder())
+                        .add(row.getValidatedCount());
+                admitted.add(row.getValidatedCount());
+            }
+            for (ValidationCountByStaff row : seed.byStaff()) {
+                staffNames.put(row.getStaffUserId(), row.getStaffUsername());
+                byStaff.computeIfAbsent(row.getStaffUserId(), id -> new LongAdder())
+                        .add(row.getValidatedCount());
+            }
+
+            List<TicketValidatedEvent> waiting;
+            synchronized (seedLock) {
+                seededTicketIds = seed.seededTicketIds();
+                seeded = true;
+                waiting = new ArrayList<>(beforeSeed);
+                beforeSeed.clear();
+            }
+            for (TicketValidatedEvent validated : waiting) {
+                if (!seededTicketIds.contains(validated.ticketId())) {
+                    record(validated);
+                }
+            }
+            dirty.set(true);
+        }
+
+        private void record(TicketValidatedEvent validated) {
+            admitted.increment();
+
+            if (validated.ticketTypeId() != null) {
+                byTicketType.computeIfAbsent(validated.ticketTypeId(), id -> new LongAdder()).increment();
+                ticketTypeNames.putIfAbsent(validated.ticketTypeId(), validated.ticketTypeName());
+            }
+            byStaff.computeIfAbsent(validated.staffUserId(), id -> new LongAdder()).increment();
+            staffNames.putIfAbsent(validated.staffUserId(), validated.staffUsername());
+
+            long second = System.currentTimeMillis() / 1000;
+            int slot = (int) (second % WINDOW_SECONDS);
+            long stamp = secondStamps.get(slot);
+            if (stamp != second && secondStamps.compareAndSet(slot, stamp, second)) {
+                secondCounts.set(slot, 0);
+            }
+            secondCounts.incrementAndGet(slot);
+
+            dirty.set(true);
+        }
+
+        long admissionsLastMinute() {
+            long nowSecond = System.currentTimeMillis() / 1000;
+            long total = 0;
+            for (int slot = 0; slot < WINDOW_SECONDS; slot++) {
+                if (nowSecond - secondStamps.get(slot) < WINDOW_SECONDS) {
+                    total += secondCounts.get(slot);
+                }
+            }
+            return total;
+        }
+
+        LiveEntryStatsDto snapshot(UUID eventId) {
+            List<TicketTypeAttendanceDto> types = new ArrayList<>(byTicketType.size());
+            byTicketType.forEach((ticketTypeId, count) -> types.add(TicketTypeAttendanceDto.builder()
+                    .ticketTypeId(ticketTypeId)
+                    .ticketTypeName(ticketTypeNames.get(ticketTypeId))
+                    .validatedCount(count.sum())
+                    .build()));
+            types.sort(Comparator.comparing(TicketTypeAttendanceDto::getTicketTypeId));
+
+            List<StaffValidationStatsDto> staff = new ArrayList<>(byStaff.size());
+            byStaff.forEach((staffUserId, count) -> staff.add(StaffValidationStatsDto.builder()
+                    .staffUserId(staffUserId)
+                    .staffUsername(staffNames.get(staffUserId))
+                    .validatedCount(count.sum())
+                    .build()));
+            staff.sort(Comparator.comparingLong(StaffValidationStatsDto::getValidatedCount).reversed());
+
+            return LiveEntryStatsDto.builder()
+                    .eventId(eventId)
+                    .admittedCount(admitted.sum())
+                    .admissionsLastMinute(admissionsLastMinute())
+                    .byTicketType(types)
+                    .byStaff(staff)
+                    .generatedAt(LocalDateTime.now())
+                    .build();
+        }
+    }
+}
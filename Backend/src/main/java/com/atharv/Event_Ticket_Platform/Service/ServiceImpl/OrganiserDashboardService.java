@@ -1,13 +1,21 @@
 package com.atharv.Event_Ticket_Platform.Service.ServiceImpl;
 
+import com.atharv.Event_Ticket_Platform.Domain.DTO.AnalyticDtos.*;
+import com.atharv.Event_Ticket_Platform.Domain.DTO.EventDtos.EventAttendeeDto;
+import com.atharv.Event_Ticket_Platform.Domain.DTO.PageDtos.CursorPageDto;
 import com.atharv.Event_Ticket_Platform.Domain.Entity.*;
 import com.atharv.Event_Ticket_Platform.Domain.Enum.EventStatus;
+import com.atharv.Event_Ticket_Platform.Domain.Projections.EventAttendeeRow;
+import com.atharv.Event_Ticket_Platform.Domain.Projections.OrganiserEventTotals;
+import com.atharv.Event_Ticket_Platform.Domain.Projections.TicketTypeSales;
+import com.atharv.Event_Ticket_Platform.Domain.Projections.UserSummary;
 import com.atharv.Event_Ticket_Platform.Repository.*;
+import com.atharv.Event_Ticket_Platform.util.CursorCodec;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 
-import java.time.LocalDateTime;
 import java.util.*;
 import java.util.stream.Collectors;
 
@@ -17,62 +25,42 @@ import java.util.stream.Collectors;
 public class OrganiserDashboardService {
 
     private final EventRepo eventRepo;
-    private final TicketsRepo ticketsRepo;
+    private final TicketTypeRepo ticketTypeRepo;
     private final UserRepo userRepo;
 
-    public Map<String, Object> getOrganiserOverview(UUID organiserId) {
+    // Overview and event statistics are built from count and sum queries only, three statements each,
+    // so their cost does not grow with the number of events, tickets or attendees
+
+    public OrganiserOverviewDto getOrganiserOverview(UUID organiserId) {
         log.info("Fetching organiser overview for: {}", organiserId);
 
-        User organiser = userRepo.findById(organiserId)
+        UserSummary organiser = userRepo.findSummaryById(organiserId)
                 .orElseThrow(() -> new IllegalStateException("Organiser not found"));
 
-        List<Event> allEvents = organiser.getOrganisedEvents();
-
-        List<Event> publishedEvents = allEvents.stream()
-                .filter(e -> e.getEventStatus() == EventStatus.PUBLISHED)
-                .collect(Collectors.toList());
-
-        List<Event> draftEvents = allEvents.stream()
-                .filter(e -> e.getEventStatus() == EventStatus.DRAFT)
-                .collect(Collectors.toList());
-
-        long totalTicketsSold = 0;
-        double totalRevenue = 0.0;
-        long totalAttendees = 0;
-
-        for (Event event : allEvents) {
-            long ticketsSold = ticketsRepo.countByTicketType_Event_Id(event.getId());
-            totalTicketsSold += ticketsSold;
-
-            List<Ticket> tickets = ticketsRepo.findAllByEventId(event.getId());
-            double eventRevenue = tickets.stream()
-                    .mapToDouble(Ticket::getPrice)
-                    .sum();
-            totalRevenue += eventRevenue;
-
-            totalAttendees += event.getAttendees().size();
-        }
-
-        Map<String, Object> stringObjectMap = Map.ofEntries(
-                Map.entry("organiserId", organiserId),
-                Map.entry("organiserName", organiser.getName()),
-                Map.entry("organiserEmail", organiser.getEmail()),
-                Map.entry("totalEvents", allEvents.size()),
-                Map.entry("publishedEvents", publishedEvents.size()),
-                Map.entry("draftEvents", draftEvents.size()),
-                Map.entry("totalTicketsSold", totalTicketsSold),
-                Map.entry("totalRevenue", totalRevenue),
-                Map.entry("totalAttendees", totalAttendees),
-                Map.entry("averageRevenuePerEvent",
-                        allEvents.isEmpty() ? 0 : totalRevenue / allEvents.size()),
-                Map.entry("averageTicketsPerEvent",
-                        allEvents.isEmpty() ? 0 : (double) totalTicketsSold / allEvents.size())
-        );
-
-        return stringObjectMap;
+        OrganiserEventTotals totals = eventRepo.findTotalsByOrganiserId(
+                organiserId, EventStatus.PUBLISHED, EventStatus.DRAFT);
+        long totalAttendees = eventRepo.countAttendeesByOrganiserId(organiserId);
+
+        long totalEvents = totals.getTotalEvents();
+        long totalTicketsSold = totals.getTicketsSold();
+        double totalRevenue = totals.getRevenue();
+
+        return OrganiserOverviewDto.builder()
+                .organiserId(organiserId)
+                .organiserName(organiser.getName())
+                .organiserEmail(organiser.getEmail())
+                .totalEvents((int) totalEvents)
+                .publishedEvents(totals.getPublishedEvents().intValue())
+                .draftEvents(totals.getDraftEvents().intValue())
+                .totalTicketsSold(totalTicketsSold)
+                .totalRevenue(totalRevenue)
+                .totalAttendees(totalAttendees)
+                .averageRevenuePerEvent(totalEvents == 0 ? 0 : totalRevenue / totalEvents)
+                .averageTicketsPerEvent(totalEvents == 0 ? 0 : (double) totalTicketsSold / totalEvents)
+                .build();
     }
 
-    public Map<String, Object> getEventStatistics(UUID eventId, UUID organiserId) {
+    public EventStatisticsDto getEventStatistics(UUID eventId, UUID organiserId) {
         Event event = eventRepo.findById(eventId)
                 .orElseThrow(() -> new IllegalStateException("Event not found"));
 
@@ -80,55 +68,50 @@ public class OrganiserDashboardService {
             throw new IllegalStateException("You don't have permission to view this event");
         }
 
-        long ticketsSold = ticketsRepo.countByTicketType_Event_Id(eventId);
+        List<TicketTypeSales> sales = ticketTypeRepo.findRolledUpSalesByEventId(eventId);
 
-        List<Ticket> tickets = ticketsRepo.findAllByEventId(eventId);
-        double revenue = tickets.stream()
-                .mapToDouble(Ticket::getPrice)
+        long ticketsSold = sales.stream()
+                .mapToLong(TicketTypeSales::getTicketsSold)
+                .sum();
+        double revenue = sales.stream()
+                .mapToDouble(TicketTypeSales::revenueOrZero)
                 .sum();
 
-        long attendeesCount = event.getAttendees().size();
-
-        List<Map<String, Object>> ticketTypeBreakdown = event.getTicketTypes().stream()
-                .map(ticketType -> {
-                    long sold = ticketType.getTicket().size();
-                    double typeRevenue = ticketType.getTicket().stream()
-                            .mapToDouble(Ticket::getPrice)
-                            .sum();
-
-                    return Map.<String, Object>of(
-                            "ticketTypeId", ticketType.getId(),
-                            "ticketTypeName", ticketType.getName(),
-                            "price", ticketType.getPrice(),
-                            "totalAvailable", ticketType.getTotalAvailable(),
-                            "sold", sold,
-                            "revenue", typeRevenue,
-                            "remaining", ticketType.getTotalAvailable() != null ?
-                                    ticketType.getTotalAvailable() : 0
-                    );
-                })
+        long attendeesCount = eventRepo.countAttendeesByEventId(eventId);
+
+        List<TicketTypeBreakdownDto> ticketTypeBreakdown = sales.stream()
+                .map(ticketType -> TicketTypeBreakdownDto.builder()
+                        .ticketTypeId(ticketType.getTicketTypeId())
+                        .ticketTypeName(ticketType.getTicketTypeName())
+                        .price(ticketType.getPrice())
+                        .totalAvailable(ticketType.getTotalAvailable())
+                        .sold(ticketType.getTicketsSold())
+                        .revenue(ticketType.revenueOrZero())
+                        .remaining(ticketType.getTotalAvailable() != null ? ticketType.getTotalAvailable() : 0)
+                        .build())
                 .collect(Collectors.toList());
 
-        return Map.ofEntries(
-                Map.entry("eventId", event.getId()),
-                Map.entry("eventName", event.getName()),
-                Map.entry("eventStatus", event.getEventStatus().name()),
-                Map.entry("ticketsSold", ticketsSold),
-                Map.entry("revenue", revenue),
-                Map.entry("attendeesCount", attendeesCount),
-                Map.entry(
-                        "attendanceRate",
-                        ticketsSold > 0 ? (double) attendeesCount / ticketsSold * 100 : 0
-                ),
-                Map.entry("ticketTypeBreakdown", ticketTypeBreakdown),
-                Map.entry("startTime", event.getStartTime()),
-                Map.entry("endTime", event.getEndTime()),
-                Map.entry("venue", event.getVenue())
-        );
-
+        return EventStatisticsDto.builder()
+                .eventId(event.getId())
+                .eventName(event.getName())
+                .eventStatus(event.getEventStatus().name())
+                .ticketsSold(ticketsSold)
+                .revenue(revenue)
+                .attendeesCount(attendeesCount)
+                .attendanceRate(ticketsSold > 0 ? (double) attendeesCount / ticketsSold * 100 : 0)
+                .ticketTypeBreakdown(ticketTypeBreakdown)
+                .startTime(event.getStartTime())
+                .endTime(event.getEndTime())
+                .venue(event.getVenue())
+                .build();
     }
 
-    public List<Map<String, Object>> getEventAttendees(UUID eventId, UUID organiserId) {
+    public CursorPageDto<EventAttendeeDto> getEventAttendees(
+            UUID eventId,
+            UUID organiserId,
+            CursorCodec.Cursor cursor,
+            int size
+    ) {
         log.info("Finding event for the {} id ",eventId);
         Event event = eventRepo.findById(eventId)
                 .orElseThrow(() -> new IllegalStateException("Event not found"));
@@ -137,46 +120,49 @@ public class OrganiserDashboardService {
             throw new IllegalStateException("You don't have permission to view this event");
         }
 
-        return event.getAttendees().stream()
-                .map(attendee -> Map.<String, Object>of(
-                        "userId", attendee.getId(),
-                        "name", attendee.getName(),
-                        "email", attendee.getEmail()
-                ))
-                .collect(Collectors.toList());
+        Slice<EventAttendeeRow> attendees = eventRepo.findAttendeesBefore(
+                eventId, cursor.sortKey(), cursor.uuidId(), CursorCodec.pageRequest(size));
+
+        return CursorCodec.page(attendees, this::toAttendeeDto,
+                EventAttendeeRow::getUserCreatedAt, EventAttendeeRow::getUserId);
     }
 
-    public Map<String, Object> getRevenueTrend(UUID organiserId) {
-        User organiser = userRepo.findById(organiserId)
-                .orElseThrow(() -> new IllegalStateException("Organiser not found"));
+    public EventRevenueTrendDto getRevenueTrend(UUID organiserId) {
+        if (!userRepo.existsById(organiserId)) {
+            throw new IllegalStateException("Organiser not found");
+        }
+
+        Map<UUID, List<TicketTypeSales>> salesByEvent = ticketTypeRepo
+                .findRolledUpSalesByOrganiserId(organiserId).stream()
+                .collect(Collectors.groupingBy(TicketTypeSales::getEventId));
 
-        List<Map<String, Object>> eventRevenues = organiser.getOrganisedEvents().stream()
+        // Drafts may have no start time yet; they sort after every scheduled event
+        List<EventRevenueDto> eventRevenues = eventRepo.findAllByOrganiserId(organiserId).stream()
+                .sorted(Comparator.comparing(Event::getStartTime, Comparator.nullsLast(Comparator.naturalOrder())))
                 .map(event -> {
-                    List<Ticket> tickets = ticketsRepo.findAllByEventId(event.getId());
-                    double revenue = tickets.stream()
-                            .mapToDouble(Ticket::getPrice)
-                            .sum();
-
-                    return Map.<String, Object>of(
-                            "eventId", event.getId(),
-                            "eventName", event.getName(),
-                            "eventDate", event.getStartTime(),
-                            "revenue", revenue,
-                            "ticketsSold", tickets.size()
-                    );
+                    List<TicketTypeSales> sales = salesByEvent.getOrDefault(event.getId(), List.of());
+                    return EventRevenueDto.builder()
+                            .eventId(event.getId())
+                            .eventName(event.getName())
+                            .eventDate(event.getStartTime())
+                            .revenue(sales.stream().mapToDouble(TicketTypeSales::revenueOrZero).sum())
+                            .ticketsSold(sales.stream().mapToLong(TicketTypeSales::getTicketsSold).sum())
+                            .build();
                 })
-                .sorted((a, b) -> ((LocalDateTime) a.get("eventDate"))
-                        .compareTo((LocalDateTime) b.get("eventDate")))
                 .collect(Collectors.toList());
 
-        double totalRevenue = eventRevenues.stream()
-                .mapToDouble(e -> (Double) e.get("revenue"))
-                .sum();
+        return EventRevenueTrendDto.builder()
+                .totalRevenue(eventRevenues.stream().mapToDouble(EventRevenueDto::getRevenue).sum())
+                .eventCount(eventRevenues.size())
+                .revenueByEvent(eventRevenues)
+                .build();
+    }
 
-        return Map.of(
-                "totalRevenue", totalRevenue,
-                "eventCount", eventRevenues.size(),
-                "revenueByEvent", eventRevenues
-        );
+    private EventAttendeeDto toAttendeeDto(EventAttendeeRow row) {
+        return EventAttendeeDto.builder()
+                .userId(row.getUserId())
+                .name(row.getName())
+                .email(row.getEmail())
+                .build();
     }
 }
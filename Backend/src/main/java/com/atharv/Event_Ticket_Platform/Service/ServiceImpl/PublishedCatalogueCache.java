@@ -0,0 +1,104 @@
+package com.atharv.Event_Ticket_Platform.Service.ServiceImpl;
+
+import com.atharv.Event_Ticket_Platform.Domain.Entity.Event;
+import com.atharv.Event_Ticket_Platform.Domain.Events.EventUpdatedEvent;
+import com.atharv.Event_Ticket_Platform.Domain.Events.TicketCancelledEvent;
+import com.atharv.Event_Ticket_Platform.Domain.Events.TicketPurchasedEvent;
+import com.atharv.Event_Ticket_Platform.Domain.Mapper.EventMapper;
+import com.atharv.Event_Ticket_Platform.Service.ServiceInterface.EventService;
+import com.atharv.Event_Ticket_Platform.util.CursorCodec;
+import com.atharv.Event_Ticket_Platform.util.SerializedResponseCache;
+import com.atharv.Event_Ticket_Platform.util.SerializedResponseCache.SerializedResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+@Service
+@Slf4j
+public class PublishedCatalogueCache {
+
+    private final EventService eventService;
+    private final EventMapper eventMapper;
+    private final SerializedResponseCache<CatalogueKey> pages;
+    private final long availabilityRefreshMillis;
+
+    // Any edit to an event moves the whole catalogue to a new generation; stale pages are then
+    // rebuilt lazily, once each, by the next request that asks for them
+    private final AtomicLong generation = new AtomicLong();
+
+    // Ticket availability changes with every sale, so it is folded into the pages at most once per
+    // refresh interval instead of on each purchase; purchases always check the live count anyway
+    private final AtomicLong availabilityEpoch = new AtomicLong();
+    private final AtomicBoolean availabilityChanged = new AtomicBoolean();
+    private volatile long availabilityEpochStartedAt = System.currentTimeMillis();
+
+    public PublishedCatalogueCache(
+            EventService eventService,
+            EventMapper eventMapper,
+            ObjectMapper objectMapper,
+            @Value("${catalogue-cache.max-entries:2000}") int maxEntries,
+            @Value("${catalogue-cache.availability-refresh-ms:5000}") long availabilityRefreshMillis
+    ) {
+        this.eventService = eventService;
+        this.eventMapper = eventMapper;
+        this.pages = new SerializedResponseCache<>(objectMapper, maxEntries);
+        this.availabilityRefreshMillis = availabilityRefreshMillis;
+    }
+
+    public SerializedResponse getPublishedEvents(Pageable pageable) {
+        CatalogueVersion version = currentVersion();
+        CatalogueKey key = new CatalogueKey(null, pageable.getPageNumber(), pageable.getPageSize(),
+                pageable.getSort().toString());
+        return pages.get(key, version,
+                () -> eventService.listPublishedEvents(pageable).map(eventMapper::toPublishEventDto));
+    }
+
+    public SerializedResponse getPublishedEventsByCursor(String cursor, int size) {
+        CatalogueVersion version = currentVersion();
+        CursorCodec.Cursor position = CursorCodec.decode(cursor);
+        CatalogueKey key = new CatalogueKey(cursor, 0, size, null);
+        return pages.get(key, version,
+                () -> CursorCodec.page(eventService.listPublishedEventsByCursor(position, size),
+                        eventMapper::toPublishEventDto, Event::getCreatedAt, Event::getId));
+    }
+
+    // Create, update, publish and delete all publish EventUpdatedEvent; deletion runs outside a transaction
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onEventUpdated(EventUpdatedEvent updated) {
+        long next = generation.incrementAndGet();
+        log.debug("Published catalogue moved to generation {}", next);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onTicketPurchased(TicketPurchasedEvent purchased) {
+        availabilityChanged.set(true);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onTicketCancelled(TicketCancelledEvent cancelled) {
+        availabilityChanged.set(true);
+    }
+
+    private CatalogueVersion currentVersion() {
+        long now = System.currentTimeMillis();
+        if (now - availabilityEpochStartedAt >= availabilityRefreshMillis
+                && availabilityChanged.compareAndSet(true, false)) {
+            availabilityEpochStartedAt = now;
+            availabilityEpoch.incrementAndGet();
+        }
+        return new CatalogueVersion(generation.get(), availabilityEpoch.get());
+    }
+
+    private record CatalogueVersion(long generation, long availabilityEpoch) {
+    }
+
+    private record CatalogueKey(String cursor, int page, int size, String sort) {
+    }
+}
@@ -0,0 +1,184 @@
+package com.atharv.Event_Ticket_Platform.Service.ServiceImpl;
+
+import com.atharv.Event_Ticket_Platform.Domain.DTO.AnalyticDtos.RevenueTrendDto;
+import com.atharv.Event_Ticket_Platform.Domain.DTO.AnalyticDtos.RevenueTrendPointDto;
+import com.atharv.Event_Ticket_Platform.Domain.Entity.OrganiserRevenueBucket;
+import com.atharv.Event_Ticket_Platform.Domain.Enum.RevenueGranularity;
+import com.atharv.Event_Ticket_Platform.Domain.Events.TicketCancelledEvent;
+import com.atharv.Event_Ticket_Platform.Domain.Events.TicketPurchasedEvent;
+import com.atharv.Event_Ticket_Platform.Repository.OrganiserRevenueBucketRepo;
+import jakarta.transaction.Transactional;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.DayOfWeek;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.time.temporal.TemporalAdjusters;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class RevenueLedgerService {
+
+    private static final int MAX_POINTS = 2_000;
+    private static final int DEFAULT_RANGE_DAYS = 30;
+
+    private final OrganiserRevenueBucketRepo organiserRevenueBucketRepo;
+    private final TransactionTemplate transactionTemplate;
+
+    // Like the sales rollups, the ledger is written inside the purchasing/cancelling transaction
+    // so it can never disagree with the tickets it summarises
+
+    @EventListener
+    @Transactional
+    public void onTicketPurchased(TicketPurchasedEvent purchased) {
+        organiserRevenueBucketRepo.applyDelta(purchased.eventId(), occurredAt(purchased.purchasedAt()),
+                1, purchased.price(), 0, 0);
+    }
+
+    @EventListener
+    @Transactional
+    public void onTicketCancelled(TicketCancelledEvent cancelled) {
+        organiserRevenueBucketRepo.applyDelta(cancelled.eventId(), occurredAt(cancelled.cancelledAt()),
+                0, 0, 1, cancelled.price());
+    }
+
+    public RevenueTrendDto getRevenueTrend(
+            UUID organiserId,
+            LocalDateTime from,
+            LocalDateTime to,
+            RevenueGranularity granularity
+    ) {
+        LocalDateTime rangeEnd = to != null ? to : LocalDateTime.now();
+        LocalDateTime rangeStart = from != null ? from : rangeEnd.minusDays(DEFAULT_RANGE_DAYS);
+        if (!rangeStart.isBefore(rangeEnd)) {
+            throw new IllegalStateException("'from' must be before 'to'");
+        }
+
+        LocalDateTime firstBucket = truncate(rangeStart, granularity);
+        LocalDateTime endBucket = truncate(rangeEnd, granularity);
+        if (endBucket.isBefore(rangeEnd)) {
+            endBucket = next(endBucket, granularity);
+        }
+
+        long pointCount = countBuckets(firstBucket, endBucket, granularity);
+        if (pointCount > MAX_POINTS) {
+            throw new IllegalStateException(String.format(
+                    "Range covers %d buckets; use a coarser granularity or a shorter range (max %d)",
+                    pointCount, MAX_POINTS));
+        }
+
+        Map<LocalDateTime, RevenueTrendPointDto> points = new LinkedHashMap<>();
+        for (LocalDateTime bucket = firstBucket; bucket.isBefore(endBucket); bucket = next(bucket, granularity)) {
+            points.put(bucket, RevenueTrendPointDto.builder().bucketStart(bucket).build());
+        }
+
+        // Hourly charts read HOUR rows directly; everything coarser folds DAY rows together
+        RevenueGranularity stored = granularity == RevenueGranularity.HOUR
+                ? RevenueGranularity.HOUR : RevenueGranularity.DAY;
+        List<OrganiserRevenueBucket> rows = organiserRevenueBucketRepo.findRange(
+                organiserId, stored, firstBucket, endBucket);
+
+        for (OrganiserRevenueBucket row : rows) {
+            RevenueTrendPointDto point = points.get(truncate(row.getBucketStart(), granularity));
+            if (point == null) {
+                continue;
+            }
+            point.setTicketsSold(point.getTicketsSold() + row.getTicketsSold());
+            point.setTicketsCancelled(point.getTicketsCancelled() + row.getTicketsCancelled());
+            point.setGrossRevenue(point.getGrossRevenue() + row.getGrossRevenue());
+            point.setRefundedRevenue(point.getRefundedRevenue() + row.getRefundedRevenue());
+        }
+
+        long totalSold = 0;
+        long totalCancelled = 0;
+        double totalGross = 0;
+        double totalRefunded = 0;
+        for (RevenueTrendPointDto point : points.values()) {
+            point.setNetRevenue(point.getGrossRevenue() - point.getRefundedRevenue());
+            totalSold += point.getTicketsSold();
+            totalCancelled += point.getTicketsCancelled();
+            totalGross += point.getGrossRevenue();
+            totalRefunded += point.getRefundedRevenue();
+        }
+
+        return RevenueTrendDto.builder()
+                .organiserId(organiserId)
+                .granularity(granularity)
+                .from(firstBucket)
+                .to(endBucket)
+                .totalTicketsSold(totalSold)
+                .totalTicketsCancelled(totalCancelled)
+                .totalGrossRevenue(totalGross)
+                .totalRefundedRevenue(totalRefunded)
+                .totalNetRevenue(totalGross - totalRefunded)
+                .points(new ArrayList<>(points.values()))
+                .build();
+    }
+
+    public void rebuildOrganiser(UUID organiserId) {
+        transactionTemplate.executeWithoutResult(status -> {
+            organiserRevenueBucketRepo.deleteByOrganiserId(organiserId);
+            int rows = organiserRevenueBucketRepo.rebuildFromTickets(organiserId);
+            log.info("Rebuilt revenue ledger for organiser {}: {} buckets", organiserId, rows);
+        });
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfillMissingLedgers() {
+        List<UUID> missing = organiserRevenueBucketRepo.findOrganiserIdsWithoutLedger();
+        if (missing.isEmpty()) {
+            return;
+        }
+
+        log.info("Backfilling revenue ledgers for {} organisers", missing.size());
+        for (UUID organiserId : missing) {
+            try {
+                rebuildOrganiser(organiserId);
+            } catch (Exception e) {
+                log.error("Failed to backfill revenue ledger for organiser {}: {}", organiserId, e.getMessage());
+            }
+        }
+    }
+
+    private static LocalDateTime occurredAt(LocalDateTime at) {
+        return at != null ? at : LocalDateTime.now();
+    }
+
+    private static LocalDateTime truncate(LocalDateTime at, RevenueGranularity granularity) {
+        return switch (granularity) {
+            case HOUR -> at.truncatedTo(ChronoUnit.HOURS);
+            case DAY -> at.truncatedTo(ChronoUnit.DAYS);
+            case WEEK -> at.truncatedTo(ChronoUnit.DAYS).with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+            case MONTH -> at.truncatedTo(ChronoUnit.DAYS).withDayOfMonth(1);
+        };
+    }
+
+    private static LocalDateTime next(LocalDateTime bucket, RevenueGranularity granularity) {
+        return switch (granularity) {
+            case HOUR -> bucket.plusHours(1);
+            case DAY -> bucket.plusDays(1);
+            case WEEK -> bucket.plusWeeks(1);
+            case MONTH -> bucket.plusMonths(1);
+        };
+    }
+
+    private static long countBuckets(LocalDateTime from, LocalDateTime to, RevenueGranularity granularity) {
+        return switch (granularity) {
+            case HOUR -> ChronoUnit.HOURS.between(from, to);
+            case DAY -> ChronoUnit.DAYS.between(from, to);
+            case WEEK -> ChronoUnit.WEEKS.between(from, to);
+            case MONTH -> ChronoUnit.MONTHS.between(from, to);
+        };
+    }
+}
@@ -0,0 +1,189 @@
+package com.atharv.Event_Ticket_Platform.Service.ServiceImpl;
+
+import com.atharv.Event_Ticket_Platform.Domain.DTO.AnalyticDtos.RollupVerificationDto;
+import com.atharv.Event_Ticket_Platform.Domain.Entity.Event;
+import com.atharv.Event_Ticket_Platform.Domain.Entity.TicketTypeRollup;
+import com.atharv.Event_Ticket_Platform.Domain.Enum.TicketValidationStatus;
+import com.atharv.Event_Ticket_Platform.Domain.Events.TicketCancelledEvent;
+import com.atharv.Event_Ticket_Platform.Domain.Events.TicketPurchasedEvent;
+import com.atharv.Event_Ticket_Platform.Domain.Events.TicketValidatedEvent;
+import com.atharv.Event_Ticket_Platform.Domain.Projections.TicketTypeSales;
+import com.atharv.Event_Ticket_Platform.Repository.EventRepo;
+import com.atharv.Event_Ticket_Platform.Repository.EventSalesRollupRepo;
+import com.atharv.Event_Ticket_Platform.Repository.TicketTypeRepo;
+import com.atharv.Event_Ticket_Platform.Repository.TicketTypeRollupRepo;
+import jakarta.transaction.Transactional;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class SalesRollupService {
+
+    private static final double REVENUE_TOLERANCE = 0.005;
+
+    private final EventRepo eventRepo;
+    private final TicketTypeRepo ticketTypeRepo;
+    private final EventSalesRollupRepo eventSalesRollupRepo;
+    private final TicketTypeRollupRepo ticketTypeRollupRepo;
+    private final TransactionTemplate transactionTemplate;
+
+    // These listeners run synchronously inside the purchasing/cancelling/validating transaction,
+    // so a rollup delta commits or rolls back together with the change it describes.
+    // Every writer touches the event row before the ticket type row, which keeps lock order consistent.
+
+    @EventListener
+    @Transactional
+    public void onTicketPurchased(TicketPurchasedEvent purchased) {
+        eventSalesRollupRepo.applyDelta(purchased.eventId(), 1, purchased.price(), 0, 0, 0);
+        ticketTypeRollupRepo.applyDelta(purchased.ticketTypeId(), purchased.eventId(),
+                1, purchased.price(), 0, 0, 0);
+    }
+
+    @EventListener
+    @Transactional
+    public void onTicketCancelled(TicketCancelledEvent cancelled) {
+        eventSalesRollupRepo.applyDelta(cancelled.eventId(), 0, 0, 1, cancelled.price(), 0);
+        ticketTypeRollupRepo.applyDelta(cancelled.ticketTypeId(), cancelled.eventId(),
+                0, 0, 1, cancelled.price(), 0);
+    }
+
+    @EventListener
+    @Transactional
+    public void onTicketValidated(TicketValidatedEvent validated) {
+        eventSalesRollupRepo.applyDelta(validated.eventId(), 0, 0, 0, 0, 1);
+        if (validated.ticketTypeId() != null) {
+            ticketTypeRollupRepo.applyDelta(validated.ticketTypeId(), validated.eventId(), 0, 0, 0, 0, 1);
+        }
+    }
+
+    public RollupVerificationDto rebuildEvent(UUID eventId, UUID organiserId) {
+        Event event = eventRepo.findById(eventId)
+                .orElseThrow(() -> new IllegalStateException("Event not found"));
+
+        if (!event.getOrganiser().getId().equals(organiserId)) {
+            throw new IllegalStateException("You don't have permission to view this event");
+        }
+
+        return rebuildEvent(eventId);
+    }
+
+    public RollupVerificationDto rebuildEvent(UUID eventId) {
+        return transactionTemplate.execute(status -> {
+            // A zero delta creates the event row if needed and holds its lock until commit, so
+            // concurrent purchases wait here instead of racing the recount below
+            eventSalesRollupRepo.applyDelta(eventId, 0, 0, 0, 0, 0);
+
+            List<TicketTypeSales> actual = ticketTypeRepo.findSalesByEventId(eventId, TicketValidationStatus.VALID);
+            Map<Integer, TicketTypeRollup> stored = ticketTypeRollupRepo.findByEventId(eventId).stream()
+                    .collect(Collectors.toMap(TicketTypeRollup::getTicketTypeId, Function.identity()));
+
+            long sold = 0;
+            double revenue = 0;
+            long cancelled = 0;
+            double cancelledRevenue = 0;
+            long validated = 0;
+            int corrected = 0;
+
+            for (TicketTypeSales sales : actual) {
+                sold += sales.getTicketsSold();
+                revenue += sales.revenueOrZero();
+                cancelled += sales.ticketsCancelledOrZero();
+                cancelledRevenue += sales.cancelledRevenueOrZero();
+                validated += sales.getValidatedCount();
+
+                if (!matches(stored.get(sales.getTicketTypeId()), sales)) {
+                    corrected++;
+                    ticketTypeRollupRepo.overwrite(sales.getTicketTypeId(), eventId,
+                            sales.getTicketsSold(), sales.revenueOrZero(),
+                            sales.ticketsCancelledOrZero(), sales.cancelledRevenueOrZero(),
+                            sales.getValidatedCount());
+                }
+            }
+
+            List<Integer> liveTypeIds = actual.stream().map(TicketTypeSales::getTicketTypeId).toList();
+            int staleRemoved = liveTypeIds.isEmpty()
+                    ? ticketTypeRollupRepo.deleteByEventId(eventId)
+                    : ticketTypeRollupRepo.deleteStaleForEvent(eventId, liveTypeIds);
+
+            eventSalesRollupRepo.overwrite(eventId, sold, revenue, cancelled, cancelledRevenue, validated);
+
+            if (corrected > 0 || staleRemoved > 0) {
+                log.warn("Sales rollup for event {} was out of date: {} ticket types corrected, {} stale rows removed",
+                        eventId, corrected, staleRemoved);
+            }
+
+            return RollupVerificationDto.builder()
+                    .eventId(eventId)
+                    .consistent(corrected == 0 && staleRemoved == 0)
+                    .ticketTypesChecked(actual.size())
+                    .ticketTypesCorrected(corrected)
+                    .staleRowsRemoved(staleRemoved)
+                    .verifiedAt(LocalDateTime.now())
+                    .build();
+        });
+    }
+
+    @Scheduled(cron = "${sales-rollup.verify-cron:0 30 3 * * *}")
+    public void verifyAll() {
+        List<UUID> eventIds = eventRepo.findAllIds();
+        log.info("Verifying sales rollups for {} events", eventIds.size());
+
+        int inconsistent = 0;
+        for (UUID eventId : eventIds) {
+            try {
+                if (!rebuildEvent(eventId).isConsistent()) {
+                    inconsistent++;
+                }
+            } catch (Exception e) {
+                log.error("Failed to verify sales rollup for event {}: {}", eventId, e.getMessage());
+            }
+        }
+
+        transactionTemplate.executeWithoutResult(status -> {
+            ticketTypeRollupRepo.deleteOrphans();
+            eventSalesRollupRepo.deleteOrphans();
+        });
+
+        log.info("Sales rollup verification finished: {} of {} events corrected", inconsistent, eventIds.size());
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfillMissingRollups() {
+        List<UUID> missing = eventRepo.findIdsWithoutSalesRollup();
+        if (missing.isEmpty()) {
+            return;
+        }
+
+        log.info("Backfilling sales rollups for {} events", missing.size());
+        for (UUID eventId : missing) {
+            try {
+                rebuildEvent(eventId);
+            } catch (Exception e) {
+                log.error("Failed to backfill sales rollup for event {}: {}", eventId, e.getMessage());
+            }
+        }
+    }
+
+    private boolean matches(TicketTypeRollup rollup, TicketTypeSales sales) {
+        return rollup != null
+                && rollup.getTicketsSold() == sales.getTicketsSold()
+                && rollup.getTicketsCancelled() == sales.ticketsCancelledOrZero()
+                && rollup.getValidatedCount() == sales.getValidatedCount()
+                && Math.abs(rollup.getRevenue() - sales.revenueOrZero()) < REVENUE_TOLERANCE
+                && Math.abs(rollup.getCancelledRevenue() - sales.cancelledRevenueOrZero()) < REVENUE_TOLERANCE;
+    }
+}
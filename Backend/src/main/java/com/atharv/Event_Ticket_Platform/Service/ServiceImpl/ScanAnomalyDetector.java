@@ -0,0 +1,281 @@
+package com.atharv.Event_Ticket_Platform.Service.ServiceImpl;
+
+import com.atharv.Event_Ticket_Platform.Domain.DTO.TicketValidationDtos.ScanAnomalyDto;
+import com.atharv.Event_Ticket_Platform.Domain.Entity.Event;
+import com.atharv.Event_Ticket_Platform.Domain.Enum.ScanAnomalyType;
+import com.atharv.Event_Ticket_Platform.Domain.Enum.ScanOutcome;
+import com.atharv.Event_Ticket_Platform.Repository.EventRepo;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ScanAnomalyDetector {
+
+    private static final int GATE_HISTORY = 8;
+    private static final int MAX_TRACKED_KEYS = 200_000;
+    private static final int MAX_ANOMALIES_PER_EVENT = 200;
+
+    private static final int FLAG_MULTI_GATE = 1;
+    private static final int FLAG_REPEATED = 2;
+
+    private final EventRepo eventRepo;
+
+    @Value("${scan-anomaly.window-seconds:30}")
+    private long windowSeconds;
+
+    @Value("${scan-anomaly.repeat-threshold:3}")
+    private int repeatThreshold;
+
+    @Value("${scan-anomaly.burst-threshold:5}")
+    private int burstThreshold;
+
+    private final ConcurrentHashMap<String, AttemptWindow> codeWindows = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<UUID, AttemptWindow> ticketWindows = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<UUID, BurstWindow> staffInvalidWindows = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<UUID, ArrayDeque<ScanAnomalyDto>> anomaliesByEvent = new ConcurrentHashMap<>();
+
+    public void recordScan(UUID eventId, UUID staffUserId, String publicCode, UUID ticketId, ScanOutcome outcome) {
+        long now = System.currentTimeMillis();
+        long windowMillis = windowSeconds * 1000;
+        boolean rejection = outcome.isRejection();
+
+        if (publicCode != null) {
+            AttemptWindow window = attemptWindow(codeWindows, publicCode);
+            if (window != null) {
+                int flags = window.record(now, windowMillis, staffUserId, rejection, repeatThreshold);
+                if (flags != 0) {
+                    report(flags, window, eventId, publicCode, null, now, windowMillis);
+                }
+            }
+        }
+
+        if (ticketId != null) {
+            AttemptWindow window = attemptWindow(ticketWindows, ticketId);
+            if (window != null) {
+                // Repeated rejections are already reported per code; per ticket we only look for multiple gates
+                int flags = window.record(now, windowMillis, staffUserId, rejection, Integer.MAX_VALUE);
+                if (flags != 0) {
+                    report(flags, window, eventId, publicCode, ticketId, now, windowMillis);
+                }
+            }
+        }
+
+        if (outcome.isInvalidCode()) {
+            BurstWindow burst = staffInvalidWindows.get(staffUserId);
+            if (burst == null) {
+                burst = staffInvalidWindows.computeIfAbsent(staffUserId, id -> new BurstWindow(burstThreshold));
+            }
+            if (burst.record(now, windowMillis)) {
+                addAnomaly(eventId, ScanAnomalyDto.builder()
+                        .type(ScanAnomalyType.INVALID_CODE_BURST)
+                        .eventId(eventId)
+                        .staffUserIds(List.of(staffUserId))
+                        .attemptCount(burstThreshold)
+                        .windowSeconds(windowSeconds)
+                        .detectedAt(LocalDateTime.now())
+                        .description(String.format("%d invalid codes scanned by one device within %d seconds",
+                                burstThreshold, windowSeconds))
+                        .build());
+            }
+        }
+    }
+
+    public List<ScanAnomalyDto> getAnomalies(UUID eventId, UUID organiserId) {
+        Event event = eventRepo.findById(eventId)
+                .orElseThrow(() -> new IllegalStateException("Event not found"));
+
+        if (!event.getOrganiser().getId().equals(organiserId)) {
+            throw new IllegalStateException("You don't have permission to view this event");
+        }
+
+        ArrayDeque<ScanAnomalyDto> anomalies = anomaliesByEvent.get(eventId);
+        if (anomalies == null) {
+            return List.of();
+        }
+        synchronized (anomalies) {
+            return new ArrayList<>(anomalies);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${scan-anomaly.sweep-interval-ms:60000}")
+    public void evictIdleWindows() {
+        long now = System.currentTimeMillis();
+        long windowMillis = windowSeconds * 1000;
+
+        codeWindows.values().removeIf(window -> now - window.lastSeenAt > windowMillis);
+        ticketWindows.values().removeIf(window -> now - window.lastSeenAt > windowMillis);
+        staffInvalidWindows.values().removeIf(window -> now - window.lastSeenAt > windowMillis);
+    }
+
+    private <K> AttemptWindow attemptWindow(ConcurrentHashMap<K, AttemptWindow> windows, K key) {
+        AttemptWindow window = windows.get(key);
+        if (window == null) {
+            if (windows.size() >= MAX_TRACKED_KEYS) {
+                return null;
+            }
+            window = windows.computeIfAbsent(key, k -> new AttemptWindow());
+        }
+        return window;
+    }
+
+    private void report(
+            int flags,
+            AttemptWindow window,
+            UUID eventId,
+            String publicCode,
+            UUID ticketId,
+            long now,
+            long windowMillis
+    ) {
+        String subject = ticketId != null ? "Ticket " + ticketId : "Code " + publicCode;
+
+        if ((flags & FLAG_MULTI_GATE) != 0) {
+            List<UUID> gates = window.staffWithin(now, windowMillis);
+            addAnomaly(eventId, ScanAnomalyDto.builder()
+                    .type(ScanAnomalyType.MULTI_GATE_ATTEMPT)
+                    .eventId(eventId)
+                    .publicCode(publicCode)
+                    .ticketId(ticketId)
+                    .staffUserIds(gates)
+                    .attemptCount(window.attemptsWithin(now, windowMillis))
+                    .windowSeconds(windowSeconds)
+                    .detectedAt(LocalDateTime.now())
+                    .description(String.format("%s scanned at %d gates within %d seconds",
+                            subject, gates.size(), windowSeconds))
+                    .build());
+        }
+
+        if ((flags & FLAG_REPEATED) != 0) {
+            addAnomaly(eventId, ScanAnomalyDto.builder()
+                    .type(ScanAnomalyType.REPEATED_REJECTION)
+                    .eventId(eventId)
+                    .publicCode(publicCode)
+                    .ticketId(ticketId)
+                    .staffUserIds(window.staffWithin(now, windowMillis))
+                    .attemptCount(window.attemptsWithin(now, windowMillis))
+                    .windowSeconds(windowSeconds)
+                    .detectedAt(LocalDateTime.now())
+                    .description(String.format("%s rejected repeatedly within %d seconds", subject, windowSeconds))
+                    .build());
+        }
+    }
+
+    private void addAnomaly(UUID eventId, ScanAnomalyDto anomaly) {
+        log.warn("Scan anomaly {} for event {}: {}", anomaly.getType(), eventId, anomaly.getDescription());
+
+        ArrayDeque<ScanAnomalyDto> anomalies = anomaliesByEvent.computeIfAbsent(eventId, id -> new ArrayDeque<>());
+        synchronized (anomalies) {
+            anomalies.addFirst(anomaly);
+            while (anomalies.size() > MAX_ANOMALIES_PER_EVENT) {
+                anomalies.pollLast();
+            }
+        }
+    }
+
+    private static final class AttemptWindow {
+        private final long[] times = new long[GATE_HISTORY];
+        private final UUID[] staff = new UUID[GATE_HISTORY];
+        private final boolean[] rejected = new boolean[GATE_HISTORY];
+        private int next;
+        private long multiGateFlaggedAt;
+        private long repeatFlaggedAt;
+        private volatile long lastSeenAt;
+
+        synchronized int record(long now, long windowMillis, UUID staffUserId, boolean rejection, int repeatThreshold) {
+            times[next] = now;
+            staff[next] = staffUserId;
+            rejected[next] = rejection;
+            next = (next + 1) % GATE_HISTORY;
+            lastSeenAt = now;
+
+            int rejections = 0;
+            boolean multiGate = false;
+            UUID firstGate = null;
+            for (int i = 0; i < GATE_HISTORY; i++) {
+                if (staff[i] == null || now - times[i] > windowMillis) {
+                    continue;
+                }
+                if (rejected[i]) {
+                    rejections++;
+                }
+                if (firstGate == null) {
+                    firstGate = staff[i];
+                } else if (!firstGate.equals(staff[i])) {
+                    multiGate = true;
+                }
+            }
+
+            int flags = 0;
+            if (multiGate && rejections > 0 && now - multiGateFlaggedAt > windowMillis) {
+                multiGateFlaggedAt = now;
+                flags |= FLAG_MULTI_GATE;
+            }
+            if (rejections >= Math.min(repeatThreshold, GATE_HISTORY + 1) && now - repeatFlaggedAt > windowMillis) {
+                repeatFlaggedAt = now;
+                flags |= FLAG_REPEATED;
+            }
+            return flags;
+        }
+
+        synchronized List<UUID> staffWithin(long now, long windowMillis) {
+            List<UUID> gates = new ArrayList<>(GATE_HISTORY);
+            for (int i = 0; i < GATE_HISTORY; i++) {
+                if (staff[i] != null && now - times[i] <= windowMillis && !gates.contains(staff[i])) {
+                    gates.add(staff[i]);
+                }
+            }
+            return gates;
+        }
+
+        synchronized int attemptsWithin(long now, long windowMillis) {
+            int attempts = 0;
+            for (int i = 0; i < GATE_HISTORY; i++) {
+                if (staff[i] != null && now - times[i] <= windowMillis) {
+                    attempts++;
+                }
+            }
+            return attempts;
+        }
+    }
+
+    private static final class BurstWindow {
+        private final long[] times;
+        private int next;
+        private int recorded;
+        private long flaggedAt;
+        private volatile long lastSeenAt;
+
+        BurstWindow(int threshold) {
+            this.times = new long[Math.max(1, threshold)];
+        }
+
+        synchronized boolean record(long now, long windowMillis) {
+            times[next] = now;
+            next = (next + 1) % times.length;
+            lastSeenAt = now;
+            if (recorded < times.length) {
+                recorded++;
+            }
+
+            // The slot about to be overwritten holds the oldest of the last `threshold` attempts
+            long oldest = times[next];
+            if (recorded == times.length && now - oldest <= windowMillis && now - flaggedAt > windowMillis) {
+                flaggedAt = now;
+                return true;
+            }
+            return false;
+        }
+    }
+}
@@ -0,0 +1,271 @@
+package com.atharv.Event_Ticket_Platform.Service.ServiceImpl;
+
+import com.atharv.Event_Ticket_Platform.Domain.DTO.TicketValidationDtos.ScanLaneMetricsDto;
+import com.atharv.Event_Ticket_Platform.Domain.DTO.TicketValidationDtos.ScanLaneThroughputDto;
+import com.atharv.Event_Ticket_Platform.Domain.DTO.TicketValidationDtos.ScanPhaseMetricsDto;
+import com.atharv.Event_Ticket_Platform.Domain.Entity.Event;
+import com.atharv.Event_Ticket_Platform.Domain.Entity.Staff;
+import com.atharv.Event_Ticket_Platform.Domain.Enum.ScanOutcome;
+import com.atharv.Event_Ticket_Platform.Domain.Enum.ScanPhase;
+import com.atharv.Event_Ticket_Platform.Domain.Enum.TicketValidationMethod;
+import com.atharv.Event_Ticket_Platform.Repository.EventRepo;
+import com.atharv.Event_Ticket_Platform.Repository.StaffRepo;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ScanMetricsRecorder {
+
+    private static final ScanPhase[] PHASES = ScanPhase.values();
+    private static final ScanOutcome[] OUTCOMES = ScanOutcome.values();
+    private static final TicketValidationMethod[] METHODS = TicketValidationMethod.values();
+
+    // Bucket 0 holds sub-microsecond samples, bucket b holds [2^(b-1), 2^b) microseconds
+    private static final int BUCKETS = 32;
+    private static final int WINDOW_SECONDS = 60;
+    private static final int MAX_LANES = 50_000;
+
+    private final EventRepo eventRepo;
+    private final StaffRepo staffRepo;
+
+    @Value("${scan-metrics.lane-idle-eviction-ms:86400000}")
+    private long laneIdleEvictionMillis;
+
+    private final ConcurrentHashMap<UUID, ScanLane> lanes = new ConcurrentHashMap<>();
+
+    public void record(
+            UUID eventId,
+            UUID staffUserId,
+            TicketValidationMethod method,
+            long lookupNanos,
+            long checksNanos,
+            long persistNanos,
+            long totalNanos,
+            ScanOutcome outcome
+    ) {
+        ScanLane lane = lanes.get(staffUserId);
+        if (lane == null) {
+            if (lanes.size() >= MAX_LANES) {
+                return;
+            }
+            lane = lanes.computeIfAbsent(staffUserId, id -> new ScanLane(eventId, id));
+        }
+
+        MethodMetrics metrics = lane.byMethod[method.ordinal()];
+        metrics.recordPhase(ScanPhase.LOOKUP, lookupNanos);
+        metrics.recordPhase(ScanPhase.CHECKS, checksNanos);
+        metrics.recordPhase(ScanPhase.PERSIST, persistNanos);
+        metrics.recordPhase(ScanPhase.TOTAL, totalNanos);
+        metrics.outcomes.incrementAndGet(outcome.ordinal());
+        metrics.recordThroughput(System.currentTimeMillis() / 1000);
+        lane.lastScanAt = System.currentTimeMillis();
+    }
+
+    public List<ScanLaneMetricsDto> getLaneMetrics(UUID eventId, UUID organiserId) {
+        verifyEventOwnership(eventId, organiserId);
+
+        List<ScanLaneMetricsDto> result = new ArrayList<>();
+        for (ScanLane lane : lanes.values()) {
+            if (!lane.eventId.equals(eventId)) {
+                continue;
+            }
+            for (TicketValidationMethod method : METHODS) {
+                MethodMetrics metrics = lane.byMethod[method.ordinal()];
+                if (metrics.phaseCounts.get(ScanPhase.TOTAL.ordinal()) == 0) {
+                    continue;
+                }
+
+                List<ScanPhaseMetricsDto> phases = new ArrayList<>(PHASES.length);
+                for (ScanPhase phase : PHASES) {
+                    phases.add(metrics.phaseSnapshot(phase));
+                }
+
+                Map<ScanOutcome, Long> outcomes = new EnumMap<>(ScanOutcome.class);
+                for (ScanOutcome outcome : OUTCOMES) {
+                    long count = metrics.outcomes.get(outcome.ordinal());
+                    if (count > 0) {
+                        outcomes.put(outcome, count);
+                    }
+                }
+
+                result.add(ScanLaneMetricsDto.builder()
+                        .eventId(eventId)
+                        .staffUserId(lane.staffUserId)
+                        .method(method)
+                        .phases(phases)
+                        .outcomes(outcomes)
+                        .build());
+            }
+        }
+        return result;
+    }
+
+    public List<ScanLaneThroughputDto> getLaneThroughput(UUID eventId, UUID organiserId) {
+        verifyEventOwnership(eventId, organiserId);
+
+        Map<UUID, String> usernames = new HashMap<>();
+        for (Staff staff : staffRepo.findByCreatedByOrganiserIdAndEventId(organiserId, eventId)) {
+            usernames.put(staff.getStaffUserId(), staff.getUsername());
+        }
+
+        long nowSecond = System.currentTimeMillis() / 1000;
+        List<ScanLaneThroughputDto> result = new ArrayList<>();
+        for (ScanLane lane : lanes.values()) {
+            if (!lane.eventId.equals(eventId)) {
+                continue;
+            }
+            for (TicketValidationMethod method : METHODS) {
+                MethodMetrics metrics = lane.byMethod[method.ordinal()];
+                long total = metrics.phaseCounts.get(ScanPhase.TOTAL.ordinal());
+                if (total == 0) {
+                    continue;
+                }
+
+                long admitted = metrics.outcomes.get(ScanOutcome.ADMITTED.ordinal());
+                ScanPhaseMetricsDto latency = metrics.phaseSnapshot(ScanPhase.TOTAL);
+
+                result.add(ScanLaneThroughputDto.builder()
+                        .staffUserId(lane.staffUserId)
+                        .staffUsername(usernames.get(lane.staffUserId))
+                        .method(method)
+                        .totalScans(total)
+                        .admitted(admitted)
+                        .rejected(total - admitted)
+                        .scansLastMinute(metrics.scansLastMinute(nowSecond))
+                        .avgLatencyMillis(latency.getAvgMillis())
+                        .p95LatencyMillis(latency.getP95Millis())
+                        .build());
+            }
+        }
+        result.sort(Comparator.comparingLong(ScanLaneThroughputDto::getScansLastMinute).reversed());
+        return result;
+    }
+
+    @Scheduled(fixedDelayString = "${scan-metrics.sweep-interval-ms:600000}")
+    public void evictIdleLanes() {
+        long now = System.currentTimeMillis();
+        lanes.values().removeIf(lane -> now - lane.lastScanAt > laneIdleEvictionMillis);
+    }
+
+    private void verifyEventOwnership(UUID eventId, UUID organiserId) {
+        Event event = eventRepo.findById(eventId)
+                .orElseThrow(() -> new IllegalStateException("Event not found"));
+
+        if (!event.getOrganiser().getId().equals(organiserId)) {
+            throw new IllegalStateException("You don't have permission to view this event");
+        }
+    }
+
+    private static double bucketUpperBoundMillis(int bucket) {
+        return (1L << bucket) / 1000.0;
+    }
+
+    private static final class ScanLane {
+        private final UUID eventId;
+        private final UUID staffUserId;
+        private final MethodMetrics[] byMethod = new MethodMetrics[METHODS.length];
+        private volatile long lastScanAt = System.currentTimeMillis();
+
+        ScanLane(UUID eventId, UUID staffUserId) {
+            this.eventId = eventId;
+            this.staffUserId = staffUserId;
+            for (int i = 0; i < byMethod.length; i++) {
+                byMethod[i] = new MethodMetrics();
+            }
+        }
+    }
+
+    private static final class MethodMetrics {
+        private final AtomicLongArray histogram = new AtomicLongArray(PHASES.length * BUCKETS);
+        private final AtomicLongArray phaseCounts = new AtomicLongArray(PHASES.length);
+        private final AtomicLongArray phaseNanos = new AtomicLongArray(PHASES.length);
+        private final AtomicLongArray outcomes = new AtomicLongArray(OUTCOMES.length);
+        private final AtomicLongArray secondCounts = new AtomicLongArray(WINDOW_SECONDS);
+        private final AtomicLongArray secondStamps = new AtomicLongArray(WINDOW_SECONDS);
+
+        void recordPhase(ScanPhase phase, long nanos) {
+            // Negative durations mark phases the scan never reached
+            if (nanos < 0) {
+                return;
+            }
+            int bucket = Math.min(BUCKETS - 1, 64 - Long.numberOfLeadingZeros(nanos / 1000));
+            int p = phase.ordinal();
+            histogram.incrementAndGet(p * BUCKETS + bucket);
+            phaseCounts.incrementAndGet(p);
+            phaseNanos.addAndGet(p, nanos);
+        }
+
+        void recordThroughput(long second) {
+            int slot = (int) (second % WINDOW_SECONDS);
+            long stamp = secondStamps.get(slot);
+            if (stamp != second && secondStamps.compareAndSet(slot, stamp, second)) {
+                secondCounts.set(slot, 0);
+            }
+            secondCounts.incrementAndGet(slot);
+        }
+
+        long scansLastMinute(long nowSecond) {
+            long total = 0;
+            for (int slot = 0; slot < WINDOW_SECONDS; slot++) {
+                if (nowSecond - secondStamps.get(slot) < WINDOW_SECONDS) {
+                    total += secondCounts.get(slot);
+                }
+            }
+            return total;
+        }
+
+        ScanPhaseMetricsDto phaseSnapshot(ScanPhase phase) {
+            int p = phase.ordinal();
+            long[] buckets = new long[BUCKETS];
+            long count = 0;
+            int highest = 0;
+            for (int b = 0; b < BUCKETS; b++) {
+                buckets[b] = histogram.get(p * BUCKETS + b);
+                count += buckets[b];
+                if (buckets[b] > 0) {
+                    highest = b;
+                }
+            }
+
+            return ScanPhaseMetricsDto.builder()
+                    .phase(phase)
+                    .count(count)
+                    .avgMillis(count == 0 ? 0 : phaseNanos.get(p) / 1_000_000.0 / count)
+                    .p50Millis(percentile(buckets, count, 0.50))
+                    .p95Millis(percentile(buckets, count, 0.95))
+                    .p99Millis(percentile(buckets, count, 0.99))
+                    .maxBucketMillis(count == 0 ? 0 : bucketUpperBoundMillis(highest))
+                    .build();
+        }
+
+        private static double percentile(long[] buckets, long count, double quantile) {
+            if (count == 0) {
+                return 0;
+            }
+            long rank = (long) Math.ceil(count * quantile);
+            long seen = 0;
+            for (int b = 0; b < buckets.length; b++) {
+                seen += buckets[b];
+                if (seen >= rank) {
+                    return bucketUpperBoundMillis(b);
+                }
+            }
+            return bucketUpperBoundMillis(buckets.length - 1);
+        }
+    }
+}
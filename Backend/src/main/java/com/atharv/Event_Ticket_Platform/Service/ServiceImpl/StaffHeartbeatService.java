@@ -0,0 +1,68 @@
+package com.atharv.Event_Ticket_Platform.Service.ServiceImpl;
+
+import com.atharv.Event_Ticket_Platform.Domain.Entity.Staff;
+import com.atharv.Event_Ticket_Platform.Repository.StaffRepo;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class StaffHeartbeatService {
+
+    private final StaffRepo staffRepo;
+    private final TransactionTemplate transactionTemplate;
+
+    private final ConcurrentHashMap<UUID, LocalDateTime> pendingHeartbeats = new ConcurrentHashMap<>();
+
+    public void recordHeartbeat(UUID staffUserId) {
+        pendingHeartbeats.put(staffUserId, LocalDateTime.now());
+    }
+
+    public LocalDateTime resolveLastLogin(Staff staff) {
+        LocalDateTime pending = pendingHeartbeats.get(staff.getStaffUserId());
+        LocalDateTime persisted = staff.getLastLogin();
+
+        if (pending == null) {
+            return persisted;
+        }
+        return persisted == null || pending.isAfter(persisted) ? pending : persisted;
+    }
+
+    @Scheduled(fixedDelayString = "${staff.heartbeat.flush-interval-ms:5000}")
+    public void flushHeartbeats() {
+        if (pendingHeartbeats.isEmpty()) {
+            return;
+        }
+
+        Map<UUID, LocalDateTime> batch = new HashMap<>(pendingHeartbeats);
+
+        // Targeted updates rather than load-and-save, so concurrent edits to the staff rows are never overwritten.
+        // The template rather than @Transactional, because the shutdown flush calls this directly and skips the proxy
+        transactionTemplate.executeWithoutResult(status -> staffRepo.advanceLastLogins(batch));
+
+        // Only drop entries that were not refreshed while this batch was being written
+        batch.forEach(pendingHeartbeats::remove);
+
+        log.debug("Flushed {} staff heartbeats", batch.size());
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        try {
+            flushHeartbeats();
+        } catch (Exception e) {
+            log.warn("Failed to flush staff heartbeats on shutdown: {}", e.getMessage());
+        }
+    }
+}
@@ -1,16 +1,21 @@
 package com.atharv.Event_Ticket_Platform.Service.ServiceImpl;
 
+import com.atharv.Event_Ticket_Platform.Domain.DTO.TicketValidationDtos.AttendeeSearchResultDto;
 import com.atharv.Event_Ticket_Platform.Domain.Entity.*;
 import com.atharv.Event_Ticket_Platform.Domain.Enum.*;
+import com.atharv.Event_Ticket_Platform.Domain.Events.TicketValidatedEvent;
 import com.atharv.Event_Ticket_Platform.Exceptions.QrCodeNotFoundException;
+import com.atharv.Event_Ticket_Platform.Exceptions.ScanRejectedException;
 import com.atharv.Event_Ticket_Platform.Repository.*;
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 
 import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Locale;
 import java.util.UUID;
 
@@ -25,54 +30,140 @@ public class StaffTicketValidationService {
     private final StaffRepo staffRepo;
     private final EventRepo eventRepo;
     private final UserRepo userRepo;
+    private final StaffHeartbeatService staffHeartbeatService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ScanAnomalyDetector scanAnomalyDetector;
+    private final ScanMetricsRecorder scanMetricsRecorder;
+    private final AttendeeSearchIndexService attendeeSearchIndexService;
 
     @Value("${qr.expiry.minutes}")
     private long qrExpiryMinutes;
 
     @Transactional
     public TicketValidation validateTicketByStaff(String publicCode, UUID staffUserId) {
+        return validateScan(publicCode, staffUserId, TicketValidationMethod.QR);
+    }
+
+    @Transactional
+    public TicketValidation validateTicketManually(String publicCode, UUID staffUserId) {
+        return validateScan(publicCode, staffUserId, TicketValidationMethod.MANUAL);
+    }
+
+    private TicketValidation validateScan(String publicCode, UUID staffUserId, TicketValidationMethod method) {
         String normalizedCode = normalizePublicCode(publicCode);
-        log.info("Staff {} attempting to validate QR code: {}", staffUserId, normalizedCode);
+        log.info("Staff {} attempting {} validation with QR code: {}", staffUserId, method, normalizedCode);
 
+        long startedAt = System.nanoTime();
         Staff staff = verifyStaffAccess(staffUserId);
 
-        QrCode qr = qrCodeRepo.findByPublicCode(normalizedCode)
-                .orElseThrow(() -> new QrCodeNotFoundException("Invalid QR code"));
-
-        Ticket ticket = qr.getTicket();
-        if (ticket == null) {
-            throw new IllegalStateException("QR code not linked to any ticket");
+        Ticket ticket = null;
+        long lookupNanos = -1;
+        long checksNanos = -1;
+        long phaseStart = startedAt;
+        try {
+            QrCode qr = qrCodeRepo.findByPublicCode(normalizedCode)
+                    .orElseThrow(() -> new QrCodeNotFoundException("Invalid QR code: " + normalizedCode));
+
+            ticket = qr.getTicket();
+            if (ticket == null) {
+                throw new ScanRejectedException(ScanOutcome.UNLINKED_CODE, "QR code not linked to any ticket");
+            }
+
+            long now = System.nanoTime();
+            lookupNanos = now - phaseStart;
+            phaseStart = now;
+
+            verifyTicketBelongsToStaffEvent(ticket, staff);
+            validateQrCode(qr);
+            validateTicketStatus(ticket);
+
+            now = System.nanoTime();
+            checksNanos = now - phaseStart;
+            phaseStart = now;
+
+            TicketValidation validation = performValidation(ticket, qr, staff, method);
+            // Flush so the persist phase covers the database writes, not just staging them in the session
+            ticketValidationRepo.flush();
+
+            recordScan(staff, method, normalizedCode, ticket.getId(),
+                    lookupNanos, checksNanos, System.nanoTime() - phaseStart, startedAt, ScanOutcome.ADMITTED);
+            return validation;
+        } catch (RuntimeException e) {
+            recordScan(staff, method, normalizedCode, ticket != null ? ticket.getId() : null,
+                    lookupNanos, checksNanos, -1, startedAt, outcomeOf(e));
+            throw e;
         }
-
-        verifyTicketBelongsToStaffEvent(ticket, staff);
-        validateQrCode(qr);
-        validateTicketStatus(ticket);
-
-        return performValidation(ticket, qr, staff, TicketValidationMethod.QR);
     }
 
     @Transactional
-    public TicketValidation validateTicketManually(String publicCode, UUID staffUserId) {
-        String normalizedCode = normalizePublicCode(publicCode);
-        log.info("Staff {} attempting MANUAL validation with QR code: {}", staffUserId, normalizedCode);
+    public TicketValidation validateTicketManuallyById(UUID ticketId, UUID staffUserId) {
+        log.info("Staff {} attempting manual validation for ticket {}", staffUserId, ticketId);
 
+        long startedAt = System.nanoTime();
         Staff staff = verifyStaffAccess(staffUserId);
 
-        QrCode qr = qrCodeRepo.findByPublicCode(normalizedCode)
-                .orElseThrow(() ->
-                        new QrCodeNotFoundException("Invalid QR code: " + normalizedCode)
-                );
-
-        Ticket ticket = qr.getTicket();
-        if (ticket == null) {
-            throw new IllegalStateException("QR code not linked to any ticket");
+        long lookupNanos = -1;
+        long checksNanos = -1;
+        long phaseStart = startedAt;
+        try {
+            Ticket ticket = ticketsRepo.findById(ticketId)
+                    .orElseThrow(() -> new ScanRejectedException(ScanOutcome.UNKNOWN_CODE, "Ticket not found"));
+            QrCode qr = qrCodeRepo.findTopByTicket_IdOrderByGeneratedDateTimeDesc(ticketId);
+
+            long now = System.nanoTime();
+            lookupNanos = now - phaseStart;
+            phaseStart = now;
+
+            // Attendees checked in at the desk may have no usable QR code, so only the ticket itself is checked
+            verifyTicketBelongsToStaffEvent(ticket, staff);
+            validateTicketStatus(ticket);
+
+            now = System.nanoTime();
+            checksNanos = now - phaseStart;
+            phaseStart = now;
+
+            TicketValidation validation = performValidation(ticket, qr, staff, TicketValidationMethod.MANUAL);
+            ticketValidationRepo.flush();
+
+            recordScan(staff, TicketValidationMethod.MANUAL, null, ticketId,
+                    lookupNanos, checksNanos, System.nanoTime() - phaseStart, startedAt, ScanOutcome.ADMITTED);
+            return validation;
+        } catch (RuntimeException e) {
+            recordScan(staff, TicketValidationMethod.MANUAL, null, ticketId,
+                    lookupNanos, checksNanos, -1, startedAt, outcomeOf(e));
+            throw e;
         }
+    }
 
-        verifyTicketBelongsToStaffEvent(ticket, staff);
-        validateQrCode(qr);
-        validateTicketStatus(ticket);
+    public List<AttendeeSearchResultDto> searchAttendees(String query, UUID staffUserId, int limit) {
+        Staff staff = verifyStaffAccess(staffUserId);
+        return attendeeSearchIndexService.search(staff.getEventId(), query, limit);
+    }
+
+    private void recordScan(
+            Staff staff,
+            TicketValidationMethod method,
+            String publicCode,
+            UUID ticketId,
+            long lookupNanos,
+            long checksNanos,
+            long persistNanos,
+            long startedAt,
+            ScanOutcome outcome
+    ) {
+        scanMetricsRecorder.record(staff.getEventId(), staff.getStaffUserId(), method,
+                lookupNanos, checksNanos, persistNanos, System.nanoTime() - startedAt, outcome);
+        scanAnomalyDetector.recordScan(staff.getEventId(), staff.getStaffUserId(), publicCode, ticketId, outcome);
+    }
 
-        return performValidation(ticket, qr, staff, TicketValidationMethod.MANUAL);
+    private ScanOutcome outcomeOf(RuntimeException e) {
+        if (e instanceof ScanRejectedException rejected) {
+            return rejected.getOutcome();
+        }
+        if (e instanceof QrCodeNotFoundException) {
+            return ScanOutcome.UNKNOWN_CODE;
+        }
+        return ScanOutcome.ERROR;
     }
 
     public Ticket searchTicketForValidation(String publicCode, UUID staffUserId) {
@@ -130,7 +221,7 @@ public class StaffTicketValidationService {
         if (!ticketEvent.getId().equals(staff.getEventId())) {
             log.warn("Staff {} tried to validate ticket for different event. Staff event: {}, Ticket event: {}",
                     staff.getStaffUserId(), staff.getEventId(), ticketEvent.getId());
-            throw new IllegalStateException("This ticket is for a different event");
+            throw new ScanRejectedException(ScanOutcome.WRONG_EVENT, "This ticket is for a different event");
         }
     }
 
@@ -143,7 +234,7 @@ public class StaffTicketValidationService {
             qrCodeRepo.save(qr);
             log.warn("QR code {} has expired. Generated: {}, Expiry: {}, Now: {}",
                     qr.getPublicCode(), qr.getGeneratedDateTime(), qrExpiry, now);
-            throw new IllegalStateException(
+            throw new ScanRejectedException(ScanOutcome.QR_EXPIRED,
                     String.format("QR code expired %d minutes ago. Attendee must regenerate QR code.",
                             java.time.Duration.between(qrExpiry, now).toMinutes())
             );
@@ -151,24 +242,26 @@ public class StaffTicketValidationService {
 
         if (qr.getQrCodeStatus() != QrCodeStatus.ACTIVE) {
             log.warn("QR code {} is not active. Status: {}", qr.getPublicCode(), qr.getQrCodeStatus());
-            throw new IllegalStateException("QR code already " + qr.getQrCodeStatus().name().toLowerCase());
+            throw new ScanRejectedException(ScanOutcome.QR_INACTIVE,
+                    "QR code already " + qr.getQrCodeStatus().name().toLowerCase());
         }
     }
 
     private void validateTicketStatus(Ticket ticket) {
         if (ticket.getStatus() == TicketStatus.USED) {
             log.warn("Ticket {} already used", ticket.getId());
-            throw new IllegalStateException("Ticket has already been used for entry");
+            throw new ScanRejectedException(ScanOutcome.TICKET_USED, "Ticket has already been used for entry");
         }
 
         if (ticket.getStatus() == TicketStatus.CANCELLED) {
             log.warn("Ticket {} is cancelled", ticket.getId());
-            throw new IllegalStateException("Ticket has been cancelled");
+            throw new ScanRejectedException(ScanOutcome.TICKET_CANCELLED, "Ticket has been cancelled");
         }
 
         if (ticket.getStatus() != TicketStatus.PURCHASED) {
             log.warn("Ticket {} is not in PURCHASED state. Status: {}", ticket.getId(), ticket.getStatus());
-            throw new IllegalStateException("Invalid ticket status: " + ticket.getStatus().name());
+            throw new ScanRejectedException(ScanOutcome.TICKET_INVALID_STATUS,
+                    "Invalid ticket status: " + ticket.getStatus().name());
         }
     }
 
@@ -182,8 +275,10 @@ public class StaffTicketValidationService {
         ticket.setStatus(TicketStatus.USED);
         ticketsRepo.save(ticket);
 
-        qr.setQrCodeStatus(QrCodeStatus.EXPIRED);
-        qrCodeRepo.save(qr);
+        if (qr != null) {
+            qr.setQrCodeStatus(QrCodeStatus.EXPIRED);
+            qrCodeRepo.save(qr);
+        }
 
         Event event = ticket.getTicketType().getEvent();
         TicketValidation validation = TicketValidation.builder()
@@ -197,14 +292,25 @@ public class StaffTicketValidationService {
 
         TicketValidation savedValidation = ticketValidationRepo.save(validation);
 
-        staff.setLastLogin(LocalDateTime.now());
-        staffRepo.save(staff);
+        staffHeartbeatService.recordHeartbeat(staff.getStaffUserId());
 
         log.info(" Ticket {} successfully validated by staff {} using {} (QR: {})",
-                ticket.getId(), staff.getStaffUserId(), method, qr.getPublicCode());
+                ticket.getId(), staff.getStaffUserId(), method, qr != null ? qr.getPublicCode() : "none");
 
         registerAttendeeForEvent(ticket);
 
+        eventPublisher.publishEvent(new TicketValidatedEvent(
+                ticket.getId(),
+                event.getId(),
+                ticket.getTicketType().getId(),
+                ticket.getTicketType().getName(),
+                staff.getStaffUserId(),
+                staff.getUsername(),
+                method,
+                savedValidation.getValidatedAt(),
+                ticket.getCreatedAt()
+        ));
+
         return savedValidation;
     }
 
@@ -5,6 +5,8 @@ import com.atharv.Event_Ticket_Platform.Domain.Entity.Ticket;
 import com.atharv.Event_Ticket_Platform.Domain.Entity.TicketType;
 import com.atharv.Event_Ticket_Platform.Domain.Entity.User;
 import com.atharv.Event_Ticket_Platform.Domain.Enum.TicketStatus;
+import com.atharv.Event_Ticket_Platform.Domain.Events.TicketCancelledEvent;
+import com.atharv.Event_Ticket_Platform.Domain.Events.TicketPurchasedEvent;
 import com.atharv.Event_Ticket_Platform.Domain.Mapper.TicketMapper;
 import com.atharv.Event_Ticket_Platform.Exceptions.ResourceNotFoundException;
 import com.atharv.Event_Ticket_Platform.Exceptions.TicketSoldOutException;
@@ -14,11 +16,14 @@ import com.atharv.Event_Ticket_Platform.Repository.TicketsRepo;
 import com.atharv.Event_Ticket_Platform.Repository.UserRepo;
 import com.atharv.Event_Ticket_Platform.Service.ServiceInterface.QrService;
 import com.atharv.Event_Ticket_Platform.Service.ServiceInterface.TicketService;
+import com.atharv.Event_Ticket_Platform.util.CursorCodec;
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 
 import java.time.LocalDateTime;
@@ -31,6 +36,7 @@ public class TicketServiceImpl implements TicketService {
     private final UserRepo userRepo;
     private final QrService qrService;
     private final TicketMapper ticketMapper;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional
     @Override
@@ -73,6 +79,15 @@ public class TicketServiceImpl implements TicketService {
         Ticket savedTicket = ticketsRepo.save(ticket);
         log.info("Ticket purchased successfully - Ticket ID: {}",
                 savedTicket.getId());
+
+        eventPublisher.publishEvent(new TicketPurchasedEvent(
+                savedTicket.getId(),
+                ticketType.getEvent().getId(),
+                ticketType.getId(),
+                userId,
+                savedTicket.getPrice(),
+                now
+        ));
         return savedTicket;
 
     }
@@ -89,6 +104,12 @@ public class TicketServiceImpl implements TicketService {
         return ticketsOfUser;
     }
 
+    @Override
+    public Slice<Ticket> listTicketsForUserByCursor(UUID userID, CursorCodec.Cursor cursor, int size) {
+        return ticketsRepo.findByPurchaserIdBefore(userID, cursor.sortKey(), cursor.uuidId(),
+                CursorCodec.pageRequest(size));
+    }
+
     @Override
     public TicketPurchasedDetails getTicketDetails
             (UUID userId, UUID ticketId) {
@@ -134,6 +155,15 @@ public class TicketServiceImpl implements TicketService {
         ticketTypeRepo.save(ticketType);
         ticketsRepo.save(ticket);
 
+        eventPublisher.publishEvent(new TicketCancelledEvent(
+                ticket.getId(),
+                ticketType.getEvent().getId(),
+                ticketType.getId(),
+                userId,
+                ticket.getPrice(),
+                LocalDateTime.now()
+        ));
+
         log.info("Ticket cancelled successfully - TicketId: {}", ticketId);
     }
 
@@ -1,14 +1,18 @@
 package com.atharv.Event_Ticket_Platform.Service.ServiceImpl;
 
+import com.atharv.Event_Ticket_Platform.Domain.DTO.PageDtos.CursorPageDto;
 import com.atharv.Event_Ticket_Platform.Domain.DTO.TicketTypeDto.TicketTypeRevenueDto;
 import com.atharv.Event_Ticket_Platform.Domain.DTO.TicketValidationDtos.*;
 import com.atharv.Event_Ticket_Platform.Domain.Entity.*;
 import com.atharv.Event_Ticket_Platform.Domain.Enum.TicketValidationStatus;
+import com.atharv.Event_Ticket_Platform.Domain.Projections.TicketTypeSales;
 import com.atharv.Event_Ticket_Platform.Repository.*;
+import com.atharv.Event_Ticket_Platform.util.CursorCodec;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 
 import java.time.Duration;
@@ -24,56 +28,53 @@ import java.util.stream.Collectors;
 public class ValidationStatsService {
 
     private final TicketValidationRepo ticketValidationRepo;
-    private final TicketsRepo ticketsRepo;
     private final StaffRepo staffRepo;
     private final EventRepo eventRepo;
     private final TicketTypeRepo ticketTypeRepo;
+    private final StaffHeartbeatService staffHeartbeatService;
 
-    public Map<String, Object> getEventDashboardStats(UUID eventId) {
+    public EventDashboardStatsDto getEventDashboardStats(UUID eventId) {
         Event event = eventRepo.findById(eventId)
                 .orElseThrow(() -> new IllegalStateException("Event not found"));
 
-        long totalSold = ticketsRepo.countByTicketType_Event_Id(eventId);
+        List<TicketTypeSales> sales = ticketTypeRepo.findRolledUpSalesByEventId(eventId);
+
+        long totalSold = sales.stream()
+                .mapToLong(TicketTypeSales::getTicketsSold)
+                .sum();
         long totalValidated = ticketValidationRepo.countByEvent_IdAndValidationStatus(
                 eventId, TicketValidationStatus.VALID
         );
 
-        double totalRevenue = calculateTotalRevenue(eventId);
-        List<TicketTypeRevenueDto> revenueByTicketType = calculateRevenueByTicketType(eventId);
-
-        return Map.of(
-                "eventId", event.getId(),
-                "eventName", event.getName(),
-                "totalTicketsSold", totalSold,
-                "totalValidated", totalValidated,
-                "remainingAttendees", totalSold - totalValidated,
-                "totalRevenue", totalRevenue,
-                "revenueByTicketType", revenueByTicketType
-        );
+        double totalRevenue = calculateTotalRevenue(sales);
+        List<TicketTypeRevenueDto> revenueByTicketType = calculateRevenueByTicketType(sales);
+
+        return EventDashboardStatsDto.builder()
+                .eventId(event.getId())
+                .eventName(event.getName())
+                .totalTicketsSold(totalSold)
+                .totalValidated(totalValidated)
+                .remainingAttendees(totalSold - totalValidated)
+                .totalRevenue(totalRevenue)
+                .revenueByTicketType(revenueByTicketType)
+                .build();
     }
 
-    private double calculateTotalRevenue(UUID eventId) {
-        List<Ticket> tickets = ticketsRepo.findAllByEventId(eventId);
-        return tickets.stream()
-                .mapToDouble(Ticket::getPrice)
+    private double calculateTotalRevenue(List<TicketTypeSales> sales) {
+        return sales.stream()
+                .mapToDouble(TicketTypeSales::revenueOrZero)
                 .sum();
     }
 
-    private List<TicketTypeRevenueDto> calculateRevenueByTicketType(UUID eventId) {
-        Event event = eventRepo.findById(eventId)
-                .orElseThrow(() -> new IllegalStateException("Event not found"));
-
-        return event.getTicketTypes().stream()
+    private List<TicketTypeRevenueDto> calculateRevenueByTicketType(List<TicketTypeSales> sales) {
+        return sales.stream()
                 .map(ticketType -> {
-                    List<Ticket> soldTickets = ticketType.getTicket();
-                    long ticketsSold = soldTickets.size();
-                    double revenue = soldTickets.stream()
-                            .mapToDouble(Ticket::getPrice)
-                            .sum();
+                    long ticketsSold = ticketType.getTicketsSold();
+                    double revenue = ticketType.revenueOrZero();
 
                     return TicketTypeRevenueDto.builder()
-                            .ticketTypeId(ticketType.getId())
-                            .ticketTypeName(ticketType.getName())
+                            .ticketTypeId(ticketType.getTicketTypeId())
+                            .ticketTypeName(ticketType.getTicketTypeName())
                             .ticketsSold(ticketsSold)
                             .revenue(revenue)
                             .averagePrice(ticketsSold > 0 ? revenue / ticketsSold : 0)
@@ -133,17 +134,35 @@ public class ValidationStatsService {
         Page<TicketValidation> validations = ticketValidationRepo
                 .findByEvent_IdAndStaff_StaffUserId(eventId, staffUserId, pageable);
 
-        return validations.map(validation -> ValidationHistoryDto.builder()
-                .validationId(validation.getId())
-                .ticketId(validation.getTicket().getId())
-                .ticketTypeName(validation.getTicket().getTicketType().getName())
-                .attendeeName(validation.getTicket().getPurchaser().getName())
-                .attendeeEmail(validation.getTicket().getPurchaser().getEmail())
-                .validationMethod(validation.getValidationMethod().name())
-                .validationStatus(validation.getValidationStatus().name())
-                .validatedAt(validation.getValidatedAt())
-                .build()
-        );
+        return validations.map(this::toHistoryDto);
+    }
+
+    public CursorPageDto<ValidationHistoryDto> getAttendeesValidatedByStaffByCursor(
+            UUID eventId,
+            UUID staffUserId,
+            UUID organiserId,
+            CursorCodec.Cursor cursor,
+            int size
+    ) {
+        Event event = eventRepo.findById(eventId)
+                .orElseThrow(() -> new IllegalStateException("Event not found"));
+
+        if (!event.getOrganiser().getId().equals(organiserId)) {
+            throw new IllegalStateException("You don't have permission to view this event");
+        }
+
+        Staff staff = staffRepo.findByStaffUserId(staffUserId)
+                .orElseThrow(() -> new IllegalStateException("Staff not found"));
+
+        if (!staff.getEventId().equals(eventId)) {
+            throw new IllegalStateException("Staff is not assigned to this event");
+        }
+
+        Slice<TicketValidation> validations = ticketValidationRepo.findByEventIdAndStaffUserIdBefore(
+                eventId, staffUserId, cursor.sortKey(), cursor.uuidId(), CursorCodec.pageRequest(size));
+
+        return CursorCodec.page(validations, this::toHistoryDto,
+                TicketValidation::getValidatedAt, TicketValidation::getId);
     }
 
     public List<TicketTypeAttendanceDto> getValidatedAttendeesPerTicketType(UUID eventId, UUID organiserId) {
@@ -172,7 +191,7 @@ public class ValidationStatsService {
                 .collect(Collectors.toList());
     }
 
-    public Map<String, Object> getStaffPersonalStats(UUID staffUserId) {
+    public StaffPersonalStatsDto getStaffPersonalStats(UUID staffUserId) {
         log.info("Getting stats for staff: {}", staffUserId);
 
         Staff staff = staffRepo.findByStaffUserId(staffUserId)
@@ -204,20 +223,20 @@ public class ValidationStatsService {
         long hoursSinceExpiry = isExpired ? Math.abs(timeUntilExpiry.toHours()) : 0;
         long minutesSinceExpiry = isExpired ? Math.abs(timeUntilExpiry.toMinutes() % 60) : 0;
 
-        return Map.ofEntries(
-                Map.entry("staffUsername", staff.getUsername()),
-                Map.entry("eventId", staff.getEventId()),
-                Map.entry("eventName", event.getName()),
-                Map.entry("totalValidated", totalValidated),
-                Map.entry("credentialValidFrom", staff.getValidFrom()),
-                Map.entry("credentialValidUntil", staff.getValidUntil()),
-                Map.entry("isExpired", isExpired),
-                Map.entry("hoursRemaining", hoursRemaining),
-                Map.entry("minutesRemaining", minutesRemaining),
-                Map.entry("hoursSinceExpiry", hoursSinceExpiry),
-                Map.entry("minutesSinceExpiry", minutesSinceExpiry),
-                Map.entry("isActive", staff.getIsActive())
-        );
+        return StaffPersonalStatsDto.builder()
+                .staffUsername(staff.getUsername())
+                .eventId(staff.getEventId())
+                .eventName(event.getName())
+                .totalValidated(totalValidated)
+                .credentialValidFrom(staff.getValidFrom())
+                .credentialValidUntil(staff.getValidUntil())
+                .isExpired(isExpired)
+                .hoursRemaining(hoursRemaining)
+                .minutesRemaining(minutesRemaining)
+                .hoursSinceExpiry(hoursSinceExpiry)
+                .minutesSinceExpiry(minutesSinceExpiry)
+                .isActive(staff.getIsActive())
+                .build();
 
     }
 
@@ -235,17 +254,22 @@ public class ValidationStatsService {
                         pageable
                 );
 
-        return validations.map(validation -> ValidationHistoryDto.builder()
-                .validationId(validation.getId())
-                .ticketId(validation.getTicket().getId())
-                .ticketTypeName(validation.getTicket().getTicketType().getName())
-                .attendeeName(validation.getTicket().getPurchaser().getName())
-                .attendeeEmail(validation.getTicket().getPurchaser().getEmail())
-                .validationMethod(validation.getValidationMethod().name())
-                .validationStatus(validation.getValidationStatus().name())
-                .validatedAt(validation.getValidatedAt())
-                .build()
-        );
+        return validations.map(this::toHistoryDto);
+    }
+
+    public CursorPageDto<ValidationHistoryDto> getStaffValidationHistoryByCursor(
+            UUID staffUserId,
+            CursorCodec.Cursor cursor,
+            int size
+    ) {
+        Staff staff = staffRepo.findByStaffUserId(staffUserId)
+                .orElseThrow(() -> new IllegalStateException("Staff not found"));
+
+        Slice<TicketValidation> validations = ticketValidationRepo.findByEventIdAndStaffUserIdBefore(
+                staff.getEventId(), staffUserId, cursor.sortKey(), cursor.uuidId(), CursorCodec.pageRequest(size));
+
+        return CursorCodec.page(validations, this::toHistoryDto,
+                TicketValidation::getValidatedAt, TicketValidation::getId);
     }
 
     public List<TicketTypeAttendanceDto> getStaffValidationsByTicketType(UUID staffUserId) {
@@ -290,7 +314,7 @@ public class ValidationStatsService {
                 "hoursRemaining", Math.max(0, timeUntilExpiry.toHours()),
                 "minutesRemaining", Math.max(0, timeUntilExpiry.toMinutes() % 60),
                 "createdAt", staff.getCreatedAt(),
-                "lastLogin", staff.getLastLogin()
+                "lastLogin", staffHeartbeatService.resolveLastLogin(staff)
         );
     }
 
@@ -311,4 +335,17 @@ public class ValidationStatsService {
                 .validatedCount(validatedByStaff)
                 .build();
     }
+
+    private ValidationHistoryDto toHistoryDto(TicketValidation validation) {
+        return ValidationHistoryDto.builder()
+                .validationId(validation.getId())
+                .ticketId(validation.getTicket().getId())
+                .ticketTypeName(validation.getTicket().getTicketType().getName())
+                .attendeeName(validation.getTicket().getPurchaser().getName())
+                .attendeeEmail(validation.getTicket().getPurchaser().getEmail())
+                .validationMethod(validation.getValidationMethod().name())
+                .validationStatus(validation.getValidationStatus().name())
+                .validatedAt(validation.getValidatedAt())
+                .build();
+    }
 }
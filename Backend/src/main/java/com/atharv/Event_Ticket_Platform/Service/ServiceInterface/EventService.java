@@ -3,14 +3,18 @@ package com.atharv.Event_Ticket_Platform.Service.ServiceInterface;
 import com.atharv.Event_Ticket_Platform.Domain.DTO.EventDtos.UpdateEventRequestDto;
 import com.atharv.Event_Ticket_Platform.Domain.Entity.Event;
 import com.atharv.Event_Ticket_Platform.Domain.Requests.CreateEventRequest;
+import com.atharv.Event_Ticket_Platform.util.CursorCodec;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import java.util.Optional;
 import java.util.UUID;
 
 public interface EventService {
     Event createEvent(UUID organiserId, CreateEventRequest eventRequest);
     Page<Event> listEventForOrganiser(UUID organiser,Pageable pageable);
+
+    Slice<Event> listEventForOrganiserByCursor(UUID organiserId, CursorCodec.Cursor cursor, int size);
     Event updateEvent(UUID organiserId, UUID eventId, UpdateEventRequestDto updateEventRequestDto);
     Event getEvent(UUID eventId,UUID organiserId);
 
@@ -20,6 +24,8 @@ public interface EventService {
 
     Page<Event> listPublishedEvents(Pageable pageable);
 
+    Slice<Event> listPublishedEventsByCursor(CursorCodec.Cursor cursor, int size);
+
     Page<Event> searchPublishedEvents(String searchTerm, Pageable pageable);
 
     Optional<Event> getPublishedEventById(UUID eventId);
@@ -2,9 +2,11 @@ package com.atharv.Event_Ticket_Platform.Service.ServiceInterface;
 
 import com.atharv.Event_Ticket_Platform.Domain.DTO.TicketDtos.TicketPurchasedDetails;
 import com.atharv.Event_Ticket_Platform.Domain.Entity.Ticket;
+import com.atharv.Event_Ticket_Platform.util.CursorCodec;
 import jakarta.transaction.Transactional;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 
 import java.util.UUID;
 
@@ -13,6 +15,8 @@ public interface TicketService {
 
     Page<Ticket> listAllTicketsForThisUser(UUID userID, Pageable pageable);
 
+    Slice<Ticket> listTicketsForUserByCursor(UUID userID, CursorCodec.Cursor cursor, int size);
+
     TicketPurchasedDetails getTicketDetails
             (UUID userId, UUID ticketId);
 
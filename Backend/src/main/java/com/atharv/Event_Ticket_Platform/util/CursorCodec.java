@@ -0,0 +1,101 @@
+package com.atharv.Event_Ticket_Platform.util;
+
+import com.atharv.Event_Ticket_Platform.Domain.DTO.PageDtos.CursorPageDto;
+import com.atharv.Event_Ticket_Platform.Exceptions.InvalidCursorException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Base64;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Function;
+
+// Continuation tokens for seek pagination: each token is the (sort key, id) of the last row served,
+// and the next page is everything strictly after it in (sortKey DESC, id DESC) order
+public final class CursorCodec {
+
+    public static final int DEFAULT_SIZE = 20;
+    public static final int MAX_SIZE = 100;
+
+    private static final LocalDateTime SEEK_START = LocalDateTime.of(9999, 12, 31, 23, 59, 59);
+    private static final UUID MAX_UUID = new UUID(-1L, -1L);
+
+    private CursorCodec() {
+    }
+
+    public static Cursor decode(String token) {
+        if (token == null || token.isBlank()) {
+            return new Cursor(SEEK_START, null);
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            int separator = raw.indexOf('|');
+            int dot = raw.indexOf('.');
+            long epochSecond = Long.parseLong(raw.substring(0, dot));
+            int nanos = Integer.parseInt(raw.substring(dot + 1, separator));
+            return new Cursor(LocalDateTime.ofEpochSecond(epochSecond, nanos, ZoneOffset.UTC),
+                    raw.substring(separator + 1));
+        } catch (RuntimeException e) {
+            throw new InvalidCursorException("Invalid cursor");
+        }
+    }
+
+    public static String encode(LocalDateTime sortKey, Object id) {
+        String raw = sortKey.toEpochSecond(ZoneOffset.UTC) + "." + sortKey.getNano() + "|" + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static Pageable pageRequest(int size) {
+        return PageRequest.of(0, Math.max(1, Math.min(size, MAX_SIZE)));
+    }
+
+    public static <E, T> CursorPageDto<T> page(
+            Slice<E> slice,
+            Function<E, T> mapper,
+            Function<E, LocalDateTime> sortKey,
+            Function<E, Object> id
+    ) {
+        List<E> rows = slice.getContent();
+        String nextCursor = null;
+        if (slice.hasNext() && !rows.isEmpty()) {
+            E last = rows.get(rows.size() - 1);
+            nextCursor = encode(sortKey.apply(last), id.apply(last));
+        }
+
+        return CursorPageDto.<T>builder()
+                .content(rows.stream().map(mapper).toList())
+                .size(rows.size())
+                .hasNext(slice.hasNext())
+                .nextCursor(nextCursor)
+                .build();
+    }
+
+    public record Cursor(LocalDateTime sortKey, String id) {
+
+        public UUID uuidId() {
+            if (id == null) {
+                return MAX_UUID;
+            }
+            try {
+                return UUID.fromString(id);
+            } catch (IllegalArgumentException e) {
+                throw new InvalidCursorException("Invalid cursor");
+            }
+        }
+
+        public long longId() {
+            if (id == null) {
+                return Long.MAX_VALUE;
+            }
+            try {
+                return Long.parseLong(id);
+            } catch (NumberFormatException e) {
+                throw new InvalidCursorException("Invalid cursor");
+            }
+        }
+    }
+}
@@ -0,0 +1,116 @@
+package com.atharv.Event_Ticket_Platform.util;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+public class ExpiringCache<K, V> {
+
+    private final ConcurrentHashMap<K, Entry<V>> entries = new ConcurrentHashMap<>();
+    private final long ttlNanos;
+    private final int maxEntries;
+
+    public ExpiringCache(long ttlMillis, int maxEntries) {
+        this.ttlNanos = ttlMillis * 1_000_000L;
+        this.maxEntries = Math.max(1, maxEntries);
+    }
+
+    public V get(K key, Supplier<V> loader) {
+        long now = System.nanoTime();
+        Entry<V> entry = entries.get(key);
+        if (entry == null || entry.isExpired(now)) {
+            Entry<V> fresh = new Entry<>();
+            entry = entries.compute(key, (k, current) ->
+                    current == null || current.isExpired(now) ? fresh : current);
+
+            // Only the thread that installed the entry loads it; concurrent misses wait on the same future
+            if (entry == fresh) {
+                load(key, fresh, loader);
+                if (entries.size() > maxEntries) {
+                    trim();
+                }
+            }
+        }
+        return await(entry.value);
+    }
+
+    public void invalidate(K key) {
+        entries.remove(key);
+    }
+
+    public void invalidateIf(Predicate<K> predicate) {
+        entries.keySet().removeIf(predicate);
+    }
+
+    public void evictExpired() {
+        long now = System.nanoTime();
+        entries.values().removeIf(entry -> entry.isExpired(now));
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    private void load(K key, Entry<V> entry, Supplier<V> loader) {
+        try {
+            entry.value.complete(loader.get());
+            entry.expiresAt = System.nanoTime() + ttlNanos;
+        } catch (RuntimeException | Error e) {
+            // Failures are never cached; the next caller retries
+            entries.remove(key, entry);
+            entry.value.completeExceptionally(e);
+        }
+    }
+
+    private void trim() {
+        evictExpired();
+        int excess = entries.size() - maxEntries;
+        if (excess <= 0) {
+            return;
+        }
+
+        // Evict the entries closest to expiry; expiry times are copied first since loads may finish meanwhile
+        List<Candidate<K, V>> candidates = new ArrayList<>(entries.size());
+        for (Map.Entry<K, Entry<V>> e : entries.entrySet()) {
+            candidates.add(new Candidate<>(e.getKey(), e.getValue(), e.getValue().expiresAt));
+        }
+        candidates.sort(Comparator.comparingLong(Candidate::expiresAt));
+        for (int i = 0; i < excess && i < candidates.size(); i++) {
+            entries.remove(candidates.get(i).key(), candidates.get(i).entry());
+        }
+    }
+
+    private static <V> V await(CompletableFuture<V> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            if (e.getCause() instanceof Error error) {
+                throw error;
+            }
+            throw e;
+        }
+    }
+
+    private record Candidate<K, V>(K key, Entry<V> entry, long expiresAt) {
+    }
+
+    private static final class Entry<V> {
+        private final CompletableFuture<V> value = new CompletableFuture<>();
+        // Entries still loading never expire, otherwise a slow load would let a second one start
+        private volatile long expiresAt = Long.MAX_VALUE;
+
+        boolean isExpired(long now) {
+            long expiry = expiresAt;
+            return expiry != Long.MAX_VALUE && now - expiry > 0;
+        }
+    }
+}
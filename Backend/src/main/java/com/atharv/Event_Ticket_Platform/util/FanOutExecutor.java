@@ -0,0 +1,85 @@
+package com.atharv.Event_Ticket_Platform.util;
+
+import com.atharv.Event_Ticket_Platform.Exceptions.AnalyticsTimeoutException;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Function;
+
+public class FanOutExecutor {
+
+    private final ExecutorService executor;
+    private final Semaphore globalPermits;
+
+    public FanOutExecutor(ExecutorService executor, int maxGlobalConcurrency) {
+        this.executor = executor;
+        this.globalPermits = new Semaphore(maxGlobalConcurrency);
+    }
+
+    public <T, R> List<R> mapAll(List<T> inputs, Function<T, R> task, int maxConcurrency, Duration timeout) {
+        long deadline = System.nanoTime() + timeout.toNanos();
+        Semaphore requestPermits = new Semaphore(Math.max(1, maxConcurrency));
+
+        List<Future<R>> futures = new ArrayList<>(inputs.size());
+        for (T input : inputs) {
+            futures.add(executor.submit(() -> {
+                requestPermits.acquire();
+                try {
+                    // The global cap keeps concurrent fan-outs from exhausting the connection pool
+                    globalPermits.acquire();
+                    try {
+                        return task.apply(input);
+                    } finally {
+                        globalPermits.release();
+                    }
+                } finally {
+                    requestPermits.release();
+                }
+            }));
+        }
+
+        List<R> results = new ArrayList<>(inputs.size());
+        try {
+            for (Future<R> future : futures) {
+                long remaining = deadline - System.nanoTime();
+                results.add(future.get(Math.max(0, remaining), TimeUnit.NANOSECONDS));
+            }
+            return results;
+        } catch (TimeoutException e) {
+            cancelAll(futures);
+            throw new AnalyticsTimeoutException(
+                    String.format("Request did not complete within %d ms", timeout.toMillis()));
+        } catch (InterruptedException e) {
+            cancelAll(futures);
+            Thread.currentThread().interrupt();
+            throw new AnalyticsTimeoutException("Request was interrupted", e);
+        } catch (ExecutionException e) {
+            cancelAll(futures);
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new IllegalStateException(e.getCause());
+        } catch (CancellationException e) {
+            cancelAll(futures);
+            throw new AnalyticsTimeoutException("Request was cancelled", e);
+        }
+    }
+
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    private static void cancelAll(List<? extends Future<?>> futures) {
+        for (Future<?> future : futures) {
+            future.cancel(true);
+        }
+    }
+}
@@ -0,0 +1,134 @@
+package com.atharv.Event_Ticket_Platform.util;
+
+import java.util.UUID;
+
+// Dense HyperLogLog with 2^12 one-byte registers: about 1.6% standard error in 4 KB
+public final class HyperLogLog {
+
+    private static final byte FORMAT_VERSION = 1;
+    private static final int PRECISION = 12;
+    private static final int REGISTERS = 1 << PRECISION;
+    // The guard bit leaves 64 - PRECISION hash bits to rank, so a register holds at most one more than that
+    private static final int MAX_RANK = 64 - PRECISION + 1;
+    private static final double ALPHA_INF = 1 / (2 * Math.log(2));
+
+    private final byte[] registers;
+
+    public HyperLogLog() {
+        this.registers = new byte[REGISTERS];
+    }
+
+    private HyperLogLog(byte[] registers) {
+        this.registers = registers;
+    }
+
+    public void add(UUID value) {
+        add(hash(value));
+    }
+
+    public void add(long hash) {
+        int index = (int) (hash >>> (64 - PRECISION));
+        // The guard bit caps the rank so an all-zero suffix cannot overflow the register
+        long remainder = (hash << PRECISION) | (1L << (PRECISION - 1));
+        byte rank = (byte) (Long.numberOfLeadingZeros(remainder) + 1);
+        if (rank > registers[index]) {
+            registers[index] = rank;
+        }
+    }
+
+    public void merge(HyperLogLog other) {
+        for (int i = 0; i < REGISTERS; i++) {
+            if (other.registers[i] > registers[i]) {
+                registers[i] = other.registers[i];
+            }
+        }
+    }
+
+    // Ertl's improved estimator ("New cardinality estimation algorithms for HyperLogLog sketches"):
+    // it works from the register histogram and stays unbiased across the range where the classic
+    // estimator has to switch over from linear counting
+    public long estimate() {
+        int[] histogram = new int[MAX_RANK + 1];
+        for (byte register : registers) {
+            histogram[register]++;
+        }
+
+        double z = REGISTERS * tau(1 - (double) histogram[MAX_RANK] / REGISTERS);
+        for (int rank = MAX_RANK - 1; rank >= 1; rank--) {
+            z = 0.5 * (z + histogram[rank]);
+        }
+        z += REGISTERS * sigma((double) histogram[0] / REGISTERS);
+        return Math.round(ALPHA_INF * REGISTERS * REGISTERS / z);
+    }
+
+    public byte[] toBytes() {
+        byte[] bytes = new byte[REGISTERS + 2];
+        bytes[0] = FORMAT_VERSION;
+        bytes[1] = PRECISION;
+        System.arraycopy(registers, 0, bytes, 2, REGISTERS);
+        return bytes;
+    }
+
+    public static HyperLogLog fromBytes(byte[] bytes) {
+        if (bytes == null || bytes.length == 0) {
+            return new HyperLogLog();
+        }
+        if (bytes[0] != FORMAT_VERSION || bytes[1] != PRECISION || bytes.length != REGISTERS + 2) {
+            throw new IllegalStateException("Unsupported HyperLogLog encoding");
+        }
+        byte[] registers = new byte[REGISTERS];
+        System.arraycopy(bytes, 2, registers, 0, REGISTERS);
+        for (byte register : registers) {
+            if (register < 0 || register > MAX_RANK) {
+                throw new IllegalStateException("Corrupt HyperLogLog");
+            }
+        }
+        return new HyperLogLog(registers);
+    }
+
+    private static double sigma(double x) {
+        if (x == 1) {
+            return Double.POSITIVE_INFINITY;
+        }
+        double y = 1;
+        double z = x;
+        double previous;
+        do {
+            x *= x;
+            previous = z;
+            z += x * y;
+            y += y;
+        } while (z != previous);
+        return z;
+    }
+
+    private static double tau(double x) {
+        if (x == 0 || x == 1) {
+            return 0;
+        }
+        double y = 1;
+        double z = 1 - x;
+        double previous;
+        do {
+            x = Math.sqrt(x);
+            previous = z;
+            y *= 0.5;
+            z -= (1 - x) * (1 - x) * y;
+        } while (z != previous);
+        return z / 3;
+    }
+
+    private static long hash(UUID value) {
+        return mix(value.getMostSignificantBits() ^ mix(value.getLeastSignificantBits()));
+    }
+
+    // MurmurHash3 64-bit finaliser
+    private static long mix(long h) {
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb9fe1a85ec53L;
+        h ^= h >>> 33;
+        return h;
+    }
+}
@@ -0,0 +1,254 @@
+package com.atharv.Event_Ticket_Platform.util;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.regex.Pattern;
+
+// In-process inverted index over a few weighted text fields. Every query term must match a document,
+// either exactly, as a prefix of an indexed term, or within a small edit distance; matches are ranked
+// with BM25 over field-weighted term frequencies, discounted for prefix and fuzzy expansions
+public class InvertedIndex<K extends Comparable<K>> {
+
+    private static final double K1 = 1.2;
+    private static final double B = 0.75;
+    private static final double PREFIX_FACTOR = 0.6;
+    private static final double FUZZY_FACTOR = 0.4;
+    private static final int MAX_EXPANSIONS = 64;
+    private static final int MAX_FUZZY_SCAN = 2_000;
+    private static final int MIN_PREFIX_LENGTH = 2;
+    private static final int MIN_FUZZY_LENGTH = 4;
+    private static final int TWO_EDIT_LENGTH = 8;
+
+    private static final Pattern MARKS = Pattern.compile("\\p{M}+");
+    private static final Pattern SEPARATORS = Pattern.compile("[^\\p{L}\\p{N}]+");
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<String, Map<K, Double>> postings = new HashMap<>();
+    private final NavigableSet<String> terms = new TreeSet<>();
+    private final Map<K, Document> documents = new HashMap<>();
+    private double totalLength;
+
+    public void put(K key, List<Field> fields) {
+        Map<String, Double> weights = new HashMap<>();
+        double length = 0;
+        for (Field field : fields) {
+            for (String token : tokenize(field.text())) {
+                weights.merge(token, field.weight(), Double::sum);
+                length += field.weight();
+            }
+        }
+
+        lock.writeLock().lock();
+        try {
+            removeLocked(key);
+            if (weights.isEmpty()) {
+                return;
+            }
+            for (Map.Entry<String, Double> entry : weights.entrySet()) {
+                postings.computeIfAbsent(entry.getKey(), term -> new HashMap<>()).put(key, entry.getValue());
+                terms.add(entry.getKey());
+            }
+            documents.put(key, new Document(weights.keySet(), length));
+            totalLength += length;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(K key) {
+        lock.writeLock().lock();
+        try {
+            removeLocked(key);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return documents.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public List<Hit<K>> search(String query) {
+        List<String> tokens = tokenize(query);
+        if (tokens.isEmpty()) {
+            return List.of();
+        }
+
+        lock.readLock().lock();
+        try {
+            if (documents.isEmpty()) {
+                return List.of();
+            }
+            double averageLength = totalLength / documents.size();
+
+            Map<K, Double> combined = null;
+            for (String token : tokens) {
+                Map<K, Double> tokenScores = scoreToken(token, averageLength);
+                if (combined == null) {
+                    combined = tokenScores;
+                } else {
+                    // AND semantics: a document survives only if every query term matched it somehow
+                    combined.keySet().retainAll(tokenScores.keySet());
+                    combined.replaceAll((key, score) -> score + tokenScores.get(key));
+                }
+                if (combined.isEmpty()) {
+                    return List.of();
+                }
+            }
+
+            List<Hit<K>> hits = new ArrayList<>(combined.size());
+            combined.forEach((key, score) -> hits.add(new Hit<>(key, score)));
+            hits.sort(Comparator.comparingDouble((Hit<K> hit) -> hit.score()).reversed()
+                    .thenComparing(Hit::key));
+            return hits;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public static List<String> tokenize(String text) {
+        if (text == null || text.isBlank()) {
+            return List.of();
+        }
+        String folded = MARKS.matcher(Normalizer.normalize(text, Normalizer.Form.NFKD)).replaceAll("")
+                .toLowerCase(Locale.ROOT);
+        List<String> tokens = new ArrayList<>();
+        for (String token : SEPARATORS.split(folded)) {
+            if (!token.isEmpty()) {
+                tokens.add(token);
+            }
+        }
+        return tokens;
+    }
+
+    private Map<K, Double> scoreToken(String token, double averageLength) {
+        Map<K, Double> scores = new HashMap<>();
+        if (postings.containsKey(token)) {
+            accumulate(scores, token, 1.0, averageLength);
+        }
+
+        int expansions = 0;
+        if (token.length() >= MIN_PREFIX_LENGTH) {
+            for (String term : terms.subSet(token, false, token + Character.MAX_VALUE, false)) {
+                if (++expansions > MAX_EXPANSIONS) {
+                    break;
+                }
+                accumulate(scores, term, PREFIX_FACTOR, averageLength);
+            }
+        }
+
+        // Typos are only looked for among terms sharing the first letter, and a common letter can still
+        // cover much of the vocabulary, so the scan gives up after a fixed number of terms
+        if (token.length() >= MIN_FUZZY_LENGTH && !postings.containsKey(token)) {
+            int maxEdits = token.length() >= TWO_EDIT_LENGTH ? 2 : 1;
+            String first = token.substring(0, 1);
+            expansions = 0;
+            int scanned = 0;
+            for (String term : terms.subSet(first, true, first + Character.MAX_VALUE, false)) {
+                if (++scanned > MAX_FUZZY_SCAN) {
+                    break;
+                }
+                if (Math.abs(term.length() - token.length()) > maxEdits || term.startsWith(token)) {
+                    continue;
+                }
+                if (editDistance(token, term, maxEdits) <= maxEdits) {
+                    accumulate(scores, term, FUZZY_FACTOR, averageLength);
+                    if (++expansions >= MAX_EXPANSIONS) {
+                        break;
+                    }
+                }
+            }
+        }
+        return scores;
+    }
+
+    private void accumulate(Map<K, Double> scores, String term, double factor, double averageLength) {
+        Map<K, Double> matches = postings.get(term);
+        if (matches == null) {
+            return;
+        }
+        int total = documents.size();
+        double idf = Math.log(1 + (total - matches.size() + 0.5) / (matches.size() + 0.5));
+        for (Map.Entry<K, Double> match : matches.entrySet()) {
+            double frequency = match.getValue();
+            double length = documents.get(match.getKey()).length();
+            double score = factor * idf * frequency * (K1 + 1)
+                    / (frequency + K1 * (1 - B + B * length / averageLength));
+            // One query term may expand to several indexed terms; only its best match counts
+            scores.merge(match.getKey(), score, Math::max);
+        }
+    }
+
+    private void removeLocked(K key) {
+        Document document = documents.remove(key);
+        if (document == null) {
+            return;
+        }
+        for (String term : document.terms()) {
+            Map<K, Double> matches = postings.get(term);
+            if (matches != null) {
+                matches.remove(key);
+                if (matches.isEmpty()) {
+                    postings.remove(term);
+                    terms.remove(term);
+                }
+            }
+        }
+        totalLength -= document.length();
+    }
+
+    // Optimal string alignment distance, abandoned as soon as every path exceeds the limit
+    private static int editDistance(String a, String b, int limit) {
+        int[] previous2 = new int[b.length() + 1];
+        int[] previous = new int[b.length() + 1];
+        int[] current = new int[b.length() + 1];
+        for (int j = 0; j <= b.length(); j++) {
+            previous[j] = j;
+        }
+
+        for (int i = 1; i <= a.length(); i++) {
+            current[0] = i;
+            int rowMin = current[0];
+            for (int j = 1; j <= b.length(); j++) {
+                int cost = a.charAt(i - 1) == b.charAt(j - 1) ? 0 : 1;
+                int value = Math.min(Math.min(previous[j] + 1, current[j - 1] + 1), previous[j - 1] + cost);
+                if (i > 1 && j > 1 && a.charAt(i - 1) == b.charAt(j - 2) && a.charAt(i - 2) == b.charAt(j - 1)) {
+                    value = Math.min(value, previous2[j - 2] + 1);
+                }
+                current[j] = value;
+                rowMin = Math.min(rowMin, value);
+            }
+            if (rowMin > limit) {
+                return limit + 1;
+            }
+            int[] recycled = previous2;
+            previous2 = previous;
+            previous = current;
+            current = recycled;
+        }
+        return previous[b.length()];
+    }
+
+    public record Field(String text, double weight) {
+    }
+
+    public record Hit<K>(K key, double score) {
+    }
+
+    private record Document(Set<String> terms, double length) {
+    }
+}
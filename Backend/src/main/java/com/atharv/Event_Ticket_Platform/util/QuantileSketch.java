@@ -0,0 +1,181 @@
+package com.atharv.Event_Ticket_Platform.util;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Arrays;
+
+// Mergeable quantile sketch over non-negative values using logarithmic buckets (the DDSketch scheme):
+// every quantile is within 1% relative error, and two sketches merge by adding bucket counts
+public final class QuantileSketch {
+
+    private static final byte FORMAT_VERSION = 1;
+    private static final double RELATIVE_ACCURACY = 0.01;
+    private static final double GAMMA = (1 + RELATIVE_ACCURACY) / (1 - RELATIVE_ACCURACY);
+    private static final double LOG_GAMMA = Math.log(GAMMA);
+    private static final double MIN_INDEXED_VALUE = 1e-3;
+    private static final int MAX_BUCKETS = 4_096;
+
+    private long count;
+    private long zeroCount;
+    private double min = Double.POSITIVE_INFINITY;
+    private double max = Double.NEGATIVE_INFINITY;
+    private int offset;
+    private long[] buckets = new long[0];
+
+    public void add(double value) {
+        double v = Math.max(0, value);
+        count++;
+        min = Math.min(min, v);
+        max = Math.max(max, v);
+
+        if (v < MIN_INDEXED_VALUE) {
+            zeroCount++;
+            return;
+        }
+        increment((int) Math.ceil(Math.log(v) / LOG_GAMMA), 1);
+    }
+
+    public void merge(QuantileSketch other) {
+        if (other.count == 0) {
+            return;
+        }
+        count += other.count;
+        zeroCount += other.zeroCount;
+        min = Math.min(min, other.min);
+        max = Math.max(max, other.max);
+        for (int i = 0; i < other.buckets.length; i++) {
+            if (other.buckets[i] != 0) {
+                increment(other.offset + i, other.buckets[i]);
+            }
+        }
+    }
+
+    public long count() {
+        return count;
+    }
+
+    public double min() {
+        return count == 0 ? 0 : min;
+    }
+
+    public double max() {
+        return count == 0 ? 0 : max;
+    }
+
+    public double quantile(double q) {
+        if (count == 0) {
+            return 0;
+        }
+        long rank = Math.max(1, (long) Math.ceil(q * count));
+        if (rank <= zeroCount) {
+            return min;
+        }
+
+        long seen = zeroCount;
+        for (int i = 0; i < buckets.length; i++) {
+            seen += buckets[i];
+            if (seen >= rank) {
+                double estimate = 2 * Math.pow(GAMMA, offset + i) / (GAMMA + 1);
+                return Math.max(min, Math.min(max, estimate));
+            }
+        }
+        return max;
+    }
+
+    public byte[] toBytes() {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(32 + buckets.length * 2);
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            out.writeByte(FORMAT_VERSION);
+            writeVarLong(out, count);
+            writeVarLong(out, zeroCount);
+            out.writeDouble(min);
+            out.writeDouble(max);
+            out.writeInt(offset);
+            writeVarLong(out, buckets.length);
+            for (long bucket : buckets) {
+                writeVarLong(out, bucket);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return bytes.toByteArray();
+    }
+
+    public static QuantileSketch fromBytes(byte[] bytes) {
+        QuantileSketch sketch = new QuantileSketch();
+        if (bytes == null || bytes.length == 0) {
+            return sketch;
+        }
+        try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(bytes))) {
+            if (in.readByte() != FORMAT_VERSION) {
+                throw new IllegalStateException("Unsupported quantile sketch encoding");
+            }
+            sketch.count = readVarLong(in);
+            sketch.zeroCount = readVarLong(in);
+            sketch.min = in.readDouble();
+            sketch.max = in.readDouble();
+            sketch.offset = in.readInt();
+            int length = (int) readVarLong(in);
+            if (length < 0 || length > MAX_BUCKETS) {
+                throw new IllegalStateException("Corrupt quantile sketch");
+            }
+            sketch.buckets = new long[length];
+            for (int i = 0; i < length; i++) {
+                sketch.buckets[i] = readVarLong(in);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return sketch;
+    }
+
+    private void increment(int index, long n) {
+        if (buckets.length == 0) {
+            offset = index;
+            buckets = new long[1];
+        } else if (index < offset) {
+            int grow = offset - index;
+            if (buckets.length + grow > MAX_BUCKETS) {
+                // Out of range: fold into the lowest bucket rather than grow without bound
+                buckets[0] += n;
+                return;
+            }
+            long[] wider = new long[buckets.length + grow];
+            System.arraycopy(buckets, 0, wider, grow, buckets.length);
+            buckets = wider;
+            offset = index;
+        } else if (index >= offset + buckets.length) {
+            int length = index - offset + 1;
+            if (length > MAX_BUCKETS) {
+                buckets[buckets.length - 1] += n;
+                return;
+            }
+            buckets = Arrays.copyOf(buckets, length);
+        }
+        buckets[index - offset] += n;
+    }
+
+    private static void writeVarLong(DataOutputStream out, long value) throws IOException {
+        while ((value & ~0x7FL) != 0) {
+            out.writeByte((int) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        out.writeByte((int) value);
+    }
+
+    private static long readVarLong(DataInputStream in) throws IOException {
+        long value = 0;
+        for (int shift = 0; shift < 64; shift += 7) {
+            byte b = in.readByte();
+            value |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw new IllegalStateException("Corrupt quantile sketch");
+    }
+}
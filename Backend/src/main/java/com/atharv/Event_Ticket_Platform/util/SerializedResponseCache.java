@@ -0,0 +1,93 @@
+package com.atharv.Event_Ticket_Platform.util;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Supplier;
+import java.util.zip.CRC32C;
+
+// Keeps the JSON bytes of a response for as long as its version is unchanged, so repeat polls
+// neither rebuild nor re-serialise the body and can be answered with 304 from the ETag
+public class SerializedResponseCache<K> {
+
+    private final ObjectMapper objectMapper;
+    private final Map<K, SerializedResponse> entries;
+
+    // Access-ordered, so a full cache drops the least recently served entry rather than everything
+    public SerializedResponseCache(ObjectMapper objectMapper, int maxEntries) {
+        this.objectMapper = objectMapper;
+        int capacity = Math.max(1, maxEntries);
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<K, SerializedResponse> eldest) {
+                return size() > capacity;
+            }
+        };
+    }
+
+    // The caller reads the version before anything is loaded, so a change that lands mid-load
+    // leaves the entry behind the current version and the next call reloads it
+    public SerializedResponse get(K key, Object version, Supplier<?> loader) {
+        SerializedResponse cached;
+        synchronized (entries) {
+            cached = entries.get(key);
+        }
+        if (cached != null && cached.version().equals(version)) {
+            return cached;
+        }
+
+        byte[] body;
+        try {
+            body = objectMapper.writeValueAsBytes(loader.get());
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to serialise response", e);
+        }
+
+        SerializedResponse fresh = new SerializedResponse(version, body, etag(body));
+        synchronized (entries) {
+            entries.put(key, fresh);
+        }
+        return fresh;
+    }
+
+    public void clear() {
+        synchronized (entries) {
+            entries.clear();
+        }
+    }
+
+    private static String etag(byte[] body) {
+        CRC32C crc = new CRC32C();
+        crc.update(body);
+        return "\"" + Integer.toHexString(body.length) + "-" + HexFormat.of().toHexDigits((int) crc.getValue()) + "\"";
+    }
+
+    public record SerializedResponse(Object version, byte[] body, String etag) {
+
+        public boolean matches(String ifNoneMatch) {
+            return etagMatches(etag, ifNoneMatch);
+        }
+    }
+
+    // Weak comparison as If-None-Match requires: a W/ prefix on either side is ignored
+    public static boolean etagMatches(String etag, String ifNoneMatch) {
+        if (ifNoneMatch == null || ifNoneMatch.isBlank()) {
+            return false;
+        }
+        String current = stripWeak(etag);
+        for (String candidate : ifNoneMatch.split(",")) {
+            String trimmed = candidate.trim();
+            if (trimmed.equals("*") || stripWeak(trimmed).equals(current)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static String stripWeak(String tag) {
+        return tag.startsWith("W/") ? tag.substring(2) : tag;
+    }
+}
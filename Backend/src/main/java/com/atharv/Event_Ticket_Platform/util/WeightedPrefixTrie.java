@@ -0,0 +1,191 @@
+package com.atharv.Event_Ticket_Platform.util;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+
+// Path-compressed prefix trie whose keys carry weighted values. Every node remembers the heaviest
+// weight stored beneath it, so a top-k lookup walks best-first and stops after k distinct values
+// instead of visiting the whole subtree under the prefix. Not thread-safe: callers that share an
+// instance guard it with their own lock
+public class WeightedPrefixTrie<V> {
+
+    private final Node<V> root = new Node<>("");
+    private int keyCount;
+
+    public void put(String key, V value, long weight) {
+        List<Node<V>> path = new ArrayList<>();
+        Node<V> node = root;
+        String rest = key;
+        path.add(node);
+        while (!rest.isEmpty()) {
+            Node<V> child = node.children.get(rest.charAt(0));
+            if (child == null) {
+                child = new Node<>(rest);
+                node.children.put(rest.charAt(0), child);
+                rest = "";
+            } else {
+                int common = commonPrefixLength(child.label, rest);
+                if (common < child.label.length()) {
+                    Node<V> split = new Node<>(child.label.substring(0, common));
+                    child.label = child.label.substring(common);
+                    split.children.put(child.label.charAt(0), child);
+                    split.maxWeight = child.maxWeight;
+                    node.children.put(split.label.charAt(0), split);
+                    child = split;
+                }
+                rest = rest.substring(common);
+            }
+            node = child;
+            path.add(node);
+        }
+
+        if (node.values.isEmpty()) {
+            keyCount++;
+        }
+        node.values.put(value, weight);
+        recompute(path);
+    }
+
+    public void remove(String key, V value) {
+        List<Node<V>> path = pathTo(key);
+        if (path == null) {
+            return;
+        }
+        Node<V> node = path.get(path.size() - 1);
+        if (node.values.remove(value) == null) {
+            return;
+        }
+        if (node.values.isEmpty()) {
+            keyCount--;
+        }
+
+        // Drop emptied leaves and fold single-child chains back together so the trie stays compressed
+        for (int i = path.size() - 1; i > 0; i--) {
+            Node<V> current = path.get(i);
+            Node<V> parent = path.get(i - 1);
+            if (current.values.isEmpty() && current.children.isEmpty()) {
+                parent.children.remove(current.label.charAt(0));
+            } else if (current.values.isEmpty() && current.children.size() == 1) {
+                Node<V> only = current.children.values().iterator().next();
+                only.label = current.label + only.label;
+                parent.children.put(only.label.charAt(0), only);
+                path.set(i, only);
+            }
+        }
+        recompute(path);
+    }
+
+    public List<V> topK(String prefix, int k) {
+        Node<V> start = locate(prefix);
+        if (start == null || k <= 0) {
+            return List.of();
+        }
+
+        PriorityQueue<Candidate<V>> frontier = new PriorityQueue<>(
+                Comparator.comparingLong((Candidate<V> candidate) -> candidate.weight()).reversed());
+        frontier.add(new Candidate<>(start, null, start.maxWeight));
+
+        List<V> results = new ArrayList<>(k);
+        Set<V> seen = new HashSet<>();
+        while (!frontier.isEmpty() && results.size() < k) {
+            Candidate<V> next = frontier.poll();
+            if (next.node() == null) {
+                if (seen.add(next.value())) {
+                    results.add(next.value());
+                }
+                continue;
+            }
+            next.node().values.forEach((value, weight) -> frontier.add(new Candidate<>(null, value, weight)));
+            for (Node<V> child : next.node().children.values()) {
+                frontier.add(new Candidate<>(child, null, child.maxWeight));
+            }
+        }
+        return results;
+    }
+
+    public int keyCount() {
+        return keyCount;
+    }
+
+    // The node whose subtree holds every key starting with the prefix; the prefix may end mid-label
+    private Node<V> locate(String prefix) {
+        Node<V> node = root;
+        String rest = prefix;
+        while (!rest.isEmpty()) {
+            Node<V> child = node.children.get(rest.charAt(0));
+            if (child == null) {
+                return null;
+            }
+            int common = commonPrefixLength(child.label, rest);
+            if (common == rest.length()) {
+                return child;
+            }
+            if (common < child.label.length()) {
+                return null;
+            }
+            rest = rest.substring(common);
+            node = child;
+        }
+        return node;
+    }
+
+    private List<Node<V>> pathTo(String key) {
+        List<Node<V>> path = new ArrayList<>();
+        Node<V> node = root;
+        String rest = key;
+        path.add(node);
+        while (!rest.isEmpty()) {
+            Node<V> child = node.children.get(rest.charAt(0));
+            if (child == null || !rest.startsWith(child.label)) {
+                return null;
+            }
+            rest = rest.substring(child.label.length());
+            node = child;
+            path.add(node);
+        }
+        return path;
+    }
+
+    private static <V> void recompute(List<Node<V>> path) {
+        for (int i = path.size() - 1; i >= 0; i--) {
+            Node<V> node = path.get(i);
+            long max = Long.MIN_VALUE;
+            for (long weight : node.values.values()) {
+                max = Math.max(max, weight);
+            }
+            for (Node<V> child : node.children.values()) {
+                max = Math.max(max, child.maxWeight);
+            }
+            node.maxWeight = max;
+        }
+    }
+
+    private static int commonPrefixLength(String a, String b) {
+        int limit = Math.min(a.length(), b.length());
+        int i = 0;
+        while (i < limit && a.charAt(i) == b.charAt(i)) {
+            i++;
+        }
+        return i;
+    }
+
+    private record Candidate<V>(Node<V> node, V value, long weight) {
+    }
+
+    private static final class Node<V> {
+        private String label;
+        private final Map<Character, Node<V>> children = new HashMap<>();
+        private final Map<V, Long> values = new HashMap<>();
+        private long maxWeight = Long.MIN_VALUE;
+
+        private Node(String label) {
+            this.label = label;
+        }
+    }
+}
@@ -0,0 +1,157 @@
+package com.atharv.Event_Ticket_Platform.Controllers;
+
+import com.atharv.Event_Ticket_Platform.Config.CorsConfig;
+import com.atharv.Event_Ticket_Platform.Config.SecurityConfig;
+import com.atharv.Event_Ticket_Platform.Domain.Enum.ExportDataset;
+import com.atharv.Event_Ticket_Platform.Domain.Enum.ExportFormat;
+import com.atharv.Event_Ticket_Platform.Repository.StaffRepo;
+import com.atharv.Event_Ticket_Platform.Security.JwtAccessDeniedHandler;
+import com.atharv.Event_Ticket_Platform.Security.JwtAuthenticationEntryPoint;
+import com.atharv.Event_Ticket_Platform.Security.JwtService;
+import com.atharv.Event_Ticket_Platform.Service.ServiceImpl.AnalyticsService;
+import com.atharv.Event_Ticket_Platform.Service.ServiceImpl.DashboardResponseCache;
+import com.atharv.Event_Ticket_Platform.Service.ServiceImpl.EventExportService;
+import com.atharv.Event_Ticket_Platform.Service.ServiceImpl.LiveEntryStatsService;
+import com.atharv.Event_Ticket_Platform.Service.ServiceImpl.OrganiserDashboardService;
+import com.atharv.Event_Ticket_Platform.Service.ServiceImpl.RoleElevationService;
+import com.atharv.Event_Ticket_Platform.Service.ServiceImpl.ScanAnomalyDetector;
+import com.atharv.Event_Ticket_Platform.Service.ServiceImpl.ScanMetricsRecorder;
+import com.atharv.Event_Ticket_Platform.Service.ServiceImpl.StaffHeartbeatService;
+import com.atharv.Event_Ticket_Platform.Service.ServiceImpl.ValidationStatsService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpHeaders;
+import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+
+import static org.hamcrest.Matchers.containsString;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+// Streaming responses finish on an ASYNC dispatch that the JWT filter skips, so these run the real
+// security chain through both dispatches
+@WebMvcTest(OrganiserDashboardController.class)
+@Import({SecurityConfig.class, CorsConfig.class, JwtAuthenticationEntryPoint.class, JwtAccessDeniedHandler.class})
+class OrganiserDashboardControllerTest {
+
+    private static final String TOKEN = "organiser-token";
+    private static final UUID ORGANISER_ID = UUID.randomUUID();
+    private static final UUID EVENT_ID = UUID.randomUUID();
+    private static final String DASHBOARD = "/api/v1/organiser/events/{eventId}/dashboard";
+    private static final String ATTENDEE_LINE = "{\"name\":\"Ada\"}\n";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockitoBean
+    private JwtService jwtService;
+    @MockitoBean
+    private UserDetailsService userDetailsService;
+    @MockitoBean
+    private StaffRepo staffRepo;
+    @MockitoBean
+    private StaffHeartbeatService staffHeartbeatService;
+    @MockitoBean
+    private RoleElevationService roleElevationService;
+    @MockitoBean
+    private ValidationStatsService statsService;
+    @MockitoBean
+    private DashboardResponseCache dashboardResponseCache;
+    @MockitoBean
+    private LiveEntryStatsService liveEntryStatsService;
+    @MockitoBean
+    private ScanAnomalyDetector scanAnomalyDetector;
+    @MockitoBean
+    private ScanMetricsRecorder scanMetricsRecorder;
+    @MockitoBean
+    private AnalyticsService analyticsService;
+    @MockitoBean
+    private EventExportService eventExportService;
+    @MockitoBean
+    private OrganiserDashboardService organiserDashboardService;
+
+    @BeforeEach
+    void setUp() {
+        when(jwtService.extractUsername(TOKEN)).thenReturn("organiser");
+        when(jwtService.extractUserId(TOKEN)).thenReturn(ORGANISER_ID);
+        when(jwtService.extractClaim(eq(TOKEN), any())).thenReturn("organiser@example.com");
+        when(jwtService.extractRoles(TOKEN)).thenReturn("ORGANISER");
+        when(jwtService.isTokenValid(TOKEN)).thenReturn(true);
+
+        when(eventExportService.fileName(any(), any(), any())).thenReturn("export.ndjson");
+    }
+
+    @Test
+    void liveStreamCompletesOnAsyncDispatch() throws Exception {
+        SseEmitter emitter = new SseEmitter();
+        emitter.send(SseEmitter.event().name("stats").data("{}"));
+        emitter.complete();
+        when(liveEntryStatsService.subscribe(EVENT_ID, ORGANISER_ID)).thenReturn(emitter);
+
+        MvcResult started = startAsync(get(DASHBOARD + "/live", EVENT_ID));
+
+        mockMvc.perform(asyncDispatch(started))
+                .andExpect(status().isOk())
+                .andExpect(content().string(containsString("event:stats")));
+    }
+
+    @Test
+    void exportCompletesOnAsyncDispatch() throws Exception {
+        streamAttendees(ExportDataset.VALIDATED_ATTENDEES);
+
+        MvcResult started = startAsync(get(DASHBOARD + "/export", EVENT_ID)
+                .param("dataset", ExportDataset.VALIDATED_ATTENDEES.name())
+                .param("format", ExportFormat.NDJSON.name()));
+
+        mockMvc.perform(asyncDispatch(started))
+                .andExpect(status().isOk())
+                .andExpect(content().string(ATTENDEE_LINE));
+    }
+
+    @Test
+    void streamedAttendeeListCompletesOnAsyncDispatch() throws Exception {
+        streamAttendees(ExportDataset.EVENT_ATTENDEES);
+
+        MvcResult started = startAsync(get(DASHBOARD + "/event-attendees", EVENT_ID)
+                .param("stream", "true"));
+
+        mockMvc.perform(asyncDispatch(started))
+                .andExpect(status().isOk())
+                .andExpect(content().string(ATTENDEE_LINE));
+    }
+
+    @Test
+    void streamingPathsStillRequireATokenOnTheFirstDispatch() throws Exception {
+        mockMvc.perform(get(DASHBOARD + "/event-attendees", EVENT_ID).param("stream", "true"))
+                .andExpect(status().isUnauthorized());
+        mockMvc.perform(get(DASHBOARD + "/live", EVENT_ID))
+                .andExpect(status().isUnauthorized());
+    }
+
+    private MvcResult startAsync(MockHttpServletRequestBuilder builder) throws Exception {
+        return mockMvc.perform(builder.header(HttpHeaders.AUTHORIZATION, "Bearer " + TOKEN))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+    }
+
+    private void streamAttendees(ExportDataset dataset) {
+        when(eventExportService.export(EVENT_ID, ORGANISER_ID, dataset, ExportFormat.NDJSON))
+                .thenReturn(out -> out.write(ATTENDEE_LINE.getBytes(StandardCharsets.UTF_8)));
+    }
+}
@@ -0,0 +1,170 @@
+package com.atharv.Event_Ticket_Platform.Repository;
+
+import com.atharv.Event_Ticket_Platform.Domain.Entity.Event;
+import com.atharv.Event_Ticket_Platform.Domain.Entity.TicketType;
+import com.atharv.Event_Ticket_Platform.Domain.Entity.User;
+import com.atharv.Event_Ticket_Platform.Domain.Enum.EventStatus;
+import com.atharv.Event_Ticket_Platform.Domain.Enum.EventType;
+import com.atharv.Event_Ticket_Platform.Domain.Projections.DiscoveryFacetRow;
+import com.atharv.Event_Ticket_Platform.Domain.Requests.EventDiscoveryRequest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.junit.jupiter.params.provider.Arguments.arguments;
+
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect")
+class EventDiscoveryRepoTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.now().truncatedTo(ChronoUnit.SECONDS);
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private EventRepo eventRepo;
+
+    private User organiser;
+
+    @BeforeEach
+    void setUp() {
+        organiser = entityManager.persist(User.builder()
+                .name("organiser")
+                .email("organiser@example.com")
+                .password("secret")
+                .build());
+
+        event("Club night", EventType.PARTIES, "Hall A", 1, EventStatus.PUBLISHED, ticket(20.0, 10));
+        event("Derby", EventType.SPORTS, "Stadium", 2, EventStatus.PUBLISHED, ticket(80.0, 0));
+        event("Stadium rave", EventType.PARTIES, "Stadium", 3, EventStatus.PUBLISHED,
+                ticket(50.0, 5), ticket(150.0, 0));
+        event("Dev summit", EventType.CONFERENCES, "Hall A", 10, EventStatus.PUBLISHED);
+        event("Draft party", EventType.PARTIES, "Hall A", 1, EventStatus.DRAFT, ticket(20.0, 10));
+        event("Last week", EventType.PARTIES, "Hall A", -7, EventStatus.PUBLISHED, ticket(20.0, 10));
+
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    static Stream<Arguments> filterCombinations() {
+        return Stream.of(
+                arguments("no filters", filter().build(),
+                        List.of("Last week", "Club night", "Derby", "Stadium rave", "Dev summit")),
+                arguments("from", filter().from(NOW).build(),
+                        List.of("Club night", "Derby", "Stadium rave", "Dev summit")),
+                arguments("from and to", filter().from(NOW).to(NOW.plusDays(5)).build(),
+                        List.of("Club night", "Derby", "Stadium rave")),
+                arguments("from is inclusive", filter().from(NOW.plusDays(2)).build(),
+                        List.of("Derby", "Stadium rave", "Dev summit")),
+                arguments("one type", filter().from(NOW).eventTypes(List.of(EventType.PARTIES)).build(),
+                        List.of("Club night", "Stadium rave")),
+                arguments("several types",
+                        filter().from(NOW).eventTypes(List.of(EventType.PARTIES, EventType.SPORTS)).build(),
+                        List.of("Club night", "Derby", "Stadium rave")),
+                arguments("venue", filter().from(NOW).venue("Stadium").build(),
+                        List.of("Derby", "Stadium rave")),
+                arguments("min price", filter().from(NOW).minPrice(60.0).build(),
+                        List.of("Derby", "Stadium rave")),
+                arguments("max price", filter().from(NOW).maxPrice(30.0).build(),
+                        List.of("Club night")),
+                arguments("price range", filter().from(NOW).minPrice(40.0).maxPrice(100.0).build(),
+                        List.of("Derby", "Stadium rave")),
+                arguments("available only", filter().from(NOW).availableOnly(true).build(),
+                        List.of("Club night", "Stadium rave")),
+                // The cheap Stadium rave tier is available and the dear one is not, so no single tier matches
+                arguments("price and availability on the same tier",
+                        filter().from(NOW).minPrice(60.0).availableOnly(true).build(),
+                        List.of()),
+                arguments("type, venue and availability",
+                        filter().from(NOW).eventTypes(List.of(EventType.PARTIES)).venue("Stadium")
+                                .availableOnly(true).build(),
+                        List.of("Stadium rave"))
+        );
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("filterCombinations")
+    void discoverAppliesOnlyTheActiveFilters(String name, EventDiscoveryRequest filter, List<String> expected) {
+        Slice<Event> page = eventRepo.discover(EventStatus.PUBLISHED, filter, null, null, PageRequest.of(0, 20));
+
+        assertThat(page.getContent()).extracting(Event::getName).containsExactlyElementsOf(expected);
+        assertThat(page.hasNext()).isFalse();
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("filterCombinations")
+    void facetsCountTheSameMatchesAsThePage(String name, EventDiscoveryRequest filter, List<String> expected) {
+        List<DiscoveryFacetRow> rows = eventRepo.countDiscoveryFacets(EventStatus.PUBLISHED, filter);
+
+        assertThat(rows.stream().mapToLong(DiscoveryFacetRow::getEvents).sum()).isEqualTo(expected.size());
+    }
+
+    @Test
+    void facetsGroupByTypeAndVenue() {
+        List<DiscoveryFacetRow> rows = eventRepo.countDiscoveryFacets(EventStatus.PUBLISHED,
+                filter().from(NOW).eventTypes(List.of(EventType.PARTIES)).build());
+
+        assertThat(rows)
+                .extracting(DiscoveryFacetRow::getEventType, DiscoveryFacetRow::getVenue, DiscoveryFacetRow::getEvents)
+                .containsExactlyInAnyOrder(
+                        tuple(EventType.PARTIES, "Hall A", 1L),
+                        tuple(EventType.PARTIES, "Stadium", 1L));
+    }
+
+    @Test
+    void discoverSeeksPastTheLastRowServed() {
+        EventDiscoveryRequest filter = filter().from(NOW).build();
+
+        Slice<Event> first = eventRepo.discover(EventStatus.PUBLISHED, filter, null, null, PageRequest.of(0, 2));
+        Event last = first.getContent().get(1);
+        Slice<Event> second = eventRepo.discover(EventStatus.PUBLISHED, filter,
+                last.getStartTime(), last.getId(), PageRequest.of(0, 2));
+
+        assertThat(first.getContent()).extracting(Event::getName).containsExactly("Club night", "Derby");
+        assertThat(first.hasNext()).isTrue();
+        assertThat(second.getContent()).extracting(Event::getName).containsExactly("Stadium rave", "Dev summit");
+        assertThat(second.hasNext()).isFalse();
+    }
+
+    private static EventDiscoveryRequest.EventDiscoveryRequestBuilder filter() {
+        return EventDiscoveryRequest.builder();
+    }
+
+    private void event(String name, EventType type, String venue, int daysFromNow, EventStatus status,
+                       TicketType... ticketTypes) {
+        Event event = entityManager.persist(Event.builder()
+                .name(name)
+                .eventType(type)
+                .venue(venue)
+                .eventStatus(status)
+                .organiser(organiser)
+                .startTime(NOW.plusDays(daysFromNow))
+                .build());
+        for (TicketType ticketType : ticketTypes) {
+            ticketType.setEvent(event);
+            entityManager.persist(ticketType);
+        }
+    }
+
+    private static TicketType ticket(double price, int available) {
+        return TicketType.builder()
+                .name("Tier " + price)
+                .price(price)
+                .totalAvailable(available)
+                .build();
+    }
+}
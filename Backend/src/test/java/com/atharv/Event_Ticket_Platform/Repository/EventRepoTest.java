@@ -0,0 +1,96 @@
+package com.atharv.Event_Ticket_Platform.Repository;
+
+import com.atharv.Event_Ticket_Platform.Domain.DTO.PageDtos.CursorPageDto;
+import com.atharv.Event_Ticket_Platform.Domain.Entity.Event;
+import com.atharv.Event_Ticket_Platform.Domain.Entity.User;
+import com.atharv.Event_Ticket_Platform.Domain.Enum.EventStatus;
+import com.atharv.Event_Ticket_Platform.util.CursorCodec;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.Slice;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect")
+class EventRepoTest {
+
+    private static final int TIED_EVENTS = 7;
+    private static final int PAGE_SIZE = 3;
+    private static final LocalDateTime CREATED_AT = LocalDateTime.now().truncatedTo(ChronoUnit.SECONDS);
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private EventRepo eventRepo;
+
+    private final List<UUID> tiedIds = new ArrayList<>();
+    private UUID olderId;
+
+    @BeforeEach
+    void setUp() {
+        User organiser = entityManager.persist(User.builder()
+                .name("organiser")
+                .email("organiser@example.com")
+                .password("secret")
+                .build());
+
+        for (int i = 0; i < TIED_EVENTS; i++) {
+            tiedIds.add(persistEvent(organiser, "Tied " + i, EventStatus.PUBLISHED).getId());
+        }
+        olderId = persistEvent(organiser, "Older", EventStatus.PUBLISHED).getId();
+        persistEvent(organiser, "Draft", EventStatus.DRAFT);
+        entityManager.flush();
+
+        // Auditing stamps createdAt on insert and the column is not updatable through the entity, so the
+        // tie is forced directly in the table
+        entityManager.getEntityManager()
+                .createNativeQuery("UPDATE event SET created_at = CASE WHEN id = :olderId THEN :older ELSE :createdAt END")
+                .setParameter("olderId", olderId)
+                .setParameter("older", CREATED_AT.minusDays(1))
+                .setParameter("createdAt", CREATED_AT)
+                .executeUpdate();
+        entityManager.clear();
+    }
+
+    @Test
+    void cursorWalkCrossesRowsWithEqualCreatedAt() {
+        List<UUID> seen = new ArrayList<>();
+        String token = null;
+        int pages = 0;
+        do {
+            CursorCodec.Cursor cursor = CursorCodec.decode(token);
+            Slice<Event> slice = eventRepo.findByEventStatusBefore(EventStatus.PUBLISHED,
+                    cursor.sortKey(), cursor.uuidId(), CursorCodec.pageRequest(PAGE_SIZE));
+            CursorPageDto<UUID> page = CursorCodec.page(slice, Event::getId, Event::getCreatedAt, Event::getId);
+            seen.addAll(page.getContent());
+            token = page.getNextCursor();
+            pages++;
+        } while (token != null);
+
+        // Pages split the tie, yet every tied row is served exactly once and all of them before the older row
+        assertThat(pages).isEqualTo(3);
+        assertThat(seen).hasSize(TIED_EVENTS + 1).doesNotHaveDuplicates();
+        assertThat(seen.subList(0, TIED_EVENTS)).containsExactlyInAnyOrderElementsOf(tiedIds);
+        assertThat(seen.get(TIED_EVENTS)).isEqualTo(olderId);
+    }
+
+    private Event persistEvent(User organiser, String name, EventStatus status) {
+        return entityManager.persist(Event.builder()
+                .name(name)
+                .venue("Main hall")
+                .eventStatus(status)
+                .organiser(organiser)
+                .startTime(LocalDateTime.now().plusDays(7))
+                .build());
+    }
+}
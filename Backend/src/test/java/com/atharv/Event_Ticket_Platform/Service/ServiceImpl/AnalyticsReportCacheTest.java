@@ -0,0 +1,111 @@
+package com.atharv.Event_Ticket_Platform.Service.ServiceImpl;
+
+import com.atharv.Event_Ticket_Platform.Domain.DTO.AnalyticDtos.EventAnalyticsDto;
+import com.atharv.Event_Ticket_Platform.Domain.DTO.AnalyticDtos.OrganiserCompleteAnalyticsDto;
+import com.atharv.Event_Ticket_Platform.Domain.Events.EventUpdatedEvent;
+import com.atharv.Event_Ticket_Platform.Domain.Events.TicketPurchasedEvent;
+import com.atharv.Event_Ticket_Platform.Repository.EventRepo;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class AnalyticsReportCacheTest {
+
+    private static final UUID ORGANISER_ID = UUID.randomUUID();
+    private static final UUID OTHER_ORGANISER_ID = UUID.randomUUID();
+    private static final UUID UPDATED_EVENT_ID = UUID.randomUUID();
+    private static final UUID UNTOUCHED_EVENT_ID = UUID.randomUUID();
+
+    private final AnalyticsService analyticsService = mock(AnalyticsService.class);
+    private final EventRepo eventRepo = mock(EventRepo.class);
+
+    private AnalyticsReportCache reportCache;
+
+    @BeforeEach
+    void setUp() {
+        // A new instance per load, so a cached report is the same object and a reloaded one is not
+        when(analyticsService.getCompleteOrganiserAnalytics(any()))
+                .thenAnswer(invocation -> OrganiserCompleteAnalyticsDto.builder().build());
+        when(analyticsService.getPublishedEventsAnalytics(any()))
+                .thenAnswer(invocation -> OrganiserCompleteAnalyticsDto.builder().build());
+        when(analyticsService.getTicketTypePerformanceAcrossEvents(any())).thenAnswer(invocation -> List.of());
+        when(analyticsService.getEventAnalytics(any(), any()))
+                .thenAnswer(invocation -> EventAnalyticsDto.builder().eventId(invocation.getArgument(0)).build());
+
+        reportCache = new AnalyticsReportCache(analyticsService, eventRepo, 60_000, 1_000);
+    }
+
+    @Test
+    void eventUpdateReloadsTheOwnersReportsAndThatEventOnly() {
+        OrganiserCompleteAnalyticsDto complete = reportCache.getCompleteOrganiserAnalytics(ORGANISER_ID);
+        EventAnalyticsDto updated = reportCache.getEventAnalytics(UPDATED_EVENT_ID, ORGANISER_ID);
+        EventAnalyticsDto untouched = reportCache.getEventAnalytics(UNTOUCHED_EVENT_ID, ORGANISER_ID);
+        OrganiserCompleteAnalyticsDto otherOrganiser = reportCache.getCompleteOrganiserAnalytics(OTHER_ORGANISER_ID);
+
+        reportCache.onEventUpdated(new EventUpdatedEvent(UPDATED_EVENT_ID, ORGANISER_ID, LocalDateTime.now()));
+
+        assertThat(reportCache.getCompleteOrganiserAnalytics(ORGANISER_ID)).isNotSameAs(complete);
+        assertThat(reportCache.getEventAnalytics(UPDATED_EVENT_ID, ORGANISER_ID)).isNotSameAs(updated);
+        assertThat(reportCache.getEventAnalytics(UNTOUCHED_EVENT_ID, ORGANISER_ID)).isSameAs(untouched);
+        assertThat(reportCache.getCompleteOrganiserAnalytics(OTHER_ORGANISER_ID)).isSameAs(otherOrganiser);
+        // The update names its organiser, so no owner lookup is needed
+        verify(eventRepo, times(0)).findOrganiserIdById(any());
+    }
+
+    @Test
+    void publishingAnEventReloadsThePublishedReport() {
+        OrganiserCompleteAnalyticsDto beforePublish = reportCache.getPublishedEventsAnalytics(ORGANISER_ID);
+        assertThat(reportCache.getPublishedEventsAnalytics(ORGANISER_ID)).isSameAs(beforePublish);
+
+        // Publishing goes through updateEvent, which announces it as an EventUpdatedEvent
+        reportCache.onEventUpdated(new EventUpdatedEvent(UPDATED_EVENT_ID, ORGANISER_ID, LocalDateTime.now()));
+
+        assertThat(reportCache.getPublishedEventsAnalytics(ORGANISER_ID)).isNotSameAs(beforePublish);
+        verify(analyticsService, times(2)).getPublishedEventsAnalytics(ORGANISER_ID);
+    }
+
+    @Test
+    void ticketChangesLookUpTheOwnerOnceAndInvalidateItsReports() {
+        when(eventRepo.findOrganiserIdById(UPDATED_EVENT_ID)).thenReturn(Optional.of(ORGANISER_ID));
+        OrganiserCompleteAnalyticsDto otherOrganiser = reportCache.getCompleteOrganiserAnalytics(OTHER_ORGANISER_ID);
+
+        reportCache.getTicketTypePerformanceAcrossEvents(ORGANISER_ID);
+        reportCache.onTicketPurchased(purchase(UPDATED_EVENT_ID));
+        reportCache.getTicketTypePerformanceAcrossEvents(ORGANISER_ID);
+        reportCache.onTicketPurchased(purchase(UPDATED_EVENT_ID));
+        reportCache.getTicketTypePerformanceAcrossEvents(ORGANISER_ID);
+
+        verify(analyticsService, times(3)).getTicketTypePerformanceAcrossEvents(ORGANISER_ID);
+        verify(eventRepo, times(1)).findOrganiserIdById(UPDATED_EVENT_ID);
+        assertThat(reportCache.getCompleteOrganiserAnalytics(OTHER_ORGANISER_ID)).isSameAs(otherOrganiser);
+    }
+
+    @Test
+    void unknownOwnerInvalidatesEveryOrganiserWideReport() {
+        when(eventRepo.findOrganiserIdById(UPDATED_EVENT_ID)).thenReturn(Optional.empty());
+        OrganiserCompleteAnalyticsDto complete = reportCache.getCompleteOrganiserAnalytics(ORGANISER_ID);
+        OrganiserCompleteAnalyticsDto otherOrganiser = reportCache.getCompleteOrganiserAnalytics(OTHER_ORGANISER_ID);
+        EventAnalyticsDto untouched = reportCache.getEventAnalytics(UNTOUCHED_EVENT_ID, ORGANISER_ID);
+
+        reportCache.onTicketPurchased(purchase(UPDATED_EVENT_ID));
+
+        assertThat(reportCache.getCompleteOrganiserAnalytics(ORGANISER_ID)).isNotSameAs(complete);
+        assertThat(reportCache.getCompleteOrganiserAnalytics(OTHER_ORGANISER_ID)).isNotSameAs(otherOrganiser);
+        assertThat(reportCache.getEventAnalytics(UNTOUCHED_EVENT_ID, ORGANISER_ID)).isSameAs(untouched);
+    }
+
+    private static TicketPurchasedEvent purchase(UUID eventId) {
+        return new TicketPurchasedEvent(UUID.randomUUID(), eventId, 1, UUID.randomUUID(), 20.0, LocalDateTime.now());
+    }
+}
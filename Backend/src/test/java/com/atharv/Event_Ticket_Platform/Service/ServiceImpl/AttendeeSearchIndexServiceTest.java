@@ -0,0 +1,106 @@
+package com.atharv.Event_Ticket_Platform.Service.ServiceImpl;
+
+import com.atharv.Event_Ticket_Platform.Domain.DTO.TicketValidationDtos.AttendeeSearchResultDto;
+import com.atharv.Event_Ticket_Platform.Domain.Enum.TicketStatus;
+import com.atharv.Event_Ticket_Platform.Domain.Enum.TicketValidationMethod;
+import com.atharv.Event_Ticket_Platform.Domain.Events.TicketCancelledEvent;
+import com.atharv.Event_Ticket_Platform.Domain.Events.TicketValidatedEvent;
+import com.atharv.Event_Ticket_Platform.Domain.Projections.AttendeeIndexRow;
+import com.atharv.Event_Ticket_Platform.Repository.TicketsRepo;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class AttendeeSearchIndexServiceTest {
+
+    private static final UUID EVENT_ID = UUID.randomUUID();
+
+    private final TicketsRepo ticketsRepo = mock(TicketsRepo.class);
+    private final UUID adaTicket = UUID.randomUUID();
+    private final UUID adaSecondTicket = UUID.randomUUID();
+    private final UUID graceTicket = UUID.randomUUID();
+
+    private AttendeeSearchIndexService searchService;
+
+    @BeforeEach
+    void setUp() {
+        when(ticketsRepo.findAttendeeIndexRowsByEventId(EVENT_ID, TicketStatus.CANCELLED)).thenReturn(List.of(
+                row(adaTicket, "Ada Lovelace", "ada.lovelace@example.com"),
+                row(adaSecondTicket, "Ada Lovelace", "ada.lovelace@example.com"),
+                row(graceTicket, "Grace Hopper", "g.hopper+navy@example.com")));
+
+        searchService = new AttendeeSearchIndexService(ticketsRepo);
+        ReflectionTestUtils.setField(searchService, "maxIndexAgeMillis", 60_000L);
+    }
+
+    @Test
+    void namePrefixFindsEveryTicketOfThatAttendee() {
+        assertThat(ticketIds(searchService.search(EVENT_ID, "lov", 10)))
+                .containsExactlyInAnyOrder(adaTicket, adaSecondTicket);
+        assertThat(ticketIds(searchService.search(EVENT_ID, "  GRACE ", 10))).containsExactly(graceTicket);
+    }
+
+    @Test
+    void emailAndEmailTokenPrefixesMatch() {
+        assertThat(ticketIds(searchService.search(EVENT_ID, "g.hop", 10))).containsExactly(graceTicket);
+        assertThat(ticketIds(searchService.search(EVENT_ID, "navy", 10))).containsExactly(graceTicket);
+        assertThat(searchService.search(EVENT_ID, "example", 10)).isEmpty();
+    }
+
+    @Test
+    void everyTermMustMatch() {
+        assertThat(ticketIds(searchService.search(EVENT_ID, "ada lov", 10)))
+                .containsExactlyInAnyOrder(adaTicket, adaSecondTicket);
+        assertThat(searchService.search(EVENT_ID, "ada hopper", 10)).isEmpty();
+    }
+
+    @Test
+    void checkInsAndCancellationsApplyBetweenRebuilds() {
+        searchService.search(EVENT_ID, "ada", 10);
+
+        searchService.onTicketValidated(new TicketValidatedEvent(adaTicket, EVENT_ID, 1, "General", UUID.randomUUID(),
+                "staff", TicketValidationMethod.MANUAL, LocalDateTime.now(), LocalDateTime.now().minusDays(1)));
+        searchService.onTicketCancelled(new TicketCancelledEvent(adaSecondTicket, EVENT_ID, 1, UUID.randomUUID(),
+                25.0, LocalDateTime.now()));
+
+        List<AttendeeSearchResultDto> results = searchService.search(EVENT_ID, "ada", 10);
+        assertThat(ticketIds(results)).containsExactly(adaTicket);
+        assertThat(results.get(0).getStatus()).isEqualTo(TicketStatus.USED);
+        verify(ticketsRepo, times(1)).findAttendeeIndexRowsByEventId(EVENT_ID, TicketStatus.CANCELLED);
+    }
+
+    @Test
+    void expiredIndexIsRebuiltInTheBackground() {
+        ReflectionTestUtils.setField(searchService, "maxIndexAgeMillis", -1L);
+
+        searchService.search(EVENT_ID, "ada", 10);
+        assertThat(searchService.search(EVENT_ID, "ada", 10)).hasSize(2);
+
+        verify(ticketsRepo, timeout(5_000).times(2)).findAttendeeIndexRowsByEventId(EVENT_ID, TicketStatus.CANCELLED);
+    }
+
+    private static AttendeeIndexRow row(UUID ticketId, String name, String email) {
+        AttendeeIndexRow row = mock(AttendeeIndexRow.class);
+        when(row.getTicketId()).thenReturn(ticketId);
+        when(row.getStatus()).thenReturn(TicketStatus.PURCHASED);
+        when(row.getTicketTypeName()).thenReturn("General");
+        when(row.getPurchaserName()).thenReturn(name);
+        when(row.getPurchaserEmail()).thenReturn(email);
+        return row;
+    }
+
+    private static List<UUID> ticketIds(List<AttendeeSearchResultDto> results) {
+        return results.stream().map(AttendeeSearchResultDto::getTicketId).toList();
+    }
+}
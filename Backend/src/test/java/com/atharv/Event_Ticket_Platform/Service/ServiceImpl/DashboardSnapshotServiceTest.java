@@ -0,0 +1,131 @@
+package com.atharv.Event_Ticket_Platform.Service.ServiceImpl;
+
+import com.atharv.Event_Ticket_Platform.Domain.DTO.AnalyticDtos.OrganiserCompleteAnalyticsDto;
+import com.atharv.Event_Ticket_Platform.Domain.DTO.AnalyticDtos.OrganiserDashboardSnapshotDto;
+import com.atharv.Event_Ticket_Platform.Domain.DTO.AnalyticDtos.OrganiserOverviewDto;
+import com.atharv.Event_Ticket_Platform.Domain.Entity.OrganiserDashboardSnapshot;
+import com.atharv.Event_Ticket_Platform.Repository.EventRepo;
+import com.atharv.Event_Ticket_Platform.Repository.OrganiserDashboardSnapshotRepo;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class DashboardSnapshotServiceTest {
+
+    private static final long REFRESH_INTERVAL_MS = 300_000;
+    private static final long ACTIVE_WINDOW_MS = 3_600_000;
+    private static final UUID ORGANISER_ID = UUID.randomUUID();
+
+    private final ObjectMapper objectMapper = JsonMapper.builder().findAndAddModules().build();
+    private final OrganiserDashboardService organiserDashboardService = mock(OrganiserDashboardService.class);
+    private final AnalyticsService analyticsService = mock(AnalyticsService.class);
+    private final OrganiserDashboardSnapshotRepo snapshotRepo = mock(OrganiserDashboardSnapshotRepo.class);
+
+    private DashboardSnapshotService snapshotService;
+
+    @BeforeEach
+    void setUp() {
+        snapshotService = new DashboardSnapshotService(organiserDashboardService, analyticsService, snapshotRepo,
+                mock(EventRepo.class), objectMapper, new TransactionTemplate(mock(PlatformTransactionManager.class)));
+        ReflectionTestUtils.setField(snapshotService, "refreshIntervalMillis", REFRESH_INTERVAL_MS);
+        ReflectionTestUtils.setField(snapshotService, "activeWindowMillis", ACTIVE_WINDOW_MS);
+
+        when(organiserDashboardService.getOrganiserOverview(ORGANISER_ID)).thenReturn(OrganiserOverviewDto.builder()
+                .organiserId(ORGANISER_ID)
+                .totalEvents(4)
+                .build());
+        when(analyticsService.getCompleteOrganiserAnalytics(ORGANISER_ID))
+                .thenReturn(OrganiserCompleteAnalyticsDto.builder().build());
+    }
+
+    @Test
+    void returningOrganiserGetsAFreshBuildInsteadOfAnOldSnapshot() throws Exception {
+        // Built days ago, while nobody was watching this organiser's events
+        storeSnapshot(LocalDateTime.now().minusDays(3), 1);
+
+        OrganiserDashboardSnapshotDto snapshot = snapshotService.getSnapshot(ORGANISER_ID);
+
+        assertThat(snapshot.getOverview().getTotalEvents()).isEqualTo(4);
+        assertThat(snapshot.getStalenessMillis()).isLessThan(REFRESH_INTERVAL_MS);
+        verify(snapshotRepo).upsert(eq(ORGANISER_ID), any(), any());
+    }
+
+    @Test
+    void recentSnapshotIsRebuiltOnceWhenTheOrganiserWasNotTracked() throws Exception {
+        // Recent, but dirty marks were not being kept for this organiser, so it may have missed changes
+        storeSnapshot(LocalDateTime.now().minusSeconds(30), 1);
+
+        OrganiserDashboardSnapshotDto first = snapshotService.getSnapshot(ORGANISER_ID);
+        storeSnapshot(first.getBuiltAt(), 4);
+        OrganiserDashboardSnapshotDto second = snapshotService.getSnapshot(ORGANISER_ID);
+
+        assertThat(second.getOverview().getTotalEvents()).isEqualTo(4);
+        verify(organiserDashboardService, times(1)).getOrganiserOverview(ORGANISER_ID);
+    }
+
+    @Test
+    void activeOrganiserIsServedTheStoredSnapshotWhileItIsFresh() throws Exception {
+        markActive(System.currentTimeMillis() - 60_000);
+        storeSnapshot(LocalDateTime.now().minusSeconds(30), 1);
+
+        OrganiserDashboardSnapshotDto snapshot = snapshotService.getSnapshot(ORGANISER_ID);
+
+        assertThat(snapshot.getOverview().getTotalEvents()).isEqualTo(1);
+        verify(organiserDashboardService, never()).getOrganiserOverview(any());
+    }
+
+    @Test
+    void activeOrganiserIsRebuiltOnceTheSnapshotOutlivesTheRefreshInterval() throws Exception {
+        markActive(System.currentTimeMillis() - 60_000);
+        storeSnapshot(LocalDateTime.now().minusSeconds(REFRESH_INTERVAL_MS / 1000 + 60), 1);
+
+        OrganiserDashboardSnapshotDto snapshot = snapshotService.getSnapshot(ORGANISER_ID);
+
+        assertThat(snapshot.getOverview().getTotalEvents()).isEqualTo(4);
+    }
+
+    @Test
+    void organiserWhoseActiveWindowLapsedIsRebuilt() throws Exception {
+        markActive(System.currentTimeMillis() - ACTIVE_WINDOW_MS - 60_000);
+        storeSnapshot(LocalDateTime.now().minusSeconds(30), 1);
+
+        OrganiserDashboardSnapshotDto snapshot = snapshotService.getSnapshot(ORGANISER_ID);
+
+        assertThat(snapshot.getOverview().getTotalEvents()).isEqualTo(4);
+    }
+
+    private void storeSnapshot(LocalDateTime builtAt, int totalEvents) throws Exception {
+        Map<String, Object> payload = Map.of(
+                "overview", OrganiserOverviewDto.builder().organiserId(ORGANISER_ID).totalEvents(totalEvents).build(),
+                "analytics", OrganiserCompleteAnalyticsDto.builder().build());
+        when(snapshotRepo.findById(ORGANISER_ID)).thenReturn(Optional.of(OrganiserDashboardSnapshot.builder()
+                .organiserId(ORGANISER_ID)
+                .payload(objectMapper.writeValueAsBytes(payload))
+                .builtAt(builtAt)
+                .build()));
+    }
+
+    @SuppressWarnings("unchecked")
+    private void markActive(long lastSeenMillis) {
+        ((Map<UUID, Long>) ReflectionTestUtils.getField(snapshotService, "activeOrganisers"))
+                .put(ORGANISER_ID, lastSeenMillis);
+    }
+}
@@ -0,0 +1,172 @@
+package com.atharv.Event_Ticket_Platform.Service.ServiceImpl;
+
+import com.atharv.Event_Ticket_Platform.Domain.DTO.EventDtos.EventResponseDto;
+import com.atharv.Event_Ticket_Platform.Domain.DTO.EventDtos.ListEventResponseDto;
+import com.atharv.Event_Ticket_Platform.Domain.DTO.EventDtos.PublishEventDto;
+import com.atharv.Event_Ticket_Platform.Domain.Entity.Event;
+import com.atharv.Event_Ticket_Platform.Domain.Entity.TicketType;
+import com.atharv.Event_Ticket_Platform.Domain.Entity.User;
+import com.atharv.Event_Ticket_Platform.Domain.Enum.EventStatus;
+import com.atharv.Event_Ticket_Platform.Domain.Mapper.EventMapper;
+import com.atharv.Event_Ticket_Platform.Domain.Mapper.EventMapperImpl;
+import com.atharv.Event_Ticket_Platform.util.CursorCodec;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest(properties = {
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+@Import({EventServiceImpl.class, UserServiceImpl.class, EventSearchService.class, EventMapperImpl.class})
+class EventServiceImplTest {
+
+    private static final int PAGE_SIZE = 50;
+    private static final int EVENT_COUNT = PAGE_SIZE + 10;
+    private static final int TICKET_TYPES_PER_EVENT = 3;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private EventServiceImpl eventService;
+
+    @Autowired
+    private EventMapper eventMapper;
+
+    private User organiser;
+    private Event firstEvent;
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        organiser = entityManager.persist(User.builder()
+                .name("organiser")
+                .email("organiser@example.com")
+                .password("secret")
+                .build());
+
+        for (int i = 0; i < EVENT_COUNT; i++) {
+            Event event = entityManager.persist(Event.builder()
+                    .name("Event " + i)
+                    .venue("Main hall")
+                    .eventStatus(EventStatus.PUBLISHED)
+                    .organiser(organiser)
+                    .startTime(LocalDateTime.now().plusDays(7))
+                    .build());
+            for (int t = 0; t < TICKET_TYPES_PER_EVENT; t++) {
+                entityManager.persist(TicketType.builder()
+                        .name("Tier " + t)
+                        .price(10.0 * (t + 1))
+                        .totalAvailable(100)
+                        .event(event)
+                        .build());
+            }
+            if (firstEvent == null) {
+                firstEvent = event;
+            }
+        }
+
+        entityManager.flush();
+        entityManager.clear();
+
+        statistics = entityManager.getEntityManager().getEntityManagerFactory()
+                .unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    void publishedCataloguePageBatchesTicketTypes() {
+        Page<PublishEventDto> result = eventService.listPublishedEvents(PageRequest.of(0, PAGE_SIZE))
+                .map(eventMapper::toPublishEventDto);
+        List<PublishEventDto> page = result.getContent();
+
+        // Page rows with a window count for the total, and one batched ticket-type load
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+        assertThat(result.getTotalElements()).isEqualTo(EVENT_COUNT);
+        assertThat(page).hasSize(PAGE_SIZE);
+        assertThat(page).allSatisfy(event -> assertThat(event.getTicketTypes()).hasSize(TICKET_TYPES_PER_EVENT));
+    }
+
+    @Test
+    void publishedCataloguePagePastTheEndStillReportsTotal() {
+        Page<Event> result = eventService.listPublishedEvents(PageRequest.of(5, PAGE_SIZE));
+
+        assertThat(result.getContent()).isEmpty();
+        assertThat(result.getTotalElements()).isEqualTo(EVENT_COUNT);
+    }
+
+    @Test
+    void searchMatchesNamesWhileIndexIsWarming() {
+        // The index is only built after ApplicationReadyEvent, which a sliced test never publishes
+        Page<Event> result = eventService.searchPublishedEvents("event 1", PageRequest.of(0, PAGE_SIZE));
+
+        // "Event 1" and "Event 10" to "Event 19"
+        assertThat(result.getTotalElements()).isEqualTo(11);
+        assertThat(result.getContent()).allSatisfy(event -> assertThat(event.getName()).startsWith("Event 1"));
+    }
+
+    @Test
+    void publishedCatalogueCursorPageUsesTwoStatements() {
+        List<PublishEventDto> page = eventService.listPublishedEventsByCursor(CursorCodec.decode(null), PAGE_SIZE)
+                .map(eventMapper::toPublishEventDto)
+                .getContent();
+
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+        assertThat(page).hasSize(PAGE_SIZE);
+        assertThat(page).allSatisfy(event -> assertThat(event.getTicketTypes()).hasSize(TICKET_TYPES_PER_EVENT));
+    }
+
+    @Test
+    void organiserEventPageBatchesTicketTypes() {
+        Page<ListEventResponseDto> result = eventService.listEventForOrganiser(organiser.getId(), PageRequest.of(0, PAGE_SIZE))
+                .map(eventMapper::toListEventResponseDto);
+        List<ListEventResponseDto> page = result.getContent();
+
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+        assertThat(result.getTotalElements()).isEqualTo(EVENT_COUNT);
+        assertThat(page).allSatisfy(event -> assertThat(event.getTicketTypes()).hasSize(TICKET_TYPES_PER_EVENT));
+    }
+
+    @Test
+    void organiserEventCursorPageUsesTwoStatements() {
+        List<ListEventResponseDto> page = eventService.listEventForOrganiserByCursor(
+                        organiser.getId(), CursorCodec.decode(null), PAGE_SIZE)
+                .map(eventMapper::toListEventResponseDto)
+                .getContent();
+
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+        assertThat(page).hasSize(PAGE_SIZE);
+    }
+
+    @Test
+    void eventDetailLoadsTicketTypesInSameStatement() {
+        EventResponseDto detail = eventMapper.toEventResponseDto(
+                eventService.getEvent(firstEvent.getId(), organiser.getId()));
+
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+        assertThat(detail.getTicketTypes()).hasSize(TICKET_TYPES_PER_EVENT);
+    }
+
+    @Test
+    void publishedEventDetailLoadsTicketTypesInSameStatement() {
+        PublishEventDto detail = eventService.getPublishedEventById(firstEvent.getId())
+                .map(eventMapper::toPublishEventDto)
+                .orElseThrow();
+
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+        assertThat(detail.getTicketTypes()).hasSize(TICKET_TYPES_PER_EVENT);
+    }
+}
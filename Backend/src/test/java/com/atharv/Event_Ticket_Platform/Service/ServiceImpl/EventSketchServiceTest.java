@@ -0,0 +1,143 @@
+package com.atharv.Event_Ticket_Platform.Service.ServiceImpl;
+
+import com.atharv.Event_Ticket_Platform.Domain.Entity.EventSketch;
+import com.atharv.Event_Ticket_Platform.Domain.Events.TicketPurchasedEvent;
+import com.atharv.Event_Ticket_Platform.Domain.Projections.SoldTicketRow;
+import com.atharv.Event_Ticket_Platform.Repository.EventRepo;
+import com.atharv.Event_Ticket_Platform.Repository.EventSketchRepo;
+import com.atharv.Event_Ticket_Platform.Repository.TicketValidationRepo;
+import com.atharv.Event_Ticket_Platform.Repository.TicketsRepo;
+import com.atharv.Event_Ticket_Platform.util.QuantileSketch;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class EventSketchServiceTest {
+
+    private static final UUID EVENT_ID = UUID.randomUUID();
+
+    // Stands in for the database row lock: taken by findForUpdate, released when the transaction ends
+    private final ReentrantLock rowLock = new ReentrantLock();
+    private final EventSketch stored = EventSketch.builder().eventId(EVENT_ID).updatedAt(LocalDateTime.now()).build();
+
+    private final EventSketchRepo eventSketchRepo = mock(EventSketchRepo.class);
+    private final TicketsRepo ticketsRepo = mock(TicketsRepo.class);
+    private final TicketValidationRepo ticketValidationRepo = mock(TicketValidationRepo.class);
+
+    private EventSketchService sketchService;
+
+    @BeforeEach
+    void setUp() {
+        when(eventSketchRepo.findForUpdate(EVENT_ID)).thenAnswer(invocation -> {
+            rowLock.lock();
+            return Optional.of(stored);
+        });
+        when(ticketValidationRepo.findEntryDelaysByEvent(eq(EVENT_ID), any())).thenReturn(List.of());
+
+        sketchService = new EventSketchService(mock(EventRepo.class), eventSketchRepo, ticketsRepo,
+                ticketValidationRepo, new TransactionTemplate(new RowLockTransactionManager()));
+        ReflectionTestUtils.setField(sketchService, "enabled", true);
+    }
+
+    @Test
+    void flushDuringRebuildWaitsAndIsNotOverwritten() throws Exception {
+        // Committed before the rebuild starts, so the tables already hold it
+        sketchService.onTicketPurchased(purchase(10.0));
+        List<SoldTicketRow> committed = List.of(row(10.0), row(20.0));
+
+        Thread[] flusher = new Thread[1];
+        when(ticketsRepo.findSoldTicketRowsAfter(eq(EVENT_ID), any(), any(), any())).thenAnswer(invocation -> {
+            // A purchase commits after the rebuild's read, and a flush starts while the rebuild holds the row
+            sketchService.onTicketPurchased(purchase(30.0));
+            flusher[0] = Thread.ofPlatform().start(sketchService::flushPending);
+            awaitQueuedOnRowLock(flusher[0]);
+            return committed;
+        });
+
+        sketchService.rebuildEvent(EVENT_ID);
+        flusher[0].join(TimeUnit.SECONDS.toMillis(5));
+
+        // 10 and 20 from the tables, 30 from the flush that waited; the early 10 is not counted twice
+        QuantileSketch prices = QuantileSketch.fromBytes(stored.getPriceSketch());
+        assertThat(flusher[0].isAlive()).isFalse();
+        assertThat(prices.count()).isEqualTo(3);
+        assertThat(prices.max()).isGreaterThan(29.0);
+    }
+
+    @Test
+    void flushMergesIntoStoredSketch() {
+        when(ticketsRepo.findSoldTicketRowsAfter(eq(EVENT_ID), any(), any(), any()))
+                .thenReturn(List.of(row(10.0), row(20.0)));
+        sketchService.rebuildEvent(EVENT_ID);
+
+        sketchService.onTicketPurchased(purchase(30.0));
+        sketchService.flushPending();
+        sketchService.flushPending();
+
+        assertThat(QuantileSketch.fromBytes(stored.getPriceSketch()).count()).isEqualTo(3);
+        assertThat(rowLock.isLocked()).isFalse();
+    }
+
+    private void awaitQueuedOnRowLock(Thread thread) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (!rowLock.hasQueuedThread(thread)) {
+            assertThat(System.nanoTime()).isLessThan(deadline);
+            Thread.sleep(5);
+        }
+    }
+
+    private static TicketPurchasedEvent purchase(double price) {
+        return new TicketPurchasedEvent(UUID.randomUUID(), EVENT_ID, 1, UUID.randomUUID(), price, LocalDateTime.now());
+    }
+
+    private static SoldTicketRow row(double price) {
+        SoldTicketRow row = mock(SoldTicketRow.class);
+        when(row.getTicketId()).thenReturn(UUID.randomUUID());
+        when(row.getPurchaserId()).thenReturn(UUID.randomUUID());
+        when(row.getPrice()).thenReturn(price);
+        when(row.getPurchasedAt()).thenReturn(LocalDateTime.now());
+        return row;
+    }
+
+    private final class RowLockTransactionManager implements PlatformTransactionManager {
+
+        @Override
+        public TransactionStatus getTransaction(TransactionDefinition definition) {
+            return new SimpleTransactionStatus();
+        }
+
+        @Override
+        public void commit(TransactionStatus status) {
+            release();
+        }
+
+        @Override
+        public void rollback(TransactionStatus status) {
+            release();
+        }
+
+        private void release() {
+            while (rowLock.isHeldByCurrentThread()) {
+                rowLock.unlock();
+            }
+        }
+    }
+}
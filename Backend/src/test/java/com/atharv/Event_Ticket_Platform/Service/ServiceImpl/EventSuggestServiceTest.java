@@ -0,0 +1,119 @@
+package com.atharv.Event_Ticket_Platform.Service.ServiceImpl;
+
+import com.atharv.Event_Ticket_Platform.Domain.DTO.EventDtos.EventSuggestionDto;
+import com.atharv.Event_Ticket_Platform.Domain.Entity.Event;
+import com.atharv.Event_Ticket_Platform.Domain.Entity.User;
+import com.atharv.Event_Ticket_Platform.Domain.Enum.EventStatus;
+import com.atharv.Event_Ticket_Platform.Domain.Enum.SuggestionKind;
+import com.atharv.Event_Ticket_Platform.Domain.Events.EventUpdatedEvent;
+import com.atharv.Event_Ticket_Platform.Domain.Events.TicketPurchasedEvent;
+import com.atharv.Event_Ticket_Platform.Repository.EventRepo;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect")
+@Import(EventSuggestService.class)
+class EventSuggestServiceTest {
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private EventSuggestService suggestService;
+
+    @Autowired
+    private EventRepo eventRepo;
+
+    private User organiser;
+    private Event summerJazz;
+    private Event jazzBrunch;
+
+    @BeforeEach
+    void setUp() {
+        organiser = entityManager.persist(User.builder()
+                .name("organiser")
+                .email("organiser@example.com")
+                .password("secret")
+                .build());
+
+        summerJazz = persistEvent("Summer Jazz Night", "Riverside Park", EventStatus.PUBLISHED);
+        jazzBrunch = persistEvent("Jazz Brunch", "Riverside Cafe", EventStatus.PUBLISHED);
+        persistEvent("Jazz Rehearsal", "Studio", EventStatus.DRAFT);
+        entityManager.flush();
+
+        suggestService.rebuild();
+    }
+
+    @Test
+    void nothingIsSuggestedBeforeTheFirstBuild() {
+        EventSuggestService coldService = new EventSuggestService(eventRepo);
+
+        assertThat(coldService.suggest("jazz", 10)).isEmpty();
+
+        coldService.rebuild();
+        assertThat(texts(coldService.suggest("jazz", 10))).hasSize(2);
+    }
+
+    @Test
+    void wordInsideANameSuggestsTheWholeName() {
+        assertThat(texts(suggestService.suggest("jaz", 10)))
+                .containsExactlyInAnyOrder("Summer Jazz Night", "Jazz Brunch");
+        assertThat(texts(suggestService.suggest("night", 10))).containsExactly("Summer Jazz Night");
+        assertThat(suggestService.suggest("azz", 10)).isEmpty();
+    }
+
+    @Test
+    void venuesAreSuggestedAlongsideNames() {
+        List<EventSuggestionDto> suggestions = suggestService.suggest("riverside", 10);
+
+        assertThat(suggestions).extracting(EventSuggestionDto::getKind).containsOnly(SuggestionKind.VENUE);
+        assertThat(texts(suggestions)).containsExactlyInAnyOrder("Riverside Park", "Riverside Cafe");
+    }
+
+    @Test
+    void purchasesRaiseASuggestionAboveOthers() {
+        suggestService.onTicketPurchased(purchase(summerJazz));
+        suggestService.onTicketPurchased(purchase(summerJazz));
+
+        assertThat(texts(suggestService.suggest("jazz", 10))).containsExactly("Summer Jazz Night", "Jazz Brunch");
+        assertThat(suggestService.suggest("jazz", 1).get(0).getPopularity()).isEqualTo(3);
+    }
+
+    @Test
+    void unpublishedEventIsRemoved() {
+        jazzBrunch.setEventStatus(EventStatus.DRAFT);
+        entityManager.flush();
+
+        suggestService.onEventUpdated(new EventUpdatedEvent(jazzBrunch.getId(), organiser.getId(), LocalDateTime.now()));
+
+        assertThat(texts(suggestService.suggest("jazz", 10))).containsExactly("Summer Jazz Night");
+        assertThat(suggestService.suggest("brunch", 10)).isEmpty();
+    }
+
+    private Event persistEvent(String name, String venue, EventStatus status) {
+        return entityManager.persist(Event.builder()
+                .name(name)
+                .venue(venue)
+                .eventStatus(status)
+                .organiser(organiser)
+                .startTime(LocalDateTime.now().plusDays(7))
+                .build());
+    }
+
+    private static TicketPurchasedEvent purchase(Event event) {
+        return new TicketPurchasedEvent(null, event.getId(), null, null, 10.0, LocalDateTime.now());
+    }
+
+    private static List<String> texts(List<EventSuggestionDto> suggestions) {
+        return suggestions.stream().map(EventSuggestionDto::getText).toList();
+    }
+}
@@ -0,0 +1,137 @@
+package com.atharv.Event_Ticket_Platform.Service.ServiceImpl;
+
+import com.atharv.Event_Ticket_Platform.Domain.DTO.AnalyticDtos.TimeSeriesDto;
+import com.atharv.Event_Ticket_Platform.Domain.DTO.AnalyticDtos.TimeSeriesPointDto;
+import com.atharv.Event_Ticket_Platform.Domain.Entity.Event;
+import com.atharv.Event_Ticket_Platform.Domain.Entity.EventMetricBucket;
+import com.atharv.Event_Ticket_Platform.Domain.Entity.User;
+import com.atharv.Event_Ticket_Platform.Domain.Enum.TimeSeriesMetric;
+import com.atharv.Event_Ticket_Platform.Domain.Events.TicketPurchasedEvent;
+import com.atharv.Event_Ticket_Platform.Repository.EventMetricBucketRepo;
+import com.atharv.Event_Ticket_Platform.Repository.EventRepo;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.entry;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class EventTimeSeriesServiceTest {
+
+    private static final UUID EVENT_ID = UUID.randomUUID();
+    private static final UUID ORGANISER_ID = UUID.randomUUID();
+
+    // Half an hour back, so these minutes are closed by the time the flush runs
+    private final LocalDateTime base = LocalDateTime.now().truncatedTo(ChronoUnit.MINUTES).minusMinutes(30);
+    private final LocalDateTime openMinute = LocalDateTime.now().truncatedTo(ChronoUnit.MINUTES).plusMinutes(2);
+
+    private final EventRepo eventRepo = mock(EventRepo.class);
+    private final EventMetricBucketRepo bucketRepo = mock(EventMetricBucketRepo.class);
+    // Stands in for event_metric_bucket with the same add-on-conflict semantics as the upsert
+    private final Map<LocalDateTime, Long> stored = new TreeMap<>();
+
+    private EventTimeSeriesService timeSeriesService;
+
+    @BeforeEach
+    void setUp() {
+        when(eventRepo.findById(EVENT_ID)).thenReturn(Optional.of(Event.builder()
+                .id(EVENT_ID)
+                .organiser(User.builder().id(ORGANISER_ID).build())
+                .build()));
+        doAnswer(invocation -> {
+            stored.merge(invocation.getArgument(2), invocation.getArgument(3), Long::sum);
+            return null;
+        }).when(bucketRepo).addToBucket(eq(EVENT_ID), eq(TimeSeriesMetric.TICKETS_SOLD.name()), any(), anyLong());
+        when(bucketRepo.findRange(eq(EVENT_ID), eq(TimeSeriesMetric.TICKETS_SOLD), any(), any()))
+                .thenAnswer(invocation -> stored.entrySet().stream()
+                        .map(e -> EventMetricBucket.builder()
+                                .eventId(EVENT_ID)
+                                .metric(TimeSeriesMetric.TICKETS_SOLD)
+                                .bucketStart(e.getKey())
+                                .count(e.getValue())
+                                .build())
+                        .toList());
+
+        timeSeriesService = new EventTimeSeriesService(eventRepo, bucketRepo,
+                new TransactionTemplate(mock(PlatformTransactionManager.class)));
+    }
+
+    @Test
+    void salesEitherSideOfAMinuteBoundaryFlushIntoSeparateBuckets() {
+        sold(base.plusMinutes(4).plusSeconds(59).plusNanos(999_000_000));
+        sold(base.plusMinutes(5));
+        sold(openMinute.plusSeconds(10));
+
+        timeSeriesService.flushClosedBuckets();
+
+        // The open minute stays in the ring until it closes
+        assertThat(stored).containsExactly(entry(base.plusMinutes(4), 1L), entry(base.plusMinutes(5), 1L));
+
+        TimeSeriesDto series = series();
+        assertThat(series.getTotal()).isEqualTo(3);
+        assertThat(countAt(series, base.plusMinutes(4))).isEqualTo(1);
+        assertThat(countAt(series, base.plusMinutes(5))).isEqualTo(1);
+        assertThat(countAt(series, openMinute)).isEqualTo(1);
+    }
+
+    @Test
+    void laterFlushesOnlyAddWhatArrivedSinceTheLastOne() {
+        sold(base.plusMinutes(4).plusSeconds(10));
+        sold(base.plusMinutes(5));
+        timeSeriesService.flushClosedBuckets();
+
+        // A late arrival for a minute that has already been flushed once
+        sold(base.plusMinutes(4).plusSeconds(50));
+        timeSeriesService.flushClosedBuckets();
+        timeSeriesService.flushClosedBuckets();
+
+        assertThat(stored).containsExactly(entry(base.plusMinutes(4), 2L), entry(base.plusMinutes(5), 1L));
+        verify(bucketRepo, times(1)).addToBucket(EVENT_ID, TimeSeriesMetric.TICKETS_SOLD.name(), base.plusMinutes(5), 1L);
+        assertThat(series().getTotal()).isEqualTo(3);
+    }
+
+    @Test
+    void shutdownFlushIncludesTheOpenMinute() {
+        sold(base.plusMinutes(4));
+        sold(openMinute.plusSeconds(30));
+
+        timeSeriesService.flushOnShutdown();
+
+        assertThat(stored).containsExactly(entry(base.plusMinutes(4), 1L), entry(openMinute, 1L));
+        assertThat(series().getTotal()).isEqualTo(2);
+    }
+
+    private void sold(LocalDateTime at) {
+        timeSeriesService.onTicketPurchased(new TicketPurchasedEvent(UUID.randomUUID(), EVENT_ID, 1,
+                UUID.randomUUID(), 20.0, at));
+    }
+
+    private TimeSeriesDto series() {
+        return timeSeriesService.getSeries(EVENT_ID, ORGANISER_ID, TimeSeriesMetric.TICKETS_SOLD,
+                base, openMinute.plusMinutes(5), 1);
+    }
+
+    private static long countAt(TimeSeriesDto series, LocalDateTime minute) {
+        return series.getPoints().stream()
+                .filter(point -> point.getBucketStart().equals(minute))
+                .mapToLong(TimeSeriesPointDto::getCount)
+                .findFirst()
+                .orElseThrow();
+    }
+}
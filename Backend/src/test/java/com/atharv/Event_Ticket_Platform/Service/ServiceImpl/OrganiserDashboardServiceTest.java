@@ -0,0 +1,115 @@
+package com.atharv.Event_Ticket_Platform.Service.ServiceImpl;
+
+import com.atharv.Event_Ticket_Platform.Domain.DTO.AnalyticDtos.EventStatisticsDto;
+import com.atharv.Event_Ticket_Platform.Domain.DTO.AnalyticDtos.OrganiserOverviewDto;
+import com.atharv.Event_Ticket_Platform.Domain.Entity.Event;
+import com.atharv.Event_Ticket_Platform.Domain.Entity.EventSalesRollup;
+import com.atharv.Event_Ticket_Platform.Domain.Entity.User;
+import com.atharv.Event_Ticket_Platform.Domain.Enum.EventStatus;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest(properties = {
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+@Import(OrganiserDashboardService.class)
+class OrganiserDashboardServiceTest {
+
+    private static final int ATTENDEES_PER_EVENT = 40;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private OrganiserDashboardService dashboardService;
+
+    private User organiser;
+    private Event publishedEvent;
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        organiser = entityManager.persist(user("organiser"));
+        publishedEvent = entityManager.persist(event("Festival", EventStatus.PUBLISHED));
+        Event draftEvent = entityManager.persist(event("Draft", EventStatus.DRAFT));
+
+        entityManager.persist(rollup(publishedEvent, 30, 1500.0));
+        entityManager.persist(rollup(draftEvent, 0, 0.0));
+
+        for (int i = 0; i < ATTENDEES_PER_EVENT; i++) {
+            User attendee = user("attendee" + i);
+            attendee.setAttendingEvents(new ArrayList<>(List.of(publishedEvent)));
+            entityManager.persist(attendee);
+        }
+
+        entityManager.flush();
+        entityManager.clear();
+
+        statistics = entityManager.getEntityManager().getEntityManagerFactory()
+                .unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    void overviewUsesFixedStatementBudget() {
+        OrganiserOverviewDto overview = dashboardService.getOrganiserOverview(organiser.getId());
+
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(3);
+        assertThat(statistics.getCollectionLoadCount()).isZero();
+        assertThat(overview.getTotalEvents()).isEqualTo(2);
+        assertThat(overview.getPublishedEvents()).isEqualTo(1);
+        assertThat(overview.getDraftEvents()).isEqualTo(1);
+        assertThat(overview.getTotalTicketsSold()).isEqualTo(30L);
+        assertThat(overview.getTotalRevenue()).isEqualTo(1500.0);
+        assertThat(overview.getTotalAttendees()).isEqualTo((long) ATTENDEES_PER_EVENT);
+    }
+
+    @Test
+    void eventStatisticsUseFixedStatementBudget() {
+        EventStatisticsDto stats = dashboardService.getEventStatistics(publishedEvent.getId(), organiser.getId());
+
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(3);
+        assertThat(statistics.getCollectionLoadCount()).isZero();
+        assertThat(stats.getAttendeesCount()).isEqualTo((long) ATTENDEES_PER_EVENT);
+    }
+
+    private User user(String name) {
+        return User.builder()
+                .name(name)
+                .email(name + "@example.com")
+                .password("secret")
+                .build();
+    }
+
+    private Event event(String name, EventStatus status) {
+        return Event.builder()
+                .name(name)
+                .venue("Main hall")
+                .eventStatus(status)
+                .organiser(organiser)
+                .startTime(LocalDateTime.now().plusDays(7))
+                .build();
+    }
+
+    private EventSalesRollup rollup(Event event, long sold, double revenue) {
+        return EventSalesRollup.builder()
+                .eventId(event.getId())
+                .ticketsSold(sold)
+                .revenue(revenue)
+                .updatedAt(LocalDateTime.now())
+                .build();
+    }
+}
@@ -0,0 +1,142 @@
+package com.atharv.Event_Ticket_Platform.Service.ServiceImpl;
+
+import com.atharv.Event_Ticket_Platform.Domain.DTO.AnalyticDtos.RevenueTrendDto;
+import com.atharv.Event_Ticket_Platform.Domain.DTO.AnalyticDtos.RevenueTrendPointDto;
+import com.atharv.Event_Ticket_Platform.Domain.Entity.OrganiserRevenueBucket;
+import com.atharv.Event_Ticket_Platform.Domain.Enum.RevenueGranularity;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect")
+@Import(RevenueLedgerService.class)
+class RevenueLedgerServiceTest {
+
+    private static final UUID ORGANISER_ID = UUID.randomUUID();
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private RevenueLedgerService ledgerService;
+
+    @BeforeEach
+    void setUp() {
+        // 2026-03-30 is a Monday, so the days below straddle both a week and a month boundary
+        day(ORGANISER_ID, LocalDate.of(2026, 3, 29), 2, 50.0, 0, 0.0);
+        day(ORGANISER_ID, LocalDate.of(2026, 3, 30), 1, 25.0, 0, 0.0);
+        day(ORGANISER_ID, LocalDate.of(2026, 3, 31), 3, 90.0, 0, 0.0);
+        // Refund of a March ticket, booked on the day it was cancelled
+        day(ORGANISER_ID, LocalDate.of(2026, 4, 1), 0, 0.0, 1, 30.0);
+        day(ORGANISER_ID, LocalDate.of(2026, 4, 2), 1, 40.0, 0, 0.0);
+
+        // The hour row mirrors a day row and must not be counted again by coarser charts
+        bucket(ORGANISER_ID, RevenueGranularity.HOUR, LocalDateTime.of(2026, 3, 30, 10, 0), 1, 25.0, 0, 0.0);
+        day(UUID.randomUUID(), LocalDate.of(2026, 3, 30), 5, 500.0, 0, 0.0);
+
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    void dayRowsFoldIntoMondayStartedWeeks() {
+        RevenueTrendDto trend = ledgerService.getRevenueTrend(ORGANISER_ID,
+                LocalDateTime.of(2026, 3, 25, 12, 0), LocalDateTime.of(2026, 4, 5, 0, 0), RevenueGranularity.WEEK);
+
+        assertThat(trend.getFrom()).isEqualTo(LocalDateTime.of(2026, 3, 23, 0, 0));
+        assertThat(trend.getTo()).isEqualTo(LocalDateTime.of(2026, 4, 6, 0, 0));
+        assertThat(trend.getPoints())
+                .extracting(RevenueTrendPointDto::getBucketStart, RevenueTrendPointDto::getTicketsSold,
+                        RevenueTrendPointDto::getGrossRevenue, RevenueTrendPointDto::getNetRevenue)
+                .containsExactly(
+                        tuple(LocalDateTime.of(2026, 3, 23, 0, 0), 2L, 50.0, 50.0),
+                        tuple(LocalDateTime.of(2026, 3, 30, 0, 0), 5L, 155.0, 125.0));
+    }
+
+    @Test
+    void dayRowsFoldIntoCalendarMonthsWithEmptyMonthsZeroFilled() {
+        RevenueTrendDto trend = ledgerService.getRevenueTrend(ORGANISER_ID,
+                LocalDateTime.of(2026, 2, 10, 0, 0), LocalDateTime.of(2026, 4, 20, 0, 0), RevenueGranularity.MONTH);
+
+        assertThat(trend.getPoints())
+                .extracting(RevenueTrendPointDto::getBucketStart, RevenueTrendPointDto::getTicketsSold,
+                        RevenueTrendPointDto::getTicketsCancelled, RevenueTrendPointDto::getNetRevenue)
+                .containsExactly(
+                        tuple(LocalDateTime.of(2026, 2, 1, 0, 0), 0L, 0L, 0.0),
+                        tuple(LocalDateTime.of(2026, 3, 1, 0, 0), 6L, 0L, 165.0),
+                        tuple(LocalDateTime.of(2026, 4, 1, 0, 0), 1L, 1L, 10.0));
+    }
+
+    @Test
+    void everyDayInRangeHasAPointEvenWithoutSales() {
+        RevenueTrendDto trend = ledgerService.getRevenueTrend(ORGANISER_ID,
+                LocalDateTime.of(2026, 3, 29, 0, 0), LocalDateTime.of(2026, 4, 4, 0, 0), RevenueGranularity.DAY);
+
+        assertThat(trend.getPoints())
+                .extracting(RevenueTrendPointDto::getBucketStart, RevenueTrendPointDto::getNetRevenue)
+                .containsExactly(
+                        tuple(LocalDateTime.of(2026, 3, 29, 0, 0), 50.0),
+                        tuple(LocalDateTime.of(2026, 3, 30, 0, 0), 25.0),
+                        tuple(LocalDateTime.of(2026, 3, 31, 0, 0), 90.0),
+                        tuple(LocalDateTime.of(2026, 4, 1, 0, 0), -30.0),
+                        tuple(LocalDateTime.of(2026, 4, 2, 0, 0), 40.0),
+                        tuple(LocalDateTime.of(2026, 4, 3, 0, 0), 0.0));
+    }
+
+    @Test
+    void refundsAreNettedFromTotals() {
+        RevenueTrendDto trend = ledgerService.getRevenueTrend(ORGANISER_ID,
+                LocalDateTime.of(2026, 3, 1, 0, 0), LocalDateTime.of(2026, 5, 1, 0, 0), RevenueGranularity.MONTH);
+
+        assertThat(trend.getTotalTicketsSold()).isEqualTo(7);
+        assertThat(trend.getTotalTicketsCancelled()).isEqualTo(1);
+        assertThat(trend.getTotalGrossRevenue()).isEqualTo(205.0);
+        assertThat(trend.getTotalRefundedRevenue()).isEqualTo(30.0);
+        assertThat(trend.getTotalNetRevenue()).isEqualTo(175.0);
+    }
+
+    @Test
+    void hourlyChartsReadHourRows() {
+        RevenueTrendDto trend = ledgerService.getRevenueTrend(ORGANISER_ID,
+                LocalDateTime.of(2026, 3, 30, 9, 0), LocalDateTime.of(2026, 3, 30, 12, 0), RevenueGranularity.HOUR);
+
+        assertThat(trend.getPoints())
+                .extracting(RevenueTrendPointDto::getTicketsSold)
+                .containsExactly(0L, 1L, 0L);
+    }
+
+    @Test
+    void rangeWithTooManyBucketsIsRejected() {
+        assertThatThrownBy(() -> ledgerService.getRevenueTrend(ORGANISER_ID,
+                LocalDateTime.of(2020, 1, 1, 0, 0), LocalDateTime.of(2026, 1, 1, 0, 0), RevenueGranularity.HOUR))
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    private void day(UUID organiserId, LocalDate date, long sold, double gross, long cancelled, double refunded) {
+        bucket(organiserId, RevenueGranularity.DAY, date.atStartOfDay(), sold, gross, cancelled, refunded);
+    }
+
+    private void bucket(UUID organiserId, RevenueGranularity granularity, LocalDateTime start,
+                        long sold, double gross, long cancelled, double refunded) {
+        entityManager.persist(OrganiserRevenueBucket.builder()
+                .organiserId(organiserId)
+                .granularity(granularity)
+                .bucketStart(start)
+                .ticketsSold(sold)
+                .grossRevenue(gross)
+                .ticketsCancelled(cancelled)
+                .refundedRevenue(refunded)
+                .build());
+    }
+}
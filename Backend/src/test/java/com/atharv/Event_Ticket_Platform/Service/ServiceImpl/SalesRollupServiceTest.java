@@ -0,0 +1,216 @@
+package com.atharv.Event_Ticket_Platform.Service.ServiceImpl;
+
+import com.atharv.Event_Ticket_Platform.Domain.DTO.AnalyticDtos.RollupVerificationDto;
+import com.atharv.Event_Ticket_Platform.Domain.Entity.EventSalesRollup;
+import com.atharv.Event_Ticket_Platform.Domain.Entity.TicketTypeRollup;
+import com.atharv.Event_Ticket_Platform.Domain.Enum.TicketValidationMethod;
+import com.atharv.Event_Ticket_Platform.Domain.Enum.TicketValidationStatus;
+import com.atharv.Event_Ticket_Platform.Domain.Events.TicketCancelledEvent;
+import com.atharv.Event_Ticket_Platform.Domain.Events.TicketPurchasedEvent;
+import com.atharv.Event_Ticket_Platform.Domain.Events.TicketValidatedEvent;
+import com.atharv.Event_Ticket_Platform.Domain.Projections.TicketTypeSales;
+import com.atharv.Event_Ticket_Platform.Repository.EventRepo;
+import com.atharv.Event_Ticket_Platform.Repository.EventSalesRollupRepo;
+import com.atharv.Event_Ticket_Platform.Repository.TicketTypeRepo;
+import com.atharv.Event_Ticket_Platform.Repository.TicketTypeRollupRepo;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyDouble;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+// The upserts are Postgres-only, so the rollup tables are kept in memory with the same add/overwrite
+// semantics and the ticket tables are a list the full recount reads from
+class SalesRollupServiceTest {
+
+    private static final UUID EVENT_ID = UUID.randomUUID();
+    private static final int GENERAL = 1;
+    private static final int VIP = 2;
+
+    private final EventSalesRollupRepo eventSalesRollupRepo = mock(EventSalesRollupRepo.class);
+    private final TicketTypeRollupRepo ticketTypeRollupRepo = mock(TicketTypeRollupRepo.class);
+    private final TicketTypeRepo ticketTypeRepo = mock(TicketTypeRepo.class);
+
+    private final EventSalesRollup eventRow = EventSalesRollup.builder().eventId(EVENT_ID).build();
+    private final Map<Integer, TicketTypeRollup> typeRows = new TreeMap<>();
+    private final List<SoldTicket> tickets = new ArrayList<>();
+
+    private SalesRollupService rollupService;
+
+    @BeforeEach
+    void setUp() {
+        doAnswer(invocation -> {
+            eventRow.setTicketsSold(eventRow.getTicketsSold() + invocation.<Long>getArgument(1));
+            eventRow.setRevenue(eventRow.getRevenue() + invocation.<Double>getArgument(2));
+            eventRow.setTicketsCancelled(eventRow.getTicketsCancelled() + invocation.<Long>getArgument(3));
+            eventRow.setCancelledRevenue(eventRow.getCancelledRevenue() + invocation.<Double>getArgument(4));
+            eventRow.setValidatedCount(eventRow.getValidatedCount() + invocation.<Long>getArgument(5));
+            return null;
+        }).when(eventSalesRollupRepo).applyDelta(eq(EVENT_ID), anyLong(), anyDouble(), anyLong(), anyDouble(), anyLong());
+        doAnswer(invocation -> {
+            eventRow.setTicketsSold(invocation.getArgument(1));
+            eventRow.setRevenue(invocation.getArgument(2));
+            eventRow.setTicketsCancelled(invocation.getArgument(3));
+            eventRow.setCancelledRevenue(invocation.getArgument(4));
+            eventRow.setValidatedCount(invocation.getArgument(5));
+            return null;
+        }).when(eventSalesRollupRepo).overwrite(eq(EVENT_ID), anyLong(), anyDouble(), anyLong(), anyDouble(), anyLong());
+
+        doAnswer(invocation -> {
+            TicketTypeRollup row = typeRows.computeIfAbsent(invocation.getArgument(0),
+                    id -> TicketTypeRollup.builder().ticketTypeId(id).eventId(EVENT_ID).build());
+            row.setTicketsSold(row.getTicketsSold() + invocation.<Long>getArgument(2));
+            row.setRevenue(row.getRevenue() + invocation.<Double>getArgument(3));
+            row.setTicketsCancelled(row.getTicketsCancelled() + invocation.<Long>getArgument(4));
+            row.setCancelledRevenue(row.getCancelledRevenue() + invocation.<Double>getArgument(5));
+            row.setValidatedCount(row.getValidatedCount() + invocation.<Long>getArgument(6));
+            return null;
+        }).when(ticketTypeRollupRepo).applyDelta(any(), eq(EVENT_ID), anyLong(), anyDouble(), anyLong(), anyDouble(), anyLong());
+        doAnswer(invocation -> {
+            typeRows.put(invocation.getArgument(0), TicketTypeRollup.builder()
+                    .ticketTypeId(invocation.getArgument(0))
+                    .eventId(EVENT_ID)
+                    .ticketsSold(invocation.getArgument(2))
+                    .revenue(invocation.getArgument(3))
+                    .ticketsCancelled(invocation.getArgument(4))
+                    .cancelledRevenue(invocation.getArgument(5))
+                    .validatedCount(invocation.getArgument(6))
+                    .build());
+            return null;
+        }).when(ticketTypeRollupRepo).overwrite(any(), eq(EVENT_ID), anyLong(), anyDouble(), anyLong(), anyDouble(), anyLong());
+        when(ticketTypeRollupRepo.findByEventId(EVENT_ID)).thenAnswer(invocation -> List.copyOf(typeRows.values()));
+        when(ticketTypeRollupRepo.deleteStaleForEvent(eq(EVENT_ID), any())).thenAnswer(invocation -> {
+            Collection<Integer> live = invocation.getArgument(1);
+            int before = typeRows.size();
+            typeRows.keySet().retainAll(live);
+            return before - typeRows.size();
+        });
+
+        when(ticketTypeRepo.findSalesByEventId(EVENT_ID, TicketValidationStatus.VALID))
+                .thenAnswer(invocation -> List.of(salesFromTables(GENERAL), salesFromTables(VIP)));
+
+        rollupService = new SalesRollupService(mock(EventRepo.class), ticketTypeRepo, eventSalesRollupRepo,
+                ticketTypeRollupRepo, new TransactionTemplate(mock(PlatformTransactionManager.class)));
+    }
+
+    @Test
+    void incrementalTotalsMatchAFullRebuildAfterMixedDeltas() {
+        SoldTicket first = purchase(GENERAL, 25.0);
+        SoldTicket second = purchase(GENERAL, 25.0);
+        SoldTicket vip = purchase(VIP, 120.0);
+        validate(first);
+        cancel(second);
+        SoldTicket third = purchase(GENERAL, 20.0);
+        validate(vip);
+        SoldTicket refundedVip = purchase(VIP, 110.0);
+        cancel(refundedVip);
+        validate(third);
+
+        EventSalesRollup incremental = copyOf(eventRow);
+        RollupVerificationDto verification = rollupService.rebuildEvent(EVENT_ID);
+
+        assertThat(verification.isConsistent()).isTrue();
+        assertThat(verification.getTicketTypesChecked()).isEqualTo(2);
+        assertThat(verification.getTicketTypesCorrected()).isZero();
+        assertThat(incremental.getTicketsSold()).isEqualTo(5).isEqualTo(eventRow.getTicketsSold());
+        assertThat(incremental.getTicketsCancelled()).isEqualTo(2).isEqualTo(eventRow.getTicketsCancelled());
+        assertThat(incremental.getValidatedCount()).isEqualTo(3).isEqualTo(eventRow.getValidatedCount());
+        assertThat(incremental.getRevenue()).isCloseTo(eventRow.getRevenue(), within(0.001));
+        assertThat(incremental.getCancelledRevenue()).isCloseTo(135.0, within(0.001));
+    }
+
+    @Test
+    void rebuildCorrectsARollupThatMissedADelta() {
+        purchase(GENERAL, 25.0);
+        SoldTicket vip = purchase(VIP, 120.0);
+        // Cancelled in the tables without the listener running
+        vip.cancelled = true;
+
+        RollupVerificationDto verification = rollupService.rebuildEvent(EVENT_ID);
+
+        assertThat(verification.isConsistent()).isFalse();
+        assertThat(verification.getTicketTypesCorrected()).isEqualTo(1);
+        assertThat(typeRows.get(VIP).getTicketsCancelled()).isEqualTo(1);
+        assertThat(eventRow.getCancelledRevenue()).isCloseTo(120.0, within(0.001));
+        assertThat(rollupService.rebuildEvent(EVENT_ID).isConsistent()).isTrue();
+    }
+
+    private SoldTicket purchase(int ticketTypeId, double price) {
+        SoldTicket ticket = new SoldTicket(UUID.randomUUID(), ticketTypeId, price);
+        tickets.add(ticket);
+        rollupService.onTicketPurchased(new TicketPurchasedEvent(ticket.id, EVENT_ID, ticketTypeId,
+                UUID.randomUUID(), price, LocalDateTime.now()));
+        return ticket;
+    }
+
+    private void cancel(SoldTicket ticket) {
+        ticket.cancelled = true;
+        rollupService.onTicketCancelled(new TicketCancelledEvent(ticket.id, EVENT_ID, ticket.ticketTypeId,
+                UUID.randomUUID(), ticket.price, LocalDateTime.now()));
+    }
+
+    private void validate(SoldTicket ticket) {
+        ticket.validated = true;
+        rollupService.onTicketValidated(new TicketValidatedEvent(ticket.id, EVENT_ID, ticket.ticketTypeId,
+                "General", UUID.randomUUID(), "staff", TicketValidationMethod.QR, LocalDateTime.now(),
+                LocalDateTime.now().minusDays(1)));
+    }
+
+    private TicketTypeSales salesFromTables(int ticketTypeId) {
+        List<SoldTicket> ofType = tickets.stream().filter(ticket -> ticket.ticketTypeId == ticketTypeId).toList();
+        TicketTypeSales sales = mock(TicketTypeSales.class);
+        when(sales.getTicketTypeId()).thenReturn(ticketTypeId);
+        when(sales.getTicketsSold()).thenReturn((long) ofType.size());
+        when(sales.getRevenue()).thenReturn(ofType.stream().mapToDouble(ticket -> ticket.price).sum());
+        when(sales.getTicketsCancelled()).thenReturn(ofType.stream().filter(ticket -> ticket.cancelled).count());
+        when(sales.getCancelledRevenue()).thenReturn(ofType.stream()
+                .filter(ticket -> ticket.cancelled).mapToDouble(ticket -> ticket.price).sum());
+        when(sales.getValidatedCount()).thenReturn(ofType.stream().filter(ticket -> ticket.validated).count());
+        when(sales.revenueOrZero()).thenCallRealMethod();
+        when(sales.ticketsCancelledOrZero()).thenCallRealMethod();
+        when(sales.cancelledRevenueOrZero()).thenCallRealMethod();
+        return sales;
+    }
+
+    private static EventSalesRollup copyOf(EventSalesRollup row) {
+        return EventSalesRollup.builder()
+                .eventId(row.getEventId())
+                .ticketsSold(row.getTicketsSold())
+                .revenue(row.getRevenue())
+                .ticketsCancelled(row.getTicketsCancelled())
+                .cancelledRevenue(row.getCancelledRevenue())
+                .validatedCount(row.getValidatedCount())
+                .build();
+    }
+
+    private static final class SoldTicket {
+        private final UUID id;
+        private final int ticketTypeId;
+        private final double price;
+        private boolean cancelled;
+        private boolean validated;
+
+        private SoldTicket(UUID id, int ticketTypeId, double price) {
+            this.id = id;
+            this.ticketTypeId = ticketTypeId;
+            this.price = price;
+        }
+    }
+}
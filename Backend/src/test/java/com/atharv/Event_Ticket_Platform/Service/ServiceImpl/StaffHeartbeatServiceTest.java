@@ -0,0 +1,93 @@
+package com.atharv.Event_Ticket_Platform.Service.ServiceImpl;
+
+import com.atharv.Event_Ticket_Platform.Domain.Entity.Staff;
+import com.atharv.Event_Ticket_Platform.Repository.StaffRepo;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect")
+@Import(StaffHeartbeatService.class)
+class StaffHeartbeatServiceTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.now().truncatedTo(ChronoUnit.SECONDS);
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private StaffRepo staffRepo;
+
+    @Autowired
+    private StaffHeartbeatService heartbeatService;
+
+    @Test
+    void flushAdvancesLastLoginOfEveryPendingStaffMember() {
+        Staff neverSeen = persistStaff(null);
+        Staff seenBefore = persistStaff(NOW.minusDays(1));
+
+        heartbeatService.recordHeartbeat(neverSeen.getStaffUserId());
+        heartbeatService.recordHeartbeat(seenBefore.getStaffUserId());
+        heartbeatService.flushHeartbeats();
+        entityManager.clear();
+
+        assertThat(lastLogin(neverSeen)).isAfterOrEqualTo(NOW);
+        assertThat(lastLogin(seenBefore)).isAfterOrEqualTo(NOW);
+    }
+
+    @Test
+    void staleHeartbeatDoesNotOverwriteNewerLastLogin() {
+        // Another instance already recorded a later login for this staff member
+        Staff loggedInLater = persistStaff(NOW.plusHours(1));
+
+        heartbeatService.recordHeartbeat(loggedInLater.getStaffUserId());
+        heartbeatService.flushHeartbeats();
+        entityManager.clear();
+
+        assertThat(lastLogin(loggedInLater)).isEqualTo(NOW.plusHours(1));
+    }
+
+    @Test
+    void batchOnlyMovesEachRowForward() {
+        Staff behind = persistStaff(NOW.minusHours(2));
+        Staff ahead = persistStaff(NOW.plusHours(2));
+
+        staffRepo.advanceLastLogins(Map.of(
+                behind.getStaffUserId(), NOW,
+                ahead.getStaffUserId(), NOW,
+                UUID.randomUUID(), NOW));
+        entityManager.clear();
+
+        assertThat(lastLogin(behind)).isEqualTo(NOW);
+        assertThat(lastLogin(ahead)).isEqualTo(NOW.plusHours(2));
+    }
+
+    private Staff persistStaff(LocalDateTime lastLogin) {
+        Staff staff = entityManager.persist(Staff.builder()
+                .staffUserId(UUID.randomUUID())
+                .eventId(UUID.randomUUID())
+                .username("staff")
+                .email("staff@example.com")
+                .createdByOrganiserId(UUID.randomUUID())
+                .isActive(true)
+                .validFrom(NOW.minusDays(1))
+                .validUntil(NOW.plusDays(1))
+                .lastLogin(lastLogin)
+                .build());
+        entityManager.flush();
+        return staff;
+    }
+
+    private LocalDateTime lastLogin(Staff staff) {
+        return staffRepo.findByStaffUserId(staff.getStaffUserId()).orElseThrow().getLastLogin();
+    }
+}
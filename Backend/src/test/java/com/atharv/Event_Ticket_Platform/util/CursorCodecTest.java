@@ -0,0 +1,119 @@
+package com.atharv.Event_Ticket_Platform.util;
+
+import com.atharv.Event_Ticket_Platform.Domain.DTO.PageDtos.CursorPageDto;
+import com.atharv.Event_Ticket_Platform.Exceptions.InvalidCursorException;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.NullAndEmptySource;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.SliceImpl;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CursorCodecTest {
+
+    private static final LocalDateTime CREATED_AT = LocalDateTime.of(2025, 3, 14, 15, 9, 26, 535_897_000);
+
+    @Test
+    void uuidCursorRoundTrips() {
+        UUID id = UUID.randomUUID();
+
+        CursorCodec.Cursor cursor = CursorCodec.decode(CursorCodec.encode(CREATED_AT, id));
+
+        assertThat(cursor.sortKey()).isEqualTo(CREATED_AT);
+        assertThat(cursor.uuidId()).isEqualTo(id);
+    }
+
+    @Test
+    void longCursorRoundTrips() {
+        CursorCodec.Cursor cursor = CursorCodec.decode(CursorCodec.encode(CREATED_AT, 42L));
+
+        assertThat(cursor.sortKey()).isEqualTo(CREATED_AT);
+        assertThat(cursor.longId()).isEqualTo(42L);
+    }
+
+    @Test
+    void tokenIsUrlSafe() {
+        String token = CursorCodec.encode(CREATED_AT, UUID.randomUUID());
+
+        assertThat(token).matches("[A-Za-z0-9_-]+");
+    }
+
+    @ParameterizedTest
+    @NullAndEmptySource
+    @ValueSource(strings = {"   "})
+    void blankCursorStartsFromTheBeginning(String token) {
+        CursorCodec.Cursor cursor = CursorCodec.decode(token);
+
+        assertThat(cursor.id()).isNull();
+        assertThat(cursor.sortKey()).isAfter(LocalDateTime.now().plusYears(100));
+        assertThat(cursor.uuidId()).isEqualTo(new UUID(-1L, -1L));
+        assertThat(cursor.longId()).isEqualTo(Long.MAX_VALUE);
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"not base64!", "%%%", "abc|def", "1741964966|x", "1741964966.abc|x",
+            "x.0|x", "1741964966.2000000000|x", "1741964966.-1|x"})
+    void malformedCursorIsRejected(String raw) {
+        String token = raw.contains("|") ? encodeRaw(raw) : raw;
+
+        assertThatThrownBy(() -> CursorCodec.decode(token)).isInstanceOf(InvalidCursorException.class);
+    }
+
+    @Test
+    void truncatedCursorIsRejected() {
+        String token = CursorCodec.encode(CREATED_AT, UUID.randomUUID());
+        String truncated = token.substring(0, token.length() / 2);
+
+        assertThatThrownBy(() -> CursorCodec.decode(truncated).uuidId()).isInstanceOf(InvalidCursorException.class);
+    }
+
+    @Test
+    void nonUuidIdIsRejected() {
+        CursorCodec.Cursor cursor = CursorCodec.decode(CursorCodec.encode(CREATED_AT, 42L));
+
+        assertThatThrownBy(cursor::uuidId).isInstanceOf(InvalidCursorException.class);
+    }
+
+    @Test
+    void nonNumericIdIsRejected() {
+        CursorCodec.Cursor cursor = CursorCodec.decode(CursorCodec.encode(CREATED_AT, UUID.randomUUID()));
+
+        assertThatThrownBy(cursor::longId).isInstanceOf(InvalidCursorException.class);
+    }
+
+    @Test
+    void pageSizeIsClamped() {
+        assertThat(CursorCodec.pageRequest(0).getPageSize()).isEqualTo(1);
+        assertThat(CursorCodec.pageRequest(25).getPageSize()).isEqualTo(25);
+        assertThat(CursorCodec.pageRequest(10_000).getPageSize()).isEqualTo(CursorCodec.MAX_SIZE);
+    }
+
+    @Test
+    void nextCursorPointsAtTheLastRowOnlyWhenMoreFollow() {
+        List<Long> rows = List.of(3L, 2L, 1L);
+
+        CursorPageDto<Long> more = CursorCodec.page(new SliceImpl<>(rows, PageRequest.of(0, 3), true),
+                id -> id, id -> CREATED_AT, id -> id);
+        CursorPageDto<Long> last = CursorCodec.page(new SliceImpl<>(rows, PageRequest.of(0, 3), false),
+                id -> id, id -> CREATED_AT, id -> id);
+
+        assertThat(more.isHasNext()).isTrue();
+        assertThat(CursorCodec.decode(more.getNextCursor()).longId()).isEqualTo(1L);
+        assertThat(last.isHasNext()).isFalse();
+        assertThat(last.getNextCursor()).isNull();
+        assertThat(last.getSize()).isEqualTo(3);
+    }
+
+    private static String encodeRaw(String raw) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,84 @@
+package com.atharv.Event_Ticket_Platform.util;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.Random;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+class HyperLogLogTest {
+
+    // Two standard errors for 2^12 registers
+    private static final double ERROR_BOUND = 2 * 1.04 / Math.sqrt(4096);
+
+    @ParameterizedTest
+    @ValueSource(ints = {100, 1_000, 10_000, 100_000, 1_000_000})
+    void estimateIsWithinTwoStandardErrors(int cardinality) {
+        HyperLogLog hll = new HyperLogLog();
+        Random random = new Random(cardinality);
+        for (int i = 0; i < cardinality; i++) {
+            hll.add(new UUID(random.nextLong(), random.nextLong()));
+        }
+
+        assertThat((double) hll.estimate()).isCloseTo(cardinality, within(ERROR_BOUND * cardinality));
+    }
+
+    @Test
+    void repeatedValuesAreCountedOnce() {
+        HyperLogLog hll = new HyperLogLog();
+        Random random = new Random(7);
+        UUID[] values = new UUID[5_000];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = new UUID(random.nextLong(), random.nextLong());
+        }
+        for (int pass = 0; pass < 3; pass++) {
+            for (UUID value : values) {
+                hll.add(value);
+            }
+        }
+
+        assertThat((double) hll.estimate()).isCloseTo(values.length, within(ERROR_BOUND * values.length));
+    }
+
+    @Test
+    void mergeMatchesSinglePass() {
+        HyperLogLog single = new HyperLogLog();
+        HyperLogLog left = new HyperLogLog();
+        HyperLogLog right = new HyperLogLog();
+        Random random = new Random(42);
+        for (int i = 0; i < 50_000; i++) {
+            UUID value = new UUID(random.nextLong(), random.nextLong());
+            single.add(value);
+            // Overlapping halves: a shared attendee must not be counted twice after the merge
+            if (i % 3 != 0) {
+                left.add(value);
+            }
+            if (i % 3 != 1) {
+                right.add(value);
+            }
+        }
+
+        left.merge(right);
+
+        assertThat(left.toBytes()).isEqualTo(single.toBytes());
+        assertThat(left.estimate()).isEqualTo(single.estimate());
+    }
+
+    @Test
+    void bytesRoundTrip() {
+        HyperLogLog hll = new HyperLogLog();
+        Random random = new Random(1);
+        for (int i = 0; i < 20_000; i++) {
+            hll.add(new UUID(random.nextLong(), random.nextLong()));
+        }
+
+        HyperLogLog restored = HyperLogLog.fromBytes(hll.toBytes());
+
+        assertThat(restored.estimate()).isEqualTo(hll.estimate());
+        assertThat(HyperLogLog.fromBytes(null).estimate()).isZero();
+    }
+}
@@ -0,0 +1,102 @@
+package com.atharv.Event_Ticket_Platform.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class InvertedIndexTest {
+
+    private static final double NAME_WEIGHT = 3.0;
+    private static final double DESCRIPTION_WEIGHT = 1.0;
+
+    @Test
+    void heavierFieldMatchRanksFirst() {
+        InvertedIndex<String> index = new InvertedIndex<>();
+        index.put("in-description", event("Summer Night", "live jazz by the river"));
+        index.put("in-name", event("Jazz Night", "live music by the river"));
+        index.put("unrelated", event("Rock Night", "live music by the river"));
+
+        assertThat(keys(index.search("jazz"))).containsExactly("in-name", "in-description");
+    }
+
+    @Test
+    void shorterDocumentRanksFirstForEqualFrequency() {
+        InvertedIndex<String> index = new InvertedIndex<>();
+        index.put("long", event("Jazz", "an evening of swing, bebop, fusion and far too many other words"));
+        index.put("short", event("Jazz", "swing"));
+        index.put("other", event("Comedy", "stand up"));
+
+        assertThat(keys(index.search("jazz"))).containsExactly("short", "long");
+    }
+
+    @Test
+    void everyQueryTermMustMatch() {
+        InvertedIndex<String> index = new InvertedIndex<>();
+        index.put("both", event("Jazz Festival", "downtown"));
+        index.put("one", event("Jazz Night", "downtown"));
+
+        assertThat(keys(index.search("jazz festival"))).containsExactly("both");
+    }
+
+    @Test
+    void prefixMatchesRankBelowExactMatches() {
+        InvertedIndex<String> index = new InvertedIndex<>();
+        index.put("prefix", event("Concerto Evening", "strings"));
+        index.put("exact", event("Concert Evening", "strings"));
+        index.put("other", event("Comedy Evening", "strings"));
+
+        assertThat(keys(index.search("conc"))).containsExactlyInAnyOrder("prefix", "exact");
+        assertThat(keys(index.search("concert"))).containsExactly("exact", "prefix");
+    }
+
+    @Test
+    void fuzzyMatchFindsTypos() {
+        InvertedIndex<String> index = new InvertedIndex<>();
+        index.put("concert", event("Concert Evening", "strings"));
+        index.put("festival", event("Festival Weekend", "outdoors"));
+
+        assertThat(keys(index.search("concrt"))).containsExactly("concert");
+        assertThat(keys(index.search("fetsival"))).containsExactly("festival");
+        assertThat(index.search("xoncert")).isEmpty();
+    }
+
+    @Test
+    void accentsAndCaseAreFolded() {
+        InvertedIndex<String> index = new InvertedIndex<>();
+        index.put("cafe", event("Café Sessions", "acoustic"));
+
+        assertThat(keys(index.search("CAFE"))).containsExactly("cafe");
+    }
+
+    @Test
+    void removeAndReAddReplacesTerms() {
+        InvertedIndex<String> index = new InvertedIndex<>();
+        index.put("event", event("Jazz Night", "downtown"));
+        index.put("other", event("Rock Night", "uptown"));
+
+        index.remove("event");
+        assertThat(index.search("jazz")).isEmpty();
+        assertThat(keys(index.search("night"))).containsExactly("other");
+        assertThat(index.size()).isEqualTo(1);
+
+        index.put("event", event("Blues Night", "downtown"));
+        assertThat(index.search("jazz")).isEmpty();
+        assertThat(keys(index.search("blues"))).containsExactly("event");
+
+        // Putting an existing key again replaces its terms rather than adding to them
+        index.put("event", event("Jazz Night", "downtown"));
+        assertThat(index.search("blues")).isEmpty();
+        assertThat(keys(index.search("jazz"))).containsExactly("event");
+        assertThat(index.size()).isEqualTo(2);
+    }
+
+    private static List<InvertedIndex.Field> event(String name, String description) {
+        return List.of(new InvertedIndex.Field(name, NAME_WEIGHT), new InvertedIndex.Field(description, DESCRIPTION_WEIGHT));
+    }
+
+    private static List<String> keys(List<InvertedIndex.Hit<String>> hits) {
+        return hits.stream().map(InvertedIndex.Hit::key).toList();
+    }
+}
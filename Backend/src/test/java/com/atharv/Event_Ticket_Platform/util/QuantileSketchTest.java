@@ -0,0 +1,93 @@
+package com.atharv.Event_Ticket_Platform.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+class QuantileSketchTest {
+
+    private static final double RELATIVE_ACCURACY = 0.01;
+    private static final double[] QUANTILES = {0.01, 0.25, 0.5, 0.75, 0.9, 0.95, 0.99, 0.999};
+
+    @Test
+    void quantilesAreWithinRelativeAccuracy() {
+        Random random = new Random(3);
+        double[] values = new double[100_000];
+        QuantileSketch sketch = new QuantileSketch();
+        for (int i = 0; i < values.length; i++) {
+            // Heavy-tailed, spanning several orders of magnitude like prices and entry delays do
+            values[i] = Math.exp(random.nextGaussian() * 2 + 3);
+            sketch.add(values[i]);
+        }
+
+        assertWithinAccuracy(sketch, values);
+        assertThat(sketch.count()).isEqualTo(values.length);
+    }
+
+    @Test
+    void zerosAreRankedBelowEveryPositiveValue() {
+        QuantileSketch sketch = new QuantileSketch();
+        double[] values = new double[1_000];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = i < 300 ? 0 : i;
+            sketch.add(values[i]);
+        }
+
+        assertThat(sketch.quantile(0.1)).isZero();
+        assertWithinAccuracy(sketch, values);
+    }
+
+    @Test
+    void mergeMatchesSinglePass() {
+        Random random = new Random(11);
+        QuantileSketch single = new QuantileSketch();
+        QuantileSketch left = new QuantileSketch();
+        QuantileSketch right = new QuantileSketch();
+        for (int i = 0; i < 50_000; i++) {
+            // The halves cover different ranges, so the merge has to widen the bucket array both ways
+            double value = i % 2 == 0 ? random.nextDouble() * 10 : 100 + random.nextDouble() * 10_000;
+            single.add(value);
+            (i % 2 == 0 ? left : right).add(value);
+        }
+
+        left.merge(right);
+
+        assertThat(left.toBytes()).isEqualTo(single.toBytes());
+        for (double q : QUANTILES) {
+            assertThat(left.quantile(q)).isEqualTo(single.quantile(q));
+        }
+    }
+
+    @Test
+    void bytesRoundTrip() {
+        QuantileSketch sketch = new QuantileSketch();
+        Random random = new Random(5);
+        for (int i = 0; i < 10_000; i++) {
+            sketch.add(random.nextDouble() * 500);
+        }
+
+        QuantileSketch restored = QuantileSketch.fromBytes(sketch.toBytes());
+
+        assertThat(restored.count()).isEqualTo(sketch.count());
+        assertThat(restored.min()).isEqualTo(sketch.min());
+        assertThat(restored.max()).isEqualTo(sketch.max());
+        for (double q : QUANTILES) {
+            assertThat(restored.quantile(q)).isEqualTo(sketch.quantile(q));
+        }
+    }
+
+    private static void assertWithinAccuracy(QuantileSketch sketch, double[] values) {
+        double[] sorted = values.clone();
+        Arrays.sort(sorted);
+        for (double q : QUANTILES) {
+            double exact = sorted[(int) Math.max(0, Math.ceil(q * sorted.length) - 1)];
+            assertThat(sketch.quantile(q))
+                    .as("p%s", q * 100)
+                    .isCloseTo(exact, within(RELATIVE_ACCURACY * exact + 1e-9));
+        }
+    }
+}
@@ -0,0 +1,105 @@
+package com.atharv.Event_Ticket_Platform.util;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class WeightedPrefixTrieTest {
+
+    @Test
+    void insertingIntoAnEdgeSplitsIt() {
+        WeightedPrefixTrie<String> trie = new WeightedPrefixTrie<>();
+        trie.put("concert", "concert", 1);
+        trie.put("concerto", "concerto", 2);
+        trie.put("conference", "conference", 3);
+        trie.put("con", "con", 4);
+
+        assertThat(trie.keyCount()).isEqualTo(4);
+        assertThat(trie.topK("con", 10)).containsExactly("con", "conference", "concerto", "concert");
+        assertThat(trie.topK("conc", 10)).containsExactly("concerto", "concert");
+        assertThat(trie.topK("concerts", 10)).isEmpty();
+        assertThat(trie.topK("conf", 10)).containsExactly("conference");
+    }
+
+    @Test
+    void topKReturnsHeaviestValuesFirst() {
+        WeightedPrefixTrie<String> trie = new WeightedPrefixTrie<>();
+        trie.put("jazz", "jazz", 5);
+        trie.put("jazz brunch", "jazz brunch", 40);
+        trie.put("jazz night", "jazz night", 20);
+        trie.put("jam session", "jam session", 30);
+        trie.put("rock", "rock", 100);
+
+        assertThat(trie.topK("ja", 3)).containsExactly("jazz brunch", "jam session", "jazz night");
+        assertThat(trie.topK("jazz", 10)).containsExactly("jazz brunch", "jazz night", "jazz");
+        assertThat(trie.topK("", 1)).containsExactly("rock");
+        assertThat(trie.topK("ja", 0)).isEmpty();
+    }
+
+    @Test
+    void valueStoredUnderSeveralKeysIsReturnedOnce() {
+        WeightedPrefixTrie<String> trie = new WeightedPrefixTrie<>();
+        // Suggestions are stored under every word-boundary suffix, which can share a prefix
+        trie.put("night night", "lullaby", 10);
+        trie.put("night", "lullaby", 10);
+        trie.put("nightclub", "club", 5);
+
+        assertThat(trie.topK("night", 10)).containsExactly("lullaby", "club");
+    }
+
+    @Test
+    void putAgainUpdatesWeight() {
+        WeightedPrefixTrie<String> trie = new WeightedPrefixTrie<>();
+        trie.put("jazz night", "night", 10);
+        trie.put("jazz brunch", "brunch", 20);
+
+        trie.put("jazz night", "night", 30);
+
+        assertThat(trie.keyCount()).isEqualTo(2);
+        assertThat(trie.topK("jazz", 1)).containsExactly("night");
+
+        trie.put("jazz night", "night", 1);
+
+        assertThat(trie.topK("jazz", 1)).containsExactly("brunch");
+    }
+
+    @Test
+    void removeDropsKeyAndRestoresOtherMatches() {
+        WeightedPrefixTrie<String> trie = new WeightedPrefixTrie<>();
+        trie.put("concert", "concert", 1);
+        trie.put("concerto", "concerto", 50);
+        trie.put("conference", "conference", 3);
+
+        trie.remove("concerto", "concerto");
+
+        assertThat(trie.keyCount()).isEqualTo(2);
+        assertThat(trie.topK("con", 10)).containsExactly("conference", "concert");
+        assertThat(trie.topK("concerto", 10)).isEmpty();
+
+        // Removing an absent key or value changes nothing
+        trie.remove("concerto", "concerto");
+        trie.remove("concert", "other");
+        trie.remove("conc", "concert");
+        assertThat(trie.keyCount()).isEqualTo(2);
+
+        trie.remove("concert", "concert");
+        trie.remove("conference", "conference");
+        assertThat(trie.keyCount()).isZero();
+        assertThat(trie.topK("", 10)).isEmpty();
+
+        trie.put("concert", "concert", 1);
+        assertThat(trie.topK("c", 10)).containsExactly("concert");
+    }
+
+    @Test
+    void removingOneValueKeepsOthersUnderTheSameKey() {
+        WeightedPrefixTrie<String> trie = new WeightedPrefixTrie<>();
+        trie.put("main hall", "first", 10);
+        trie.put("main hall", "second", 5);
+
+        trie.remove("main hall", "first");
+
+        assertThat(trie.keyCount()).isEqualTo(1);
+        assertThat(trie.topK("main", 10)).containsExactly("second");
+    }
+}